@@ -0,0 +1,7 @@
+package main
+
+import "../../internal/util"
+
+func main() {
+	x := util.Clean("a")
+}
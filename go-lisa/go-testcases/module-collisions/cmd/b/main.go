@@ -0,0 +1,7 @@
+package main
+
+import pkgutil "../../pkg/util"
+
+func main() {
+	y := pkgutil.Join("a", "b")
+}
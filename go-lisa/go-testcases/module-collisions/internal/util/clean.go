@@ -0,0 +1,5 @@
+package util
+
+func Clean(s string) string {
+	return s
+}
@@ -0,0 +1,5 @@
+package util
+
+func Join(a string, b string) string {
+	return a + b
+}
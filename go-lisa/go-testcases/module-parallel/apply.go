@@ -0,0 +1,12 @@
+package main
+
+func apply(f func(int) int, x int) int {
+	return f(x)
+}
+
+func twice(x int) int {
+	g := func(y int) int {
+		return y * 2
+	}
+	return apply(g, x)
+}
@@ -0,0 +1,9 @@
+package counter
+
+type Counter struct {
+	n int
+}
+
+func New() *Counter {
+	return &Counter{0}
+}
@@ -0,0 +1,9 @@
+package counter
+
+func (c *Counter) Inc() {
+	c.n = c.n + 1
+}
+
+func (c *Counter) Get() int {
+	return c.n
+}
@@ -0,0 +1,13 @@
+package main
+
+import "./counter"
+
+func main() {
+	c := counter.New()
+	c.Inc()
+	inc := func(x int) int {
+		return x + 1
+	}
+	y := apply(inc, c.Get())
+	z := twice(y)
+}
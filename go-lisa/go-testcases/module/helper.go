@@ -0,0 +1,7 @@
+package main
+
+import "./utils"
+
+func helper(s string) string {
+	return utils.Concat(s, s)
+}
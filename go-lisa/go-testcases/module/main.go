@@ -0,0 +1,9 @@
+package main
+
+import "./utils"
+
+func main() {
+	x := utils.Concat("a", "b")
+	y := utils.Twice(x)
+	z := helper(y)
+}
@@ -0,0 +1,5 @@
+package utils
+
+func Concat(a string, b string) string {
+	return a + b
+}
@@ -0,0 +1,5 @@
+package utils
+
+func Twice(a string) string {
+	return Concat(a, a)
+}
@@ -0,0 +1,24 @@
+package main
+
+func bounds(n int) int {
+	sum := 0
+	for i := 0; i < n; i = i + 1 {
+		j := i - 1
+		k := j - 1
+		if k < i {
+			sum = sum + 1
+		}
+	}
+	return sum
+}
+
+func branches(x int) int {
+	y := 0
+	if x > 10 {
+		y = x - 1
+	} else {
+		y = x - 2
+	}
+	z := y + 1
+	return z
+}
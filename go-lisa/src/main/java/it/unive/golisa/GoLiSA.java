@@ -3,12 +3,15 @@ package it.unive.golisa;
 import it.unive.golisa.analysis.entrypoints.EntryPointsFactory;
 import it.unive.golisa.analysis.entrypoints.EntryPointsUtils;
 import it.unive.golisa.analysis.heap.GoAbstractState;
+import it.unive.golisa.analysis.heap.GoFieldSensitivePointBasedHeap;
 import it.unive.golisa.analysis.heap.GoPointBasedHeap;
 import it.unive.golisa.analysis.ni.IntegrityNIDomain;
 import it.unive.golisa.analysis.taint.TaintDomain;
 import it.unive.golisa.checker.IntegrityNIChecker;
 import it.unive.golisa.checker.TaintChecker;
+import it.unive.golisa.frontend.FrontEndCache;
 import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.golisa.frontend.GoFrontEnd.ParsingMode;
 import it.unive.golisa.loader.AnnotationLoader;
 import it.unive.golisa.loader.EntryPointLoader;
 import it.unive.golisa.loader.annotation.CodeAnnotation;
@@ -66,7 +69,7 @@ public class GoLiSA {
 
 		Options options = new Options();
 
-		Option input = new Option("i", "input", true, "input file path");
+		Option input = new Option("i", "input", true, "input file path, or module directory path");
 		input.setRequired(true);
 		options.addOption(input);
 
@@ -87,6 +90,48 @@ public class GoLiSA {
 		dump_opt.setRequired(false);
 		options.addOption(dump_opt);
 
+		Option sll_opt = new Option("s", "sll", false,
+				"parse with SLL prediction first, falling back to full LL only when SLL fails");
+		sll_opt.setRequired(false);
+		options.addOption(sll_opt);
+
+		Option threads_opt = new Option("t", "threads", true,
+				"number of threads used to parse the files of a module and build their code members (default: 1)");
+		threads_opt.setRequired(false);
+		options.addOption(threads_opt);
+
+		Option cache_opt = new Option("c", "cache", true,
+				"directory of the cache of parsed files, reused across runs for unchanged files");
+		cache_opt.setRequired(false);
+		options.addOption(cache_opt);
+
+		Option streaming_opt = new Option("m", "streaming", false,
+				"process modules one package at a time, releasing the parse trees of the built code members");
+		streaming_opt.setRequired(false);
+		options.addOption(streaming_opt);
+
+		Option sites_opt = new Option("k", "sitesPerPoint", true,
+				"maximum number of field sites of an allocation point kept distinct by the heap widening (default: "
+						+ GoPointBasedHeap.DEFAULT_SITES_PER_POINT + ")");
+		sites_opt.setRequired(false);
+		options.addOption(sites_opt);
+
+		Option depth_opt = new Option("l", "fieldDepth", true,
+				"maximum depth of the field path of a site kept by the heap widening (default: "
+						+ GoPointBasedHeap.DEFAULT_FIELD_DEPTH + ")");
+		depth_opt.setRequired(false);
+		options.addOption(depth_opt);
+
+		Option field_opt = new Option("e", "fieldSensitive", false, "use the field-sensitive heap");
+		field_opt.setRequired(false);
+		options.addOption(field_opt);
+
+		Option smashing_opt = new Option("g", "smashingLength", true,
+				"length above which the field-sensitive heap smashes the elements of an array (default: "
+						+ GoFieldSensitivePointBasedHeap.DEFAULT_SMASHING_LENGTH + ")");
+		smashing_opt.setRequired(false);
+		options.addOption(smashing_opt);
+
 		CommandLineParser parser = new DefaultParser();
 		HelpFormatter formatter = new HelpFormatter();
 		CommandLine cmd = null;
@@ -106,10 +151,22 @@ public class GoLiSA {
 
 		String analysis = cmd.getOptionValue("analysis");
 
+		int threads = intOption(cmd, "threads", 1, "number of threads", formatter, options);
+
+		int sitesPerPoint = intOption(cmd, "sitesPerPoint", GoPointBasedHeap.DEFAULT_SITES_PER_POINT,
+				"number of sites per point", formatter, options);
+
+		int fieldDepth = intOption(cmd, "fieldDepth", GoPointBasedHeap.DEFAULT_FIELD_DEPTH, "field depth",
+				formatter, options);
+
+		int smashingLength = intOption(cmd, "smashingLength", GoFieldSensitivePointBasedHeap.DEFAULT_SMASHING_LENGTH,
+				"smashing length", formatter, options);
+
 		LiSAConfiguration conf = new LiSAConfiguration();
 		conf.setWorkdir(outputDir);
 		conf.setJsonOutput(true);
 
+		GoPointBasedHeap heap = null;
 		switch (analysis) {
 
 		case "taint":
@@ -128,9 +185,12 @@ public class GoLiSA {
 					.addSemanticCheck(new IntegrityNIChecker());
 			break;
 		default:
+			heap = cmd.hasOption("fieldSensitive")
+					? new GoFieldSensitivePointBasedHeap(sitesPerPoint, fieldDepth, smashingLength)
+					: new GoPointBasedHeap(sitesPerPoint, fieldDepth);
 			conf.setOpenCallPolicy(ReturnTopPolicy.INSTANCE)
 					.setAbstractState(
-							new GoAbstractState<>(new GoPointBasedHeap(),
+							new GoAbstractState<>(heap,
 									new ValueEnvironment<>(new Interval()),
 									LiSAFactory.getDefaultFor(TypeDomain.class)))
 					.setDumpAnalysis(true);
@@ -148,7 +208,15 @@ public class GoLiSA {
 
 			NonDeterminismAnnotationSet[] annotationSet = FrameworkNonDeterminismAnnotationSetFactory
 					.getAnnotationSets(cmd.getOptionValue("framework"));
-			program = GoFrontEnd.processFile(filePath);
+			ParsingMode parsingMode = cmd.hasOption("sll") ? ParsingMode.SLL_THEN_LL : ParsingMode.LL;
+			FrontEndCache cache = cmd.hasOption("cache") ? new FrontEndCache(cmd.getOptionValue("cache")) : null;
+			if (new File(filePath).isDirectory())
+				program = GoFrontEnd.processModule(filePath, parsingMode, threads, cache, cmd.hasOption("streaming"));
+			else
+				program = GoFrontEnd.processFile(filePath, parsingMode, cache, cmd.hasOption("streaming"));
+			if (cache != null)
+				LOG.info("Frontend cache hits: " + cache.getHits() + " (" + cache.getHitTime() + " ms) misses: "
+						+ cache.getMisses() + " (" + cache.getMissTime() + " ms)");
 			AnnotationLoader annotationLoader = new AnnotationLoader();
 			annotationLoader.addAnnotationSet(annotationSet);
 			annotationLoader.load(program);
@@ -204,6 +272,22 @@ public class GoLiSA {
 			e.printStackTrace();
 			return;
 		}
+
+		if (heap != null)
+			LOG.info("Heap widenings introducing summary sites: " + heap.getWideningCount());
+	}
+
+	private static int intOption(CommandLine cmd, String option, int defaultValue, String description,
+			HelpFormatter formatter, Options options) {
+		try {
+			return Integer.parseInt(cmd.getOptionValue(option, Integer.toString(defaultValue)));
+		} catch (NumberFormatException e) {
+			System.out.println("Invalid " + description + ": " + cmd.getOptionValue(option));
+			formatter.printHelp("help", options);
+
+			System.exit(1);
+			return defaultValue;
+		}
 	}
 
 }
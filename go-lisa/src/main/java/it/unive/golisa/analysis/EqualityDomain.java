@@ -1,9 +1,9 @@
 package it.unive.golisa.analysis;
 
+import it.unive.lisa.analysis.BaseLattice;
 import it.unive.lisa.analysis.Lattice;
 import it.unive.lisa.analysis.ScopeToken;
 import it.unive.lisa.analysis.SemanticException;
-import it.unive.lisa.analysis.lattices.FunctionalLattice;
 import it.unive.lisa.analysis.representation.DomainRepresentation;
 import it.unive.lisa.analysis.representation.StringRepresentation;
 import it.unive.lisa.analysis.value.ValueDomain;
@@ -23,59 +23,134 @@ import it.unive.lisa.symbolic.value.operator.binary.ComparisonNe;
 import it.unive.lisa.symbolic.value.operator.binary.LogicalAnd;
 import it.unive.lisa.symbolic.value.operator.binary.LogicalOr;
 import it.unive.lisa.symbolic.value.operator.unary.LogicalNegation;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The equality domain, tracking definite information about which variables are
- * equals to another one.
+ * equals to another one. Equalities are stored as a partition of the
+ * identifiers in equivalence classes, in union-find style: each identifier
+ * belonging to a class with at least two members is mapped to the
+ * representative of its class, and each representative to the members of its
+ * class. Identifiers not tracked are only equal to themselves. The maps and
+ * the classes are {@link PersistentMap}s: updating the partition copies only
+ * the paths to the updated entries, and shares everything else with the
+ * original instance.
  * 
  * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
  */
-public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier, ExpressionInverseSet<Identifier>>
-		implements ValueDomain<EqualityDomain> {
+public class EqualityDomain extends BaseLattice<EqualityDomain> implements ValueDomain<EqualityDomain> {
+
+	private static final EqualityDomain TOP = new EqualityDomain(false, PersistentMap.empty(),
+			PersistentMap.empty());
+
+	private static final EqualityDomain BOTTOM = new EqualityDomain(true, PersistentMap.empty(),
+			PersistentMap.empty());
+
+	private final boolean isBottom;
 
 	/**
-	 * Builds the domain.
+	 * The representative of the class of each tracked identifier.
 	 */
-	public EqualityDomain() {
-		this(new ExpressionInverseSet<>(), null);
-	}
+	private final PersistentMap<Identifier, Identifier> representatives;
+
+	/**
+	 * The members of the class of each representative, representative
+	 * included, each one mapped to itself.
+	 */
+	private final PersistentMap<Identifier, PersistentMap<Identifier, Identifier>> classes;
 
 	/**
 	 * Builds the domain.
-	 * 
-	 * @param lattice  the underlying lattice
-	 * @param function the function to clone
 	 */
-	private EqualityDomain(ExpressionInverseSet<Identifier> lattice,
-			Map<Identifier, ExpressionInverseSet<Identifier>> function) {
-		super(lattice, function);
+	public EqualityDomain() {
+		this(false, PersistentMap.empty(), PersistentMap.empty());
+	}
+
+	private EqualityDomain(boolean isBottom, PersistentMap<Identifier, Identifier> representatives,
+			PersistentMap<Identifier, PersistentMap<Identifier, Identifier>> classes) {
+		this.isBottom = isBottom;
+		this.representatives = representatives;
+		this.classes = classes;
 	}
 
 	@Override
 	public EqualityDomain assign(Identifier id, ValueExpression expression, ProgramPoint pp) throws SemanticException {
+		if (isBottom())
+			return this;
+
 		if (expression instanceof Identifier) {
-			Map<Identifier, ExpressionInverseSet<Identifier>> func;
-			if (function == null)
-				func = new HashMap<>();
-			else
-				func = new HashMap<>(function);
+			if (expression.equals(id))
+				return this;
 
-			func.put(id, new ExpressionInverseSet<>(Collections.singleton((Identifier) expression)));
-			return new EqualityDomain(lattice, func);
+			return remove(id).join(id, (Identifier) expression);
 		}
 
 		return forgetIdentifier(id);
 	}
 
+	/**
+	 * Yields this partition without {@code id}, electing a new representative
+	 * if {@code id} was the one of its class.
+	 */
+	private EqualityDomain remove(Identifier id) {
+		Identifier rep = representatives.get(id);
+		if (rep == null)
+			return this;
+
+		PersistentMap<Identifier, Identifier> reps = representatives.minus(id);
+		PersistentMap<Identifier, PersistentMap<Identifier, Identifier>> cls = classes.minus(rep);
+		PersistentMap<Identifier, Identifier> members = classes.get(rep).minus(id);
+		if (members.size() == 1)
+			return new EqualityDomain(false, reps.minus(members.keySet().iterator().next()), cls);
+
+		if (rep.equals(id)) {
+			rep = members.keySet().iterator().next();
+			for (Identifier member : members.keySet())
+				reps = reps.plus(member, rep);
+		}
+
+		return new EqualityDomain(false, reps, cls.plus(rep, members));
+	}
+
+	/**
+	 * Yields this partition where the untracked {@code id} is added to the
+	 * class of {@code other}.
+	 */
+	private EqualityDomain join(Identifier id, Identifier other) {
+		PersistentMap<Identifier, Identifier> reps = representatives;
+		Identifier rep = reps.get(other);
+		PersistentMap<Identifier, Identifier> members;
+		if (rep == null) {
+			rep = other;
+			reps = reps.plus(other, other);
+			members = PersistentMap.<Identifier, Identifier>empty().plus(other, other);
+		} else
+			members = classes.get(rep);
+
+		return new EqualityDomain(false, reps.plus(id, rep), classes.plus(rep, members.plus(id, id)));
+	}
+
+	private static PersistentMap<Identifier, Identifier> members(Set<Identifier> ids) {
+		PersistentMap<Identifier, Identifier> members = PersistentMap.empty();
+		for (Identifier id : ids)
+			members = members.plus(id, id);
+		return members;
+	}
+
 	@Override
 	public EqualityDomain smallStepSemantics(ValueExpression expression, ProgramPoint pp) throws SemanticException {
-		return new EqualityDomain(lattice, function);
+		return this;
 	}
 
 	@Override
@@ -91,14 +166,10 @@ public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier
 
 	@Override
 	public EqualityDomain forgetIdentifier(Identifier id) throws SemanticException {
-		if (isTop() || isBottom())
+		if (isTop() || isBottom() || !representatives.containsKey(id))
 			return this;
 
-		EqualityDomain result = new EqualityDomain(lattice, new HashMap<>(function));
-		if (result.function.containsKey(id))
-			result.function.remove(id);
-
-		return result;
+		return remove(id);
 	}
 
 	@Override
@@ -123,11 +194,11 @@ public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier
 
 			BinaryOperator op = binary.getOperator();
 			if (op == ComparisonGe.INSTANCE || op == ComparisonEq.INSTANCE || op == ComparisonLe.INSTANCE) {
-				if (getState(left).contains(right) || getState(right).contains(left))
+				if (areEqual(left, right))
 					return Satisfiability.SATISFIED;
 				return Satisfiability.UNKNOWN;
 			} else if (op == ComparisonNe.INSTANCE || op == ComparisonLt.INSTANCE || op == ComparisonGt.INSTANCE) {
-				if (getState(left).contains(right) || getState(right).contains(left))
+				if (areEqual(left, right))
 					return Satisfiability.NOT_SATISFIED;
 				return Satisfiability.UNKNOWN;
 			} else if (op == LogicalAnd.INSTANCE)
@@ -141,6 +212,59 @@ public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier
 		return Satisfiability.UNKNOWN;
 	}
 
+	private boolean areEqual(Identifier left, Identifier right) {
+		Identifier rep = representatives.get(left);
+		return rep != null && rep.equals(representatives.get(right));
+	}
+
+	@Override
+	protected EqualityDomain lubAux(EqualityDomain other) throws SemanticException {
+		// the classes of the lub are the non-empty intersections of the
+		// classes of the two partitions
+		Map<List<Identifier>, Set<Identifier>> intersections = new HashMap<>();
+		for (Entry<Identifier, Identifier> entry : representatives.entrySet()) {
+			Identifier theirs = other.representatives.get(entry.getKey());
+			if (theirs != null)
+				intersections.computeIfAbsent(Arrays.asList(entry.getValue(), theirs), k -> new HashSet<>())
+						.add(entry.getKey());
+		}
+
+		PersistentMap<Identifier, Identifier> reps = PersistentMap.empty();
+		PersistentMap<Identifier, PersistentMap<Identifier, Identifier>> cls = PersistentMap.empty();
+		for (Set<Identifier> members : intersections.values())
+			if (members.size() > 1) {
+				Identifier rep = members.iterator().next();
+				PersistentMap<Identifier, Identifier> mine = classes.get(representatives.get(rep));
+				PersistentMap<Identifier, Identifier> shared = mine.size() == members.size() ? mine : members(members);
+				for (Identifier member : members)
+					reps = reps.plus(member, rep);
+				cls = cls.plus(rep, shared);
+			}
+
+		return new EqualityDomain(false, reps, cls);
+	}
+
+	@Override
+	protected EqualityDomain wideningAux(EqualityDomain other) throws SemanticException {
+		return lubAux(other);
+	}
+
+	@Override
+	protected boolean lessOrEqualAux(EqualityDomain other) throws SemanticException {
+		// this partition has to refine the other one
+		for (PersistentMap<Identifier, Identifier> members : other.classes.values()) {
+			Identifier rep = null;
+			for (Identifier member : members.keySet()) {
+				Identifier mine = representatives.get(member);
+				if (mine == null || rep != null && !rep.equals(mine))
+					return false;
+				rep = mine;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public DomainRepresentation representation() {
 		if (isTop())
@@ -149,31 +273,32 @@ public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier
 		if (isBottom())
 			return Lattice.BOTTOM_REPR;
 
-		StringBuilder builder = new StringBuilder();
-		for (Entry<Identifier, ExpressionInverseSet<Identifier>> entry : function.entrySet())
-			builder.append(entry.getKey()).append(" == ").append(entry.getValue().toString()).append("\n");
+		List<String> lines = new ArrayList<>();
+		for (PersistentMap<Identifier, Identifier> members : classes.values())
+			lines.add(members.keySet().stream().map(Identifier::toString).sorted().collect(Collectors.joining(" == ")));
+		lines.sort(Comparator.naturalOrder());
 
-		return new StringRepresentation(builder.toString().trim());
+		return new StringRepresentation(String.join("\n", lines));
 	}
 
 	@Override
 	public EqualityDomain top() {
-		return new EqualityDomain(lattice.top(), null);
+		return TOP;
 	}
 
 	@Override
 	public EqualityDomain bottom() {
-		return new EqualityDomain(lattice.bottom(), null);
+		return BOTTOM;
 	}
 
 	@Override
 	public boolean isTop() {
-		return lattice.isTop() && function == null;
+		return !isBottom && classes.isEmpty();
 	}
 
 	@Override
 	public boolean isBottom() {
-		return lattice.isBottom() && function == null;
+		return isBottom;
 	}
 
 	@Override
@@ -205,19 +330,62 @@ public class EqualityDomain extends FunctionalLattice<EqualityDomain, Identifier
 		if (isBottom() || isTop())
 			return this;
 
-		Map<Identifier, ExpressionInverseSet<Identifier>> function = mkNewFunction(null);
-		for (Identifier id : getKeys()) {
-			Identifier lifted = lifter.apply(id);
-			if (lifted != null)
-				function.put(lifted, getState(id));
+		PersistentMap<Identifier, Identifier> reps = PersistentMap.empty();
+		PersistentMap<Identifier, PersistentMap<Identifier, Identifier>> cls = PersistentMap.empty();
+		for (PersistentMap<Identifier, Identifier> members : classes.values()) {
+			Set<Identifier> lifted = new HashSet<>();
+			for (Identifier member : members.keySet()) {
+				Identifier l = lifter.apply(member);
+				if (l != null)
+					lifted.add(l);
+			}
+
+			if (lifted.size() > 1) {
+				Identifier rep = lifted.iterator().next();
+				for (Identifier member : lifted)
+					reps = reps.plus(member, rep);
+				cls = cls.plus(rep, members(lifted));
+			}
 		}
 
-		return new EqualityDomain(lattice, function);
+		return new EqualityDomain(false, reps, cls);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (isBottom ? 1231 : 1237);
+		// independent of the choice of the representatives
+		for (PersistentMap<Identifier, Identifier> members : classes.values())
+			result += members.keySet().hashCode();
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EqualityDomain other = (EqualityDomain) obj;
+		if (isBottom != other.isBottom)
+			return false;
+		if (classes.size() != other.classes.size())
+			return false;
+		// same partition, regardless of the choice of the representatives
+		for (PersistentMap<Identifier, Identifier> members : classes.values()) {
+			Identifier theirs = other.representatives.get(members.keySet().iterator().next());
+			if (theirs == null || !members.keySet().equals(other.classes.get(theirs).keySet()))
+				return false;
+		}
+		return true;
 	}
 
 	@Override
-	protected EqualityDomain mk(ExpressionInverseSet<Identifier> lattice,
-			Map<Identifier, ExpressionInverseSet<Identifier>> function) {
-		return new EqualityDomain(lattice, function);
+	public String toString() {
+		return representation().toString();
 	}
 }
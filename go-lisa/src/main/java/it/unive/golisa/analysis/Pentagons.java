@@ -11,7 +11,6 @@ import it.unive.lisa.program.cfg.ProgramPoint;
 import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.ValueExpression;
 import java.util.HashSet;
-import java.util.Map.Entry;
 import java.util.Set;
 
 /**
@@ -121,15 +120,22 @@ public class Pentagons implements ValueDomain<Pentagons> {
 
 		Set<Identifier> refined = new HashSet<>();
 		ValueEnvironment<TarsisIntv> env = new ValueEnvironment<TarsisIntv>(new TarsisIntv());
-		for (Entry<Identifier, ExpressionInverseSet<Identifier>> entry : right.getMap().entrySet()) {
-			Identifier id = entry.getKey();
+		// the rows of bits of the upper bounds are walked directly, without
+		// building the map of StrictUpperBounds.getMap()
+		for (int i = 0; i < right.rowCount(); i++) {
+			int bound = right.nextUpperBound(i, 0);
+			if (bound < 0)
+				continue;
+
+			Identifier id = right.identifierAt(i);
 			TarsisIntv idTarsisIntv = left.getState(id);
 
-			for (Identifier upperBound : entry.getValue()) {
+			for (; bound >= 0; bound = right.nextUpperBound(i, bound + 1)) {
+				Identifier upperBound = right.identifierAt(bound);
 				TarsisIntv boundTarsisIntv = new TarsisIntv(null, left.getState(upperBound).getHigh());
 				left.putState(id, idTarsisIntv.glb(boundTarsisIntv));
-				refined.add(id);
 			}
+			refined.add(id);
 		}
 
 		for (Identifier id : left.getKeys())
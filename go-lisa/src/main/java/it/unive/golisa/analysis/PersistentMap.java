@@ -0,0 +1,284 @@
+package it.unive.golisa.analysis;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable hash map, whose updates yield new maps sharing most of their
+ * structure with the original one. The map is a hash array mapped trie:
+ * each node of the trie has a child for each 5 bits of the hash codes of the
+ * keys it holds, and updating a key copies only the nodes on the path to that
+ * key, that is, a number of nodes logarithmic in the size of the map, each
+ * one with at most 32 children. Neither keys nor values can be {@code null}.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+	private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(Node.EMPTY, 0);
+
+	private final Node root;
+
+	private final int size;
+
+	private PersistentMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Yields the empty map.
+	 *
+	 * @param <K> the type of the keys
+	 * @param <V> the type of the values
+	 *
+	 * @return the empty map
+	 */
+	@SuppressWarnings("unchecked")
+	static <K, V> PersistentMap<K, V> empty() {
+		return (PersistentMap<K, V>) EMPTY;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		return key == null ? null : (V) root.get(key, key.hashCode(), 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Yields the map where {@code key} is mapped to {@code value}, and the
+	 * other keys to their values in this map. This map is not modified.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 *
+	 * @return the resulting map
+	 */
+	PersistentMap<K, V> plus(K key, V value) {
+		V previous = get(key);
+		if (previous == value)
+			return this;
+		return new PersistentMap<>(root.put(key, value, key.hashCode(), 0), previous == null ? size + 1 : size);
+	}
+
+	/**
+	 * Yields the map without {@code key}, where the other keys are mapped to
+	 * their values in this map. This map is not modified.
+	 *
+	 * @param key the key
+	 *
+	 * @return the resulting map
+	 */
+	PersistentMap<K, V> minus(Object key) {
+		if (!containsKey(key))
+			return this;
+		if (size == 1)
+			return empty();
+		return new PersistentMap<>(root.remove(key, key.hashCode(), 0), size - 1);
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				List<Entry<K, V>> entries = new ArrayList<>(size);
+				root.collect(entries);
+				return Collections.unmodifiableList(entries).iterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * A node of the trie, whose children are either nodes or leaves, indexed
+	 * by the bits of the hash codes at the depth of the node.
+	 */
+	private static final class Node {
+
+		private static final Node EMPTY = new Node(0, new Object[0]);
+
+		private final int bitmap;
+
+		private final Object[] children;
+
+		private Node(int bitmap, Object[] children) {
+			this.bitmap = bitmap;
+			this.children = children;
+		}
+
+		private static int bit(int hash, int shift) {
+			return 1 << ((hash >>> shift) & 31);
+		}
+
+		private int index(int bit) {
+			return Integer.bitCount(bitmap & (bit - 1));
+		}
+
+		private Object get(Object key, int hash, int shift) {
+			int bit = bit(hash, shift);
+			if ((bitmap & bit) == 0)
+				return null;
+
+			Object child = children[index(bit)];
+			if (child instanceof Node)
+				return ((Node) child).get(key, hash, shift + 5);
+			return ((Leaf) child).get(key, hash);
+		}
+
+		private Node put(Object key, Object value, int hash, int shift) {
+			int bit = bit(hash, shift);
+			int index = index(bit);
+			if ((bitmap & bit) == 0) {
+				Object[] copy = new Object[children.length + 1];
+				System.arraycopy(children, 0, copy, 0, index);
+				copy[index] = new Leaf(hash, new Object[] { key }, new Object[] { value });
+				System.arraycopy(children, index, copy, index + 1, children.length - index);
+				return new Node(bitmap | bit, copy);
+			}
+
+			Object child = children[index];
+			if (child instanceof Node)
+				return with(index, ((Node) child).put(key, value, hash, shift + 5));
+
+			Leaf leaf = (Leaf) child;
+			if (leaf.hash == hash)
+				return with(index, leaf.put(key, value));
+
+			// the hash codes differ in some of the following bits
+			Node split = new Node(bit(leaf.hash, shift + 5), new Object[] { leaf });
+			return with(index, split.put(key, value, hash, shift + 5));
+		}
+
+		/**
+		 * Yields this node without {@code key}, that must be in it, or
+		 * {@code null} if the node would be empty.
+		 */
+		private Node remove(Object key, int hash, int shift) {
+			int bit = bit(hash, shift);
+			int index = index(bit);
+			Object child = children[index];
+			Object updated = child instanceof Node ? ((Node) child).remove(key, hash, shift + 5)
+					: ((Leaf) child).remove(key);
+			if (updated != null)
+				return with(index, updated);
+
+			if (children.length == 1)
+				return null;
+			Object[] copy = new Object[children.length - 1];
+			System.arraycopy(children, 0, copy, 0, index);
+			System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+			return new Node(bitmap & ~bit, copy);
+		}
+
+		private Node with(int index, Object child) {
+			Object[] copy = children.clone();
+			copy[index] = child;
+			return new Node(bitmap, copy);
+		}
+
+		private <K, V> void collect(List<Entry<K, V>> entries) {
+			for (Object child : children)
+				if (child instanceof Node)
+					((Node) child).collect(entries);
+				else
+					((Leaf) child).collect(entries);
+		}
+	}
+
+	/**
+	 * The entries whose keys have the same hash code, usually just one.
+	 */
+	private static final class Leaf {
+
+		private final int hash;
+
+		private final Object[] keys;
+
+		private final Object[] values;
+
+		private Leaf(int hash, Object[] keys, Object[] values) {
+			this.hash = hash;
+			this.keys = keys;
+			this.values = values;
+		}
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < keys.length; i++)
+				if (keys[i].equals(key))
+					return i;
+			return -1;
+		}
+
+		private Object get(Object key, int hash) {
+			if (hash != this.hash)
+				return null;
+			int index = indexOf(key);
+			return index < 0 ? null : values[index];
+		}
+
+		private Leaf put(Object key, Object value) {
+			int index = indexOf(key);
+			if (index >= 0) {
+				Object[] copy = values.clone();
+				copy[index] = value;
+				return new Leaf(hash, keys, copy);
+			}
+
+			Object[] newKeys = new Object[keys.length + 1];
+			Object[] newValues = new Object[values.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, keys.length);
+			System.arraycopy(values, 0, newValues, 0, values.length);
+			newKeys[keys.length] = key;
+			newValues[values.length] = value;
+			return new Leaf(hash, newKeys, newValues);
+		}
+
+		/**
+		 * Yields this leaf without {@code key}, that must be in it, or
+		 * {@code null} if the leaf would be empty.
+		 */
+		private Leaf remove(Object key) {
+			if (keys.length == 1)
+				return null;
+
+			int index = indexOf(key);
+			Object[] newKeys = new Object[keys.length - 1];
+			Object[] newValues = new Object[values.length - 1];
+			System.arraycopy(keys, 0, newKeys, 0, index);
+			System.arraycopy(values, 0, newValues, 0, index);
+			System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+			System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+			return new Leaf(hash, newKeys, newValues);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <K, V> void collect(List<Entry<K, V>> entries) {
+			for (int i = 0; i < keys.length; i++)
+				entries.add(new SimpleImmutableEntry<>((K) keys[i], (V) values[i]));
+		}
+	}
+}
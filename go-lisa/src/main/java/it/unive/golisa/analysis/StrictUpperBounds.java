@@ -1,8 +1,9 @@
 package it.unive.golisa.analysis;
 
+import it.unive.lisa.analysis.BaseLattice;
+import it.unive.lisa.analysis.Lattice;
 import it.unive.lisa.analysis.ScopeToken;
 import it.unive.lisa.analysis.SemanticException;
-import it.unive.lisa.analysis.lattices.FunctionalLattice;
 import it.unive.lisa.analysis.representation.DomainRepresentation;
 import it.unive.lisa.analysis.representation.MapRepresentation;
 import it.unive.lisa.analysis.representation.StringRepresentation;
@@ -26,36 +27,67 @@ import it.unive.lisa.symbolic.value.operator.binary.LogicalOr;
 import it.unive.lisa.symbolic.value.operator.binary.NumericNonOverflowingAdd;
 import it.unive.lisa.symbolic.value.operator.binary.NumericNonOverflowingSub;
 import it.unive.lisa.symbolic.value.operator.unary.LogicalNegation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
- * The strict upper bound relational abstract domain.
- * 
+ * The strict upper bound relational abstract domain. Identifiers are mapped
+ * to dense indices by an index owned by the analysis, that is created with the
+ * top element and shared by all the instances derived from it (as
+ * {@link it.unive.golisa.analysis.heap.GoAllocationSites} do with their table
+ * of allocation sites), and the strict upper bounds of each identifier are
+ * stored as a row of bits indexed by them. The transitive closure is
+ * maintained incrementally by assignments, and lattice operations work
+ * word-wise on the rows.
+ *
  * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
  */
-public class StrictUpperBounds
-		extends FunctionalLattice<StrictUpperBounds, Identifier, ExpressionInverseSet<Identifier>>
-		implements ValueDomain<StrictUpperBounds> {
+public class StrictUpperBounds extends BaseLattice<StrictUpperBounds> implements ValueDomain<StrictUpperBounds> {
+
+	private static final long[][] NO_ROWS = new long[0][];
+
+	private final boolean isTop;
+
+	private final boolean isBottom;
 
 	/**
-	 * Builds the string upper bounds.
+	 * The strict upper bounds of each identifier, indexed by the index of the
+	 * identifier. Missing or {@code null} rows stand for no upper bounds.
 	 */
-	public StrictUpperBounds() {
-		this(new ExpressionInverseSet<>(), null);
-	}
+	private final long[][] rows;
+
+	/**
+	 * Whether {@link #rows} is known to be transitively closed.
+	 */
+	private final boolean closed;
 
 	/**
-	 * Builds the string upper bounds.
-	 * 
-	 * @param lattice  the underlying lattice
-	 * @param function the function to clone
+	 * The index of the identifiers, shared with the top element this instance
+	 * derives from.
 	 */
-	private StrictUpperBounds(ExpressionInverseSet<Identifier> lattice,
-			Map<Identifier, ExpressionInverseSet<Identifier>> function) {
-		super(lattice, function);
+	private final IdentifierIndex index;
+
+	/**
+	 * Builds the string upper bounds, with a fresh index of identifiers.
+	 */
+	public StrictUpperBounds() {
+		this(true, false, NO_ROWS, true, new IdentifierIndex());
+	}
+
+	private StrictUpperBounds(boolean isTop, boolean isBottom, long[][] rows, boolean closed,
+			IdentifierIndex index) {
+		this.isTop = isTop;
+		this.isBottom = isBottom;
+		this.rows = rows;
+		this.closed = closed;
+		this.index = index;
 	}
 
 	@Override
@@ -69,87 +101,84 @@ public class StrictUpperBounds
 			SymbolicExpression right = binary.getRight();
 
 			BinaryOperator op = binary.getOperator();
-			if (op == NumericNonOverflowingAdd.INSTANCE) {
-				if (left instanceof Identifier && !left.equals(id) && right instanceof Constant) {
-					Identifier y = (Identifier) left;
-					Constant cons = (Constant) right;
-
-					if (cons.getValue() instanceof Integer) {
-						Integer c = (Integer) cons.getValue();
-						ExpressionInverseSet<
-								Identifier> yUB = new ExpressionInverseSet<Identifier>(getState(y).elements());
-						ExpressionInverseSet<
-								Identifier> xUB = new ExpressionInverseSet<Identifier>(getState(id).elements());
-
-						Map<Identifier, ExpressionInverseSet<Identifier>> func;
-						if (function == null)
-							func = new HashMap<>();
-						else
-							func = new HashMap<>(function);
-
-						if (c < 0) {
-
-							for (Identifier y_id : yUB)
-								xUB = xUB.addExpression(y_id);
-							xUB = xUB.addExpression(y);
-							func.put(id, xUB);
-
-							return new StrictUpperBounds(lattice, func).closure();
-						}
-
-						if (c > 0) {
-							yUB = yUB.addExpression(id);
-							func.put(y, yUB);
-							StrictUpperBounds res = new StrictUpperBounds(lattice, func);
-							return res.forgetIdentifier(id).closure();
-						}
-					}
-				}
-			} else if (op == NumericNonOverflowingSub.INSTANCE) {
-				if (left instanceof Identifier && !left.equals(id)
-						&& right instanceof Constant) {
-					Identifier y = (Identifier) left;
-					Constant cons = (Constant) right;
-
-					if (cons.getValue() instanceof Integer) {
-						Integer c = (Integer) cons.getValue();
-						ExpressionInverseSet<
-								Identifier> yUB = new ExpressionInverseSet<Identifier>(getState(y).elements());
-						ExpressionInverseSet<
-								Identifier> xUB = new ExpressionInverseSet<Identifier>(getState(id).elements());
-
-						Map<Identifier, ExpressionInverseSet<Identifier>> func;
-						if (function == null)
-							func = new HashMap<>();
-						else
-							func = new HashMap<>(function);
-
-						if (c > 0) {
-							for (Identifier y_id : yUB)
-								xUB = xUB.addExpression(y_id);
-							xUB = xUB.addExpression(y);
-							func.put(id, xUB);
-							return new StrictUpperBounds(lattice, func).closure();
-						}
-
-						if (c < 0) {
-							yUB = yUB.addExpression(id);
-							func.put(y, yUB);
-							StrictUpperBounds res = new StrictUpperBounds(lattice, func);
-							return res.forgetIdentifier(id).closure();
-						}
-					}
-				}
+			if ((op == NumericNonOverflowingAdd.INSTANCE || op == NumericNonOverflowingSub.INSTANCE)
+					&& left instanceof Identifier && !left.equals(id) && right instanceof Constant
+					&& ((Constant) right).getValue() instanceof Integer) {
+				long c = (Integer) ((Constant) right).getValue();
+				if (op == NumericNonOverflowingSub.INSTANCE)
+					c = -c;
+
+				int x = index.indexOf(id);
+				int y = index.indexOf((Identifier) left);
+				long[][] closedRows = closed ? rows : closure(rows);
+
+				if (c < 0)
+					// x < y, hence x < all the upper bounds of y
+					return new StrictUpperBounds(false, false, addBelow(closedRows, x, y), true, index);
+
+				if (c > 0)
+					// y < x, where the old upper bounds of x are forgotten
+					return new StrictUpperBounds(false, false, addAbove(closedRows, y, x), true, index);
 			}
 		}
 
 		return forgetIdentifier(id);
 	}
 
+	/**
+	 * Adds {@code x < y} to the closed relation {@code rows}, yielding a closed
+	 * relation. All the upper bounds of {@code y} become upper bounds of
+	 * {@code x} and of all the identifiers below {@code x}.
+	 */
+	private static long[][] addBelow(long[][] rows, int x, int y) {
+		long[][] result = Arrays.copyOf(rows, Math.max(rows.length, Math.max(x, y) + 1));
+		long[] xRow = or(set(row(result, x), y), row(result, y));
+		result[x] = xRow;
+
+		// identifiers below x are also below all of its new upper bounds
+		for (int i = 0; i < result.length; i++)
+			if (i != x && get(result[i], x))
+				result[i] = or(result[i], xRow);
+		return result;
+	}
+
+	/**
+	 * Adds {@code y < x} to the closed relation {@code rows}, after having
+	 * removed the upper bounds of {@code x}, yielding a closed relation.
+	 */
+	private static long[][] addAbove(long[][] rows, int y, int x) {
+		long[][] result = Arrays.copyOf(rows, Math.max(rows.length, Math.max(x, y) + 1));
+		result[x] = null;
+		result[y] = set(row(result, y), x);
+
+		// identifiers below y are also below x
+		for (int i = 0; i < result.length; i++)
+			if (i != y && get(result[i], y))
+				result[i] = set(result[i], x);
+		return result;
+	}
+
+	/**
+	 * Yields the transitive closure of {@code rows}, through Warshall's
+	 * algorithm.
+	 */
+	private static long[][] closure(long[][] rows) {
+		long[][] result = rows.clone();
+		for (int k = 0; k < result.length; k++) {
+			long[] kRow = result[k];
+			if (kRow == null)
+				continue;
+			for (int i = 0; i < result.length; i++)
+				if (get(result[i], k))
+					result[i] = or(result[i], kRow);
+		}
+		return result;
+	}
+
 	@Override
 	public StrictUpperBounds smallStepSemantics(ValueExpression expression, ProgramPoint pp)
 			throws SemanticException {
-		return new StrictUpperBounds(lattice, function);
+		return this;
 	}
 
 	@Override
@@ -168,11 +197,13 @@ public class StrictUpperBounds
 		if (isTop() || isBottom())
 			return this;
 
-		StrictUpperBounds result = new StrictUpperBounds(lattice, new HashMap<>(function));
-		if (result.function.containsKey(id))
-			result.function.remove(id);
+		int x = index.lookup(id);
+		if (x == -1 || x >= rows.length || rows[x] == null)
+			return this;
 
-		return result;
+		long[][] result = rows.clone();
+		result[x] = null;
+		return new StrictUpperBounds(false, false, result, closed, index);
 	}
 
 	@Override
@@ -204,19 +235,15 @@ public class StrictUpperBounds
 			BinaryOperator op = binary.getOperator();
 
 			if (op == ComparisonEq.INSTANCE) {
-				if (getState(right).contains(left) || getState(left).contains(right))
+				if (isBelow(right, left) || isBelow(left, right))
 					return Satisfiability.NOT_SATISFIED;
 				return Satisfiability.UNKNOWN;
 			} else if (op == ComparisonGe.INSTANCE || op == ComparisonGt.INSTANCE) {
-				if (getState(right).contains(left))
+				if (isBelow(right, left))
 					return Satisfiability.SATISFIED;
 				return Satisfiability.UNKNOWN;
 			} else if (op == ComparisonLe.INSTANCE || op == ComparisonLt.INSTANCE) {
-				if (getState(left).contains(right))
-					return Satisfiability.SATISFIED;
-				return Satisfiability.UNKNOWN;
-			} else if (op == ComparisonEq.INSTANCE) {
-				if (getState(right).contains(left) || getState(left).contains(right))
+				if (isBelow(left, right))
 					return Satisfiability.SATISFIED;
 				return Satisfiability.UNKNOWN;
 			} else if (op == LogicalAnd.INSTANCE)
@@ -228,58 +255,161 @@ public class StrictUpperBounds
 		return Satisfiability.UNKNOWN;
 	}
 
+	/**
+	 * Yields whether {@code upper} is a strict upper bound of {@code lower}.
+	 */
+	private boolean isBelow(Identifier lower, Identifier upper) {
+		int l = index.lookup(lower);
+		int u = index.lookup(upper);
+		return l != -1 && u != -1 && get(row(rows, l), u);
+	}
+
 	@Override
 	public StrictUpperBounds top() {
-		return new StrictUpperBounds(lattice.top(), null);
+		return index.top;
 	}
 
 	@Override
 	public StrictUpperBounds bottom() {
-		return new StrictUpperBounds(lattice.bottom(), null);
+		return index.bottom;
 	}
 
 	@Override
 	public boolean isTop() {
-		return lattice.isTop() && function == null;
+		return isTop;
 	}
 
 	@Override
 	public boolean isBottom() {
-		return lattice.isBottom() && function == null;
+		return isBottom;
 	}
 
-	private StrictUpperBounds closure() {
-		if (isTop() || isBottom())
-			return this;
+	@Override
+	protected StrictUpperBounds lubAux(StrictUpperBounds other) throws SemanticException {
+		// upper bounds are intersected, while an identifier without upper
+		// bounds on one side keeps the ones of the other side
+		long[][] otherRows = rowsOf(other);
+		long[][] result = new long[Math.max(rows.length, otherRows.length)][];
+		for (int i = 0; i < result.length; i++) {
+			long[] mine = row(rows, i);
+			long[] theirs = row(otherRows, i);
+			if (isEmpty(mine))
+				result[i] = theirs;
+			else if (isEmpty(theirs))
+				result[i] = mine;
+			else
+				result[i] = and(mine, theirs);
+		}
+		return new StrictUpperBounds(false, false, result, false, index);
+	}
 
-		StrictUpperBounds previous = new StrictUpperBounds(lattice, function);
-		StrictUpperBounds closure = previous;
+	@Override
+	protected StrictUpperBounds wideningAux(StrictUpperBounds other) throws SemanticException {
+		return lubAux(other);
+	}
+
+	@Override
+	protected boolean lessOrEqualAux(StrictUpperBounds other) throws SemanticException {
+		long[][] otherRows = rowsOf(other);
+		for (int i = 0; i < rows.length; i++) {
+			long[] mine = rows[i];
+			if (isEmpty(mine))
+				continue;
+			long[] theirs = row(otherRows, i);
+			if (isEmpty(theirs) || !containsAll(mine, theirs))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Yields the rows of {@code other} over the index of this instance. These
+	 * are the rows of {@code other} itself when both instances derive from the
+	 * same top element, as it happens within an analysis, and a re-indexed copy
+	 * of them otherwise.
+	 */
+	private long[][] rowsOf(StrictUpperBounds other) {
+		if (other.index == index)
+			return other.rows;
+
+		long[][] result = NO_ROWS;
+		for (int i = 0; i < other.rows.length; i++) {
+			long[] row = other.rows[i];
+			if (isEmpty(row))
+				continue;
+			int l = index.indexOf(other.index.identifierAt(i));
+			if (l >= result.length)
+				result = Arrays.copyOf(result, l + 1);
+			for (int bound = nextSetBit(row, 0); bound >= 0; bound = nextSetBit(row, bound + 1))
+				result[l] = set(result[l], index.indexOf(other.index.identifierAt(bound)));
+		}
+		return result;
+	}
+
+	/**
+	 * Yields the number of rows of this instance, that is an upper bound on
+	 * the indices of the identifiers having strict upper bounds.
+	 *
+	 * @return the number of rows
+	 */
+	int rowCount() {
+		return rows.length;
+	}
 
-		do {
-			previous = closure;
-			closure = new StrictUpperBounds(lattice, function);
+	/**
+	 * Yields the index of the first strict upper bound of the identifier with
+	 * index {@code i} that is greater than or equal to {@code from}, walking
+	 * its row of bits as {@link java.util.BitSet#nextSetBit(int)} does.
+	 *
+	 * @param i    the index of the identifier
+	 * @param from the index to start from
+	 *
+	 * @return the index of the upper bound, or {@code -1} if there is none
+	 */
+	int nextUpperBound(int i, int from) {
+		return nextSetBit(row(rows, i), from);
+	}
 
-			for (Identifier x : getKeys())
-				for (Identifier y : getKeys())
-					for (Identifier z : getKeys())
-						if (getState(y).contains(x) && getState(z).contains(y)) {
-							Map<Identifier, ExpressionInverseSet<Identifier>> func;
-							if (closure.function == null)
-								func = new HashMap<>();
-							else
-								func = new HashMap<>(closure.function);
+	/**
+	 * Yields the identifier with index {@code i}.
+	 *
+	 * @param i the index
+	 *
+	 * @return the identifier
+	 */
+	Identifier identifierAt(int i) {
+		return index.identifierAt(i);
+	}
 
-							func.put(z, closure.getState(z).addExpression(x));
-							closure = new StrictUpperBounds(lattice, func);
-						}
-		} while (!previous.equals(closure));
+	/**
+	 * Yields the strict upper bounds of each identifier having at least one.
+	 * The map is built at each call.
+	 *
+	 * @return the map from identifiers to their strict upper bounds
+	 */
+	public Map<Identifier, ExpressionInverseSet<Identifier>> getMap() {
+		Map<Identifier, ExpressionInverseSet<Identifier>> map = new HashMap<>();
+		for (int i = 0; i < rows.length; i++)
+			if (!isEmpty(rows[i]))
+				map.put(index.identifierAt(i), new ExpressionInverseSet<>(decode(rows[i])));
+		return map;
+	}
 
-		return previous;
+	private Set<Identifier> decode(long[] row) {
+		Set<Identifier> ids = new HashSet<>();
+		for (int bound = nextSetBit(row, 0); bound >= 0; bound = nextSetBit(row, bound + 1))
+			ids.add(index.identifierAt(bound));
+		return ids;
 	}
 
 	@Override
 	public DomainRepresentation representation() {
-		return new MapRepresentation(function, StringRepresentation::new, StringRepresentation::new);
+		if (isTop())
+			return Lattice.TOP_REPR;
+		if (isBottom())
+			return Lattice.BOTTOM_REPR;
+
+		return new MapRepresentation(getMap(), StringRepresentation::new, StringRepresentation::new);
 	}
 
 	@Override
@@ -307,23 +437,194 @@ public class StrictUpperBounds
 		return result;
 	}
 
+	/**
+	 * Lifts the identifiers having upper bounds through {@code lifter},
+	 * dropping the ones lifted to {@code null}. As before, upper bounds are
+	 * left untouched.
+	 */
 	private StrictUpperBounds liftIdentifiers(Function<Identifier, Identifier> lifter) throws SemanticException {
 		if (isBottom() || isTop())
 			return this;
 
-		Map<Identifier, ExpressionInverseSet<Identifier>> function = mkNewFunction(null);
-		for (Identifier id : getKeys()) {
-			Identifier lifted = lifter.apply(id);
-			if (lifted != null)
-				function.put(lifted, getState(id));
+		long[][] result = NO_ROWS;
+		for (int i = 0; i < rows.length; i++) {
+			if (isEmpty(rows[i]))
+				continue;
+			Identifier lifted = lifter.apply(index.identifierAt(i));
+			if (lifted != null) {
+				int l = index.indexOf(lifted);
+				if (l >= result.length)
+					result = Arrays.copyOf(result, Math.max(l + 1, rows.length));
+				result[l] = rows[i];
+			}
 		}
 
-		return new StrictUpperBounds(lattice, function);
+		return new StrictUpperBounds(false, false, result, false, index);
 	}
 
 	@Override
-	protected StrictUpperBounds mk(ExpressionInverseSet<Identifier> lattice,
-			Map<Identifier, ExpressionInverseSet<Identifier>> function) {
-		return new StrictUpperBounds(lattice, function);
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (isBottom ? 1231 : 1237);
+		result = prime * result + (isTop ? 1231 : 1237);
+		for (int i = 0; i < rows.length; i++)
+			if (!isEmpty(rows[i]))
+				result += i ^ rowHash(rows[i]);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		StrictUpperBounds other = (StrictUpperBounds) obj;
+		// indices are meaningful only within the same index
+		if (index != other.index)
+			return false;
+		if (isBottom != other.isBottom)
+			return false;
+		if (isTop != other.isTop)
+			return false;
+		for (int i = 0; i < Math.max(rows.length, other.rows.length); i++)
+			if (!sameBits(row(rows, i), row(other.rows, i)))
+				return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return representation().toString();
+	}
+
+	private static long[] row(long[][] rows, int i) {
+		return i < rows.length ? rows[i] : null;
+	}
+
+	private static boolean get(long[] row, int bit) {
+		int w = bit >>> 6;
+		return row != null && w < row.length && (row[w] & (1L << bit)) != 0;
+	}
+
+	private static long[] set(long[] row, int bit) {
+		if (get(row, bit))
+			return row;
+		int w = bit >>> 6;
+		long[] result = row == null ? new long[w + 1] : Arrays.copyOf(row, Math.max(row.length, w + 1));
+		result[w] |= 1L << bit;
+		return result;
+	}
+
+	private static int nextSetBit(long[] row, int from) {
+		if (row == null)
+			return -1;
+		int w = from >>> 6;
+		if (w >= row.length)
+			return -1;
+		long word = row[w] & (-1L << from);
+		while (word == 0) {
+			if (++w == row.length)
+				return -1;
+			word = row[w];
+		}
+		return w * 64 + Long.numberOfTrailingZeros(word);
+	}
+
+	private static long[] or(long[] a, long[] b) {
+		if (isEmpty(b) || a == b)
+			return a;
+		if (isEmpty(a))
+			return b;
+		if (a.length >= b.length && containsAll(a, b))
+			return a;
+		long[] result = Arrays.copyOf(a, Math.max(a.length, b.length));
+		for (int w = 0; w < b.length; w++)
+			result[w] |= b[w];
+		return result;
+	}
+
+	private static long[] and(long[] a, long[] b) {
+		long[] result = new long[Math.min(a.length, b.length)];
+		for (int w = 0; w < result.length; w++)
+			result[w] = a[w] & b[w];
+		return result;
+	}
+
+	/**
+	 * Yields whether all the bits of {@code b} are set in {@code a}.
+	 */
+	private static boolean containsAll(long[] a, long[] b) {
+		for (int w = 0; w < b.length; w++)
+			if ((b[w] & ~(w < a.length ? a[w] : 0L)) != 0)
+				return false;
+		return true;
+	}
+
+	private static boolean isEmpty(long[] row) {
+		if (row != null)
+			for (long word : row)
+				if (word != 0)
+					return false;
+		return true;
+	}
+
+	private static boolean sameBits(long[] a, long[] b) {
+		int la = a == null ? 0 : a.length;
+		int lb = b == null ? 0 : b.length;
+		for (int w = 0; w < Math.max(la, lb); w++)
+			if ((w < la ? a[w] : 0L) != (w < lb ? b[w] : 0L))
+				return false;
+		return true;
+	}
+
+	private static int rowHash(long[] row) {
+		// trailing zero words do not contribute, consistently with sameBits
+		int result = 1;
+		for (int w = 0; w < row.length; w++)
+			if (row[w] != 0)
+				result = 31 * result + (w ^ Long.hashCode(row[w]));
+		return result;
+	}
+
+	/**
+	 * The dense indices of the identifiers tracked by an analysis, shared by
+	 * all the instances deriving from the same top element so that their rows
+	 * can be combined word-wise. The index is reachable only from such
+	 * instances, and it is thus released together with them at the end of the
+	 * analysis. Its methods are synchronized, since the fixpoints of an
+	 * analysis may run in parallel.
+	 */
+	private static final class IdentifierIndex {
+
+		private final Map<Identifier, Integer> indices = new HashMap<>();
+
+		private final List<Identifier> identifiers = new ArrayList<>();
+
+		private final StrictUpperBounds top = new StrictUpperBounds(true, false, NO_ROWS, true, this);
+
+		private final StrictUpperBounds bottom = new StrictUpperBounds(false, true, NO_ROWS, true, this);
+
+		private synchronized int indexOf(Identifier id) {
+			Integer index = indices.get(id);
+			if (index == null) {
+				index = identifiers.size();
+				indices.put(id, index);
+				identifiers.add(id);
+			}
+			return index;
+		}
+
+		private synchronized int lookup(Identifier id) {
+			Integer index = indices.get(id);
+			return index == null ? -1 : index;
+		}
+
+		private synchronized Identifier identifierAt(int index) {
+			return identifiers.get(index);
+		}
 	}
 }
@@ -103,8 +103,8 @@ public class RelTarsis extends BaseLattice<RelTarsis> implements ValueDomain<Rel
 
 	@Override
 	public RelTarsis top() {
-		return new RelTarsis(new ValueEnvironment<Tarsis>(new Tarsis()), new RelationalSubstringDomain(),
-				new ValueEnvironment<StringConstantPropagation>(new StringConstantPropagation()));
+		// the top element of Tarsis carries the automata cache of the analysis
+		return new RelTarsis(tarsis.top(), rsubs.top(), constant.top());
 	}
 
 	@Override
@@ -6,14 +6,13 @@ import it.unive.lisa.program.CompilationUnit;
 import it.unive.lisa.program.Program;
 import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.CFGDescriptor;
-import it.unive.lisa.program.cfg.edge.Edge;
 import it.unive.lisa.program.cfg.statement.Statement;
 import it.unive.lisa.program.cfg.statement.call.Call;
-import it.unive.lisa.util.datastructures.graph.GraphVisitor;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -56,29 +55,31 @@ public class EntryPointsUtils {
 	}
 
 	/**
-	 * Yields the descriptor set of possible entry points for the analysis.
+	 * Yields the possible entry points for the analysis, that is, the
+	 * descriptors annotated as sources, indexed by full name and then by
+	 * number of formals.
 	 * 
 	 * @param appliedAnnotations the applied annotations
 	 * @param annotationSets     the set of annotation related to the analysis
 	 *                               of non-determinism
 	 * 
-	 * @return the set of descriptors
+	 * @return the index of the possible entry points
 	 */
-	private static Set<CFGDescriptor> getDescriptorOfPossibleEntryPointsForAnalysis(
+	private static Map<String, Set<Integer>> indexPossibleEntryPointsForAnalysis(
 			Set<Pair<CodeAnnotation, CFGDescriptor>> appliedAnnotations,
 			NonDeterminismAnnotationSet... annotationSets) {
 
-		Set<CFGDescriptor> descriptors = new HashSet<>();
-		for (NonDeterminismAnnotationSet as : annotationSets) {
-			Set<? extends CodeAnnotation> sources = as.getAnnotationForSources();
-			appliedAnnotations.stream()
-					.forEach(e -> {
-						if (sources.contains(e.getLeft()))
-							descriptors.add(e.getRight());
-					});
-		}
+		Set<CodeAnnotation> sources = new HashSet<>();
+		for (NonDeterminismAnnotationSet as : annotationSets)
+			sources.addAll(as.getAnnotationForSources());
 
-		return descriptors;
+		Map<String, Set<Integer>> index = new HashMap<>();
+		for (Pair<CodeAnnotation, CFGDescriptor> e : appliedAnnotations)
+			if (sources.contains(e.getLeft()))
+				index.computeIfAbsent(e.getRight().getFullName(), k -> new HashSet<>())
+						.add(e.getRight().getFormals().length);
+
+		return index;
 	}
 
 	/**
@@ -95,81 +96,37 @@ public class EntryPointsUtils {
 			Set<Pair<CodeAnnotation, CFGDescriptor>> appliedAnnotations,
 			NonDeterminismAnnotationSet... annotationSets) {
 
-		Set<CFG> set = new HashSet<>();
-
-		Set<CFGDescriptor> descriptors = getDescriptorOfPossibleEntryPointsForAnalysis(appliedAnnotations,
-				annotationSets);
-
-		for (CFG cfg : program.getAllCFGs()) {
-			LinkedList<Statement> possibleEntries = new LinkedList<>();
-			cfg.accept(new PossibleEntryPointExtractor(descriptors), possibleEntries);
-			if (!possibleEntries.isEmpty())
-				set.add(cfg);
-		}
+		Map<String, Set<Integer>> index = indexPossibleEntryPointsForAnalysis(appliedAnnotations, annotationSets);
+		if (index.isEmpty())
+			return new HashSet<>();
 
+		Set<CFG> cfgs = new HashSet<>(program.getAllCFGs());
 		for (CompilationUnit unit : program.getUnits())
-			for (CFG cfg : unit.getAllCFGs()) {
-				LinkedList<Statement> possibleEntries = new LinkedList<>();
-				cfg.accept(new PossibleEntryPointExtractor(descriptors), possibleEntries);
-				if (!possibleEntries.isEmpty())
-					set.add(cfg);
-			}
-		return set;
+			cfgs.addAll(unit.getAllCFGs());
 
+		// cfgs are only read here, hence they can be scanned in parallel
+		return cfgs.parallelStream()
+				.filter(cfg -> callsPossibleEntryPoint(cfg, index))
+				.collect(Collectors.toCollection(HashSet::new));
 	}
 
 	/**
-	 * The class represents the extractor of possible entry points.
+	 * Checks whether a cfg contains a call whose full target name and number
+	 * of parameters match a possible entry point.
+	 * 
+	 * @param cfg   the cfg
+	 * @param index the index of the possible entry points
+	 * 
+	 * @return {@code true} if {@code cfg} calls a possible entry point,
+	 *             otherwise {@code false}
 	 */
-	private static class PossibleEntryPointExtractor
-			implements GraphVisitor<CFG, Statement, Edge, Collection<Statement>> {
-
-		final Set<CFGDescriptor> descriptors;
-
-		/**
-		 * Builds an instance of the extractor of possible entry points
-		 * 
-		 * @param descriptors the descriptors
-		 */
-		public PossibleEntryPointExtractor(Set<CFGDescriptor> descriptors) {
-			this.descriptors = descriptors;
-		}
-
-		@Override
-		public boolean visit(Collection<Statement> tool, CFG graph) {
-			return true;
-		}
-
-		@Override
-		public boolean visit(Collection<Statement> tool, CFG graph, Statement node) {
-
-			if (matchSignatureDescriptor(node, tool))
-				tool.add(node);
-
-			return true;
-		}
-
-		/**
-		 * Check if a node is a call, and in case checks if the signature match
-		 * with the descriptors.
-		 * 
-		 * @param node the statement
-		 * @param tool the tool
-		 * 
-		 * @return {@code true} when the signature match, otherwise
-		 *             {@code false}
-		 */
-		private boolean matchSignatureDescriptor(Statement node, Collection<Statement> tool) {
-			if (node instanceof Call)
-				if (descriptors.stream().anyMatch(d -> d.getFullName().equals(((Call) node).getFullTargetName())
-						&& d.getFormals().length == ((Call) node).getParameters().length))
+	private static boolean callsPossibleEntryPoint(CFG cfg, Map<String, Set<Integer>> index) {
+		for (Statement node : cfg.getNodes())
+			if (node instanceof Call) {
+				Set<Integer> arities = index.get(((Call) node).getFullTargetName());
+				if (arities != null && arities.contains(((Call) node).getParameters().length))
 					return true;
-			return false;
-		}
-
-		@Override
-		public boolean visit(Collection<Statement> tool, CFG graph, Edge edge) {
-			return true;
-		}
+			}
+		return false;
 	}
 }
@@ -0,0 +1,383 @@
+package it.unive.golisa.analysis.heap;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable set of allocation sites, stored over the identifiers assigned
+ * to them by an {@link AllocationSiteTable}. Sets are sorted arrays of
+ * identifiers, and switch to a bitset only when they are dense, that is, when
+ * they hold more than {@link #SMALL_SIZE} sites and the bitset takes no more
+ * memory than the array. The representation depends
+ * only on the identifiers in the set, so that two sets over the same table are
+ * equal if and only if their arrays are, and inclusion and union between them
+ * are computed on the arrays.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+final class AllocationSiteSet extends AbstractSet<GoAllocationSite> {
+
+	private static final int[] NO_IDS = new int[0];
+
+	/**
+	 * The size up to which sets are arrays: most sets are this small, and
+	 * their lookups are short binary searches.
+	 */
+	static final int SMALL_SIZE = 8;
+
+	private final AllocationSiteTable table;
+
+	/**
+	 * The sorted identifiers of the sites of this set, {@code null} if this
+	 * set is dense.
+	 */
+	private final int[] ids;
+
+	/**
+	 * The bitset of the identifiers of the sites of this set, whose last word
+	 * is not zero, {@code null} if this set is sparse.
+	 */
+	private final long[] words;
+
+	private final int size;
+
+	private int hash;
+
+	/**
+	 * Builds the empty set over {@code table}.
+	 *
+	 * @param table the table interning the sites
+	 */
+	AllocationSiteSet(AllocationSiteTable table) {
+		this(table, NO_IDS, null, 0);
+	}
+
+	private AllocationSiteSet(AllocationSiteTable table, int[] ids, long[] words, int size) {
+		this.table = table;
+		this.ids = ids;
+		this.words = words;
+		this.size = size;
+	}
+
+	/**
+	 * Yields the set over {@code table} holding only the site with identifier
+	 * {@code id}.
+	 *
+	 * @param table the table interning the sites
+	 * @param id    the identifier of the site
+	 *
+	 * @return the singleton set
+	 */
+	static AllocationSiteSet singleton(AllocationSiteTable table, int id) {
+		return new AllocationSiteSet(table, new int[] { id }, null, 1);
+	}
+
+	/**
+	 * Yields the set over {@code table} holding {@code sites}, interning them
+	 * if needed.
+	 *
+	 * @param table the table interning the sites
+	 * @param sites the sites
+	 *
+	 * @return the set of sites
+	 */
+	static AllocationSiteSet of(AllocationSiteTable table, Collection<? extends GoAllocationSite> sites) {
+		if (sites instanceof AllocationSiteSet && ((AllocationSiteSet) sites).table == table)
+			return (AllocationSiteSet) sites;
+
+		int[] ids = new int[sites.size()];
+		int length = 0;
+		for (GoAllocationSite site : sites)
+			ids[length++] = table.intern(site);
+		Arrays.sort(ids, 0, length);
+
+		int distinct = 0;
+		for (int i = 0; i < length; i++)
+			if (distinct == 0 || ids[i] != ids[distinct - 1])
+				ids[distinct++] = ids[i];
+		return fromSorted(table, ids, distinct);
+	}
+
+	/**
+	 * Yields whether a set of {@code size} identifiers, the greatest of which
+	 * is in the word {@code lastWord} of a bitset, is dense, that is, whether
+	 * it is not small and its bitset takes no more memory than the array of
+	 * its identifiers.
+	 */
+	private static boolean isDense(int size, int lastWord) {
+		return size > SMALL_SIZE && 2 * (lastWord + 1) <= size;
+	}
+
+	private static AllocationSiteSet fromSorted(AllocationSiteTable table, int[] ids, int length) {
+		if (length == 0)
+			return new AllocationSiteSet(table);
+		if (!isDense(length, ids[length - 1] >>> 6))
+			return new AllocationSiteSet(table, length == ids.length ? ids : Arrays.copyOf(ids, length), null,
+					length);
+
+		long[] words = new long[(ids[length - 1] >>> 6) + 1];
+		for (int i = 0; i < length; i++)
+			words[ids[i] >>> 6] |= 1L << ids[i];
+		return new AllocationSiteSet(table, null, words, length);
+	}
+
+	private static AllocationSiteSet fromWords(AllocationSiteTable table, long[] words) {
+		int length = words.length;
+		while (length > 0 && words[length - 1] == 0)
+			length--;
+
+		int size = 0;
+		for (int i = 0; i < length; i++)
+			size += Long.bitCount(words[i]);
+		if (size == 0)
+			return new AllocationSiteSet(table);
+		if (isDense(size, length - 1))
+			return new AllocationSiteSet(table, null, length == words.length ? words : Arrays.copyOf(words, length),
+					size);
+
+		int[] ids = new int[size];
+		int next = 0;
+		for (int i = 0; i < length; i++)
+			for (long word = words[i]; word != 0; word &= word - 1)
+				ids[next++] = (i << 6) + Long.numberOfTrailingZeros(word);
+		return new AllocationSiteSet(table, ids, null, size);
+	}
+
+	/**
+	 * Yields whether the bit {@code id} is set in {@code words}.
+	 *
+	 * @param words the bitset
+	 * @param id    the bit
+	 *
+	 * @return whether the bit is set
+	 */
+	static boolean get(long[] words, int id) {
+		return id >>> 6 < words.length && (words[id >>> 6] & 1L << id) != 0;
+	}
+
+	/**
+	 * Yields the table interning the sites of this set.
+	 *
+	 * @return the table
+	 */
+	AllocationSiteTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Yields whether this set contains the site with identifier {@code id}.
+	 *
+	 * @param id the identifier
+	 *
+	 * @return whether the site is in this set
+	 */
+	boolean containsId(int id) {
+		return ids != null ? Arrays.binarySearch(ids, id) >= 0 : get(words, id);
+	}
+
+	/**
+	 * Yields this set as a set over {@code other}, re-interning its sites if
+	 * it is built on a different table.
+	 *
+	 * @param other the table
+	 *
+	 * @return the set over {@code other}
+	 */
+	AllocationSiteSet in(AllocationSiteTable other) {
+		return of(other, this);
+	}
+
+	/**
+	 * Yields whether each site of this set is also in {@code other}, built on
+	 * the same table.
+	 *
+	 * @param other the other set
+	 *
+	 * @return whether this set is included in {@code other}
+	 */
+	boolean isSubsetOf(AllocationSiteSet other) {
+		if (size > other.size)
+			return false;
+
+		if (ids != null) {
+			for (int id : ids)
+				if (!other.containsId(id))
+					return false;
+			return true;
+		}
+
+		if (other.words != null) {
+			if (words.length > other.words.length)
+				return false;
+			for (int i = 0; i < words.length; i++)
+				if ((words[i] & ~other.words[i]) != 0)
+					return false;
+			return true;
+		}
+
+		for (int i = 0; i < words.length; i++)
+			for (long word = words[i]; word != 0; word &= word - 1)
+				if (!other.containsId((i << 6) + Long.numberOfTrailingZeros(word)))
+					return false;
+		return true;
+	}
+
+	/**
+	 * Yields the union of this set and {@code other}, built on the same
+	 * table, where strong sites are dropped if the union contains a weak site
+	 * with the same name.
+	 *
+	 * @param other the other set
+	 *
+	 * @return the union of the two sets
+	 */
+	AllocationSiteSet lub(AllocationSiteSet other) {
+		long[] shadowed = table.shadowed();
+		IntPredicate inUnion = id -> containsId(id) || other.containsId(id);
+
+		if (ids != null && other.ids != null) {
+			// merge of the sorted arrays
+			int[] first = ids, second = other.ids;
+			int[] result = new int[first.length + second.length];
+			int i = 0, j = 0, length = 0;
+			while (i < first.length || j < second.length) {
+				int id;
+				if (j == second.length || (i < first.length && first[i] < second[j]))
+					id = first[i++];
+				else if (i == first.length || second[j] < first[i])
+					id = second[j++];
+				else {
+					id = first[i++];
+					j++;
+				}
+
+				if (!get(shadowed, id) || !table.isShadowedIn(id, inUnion))
+					result[length++] = id;
+			}
+
+			return fromSorted(table, result, length);
+		}
+
+		long[] result = new long[Math.max(lastWord(), other.lastWord()) + 1];
+		addTo(result);
+		other.addTo(result);
+		for (int i = 0; i < Math.min(result.length, shadowed.length); i++)
+			for (long candidates = result[i] & shadowed[i]; candidates != 0; candidates &= candidates - 1) {
+				int id = (i << 6) + Long.numberOfTrailingZeros(candidates);
+				if (table.isShadowedIn(id, inUnion))
+					result[i] &= ~(1L << id);
+			}
+
+		return fromWords(table, result);
+	}
+
+	private int lastWord() {
+		if (words != null)
+			return words.length - 1;
+		return size == 0 ? -1 : ids[size - 1] >>> 6;
+	}
+
+	private void addTo(long[] result) {
+		if (words != null)
+			for (int i = 0; i < words.length; i++)
+				result[i] |= words[i];
+		else
+			for (int id : ids)
+				result[id >>> 6] |= 1L << id;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		int id = table.find(o);
+		return id >= 0 && containsId(id);
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> c) {
+		if (c instanceof AllocationSiteSet && ((AllocationSiteSet) c).table == table)
+			return ((AllocationSiteSet) c).isSubsetOf(this);
+		return super.containsAll(c);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<GoAllocationSite> iterator() {
+		if (ids != null)
+			return new Iterator<GoAllocationSite>() {
+
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					return next < ids.length;
+				}
+
+				@Override
+				public GoAllocationSite next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					return table.get(ids[next++]);
+				}
+			};
+
+		return new Iterator<GoAllocationSite>() {
+
+			private int word = 0;
+
+			private long remaining = words[0];
+
+			@Override
+			public boolean hasNext() {
+				while (remaining == 0 && word < words.length - 1)
+					remaining = words[++word];
+				return remaining != 0;
+			}
+
+			@Override
+			public GoAllocationSite next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				int id = (word << 6) + Long.numberOfTrailingZeros(remaining);
+				remaining &= remaining - 1;
+				return table.get(id);
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o instanceof AllocationSiteSet && ((AllocationSiteSet) o).table == table) {
+			AllocationSiteSet other = (AllocationSiteSet) o;
+			// the representation only depends on the identifiers
+			return size == other.size && Arrays.equals(ids, other.ids) && Arrays.equals(words, other.words);
+		}
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		// consistent with the other sets, this set being immutable: as for
+		// strings, a race only computes it more than once
+		int h = hash;
+		if (h == 0) {
+			h = super.hashCode();
+			hash = h;
+		}
+		return h;
+	}
+}
@@ -0,0 +1,177 @@
+package it.unive.golisa.analysis.heap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * The table interning the allocation sites met during an analysis into dense
+ * integer identifiers, assigned in order of first appearance. Sets of
+ * allocation sites built on the same table ({@link AllocationSiteSet}) are
+ * then stored over these identifiers. The table also records which strong
+ * sites share their name with a weak one, since the lub of
+ * {@link GoAllocationSites} keeps only the latter.<br>
+ * <br>
+ * The table is thread-safe, so that the heap states of an analysis can be
+ * shared by the threads computing it: its methods lock the table, a lock that
+ * is uncontended in sequential analyses, except {@link #shadowed()}, that
+ * yields a snapshot replaced whenever a site gets shadowed.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+final class AllocationSiteTable {
+
+	private final Map<GoAllocationSite, Integer> ids = new HashMap<>();
+
+	private final List<GoAllocationSite> sites = new ArrayList<>();
+
+	private final Map<String, List<Integer>> strongByName = new HashMap<>();
+
+	private final Map<String, List<Integer>> weakByName = new HashMap<>();
+
+	private final List<GoAllocationSites> singletons = new ArrayList<>();
+
+	private volatile long[] shadowed = new long[0];
+
+	private final GoAllocationSites top = new GoAllocationSites(new AllocationSiteSet(this), true);
+
+	private final GoAllocationSites bottom = new GoAllocationSites(new AllocationSiteSet(this), false);
+
+	/**
+	 * Yields the identifier of {@code site}, interning it if needed.
+	 *
+	 * @param site the allocation site
+	 *
+	 * @return the identifier of {@code site}
+	 */
+	synchronized int intern(GoAllocationSite site) {
+		Integer id = ids.get(site);
+		if (id != null)
+			return id;
+
+		int fresh = sites.size();
+		ids.put(site, fresh);
+		sites.add(site);
+		singletons.add(null);
+
+		String name = site.getName();
+		if (site.isWeak()) {
+			weakByName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(fresh);
+			for (int strong : strongByName.getOrDefault(name, List.of()))
+				shadow(strong);
+		} else {
+			strongByName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(fresh);
+			if (weakByName.containsKey(name))
+				shadow(fresh);
+		}
+
+		return fresh;
+	}
+
+	/**
+	 * Yields the identifier of {@code site}, without interning it.
+	 *
+	 * @param site the allocation site
+	 *
+	 * @return the identifier of {@code site}, {@code -1} if it has not been
+	 *             interned
+	 */
+	synchronized int find(Object site) {
+		Integer id = ids.get(site);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Yields the allocation site with the given identifier.
+	 *
+	 * @param id the identifier
+	 *
+	 * @return the allocation site
+	 */
+	synchronized GoAllocationSite get(int id) {
+		return sites.get(id);
+	}
+
+	/**
+	 * Yields the bitset of the strong sites sharing their name with a weak
+	 * site. The returned array is never modified, and is replaced by a new
+	 * one when further sites get shadowed.
+	 *
+	 * @return the bitset of the shadowed strong sites
+	 */
+	long[] shadowed() {
+		return shadowed;
+	}
+
+	/**
+	 * Yields whether {@code members} holds for a weak site with the same name
+	 * of the strong site with identifier {@code id}.
+	 *
+	 * @param id      the identifier of a strong site
+	 * @param members the identifiers of the set to inspect
+	 *
+	 * @return whether the site is shadowed by a weak site in the set
+	 */
+	synchronized boolean isShadowedIn(int id, IntPredicate members) {
+		for (int weak : weakByName.getOrDefault(sites.get(id).getName(), List.of()))
+			if (members.test(weak))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Yields the non-top instance of {@link GoAllocationSites} holding only
+	 * the site with identifier {@code id}, shared by all its evaluations.
+	 *
+	 * @param id the identifier
+	 *
+	 * @return the singleton set of allocation sites
+	 */
+	synchronized GoAllocationSites singleton(int id) {
+		GoAllocationSites singleton = singletons.get(id);
+		if (singleton == null) {
+			singleton = new GoAllocationSites(AllocationSiteSet.singleton(this, id), false);
+			singletons.set(id, singleton);
+		}
+		return singleton;
+	}
+
+	/**
+	 * Yields the top element of the {@link GoAllocationSites} built on this
+	 * table.
+	 *
+	 * @return the top element
+	 */
+	GoAllocationSites top() {
+		return top;
+	}
+
+	/**
+	 * Yields the bottom element of the {@link GoAllocationSites} built on this
+	 * table.
+	 *
+	 * @return the bottom element
+	 */
+	GoAllocationSites bottom() {
+		return bottom;
+	}
+
+	/**
+	 * Yields the number of interned allocation sites.
+	 *
+	 * @return the number of interned allocation sites
+	 */
+	synchronized int size() {
+		return sites.size();
+	}
+
+	private void shadow(int id) {
+		// copied, as the previous snapshot might be read by a lub
+		long[] copy = Arrays.copyOf(shadowed, Math.max((id >>> 6) + 1, shadowed.length));
+		copy[id >>> 6] |= 1L << id;
+		shadowed = copy;
+	}
+}
@@ -4,6 +4,7 @@ import it.unive.lisa.analysis.AbstractState;
 import it.unive.lisa.analysis.BaseLattice;
 import it.unive.lisa.analysis.ScopeToken;
 import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.heap.HeapSemanticOperation.HeapReplacement;
 import it.unive.lisa.analysis.lattices.ExpressionSet;
 import it.unive.lisa.analysis.representation.DomainRepresentation;
 import it.unive.lisa.analysis.value.TypeDomain;
@@ -16,6 +17,7 @@ import it.unive.lisa.symbolic.value.MemoryPointer;
 import it.unive.lisa.symbolic.value.ValueExpression;
 import it.unive.lisa.type.Type;
 import it.unive.lisa.util.collections.externalSet.ExternalSet;
+import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -82,9 +84,35 @@ public class GoAbstractState<V extends ValueDomain<V>,
 		return typeState;
 	}
 
+	/**
+	 * Yields this state where the value and type domains have applied, at
+	 * {@code pp}, the substitution left pending on the heap by a widening,
+	 * that has no program point to apply it with. Each transfer function
+	 * starts from this state.
+	 * 
+	 * @param pp the program point of the transfer function
+	 * 
+	 * @return this state without pending substitution
+	 * 
+	 * @throws SemanticException if something goes wrong while applying the
+	 *                               substitution
+	 */
+	private GoAbstractState<V, T> settle(ProgramPoint pp) throws SemanticException {
+		List<HeapReplacement> substitution = heapState.getSubstitution();
+		if (substitution.isEmpty())
+			return this;
+
+		return new GoAbstractState<>(heapState.withoutSubstitution(),
+				valueState.applySubstitution(substitution, pp),
+				typeState.applySubstitution(substitution, pp));
+	}
+
 	@Override
 	public GoAbstractState<V, T> assign(Identifier id, SymbolicExpression expression, ProgramPoint pp)
 			throws SemanticException {
+		if (!heapState.getSubstitution().isEmpty())
+			return settle(pp).assign(id, expression, pp);
+
 		GoPointBasedHeap heap = heapState.assign(id, expression, pp);
 		ExpressionSet<ValueExpression> exprs = heap.rewrite(expression, pp);
 
@@ -94,13 +122,13 @@ public class GoAbstractState<V extends ValueDomain<V>,
 		for (Pair<HeapLocation, HeapLocation> p : heap.getDecouples()) {
 			type = type.assign(p.getLeft(), p.getRight(), pp);
 
+			// the pairs are shared with the heap: the value domain gets typed
+			// copies of their locations
 			ExternalSet<Type> rt = type.getInferredRuntimeTypes();
-			p.getLeft().setRuntimeTypes(rt);
-			p.getRight().setRuntimeTypes(rt);
-			value = value.assign(p.getLeft(), p.getRight(), pp);
+			value = value.assign(withRuntimeTypes(p.getLeft(), rt), withRuntimeTypes(p.getRight(), rt), pp);
 		}
 
-		heap.getDecouples().clear();
+		heap = heap.withoutDecouples();
 
 		if (heap.getSubstitution() != null && !heap.getSubstitution().isEmpty()) {
 			type = type.applySubstitution(heap.getSubstitution(), pp);
@@ -126,6 +154,9 @@ public class GoAbstractState<V extends ValueDomain<V>,
 	@Override
 	public GoAbstractState<V, T> smallStepSemantics(SymbolicExpression expression, ProgramPoint pp)
 			throws SemanticException {
+		if (!heapState.getSubstitution().isEmpty())
+			return settle(pp).smallStepSemantics(expression, pp);
+
 		GoPointBasedHeap heap = heapState.smallStepSemantics(expression, pp);
 		ExpressionSet<ValueExpression> exprs = heap.rewrite(expression, pp);
 
@@ -155,6 +186,9 @@ public class GoAbstractState<V extends ValueDomain<V>,
 	@Override
 	public GoAbstractState<V, T> assume(SymbolicExpression expression, ProgramPoint pp)
 			throws SemanticException {
+		if (!heapState.getSubstitution().isEmpty())
+			return settle(pp).assume(expression, pp);
+
 		GoPointBasedHeap heap = heapState.assume(expression, pp);
 		ExpressionSet<ValueExpression> exprs = heap.rewrite(expression, pp);
 
@@ -179,6 +213,9 @@ public class GoAbstractState<V extends ValueDomain<V>,
 
 	@Override
 	public Satisfiability satisfies(SymbolicExpression expression, ProgramPoint pp) throws SemanticException {
+		if (!heapState.getSubstitution().isEmpty())
+			return settle(pp).satisfies(expression, pp);
+
 		ExpressionSet<ValueExpression> rewritten = heapState.rewrite(expression, pp);
 		Satisfiability typeResult = Satisfiability.BOTTOM;
 		Satisfiability valueResult = Satisfiability.BOTTOM;
@@ -219,6 +256,9 @@ public class GoAbstractState<V extends ValueDomain<V>,
 
 	@Override
 	public GoAbstractState<V, T> wideningAux(GoAbstractState<V, T> other) throws SemanticException {
+		// the substitution of the sites merged by the heap widening is kept on
+		// the heap, and applied by the next transfer function with its
+		// program point
 		return new GoAbstractState<>(
 				heapState.widening(other.heapState),
 				valueState.widening(other.valueState),
@@ -307,6 +347,12 @@ public class GoAbstractState<V extends ValueDomain<V>,
 		return new StateRepresentation(heapState.representation(), typeState.representation());
 	}
 
+	private static HeapLocation withRuntimeTypes(HeapLocation location, ExternalSet<Type> types) {
+		if (location instanceof GoAllocationSite)
+			return ((GoAllocationSite) location).withRuntimeTypes(types);
+		return location;
+	}
+
 	/**
 	 * @author <a href="mailto:luca.negrini@unive.it">Luca Negrini</a>
 	 */
@@ -4,6 +4,7 @@ import it.unive.lisa.analysis.heap.pointbased.AllocationSite;
 import it.unive.lisa.program.cfg.CodeLocation;
 import it.unive.lisa.symbolic.SymbolicExpression;
 import it.unive.lisa.type.Type;
+import it.unive.lisa.util.collections.externalSet.ExternalSet;
 
 /**
  * A heap identifier that track also the source location where it has been
@@ -31,4 +32,28 @@ public class GoAllocationSite extends AllocationSite {
 			CodeLocation location) {
 		super(staticType, locationName, field, isWeak, location);
 	}
+
+	/**
+	 * Yields a copy of this allocation site whose runtime types are
+	 * {@code types}, leaving this one untouched: sites are shared by the
+	 * heaps that hold them, that may be used concurrently.
+	 * 
+	 * @param types the runtime types of the copy
+	 * 
+	 * @return the copy of this allocation site
+	 */
+	public GoAllocationSite withRuntimeTypes(ExternalSet<Type> types) {
+		GoAllocationSite copy;
+		if (this instanceof StackAllocationSite)
+			copy = new StackAllocationSite(getStaticType(), getLocationName(), getField(), isWeak(),
+					getCodeLocation());
+		else if (this instanceof HeapAllocationSite)
+			copy = new HeapAllocationSite(getStaticType(), getLocationName(), getField(), isWeak(),
+					getCodeLocation());
+		else
+			copy = new GoAllocationSite(getStaticType(), getLocationName(), getField(), isWeak(),
+					getCodeLocation());
+		copy.setRuntimeTypes(types);
+		return copy;
+	}
 }
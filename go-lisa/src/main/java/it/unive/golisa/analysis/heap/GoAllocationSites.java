@@ -13,33 +13,33 @@ import it.unive.lisa.symbolic.SymbolicExpression;
 import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.ValueExpression;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 
 /**
- * A heap domain tracking sets of {@link AllocationSite}.
+ * A heap domain tracking sets of {@link AllocationSite}. Sites are interned
+ * into dense identifiers, one numbering per analysis, and sets of sites are
+ * sorted arrays of them, or bitsets when dense (see
+ * {@link AllocationSiteSet}).
  * 
  * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
  */
 public class GoAllocationSites extends SetLattice<GoAllocationSites, GoAllocationSite>
 		implements NonRelationalHeapDomain<GoAllocationSites> {
 
-	private static final GoAllocationSites TOP = new GoAllocationSites(new HashSet<>(), true);
-	private static final GoAllocationSites BOTTOM = new GoAllocationSites(new HashSet<>(), false);
-
 	private final boolean isTop;
 
 	/**
 	 * Builds an instance of HeapIdentiferSetLattice, corresponding to the top
-	 * element.
+	 * element. The allocation sites of the sets derived from this instance are
+	 * interned into a fresh {@link AllocationSiteTable}, so that each analysis
+	 * numbers its own sites.
 	 */
 	public GoAllocationSites() {
-		this(new HashSet<>(), true);
+		this(new AllocationSiteSet(new AllocationSiteTable()), true);
 	}
 
 	/**
@@ -48,11 +48,15 @@ public class GoAllocationSites extends SetLattice<GoAllocationSites, GoAllocatio
 	 * @param set   the set of {@link AllocationSite}s
 	 * @param isTop whether this instance is the top of the lattice
 	 */
-	GoAllocationSites(Set<GoAllocationSite> set, boolean isTop) {
+	GoAllocationSites(AllocationSiteSet set, boolean isTop) {
 		super(set);
 		this.isTop = isTop;
 	}
 
+	private AllocationSiteSet sites() {
+		return (AllocationSiteSet) elements;
+	}
+
 	@Override
 	public boolean isTop() {
 		return isTop;
@@ -65,17 +69,17 @@ public class GoAllocationSites extends SetLattice<GoAllocationSites, GoAllocatio
 
 	@Override
 	public GoAllocationSites top() {
-		return TOP;
+		return sites().getTable().top();
 	}
 
 	@Override
 	public GoAllocationSites bottom() {
-		return BOTTOM;
+		return sites().getTable().bottom();
 	}
 
 	@Override
 	protected GoAllocationSites mk(Set<GoAllocationSite> set) {
-		return new GoAllocationSites(set, false);
+		return new GoAllocationSites(AllocationSiteSet.of(sites().getTable(), set), false);
 	}
 
 	@Override
@@ -86,7 +90,39 @@ public class GoAllocationSites extends SetLattice<GoAllocationSites, GoAllocatio
 	@Override
 	public GoAllocationSites eval(SymbolicExpression expression,
 			HeapEnvironment<GoAllocationSites> environment, ProgramPoint pp) {
-		return new GoAllocationSites(Collections.singleton((GoAllocationSite) expression), false);
+		AllocationSiteTable table = sites().getTable();
+		return table.singleton(table.intern((GoAllocationSite) expression));
+	}
+
+	/**
+	 * Yields the set of sites obtained by replacing the sites of this set
+	 * according to {@code replacements}.
+	 * 
+	 * @param replacements the replacements
+	 * 
+	 * @return the new set, or this one if none of its sites is replaced
+	 */
+	GoAllocationSites replace(Map<GoAllocationSite, GoAllocationSite> replacements) {
+		Set<GoAllocationSite> replaced = new HashSet<>();
+		boolean changed = false;
+		for (GoAllocationSite site : elements) {
+			GoAllocationSite replacement = replacements.get(site);
+			changed |= replacement != null;
+			replaced.add(replacement == null ? site : replacement);
+		}
+
+		return changed ? mk(replaced) : this;
+	}
+
+	/**
+	 * Yields whether this set contains {@code site}.
+	 * 
+	 * @param site the allocation site
+	 * 
+	 * @return whether {@code site} is in this set
+	 */
+	boolean containsSite(GoAllocationSite site) {
+		return elements.contains(site);
 	}
 
 	@Override
@@ -129,24 +165,15 @@ public class GoAllocationSites extends SetLattice<GoAllocationSites, GoAllocatio
 
 	@Override
 	protected GoAllocationSites lubAux(GoAllocationSites other) throws SemanticException {
-		Map<String, GoAllocationSite> lub = new HashMap<>();
-
-		// all weak identifiers are part of the lub
-		elements.stream().filter(GoAllocationSite::isWeak).forEach(e -> lub.put(e.getName(), e));
-		// common ones will be overwritten
-		other.elements.stream().filter(GoAllocationSite::isWeak).forEach(e -> lub.put(e.getName(), e));
-
-		// strong identifiers are only added if we did not consider a
-		// weak identifier with the same name
-		elements.stream().filter(Predicate.not(GoAllocationSite::isWeak))
-				.filter(e -> !lub.containsKey(e.getName()))
-				.forEach(e -> lub.put(e.getName(), e));
-
-		other.elements.stream().filter(Predicate.not(GoAllocationSite::isWeak))
-				.filter(e -> !lub.containsKey(e.getName()))
-				.forEach(e -> lub.put(e.getName(), e));
+		// strong identifiers are only part of the lub if there is no weak
+		// identifier with the same name
+		AllocationSiteSet lub = sites().lub(other.sites().in(sites().getTable()));
+		return lub.equals(elements) ? this : new GoAllocationSites(lub, false);
+	}
 
-		return new GoAllocationSites(new HashSet<>(lub.values()), false);
+	@Override
+	protected boolean lessOrEqualAux(GoAllocationSites other) throws SemanticException {
+		return sites().isSubsetOf(other.sites().in(sites().getTable()));
 	}
 
 	@Override
@@ -22,6 +22,7 @@ import it.unive.lisa.symbolic.value.Variable;
 import it.unive.lisa.type.Type;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -44,19 +45,59 @@ import org.apache.commons.lang3.tuple.Pair;
 public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 
 	/**
-	 * Builds a new instance of field-sensitive point-based heap.
+	 * The default length above which the elements of an array are smashed.
+	 */
+	public static final int DEFAULT_SMASHING_LENGTH = 64;
+
+	/**
+	 * Builds a new instance of field-sensitive point-based heap, with the
+	 * default limits {@link #DEFAULT_SITES_PER_POINT},
+	 * {@link #DEFAULT_FIELD_DEPTH} and {@link #DEFAULT_SMASHING_LENGTH}.
 	 */
 	public GoFieldSensitivePointBasedHeap() {
-		super();
+		this(DEFAULT_SITES_PER_POINT, DEFAULT_FIELD_DEPTH);
+	}
+
+	/**
+	 * Builds a new instance of field-sensitive point-based heap, whose
+	 * widening keeps distinct at most {@code sitesPerPoint} field sites of the
+	 * same allocation point, with field paths at most {@code fieldDepth} deep.
+	 * 
+	 * @param sitesPerPoint the maximum number of field sites of the same
+	 *                          allocation point
+	 * @param fieldDepth    the maximum depth of the field path of a site
+	 */
+	public GoFieldSensitivePointBasedHeap(int sitesPerPoint, int fieldDepth) {
+		this(sitesPerPoint, fieldDepth, DEFAULT_SMASHING_LENGTH);
 	}
 
-	private GoFieldSensitivePointBasedHeap(HeapEnvironment<GoAllocationSites> allocationSites) {
-		super(allocationSites);
+	/**
+	 * Builds a new instance of field-sensitive point-based heap, whose
+	 * widening keeps distinct at most {@code sitesPerPoint} field sites of the
+	 * same allocation point, with field paths at most {@code fieldDepth} deep,
+	 * and that smashes the elements of the arrays longer than
+	 * {@code smashingLength} into a single weak summary element, both when
+	 * they are accessed and when the array is copied.
+	 * 
+	 * @param sitesPerPoint  the maximum number of field sites of the same
+	 *                           allocation point
+	 * @param fieldDepth     the maximum depth of the field path of a site
+	 * @param smashingLength the maximum length of the arrays whose elements
+	 *                           are kept distinct
+	 */
+	public GoFieldSensitivePointBasedHeap(int sitesPerPoint, int fieldDepth, int smashingLength) {
+		super(new HeapEnvironment<>(new GoAllocationSites()), new Limits(sitesPerPoint, fieldDepth, smashingLength));
+	}
+
+	private GoFieldSensitivePointBasedHeap(HeapEnvironment<GoAllocationSites> allocationSites,
+			Set<Pair<HeapLocation, HeapLocation>> copies, List<HeapReplacement> substitution, Limits limits) {
+		super(allocationSites, copies, substitution, limits);
 	}
 
 	@Override
 	protected GoFieldSensitivePointBasedHeap from(GoPointBasedHeap original) {
-		return new GoFieldSensitivePointBasedHeap(original.heapEnv);
+		return new GoFieldSensitivePointBasedHeap(original.heapEnv, original.decouples, original.substitution,
+				original.limits);
 	}
 
 	@Override
@@ -72,7 +113,7 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 		GoPointBasedHeap sss = smallStepSemantics(expression, pp);
 		ExpressionSet<ValueExpression> rewrittenExp = sss.rewrite(expression, pp);
 
-		GoPointBasedHeap result = bottom();
+		HeapUpdate update = new HeapUpdate();
 		for (ValueExpression exp : rewrittenExp)
 			if (exp instanceof MemoryPointer) {
 				MemoryPointer pid = (MemoryPointer) exp;
@@ -82,8 +123,7 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 					// we perform *x = *y so that x and y
 					// become aliases
 					Identifier star_x = ((MemoryPointer) id).getReferencedLocation();
-					HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(star_x, star_y, pp);
-					result = result.lub(new GoFieldSensitivePointBasedHeap(heap));
+					update.assign(star_x, star_y);
 				} else {
 					if (star_y instanceof StackAllocationSite && sss.heapEnv.getKeys().contains(expression)) {
 						// in other case, where star_y is a stack allocation
@@ -107,17 +147,25 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 							GoArrayType array = (GoArrayType) star_y.getStaticType();
 							Type contentType = array.getContenType();
 
-							for (int i = 0; i < array.getLength(); i++) {
-								Variable field = new Variable(contentType, i + "",
-										exp.getCodeLocation());
-								StackAllocationSite copySite = new StackAllocationSite(contentType,
-										id.getCodeLocation().toString(), field, star_y.isWeak(),
-										id.getCodeLocation());
-								StackAllocationSite copySiteRight = new StackAllocationSite(contentType,
-										star_y.getCodeLocation().toString(), field, star_y.isWeak(),
-										star_y.getCodeLocation());
+							if (isSmashed(array)) {
+								// a single pair copies all the elements
+								GoAllocationSite copySite = summary(new StackAllocationSite(array,
+										id.getCodeLocation().toString(), true, id.getCodeLocation()));
+								GoAllocationSite copySiteRight = summary(new StackAllocationSite(array,
+										star_y.getCodeLocation().toString(), true, star_y.getCodeLocation()));
 								newCopies.add(Pair.of(copySite, copySiteRight));
-							}
+							} else
+								for (int i = 0; i < array.getLength(); i++) {
+									Variable field = new Variable(contentType, i + "",
+											exp.getCodeLocation());
+									StackAllocationSite copySite = new StackAllocationSite(contentType,
+											id.getCodeLocation().toString(), field, star_y.isWeak(),
+											id.getCodeLocation());
+									StackAllocationSite copySiteRight = new StackAllocationSite(contentType,
+											star_y.getCodeLocation().toString(), field, star_y.isWeak(),
+											star_y.getCodeLocation());
+									newCopies.add(Pair.of(copySite, copySiteRight));
+								}
 
 							Variable field = new Variable(GoInt32Type.INSTANCE, "len",
 									exp.getCodeLocation());
@@ -157,27 +205,22 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 
 						StackAllocationSite copySite = new StackAllocationSite(star_y.getStaticType(),
 								id.getCodeLocation().toString(), star_y.isWeak(), id.getCodeLocation());
-						HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, copySite, pp);
-
-						result = result.lub(new GoFieldSensitivePointBasedHeap(heap));
-						result.decouples.addAll(newCopies);
+						update.assign(id, copySite);
+						update.decoupleAll(newCopies);
 
-					} else {
+					} else
 						// plain assignment just if star_y is a heap
 						// allocation site
-						HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, star_y, pp);
-						result = result.lub(new GoFieldSensitivePointBasedHeap(heap));
-					}
+						update.assign(id, star_y);
 				}
 			}
 
-			else if (exp instanceof HeapAllocationSite) {
-				HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, exp, pp);
-				result = result.lub(new GoFieldSensitivePointBasedHeap(heap));
-			} else
-				result = result.lub(sss);
+			else if (exp instanceof HeapAllocationSite)
+				update.assign(id, exp);
+			else
+				update.keep();
 
-		return result;
+		return update.applyTo(sss, pp);
 	}
 
 	private class Rewriter extends GoPointBasedHeap.Rewriter {
@@ -201,9 +244,13 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 
 		protected void populate(AccessChild expression, ExpressionSet<ValueExpression> child,
 				Set<ValueExpression> result, AllocationSite site) {
+			boolean smashed = isSmashed(site.getStaticType());
 			for (SymbolicExpression target : child) {
 				GoAllocationSite e;
-				if (site instanceof StackAllocationSite) {
+				if (smashed && !isLengthOrCapacity(target)) {
+					// all the elements are accessed through the summary one
+					e = summary(site);
+				} else if (site instanceof StackAllocationSite) {
 					e = new StackAllocationSite(
 							expression.getStaticType(),
 							site.getLocationName(),
@@ -268,6 +315,26 @@ public class GoFieldSensitivePointBasedHeap extends GoPointBasedHeap {
 		}
 	}
 
+	/**
+	 * Yields the length above which this heap smashes the elements of an
+	 * array into a single weak summary element.
+	 * 
+	 * @return the maximum length of the arrays whose elements are kept
+	 *             distinct
+	 */
+	public int getSmashingLength() {
+		return limits.smashingLength;
+	}
+
+	private boolean isSmashed(Type type) {
+		return type instanceof GoArrayType && ((GoArrayType) type).getLength() > limits.smashingLength;
+	}
+
+	private static boolean isLengthOrCapacity(SymbolicExpression field) {
+		return field instanceof Variable
+				&& (((Variable) field).getName().equals("len") || ((Variable) field).getName().equals("cap"));
+	}
+
 	private SymbolicExpression getVariable(Global global) {
 		return new Variable(global.getStaticType(), global.getName(),
 				global.getLocation());
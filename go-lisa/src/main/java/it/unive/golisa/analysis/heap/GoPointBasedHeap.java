@@ -21,10 +21,19 @@ import it.unive.lisa.symbolic.value.HeapLocation;
 import it.unive.lisa.symbolic.value.Identifier;
 import it.unive.lisa.symbolic.value.MemoryPointer;
 import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.type.Untyped;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -50,15 +59,64 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	/**
 	 * A set of pair tracking which heap location values must be copied by the
-	 * value domain.
+	 * value domain. The set is immutable, and shared by the heaps derived from
+	 * this one whenever they have the same pairs: it is empty for most heaps.
 	 */
 	protected final Set<Pair<HeapLocation, HeapLocation>> decouples;
 
 	/**
-	 * Builds a new instance of field-insensitive point-based heap.
+	 * The replacements of the sites merged into summary sites by the widening
+	 * that produced this heap, to be applied by the value and type domains.
+	 * A widening has no program point to apply them with: they are kept by
+	 * the lubs, widenings, scopes and forgets of the heap, until the next
+	 * transfer function of the abstract state applies them. It is empty for
+	 * the heaps not produced by a widening.
+	 */
+	protected final List<HeapReplacement> substitution;
+
+	/**
+	 * The limits of the analysis this heap belongs to, shared by all the heaps
+	 * derived from the same initial one.
+	 */
+	protected final Limits limits;
+
+	/**
+	 * The default maximum number of field sites of the same allocation point
+	 * kept distinct by the widening.
+	 */
+	public static final int DEFAULT_SITES_PER_POINT = 16;
+
+	/**
+	 * The default maximum depth of the field path of a site kept by the
+	 * widening.
+	 */
+	public static final int DEFAULT_FIELD_DEPTH = 2;
+
+	/**
+	 * The name of the field of the summary sites introduced by the widening.
+	 */
+	public static final String SUMMARY_FIELD = "*";
+
+	/**
+	 * Builds a new instance of field-insensitive point-based heap, with the
+	 * default limits {@link #DEFAULT_SITES_PER_POINT} and
+	 * {@link #DEFAULT_FIELD_DEPTH}.
 	 */
 	public GoPointBasedHeap() {
-		this(new HeapEnvironment<>(new GoAllocationSites()));
+		this(DEFAULT_SITES_PER_POINT, DEFAULT_FIELD_DEPTH);
+	}
+
+	/**
+	 * Builds a new instance of field-insensitive point-based heap, whose
+	 * widening keeps distinct at most {@code sitesPerPoint} field sites of the
+	 * same allocation point, with field paths at most {@code fieldDepth} deep.
+	 * 
+	 * @param sitesPerPoint the maximum number of field sites of the same
+	 *                          allocation point
+	 * @param fieldDepth    the maximum depth of the field path of a site
+	 */
+	public GoPointBasedHeap(int sitesPerPoint, int fieldDepth) {
+		this(new HeapEnvironment<>(new GoAllocationSites()), new Limits(sitesPerPoint, fieldDepth));
 	}
 
 	/**
@@ -66,21 +124,92 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 	 * environment.
 	 * 
 	 * @param heapEnv the heap environment that this instance tracks
+	 * @param limits  the limits of the analysis
 	 */
-	protected GoPointBasedHeap(HeapEnvironment<GoAllocationSites> heapEnv) {
-		this(heapEnv, new HashSet<>());
+	protected GoPointBasedHeap(HeapEnvironment<GoAllocationSites> heapEnv, Limits limits) {
+		this(heapEnv, Set.of(), List.of(), limits);
 	}
 
 	/**
 	 * Builds a new instance of field-insensitive point-based heap from its heap
-	 * environment.
+	 * environment, with the default limits.
 	 * 
 	 * @param heapEnv the heap environment that this instance tracks
 	 * @param copies  the set of pairs of heap location to decouple
 	 */
 	public GoPointBasedHeap(HeapEnvironment<GoAllocationSites> heapEnv, Set<Pair<HeapLocation, HeapLocation>> copies) {
+		this(heapEnv, copies, List.of(), new Limits(DEFAULT_SITES_PER_POINT, DEFAULT_FIELD_DEPTH));
+	}
+
+	/**
+	 * Builds a new instance of field-insensitive point-based heap from its heap
+	 * environment.
+	 * 
+	 * @param heapEnv      the heap environment that this instance tracks
+	 * @param copies       the set of pairs of heap location to decouple
+	 * @param substitution the replacements of the sites merged by the widening
+	 * @param limits       the limits of the analysis
+	 */
+	protected GoPointBasedHeap(HeapEnvironment<GoAllocationSites> heapEnv, Set<Pair<HeapLocation, HeapLocation>> copies,
+			List<HeapReplacement> substitution, Limits limits) {
 		this.heapEnv = heapEnv;
-		this.decouples = copies;
+		// no copy is made of the immutable sets built by union
+		this.decouples = Set.copyOf(copies);
+		this.substitution = List.copyOf(substitution);
+		this.limits = limits;
+	}
+
+	/**
+	 * The limits on the summaries introduced by an analysis, together with the
+	 * number of widenings that introduced some of them. An instance is shared
+	 * by all the heaps derived from the same initial one.
+	 */
+	protected static final class Limits {
+
+		/**
+		 * The maximum number of field sites of the same allocation point kept
+		 * distinct by the widening.
+		 */
+		final int sitesPerPoint;
+
+		/**
+		 * The maximum depth of the field path of a site kept by the widening.
+		 */
+		final int fieldDepth;
+
+		/**
+		 * The length above which the elements of an array are smashed into
+		 * its summary site.
+		 */
+		final int smashingLength;
+
+		private final AtomicLong widenings = new AtomicLong();
+
+		/**
+		 * Builds the limits, where no array is smashed.
+		 * 
+		 * @param sitesPerPoint the maximum number of field sites of the same
+		 *                          allocation point
+		 * @param fieldDepth    the maximum depth of the field path of a site
+		 */
+		protected Limits(int sitesPerPoint, int fieldDepth) {
+			this(sitesPerPoint, fieldDepth, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Builds the limits.
+		 * 
+		 * @param sitesPerPoint  the maximum number of field sites of the same
+		 *                           allocation point
+		 * @param fieldDepth     the maximum depth of the field path of a site
+		 * @param smashingLength the maximum length of the arrays whose
+		 *                           elements are kept distinct
+		 */
+		protected Limits(int sitesPerPoint, int fieldDepth, int smashingLength) {
+			this.sitesPerPoint = sitesPerPoint;
+			this.fieldDepth = fieldDepth;
+			this.smashingLength = smashingLength;
+		}
 	}
 
 	/**
@@ -101,7 +230,7 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 		GoPointBasedHeap sss = smallStepSemantics(expression, pp);
 		ExpressionSet<ValueExpression> rewrittenExp = sss.rewrite(expression, pp);
 
-		GoPointBasedHeap result = bottom();
+		HeapUpdate update = new HeapUpdate();
 		for (ValueExpression exp : rewrittenExp)
 			if (exp instanceof MemoryPointer) {
 				MemoryPointer pid = (MemoryPointer) exp;
@@ -111,8 +240,7 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 					// we perform *x = *y so that x and y
 					// become aliases
 					Identifier star_x = ((MemoryPointer) id).getReferencedLocation();
-					HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(star_x, star_y, pp);
-					result = result.lub(from(new GoPointBasedHeap(heap)));
+					update.assign(star_x, star_y);
 				} else {
 					if (star_y instanceof StackAllocationSite && sss.heapEnv.getKeys().contains(expression)) {
 						// in other case, where star_y is a stack alloacation
@@ -122,24 +250,117 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 								id.getCodeLocation().toString(), star_y.isWeak(), id.getCodeLocation());
 						StackAllocationSite toClone = new StackAllocationSite(star_y.getStaticType(),
 								star_y.getCodeLocation().toString(), star_y.isWeak(), star_y.getCodeLocation());
-						HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, cloneSite, pp);
-						result = result.lub(from(new GoPointBasedHeap(heap)));
-						result.decouples.add(Pair.of(cloneSite, toClone));
-
-					} else {
+						update.assign(id, cloneSite);
+						update.decouple(cloneSite, toClone);
+					} else
 						// plain assignment just if star_y is a real heap
 						// allocation site
-						HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, star_y, pp);
-						result = result.lub(from(new GoPointBasedHeap(heap)));
-					}
+						update.assign(id, star_y);
 				}
-			} else if (exp instanceof AllocationSite) {
-				HeapEnvironment<GoAllocationSites> heap = sss.heapEnv.assign(id, exp, pp);
-				result = result.lub(from(new GoPointBasedHeap(heap)));
-			} else
-				result = result.lub(sss);
+			} else if (exp instanceof AllocationSite)
+				update.assign(id, exp);
+			else
+				update.keep();
 
-		return result;
+		return update.applyTo(sss, pp);
+	}
+
+	/**
+	 * The effect of an assignment on the heap, collected from all the
+	 * expressions its right-hand side is rewritten to and then applied to the
+	 * heap environment at once. Each expression either binds an identifier to
+	 * an allocation site, or leaves the heap as it is: the result is the lub
+	 * of the heaps obtained from each expression, computed without building
+	 * each of them.
+	 */
+	protected class HeapUpdate {
+
+		private final Map<Identifier, List<SymbolicExpression>> targets = new LinkedHashMap<>();
+
+		private Set<Pair<HeapLocation, HeapLocation>> copies = Set.of();
+
+		private boolean keep;
+
+		private boolean empty = true;
+
+		/**
+		 * Records that {@code target} is bound to {@code site}.
+		 * 
+		 * @param target the identifier
+		 * @param site   the allocation site
+		 */
+		protected void assign(Identifier target, SymbolicExpression site) {
+			targets.computeIfAbsent(target, k -> new ArrayList<>(1)).add(site);
+			empty = false;
+		}
+
+		/**
+		 * Records that the values of {@code left} and {@code right} must be
+		 * decoupled.
+		 * 
+		 * @param left  the location receiving the copy
+		 * @param right the copied location
+		 */
+		protected void decouple(HeapLocation left, HeapLocation right) {
+			decoupleAll(Set.of(Pair.of(left, right)));
+		}
+
+		/**
+		 * Records that the values of each pair of heap locations in
+		 * {@code pairs} must be decoupled.
+		 * 
+		 * @param pairs the pairs of heap locations
+		 */
+		protected void decoupleAll(Set<Pair<HeapLocation, HeapLocation>> pairs) {
+			copies = union(copies, pairs);
+		}
+
+		/**
+		 * Records that one of the expressions leaves the heap as it is.
+		 */
+		protected void keep() {
+			keep = true;
+			empty = false;
+		}
+
+		/**
+		 * Applies this update to {@code sss}, the heap after the evaluation of
+		 * the right-hand side of the assignment.
+		 * 
+		 * @param sss the heap to update
+		 * @param pp  the program point of the assignment
+		 * 
+		 * @return the updated heap
+		 * 
+		 * @throws SemanticException if something goes wrong while updating
+		 */
+		protected GoPointBasedHeap applyTo(GoPointBasedHeap sss, ProgramPoint pp) throws SemanticException {
+			if (empty)
+				return bottom();
+			if (targets.isEmpty())
+				return sss;
+
+			HeapEnvironment<GoAllocationSites> env = keep ? sss.heapEnv : null;
+			for (Entry<Identifier, List<SymbolicExpression>> target : targets.entrySet()) {
+				Identifier key = target.getKey();
+				List<SymbolicExpression> sites = target.getValue();
+
+				HeapEnvironment<GoAllocationSites> assigned = sss.heapEnv.assign(key, sites.get(0), pp);
+				if (sites.size() > 1 && assigned.getKeys().contains(key)) {
+					// the heaps binding key to each site differ only on key
+					GoAllocationSites value = assigned.getState(key);
+					for (SymbolicExpression site : sites.subList(1, sites.size()))
+						value = value.lub(value.eval(site, assigned, pp));
+					assigned = assigned.putState(key, value);
+				}
+
+				env = env == null ? assigned : env.lub(assigned);
+			}
+
+			if (keep)
+				copies = union(copies, sss.decouples);
+			return from(new GoPointBasedHeap(env, copies, List.of(), limits));
+		}
 	}
 
 	@Override
@@ -150,7 +371,7 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	@Override
 	public GoPointBasedHeap forgetIdentifier(Identifier id) throws SemanticException {
-		return from(new GoPointBasedHeap(heapEnv.forgetIdentifier(id)));
+		return from(new GoPointBasedHeap(heapEnv.forgetIdentifier(id), Set.of(), substitution, limits));
 	}
 
 	@Override
@@ -172,7 +393,7 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	@Override
 	public GoPointBasedHeap top() {
-		return from(new GoPointBasedHeap(heapEnv.top()));
+		return from(new GoPointBasedHeap(heapEnv.top(), limits));
 	}
 
 	@Override
@@ -182,7 +403,7 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	@Override
 	public GoPointBasedHeap bottom() {
-		return from(new GoPointBasedHeap(heapEnv.bottom()));
+		return from(new GoPointBasedHeap(heapEnv.bottom(), limits));
 	}
 
 	@Override
@@ -192,29 +413,261 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	@Override
 	public List<HeapReplacement> getSubstitution() {
-		return Collections.emptyList();
+		return substitution;
 	}
 
 	@Override
 	public GoPointBasedHeap mk(GoPointBasedHeap reference) {
-		return from(new GoPointBasedHeap(reference.heapEnv));
+		return from(new GoPointBasedHeap(reference.heapEnv, limits));
 	}
 
 	@Override
 	protected GoPointBasedHeap lubAux(GoPointBasedHeap other) throws SemanticException {
-		Set<Pair<HeapLocation, HeapLocation>> lubCopies = new HashSet<>();
+		return from(new GoPointBasedHeap(heapEnv.lub(other.heapEnv), union(decouples, other.decouples),
+				concat(substitution, other.substitution), limits));
+	}
 
-		for (Pair<HeapLocation, HeapLocation> p : this.decouples)
-			lubCopies.add(p);
-		for (Pair<HeapLocation, HeapLocation> p : other.decouples)
-			lubCopies.add(p);
+	/**
+	 * Yields the replacements of {@code first} followed by the ones of
+	 * {@code second} that are not in {@code first}.
+	 */
+	private static List<HeapReplacement> concat(List<HeapReplacement> first, List<HeapReplacement> second) {
+		if (first.containsAll(second))
+			return first;
+		if (second.containsAll(first))
+			return second;
+
+		List<HeapReplacement> result = new ArrayList<>(first);
+		for (HeapReplacement replacement : second)
+			if (!first.contains(replacement))
+				result.add(replacement);
+		return result;
+	}
 
-		return from(new GoPointBasedHeap(heapEnv.lub(other.heapEnv), lubCopies));
+	/**
+	 * Yields the union of {@code first} and {@code second} as an immutable
+	 * set, that the constructors of the heap keep without copying it again,
+	 * {@link Set#copyOf(java.util.Collection)} returning its immutable
+	 * argument as it is.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Set<Pair<HeapLocation, HeapLocation>> union(Set<Pair<HeapLocation, HeapLocation>> first,
+			Set<Pair<HeapLocation, HeapLocation>> second) {
+		if (first.containsAll(second))
+			return Set.copyOf(first);
+		if (second.containsAll(first))
+			return Set.copyOf(second);
+
+		// the pairs of second not in first are added to an array, from which
+		// the immutable set is built at once
+		List<Pair<HeapLocation, HeapLocation>> union = new ArrayList<>(first.size() + second.size());
+		union.addAll(first);
+		for (Pair<HeapLocation, HeapLocation> pair : second)
+			if (!first.contains(pair))
+				union.add(pair);
+		return Set.of(union.toArray(new Pair[union.size()]));
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * The widening is the lub, where the field sites of an allocation point
+	 * beyond the sites per point of this heap are merged into a weak summary
+	 * site of that point (whose field is {@link #SUMMARY_FIELD}), and so are
+	 * the sites whose field path is deeper than its field depth. The sites
+	 * kept distinct are the ones already in this heap first, and then the
+	 * others by name. The resulting heap yields, as substitution, a replacement
+	 * from the merged sites to each summary, so that the value and type
+	 * domains merge the values of those sites too. The replacements still
+	 * pending on the widened heaps are kept before them.
+	 */
 	@Override
 	protected GoPointBasedHeap wideningAux(GoPointBasedHeap other) throws SemanticException {
-		return lubAux(other);
+		GoPointBasedHeap lub = lubAux(other);
+		Map<GoAllocationSite, GoAllocationSite> summaries = summaries(lub.heapEnv, heapEnv);
+		if (summaries.isEmpty())
+			return lub;
+
+		limits.widenings.incrementAndGet();
+		Map<Identifier, GoAllocationSites> merged = new HashMap<>();
+		HeapEnvironment<GoAllocationSites> env = lub.heapEnv;
+		for (Identifier id : lub.heapEnv.getKeys()) {
+			GoAllocationSites value = lub.heapEnv.getState(id).replace(summaries);
+			Identifier key = id;
+			if (summaries.containsKey(id)) {
+				key = summaries.get(id);
+				env = env.forgetIdentifier(id);
+			}
+			GoAllocationSites previous = merged.get(key);
+			merged.put(key, previous == null ? value : previous.lub(value));
+		}
+
+		for (Entry<Identifier, GoAllocationSites> entry : merged.entrySet())
+			if (!env.getKeys().contains(entry.getKey()) || env.getState(entry.getKey()) != entry.getValue())
+				env = env.putState(entry.getKey(), entry.getValue());
+
+		return from(new GoPointBasedHeap(env, lub.decouples,
+				concat(lub.substitution, replacements(lub.heapEnv, summaries)), limits));
+	}
+
+	/**
+	 * Yields the sites of {@code env} to merge into summaries, each mapped to
+	 * its summary: the field sites deeper than the field depth, and the field
+	 * sites of an allocation point beyond the first sites per point. The sites
+	 * already in {@code previous}, the heap being widened, come first, so that
+	 * the sites kept distinct by a widening are kept by the next ones.
+	 */
+	private Map<GoAllocationSite, GoAllocationSite> summaries(HeapEnvironment<GoAllocationSites> env,
+			HeapEnvironment<GoAllocationSites> previous) {
+		Map<String, Set<GoAllocationSite>> points = fieldSites(env);
+		if (points.isEmpty())
+			return Collections.emptyMap();
+
+		Set<GoAllocationSite> known = new HashSet<>();
+		for (Set<GoAllocationSite> sites : fieldSites(previous).values())
+			known.addAll(sites);
+
+		Map<GoAllocationSite, GoAllocationSite> summaries = new HashMap<>();
+		for (Set<GoAllocationSite> sites : points.values()) {
+			List<GoAllocationSite> kept = new ArrayList<>(sites.size());
+			for (GoAllocationSite site : sites)
+				if (depth(site) > limits.fieldDepth)
+					summaries.put(site, summary(site));
+				else
+					kept.add(site);
+
+			if (kept.size() > limits.sitesPerPoint) {
+				kept.sort(Comparator.comparing((GoAllocationSite site) -> !known.contains(site))
+						.thenComparing(GoAllocationSite::getName)
+						.thenComparing(GoAllocationSite::isWeak));
+				for (GoAllocationSite site : kept.subList(limits.sitesPerPoint, kept.size()))
+					summaries.put(site, summary(site));
+			}
+		}
+
+		return summaries;
+	}
+
+	/**
+	 * Yields the field sites of {@code env}, but the summaries, grouped by
+	 * their allocation point.
+	 */
+	private static Map<String, Set<GoAllocationSite>> fieldSites(HeapEnvironment<GoAllocationSites> env) {
+		if (env.isTop() || env.isBottom())
+			return Collections.emptyMap();
+
+		Map<String, Set<GoAllocationSite>> points = new HashMap<>();
+		for (Identifier id : env.getKeys()) {
+			if (id instanceof GoAllocationSite)
+				addFieldSite(points, (GoAllocationSite) id);
+			for (GoAllocationSite site : env.getState(id))
+				addFieldSite(points, site);
+		}
+
+		return points;
+	}
+
+	/**
+	 * Yields one replacement for each summary in {@code summaries}, from the
+	 * sites merged into it to the summary itself. A summary that was already
+	 * in {@code env} is also a source of its replacement, so that the values
+	 * it had are kept.
+	 */
+	private static List<HeapReplacement> replacements(HeapEnvironment<GoAllocationSites> env,
+			Map<GoAllocationSite, GoAllocationSite> summaries) {
+		Map<GoAllocationSite, HeapReplacement> replacements = new HashMap<>();
+		for (Entry<GoAllocationSite, GoAllocationSite> entry : summaries.entrySet()) {
+			HeapReplacement replacement = replacements.get(entry.getValue());
+			if (replacement == null) {
+				replacement = new HeapReplacement();
+				replacement.addTarget(entry.getValue());
+				if (mentions(env, entry.getValue()))
+					replacement.addSource(entry.getValue());
+				replacements.put(entry.getValue(), replacement);
+			}
+			replacement.addSource(entry.getKey());
+		}
+
+		return new ArrayList<>(replacements.values());
+	}
+
+	private static boolean mentions(HeapEnvironment<GoAllocationSites> env, GoAllocationSite site) {
+		if (env.getKeys().contains(site))
+			return true;
+		for (GoAllocationSites sites : env.getValues())
+			if (sites.containsSite(site))
+				return true;
+		return false;
+	}
+
+	private static void addFieldSite(Map<String, Set<GoAllocationSite>> points, GoAllocationSite site) {
+		if (site.getField() != null && !isSummary(site))
+			points.computeIfAbsent(site.getLocationName(), k -> new HashSet<>()).add(site);
+	}
+
+	private static boolean isSummary(GoAllocationSite site) {
+		return site.getField() instanceof Variable
+				&& SUMMARY_FIELD.equals(((Variable) site.getField()).getName());
+	}
+
+	private static int depth(AllocationSite site) {
+		int depth = 0;
+		for (SymbolicExpression field = site.getField(); field != null; depth++)
+			field = field instanceof AllocationSite ? ((AllocationSite) field).getField() : null;
+		return depth;
+	}
+
+	/**
+	 * Yields the summary site of the allocation point of {@code site}, that
+	 * is, the weak site of that point whose field is {@link #SUMMARY_FIELD}.
+	 * The widening merges the field sites of a point into it, and the
+	 * field-sensitive heap accesses all the elements of a smashed array
+	 * through it. It is untyped, as it may stand for sites of different
+	 * types: its runtime types are the ones of the values it holds.
+	 * 
+	 * @param site a site of the allocation point
+	 * 
+	 * @return the summary site
+	 */
+	protected static GoAllocationSite summary(AllocationSite site) {
+		Variable field = new Variable(Untyped.INSTANCE, SUMMARY_FIELD, site.getCodeLocation());
+		if (site instanceof StackAllocationSite)
+			return new StackAllocationSite(Untyped.INSTANCE, site.getLocationName(), field, true,
+					site.getCodeLocation());
+		return new HeapAllocationSite(Untyped.INSTANCE, site.getLocationName(), field, true,
+				site.getCodeLocation());
+	}
+
+	/**
+	 * Yields the maximum number of field sites of the same allocation point
+	 * that the widening keeps distinct.
+	 * 
+	 * @return the maximum number of field sites
+	 */
+	public int getSitesPerPoint() {
+		return limits.sitesPerPoint;
+	}
+
+	/**
+	 * Yields the maximum depth of the field path of the sites that the
+	 * widening keeps distinct, where a field that is itself an allocation site
+	 * adds a level.
+	 * 
+	 * @return the maximum depth
+	 */
+	public int getFieldDepth() {
+		return limits.fieldDepth;
+	}
+
+	/**
+	 * Yields the number of widenings that merged some sites into summary
+	 * sites, among the ones of the heaps derived from the same initial heap of
+	 * this one, that is, in the analysis this heap belongs to.
+	 * 
+	 * @return the number of widenings
+	 */
+	public long getWideningCount() {
+		return limits.widenings.get();
 	}
 
 	@Override
@@ -260,12 +713,12 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 
 	@Override
 	public GoPointBasedHeap popScope(ScopeToken scope) throws SemanticException {
-		return from(new GoPointBasedHeap(heapEnv.popScope(scope)));
+		return from(new GoPointBasedHeap(heapEnv.popScope(scope), Set.of(), substitution, limits));
 	}
 
 	@Override
 	public GoPointBasedHeap pushScope(ScopeToken scope) throws SemanticException {
-		return from(new GoPointBasedHeap(heapEnv.pushScope(scope)));
+		return from(new GoPointBasedHeap(heapEnv.pushScope(scope), Set.of(), substitution, limits));
 	}
 
 	/**
@@ -404,9 +857,30 @@ public class GoPointBasedHeap extends BaseHeapDomain<GoPointBasedHeap> {
 	/**
 	 * Yields the set of pair of heap locations to decouple.
 	 * 
-	 * @return the set of pair of heap locations to decouple
+	 * @return the set of pair of heap locations to decouple, that cannot be
+	 *             modified
 	 */
 	public Set<Pair<HeapLocation, HeapLocation>> getDecouples() {
 		return decouples;
 	}
+
+	/**
+	 * Yields this heap without the replacements of its substitution, to be
+	 * used once they have been applied by the value and type domains.
+	 * 
+	 * @return this heap without the replacements of its substitution
+	 */
+	public GoPointBasedHeap withoutSubstitution() {
+		return substitution.isEmpty() ? this : from(new GoPointBasedHeap(heapEnv, decouples, List.of(), limits));
+	}
+
+	/**
+	 * Yields this heap without pairs of heap locations to decouple, to be used
+	 * once they have been copied by the value domain.
+	 * 
+	 * @return this heap without pairs of heap locations to decouple
+	 */
+	public GoPointBasedHeap withoutDecouples() {
+		return decouples.isEmpty() ? this : from(new GoPointBasedHeap(heapEnv, Set.of(), substitution, limits));
+	}
 }
@@ -0,0 +1,161 @@
+package it.unive.golisa.analysis.rsubs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A copy-on-write map, made of a base map that is never modified and of a
+ * layer recording the entries added, replaced or removed on top of it.
+ * Deriving a map from another one through {@link #over(Map)} copies only the
+ * layer, as long as it is small with respect to the base: otherwise, the
+ * entries are flattened into a new base.<br>
+ * <br>
+ * Maps passed to, or obtained from, {@link #over(Map)} must not be modified
+ * once other maps have been derived from them.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+class LayeredMap<K, V> extends AbstractMap<K, V> {
+
+	private final Map<K, V> base;
+
+	private final Map<K, V> changes;
+
+	private final Set<K> removed;
+
+	private int size;
+
+	private LayeredMap(Map<K, V> base, Map<K, V> changes, Set<K> removed, int size) {
+		this.base = base;
+		this.changes = changes;
+		this.removed = removed;
+		this.size = size;
+	}
+
+	/**
+	 * Yields a new map with the same entries of {@code source}, sharing its
+	 * entries whenever possible.
+	 *
+	 * @param <K>    the type of the keys
+	 * @param <V>    the type of the values
+	 * @param source the source map, possibly {@code null} to obtain an empty
+	 *                   map
+	 *
+	 * @return the new map
+	 */
+	static <K, V> LayeredMap<K, V> over(Map<K, V> source) {
+		if (source == null)
+			return new LayeredMap<>(new HashMap<>(), new HashMap<>(), new HashSet<>(), 0);
+
+		if (source instanceof LayeredMap) {
+			LayeredMap<K, V> layered = (LayeredMap<K, V>) source;
+			if (layered.changes.size() + layered.removed.size() <= layered.base.size() / 8 + 16)
+				return new LayeredMap<>(layered.base, new HashMap<>(layered.changes), new HashSet<>(layered.removed),
+						layered.size);
+		}
+
+		return new LayeredMap<>(source instanceof LayeredMap ? new HashMap<>(source) : source, new HashMap<>(),
+				new HashSet<>(), source.size());
+	}
+
+	@Override
+	public V get(Object key) {
+		if (changes.containsKey(key))
+			return changes.get(key);
+		if (removed.contains(key))
+			return null;
+		return base.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return changes.containsKey(key) || !removed.contains(key) && base.containsKey(key);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		boolean present = containsKey(key);
+		V previous = get(key);
+		changes.put(key, value);
+		removed.remove(key);
+		if (!present)
+			size++;
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (!containsKey(key))
+			return null;
+		V previous = get(key);
+		changes.remove(key);
+		if (base.containsKey(key)) {
+			@SuppressWarnings("unchecked")
+			K k = (K) key;
+			removed.add(k);
+		}
+		size--;
+		return previous;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				Iterator<Entry<K, V>> changed = changes.entrySet().iterator();
+				Iterator<Entry<K, V>> original = base.entrySet().iterator();
+
+				return new Iterator<Entry<K, V>>() {
+
+					private Entry<K, V> next = advance();
+
+					private Entry<K, V> advance() {
+						if (changed.hasNext())
+							return changed.next();
+						while (original.hasNext()) {
+							Entry<K, V> entry = original.next();
+							if (!changes.containsKey(entry.getKey()) && !removed.contains(entry.getKey()))
+								return entry;
+						}
+						return null;
+					}
+
+					@Override
+					public boolean hasNext() {
+						return next != null;
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						if (next == null)
+							throw new NoSuchElementException();
+						Entry<K, V> result = next;
+						next = advance();
+						return result;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+}
@@ -27,8 +27,13 @@ import it.unive.lisa.symbolic.value.operator.binary.StringConcat;
 import it.unive.lisa.symbolic.value.operator.binary.StringContains;
 import it.unive.lisa.symbolic.value.operator.binary.StringEndsWith;
 import it.unive.lisa.symbolic.value.operator.binary.StringEquals;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -46,6 +51,20 @@ public class RelationalSubstringDomain
 		extends FunctionalLattice<RelationalSubstringDomain, Identifier, ExpressionInverseSet<ValueExpression>>
 		implements ValueDomain<RelationalSubstringDomain> {
 
+	/**
+	 * The identifiers whose relations contain each expression, or
+	 * {@code null} if not computed yet. Once computed, this index is carried
+	 * over to the results of the assignments.
+	 */
+	private Map<ValueExpression, Set<Identifier>> references;
+
+	/**
+	 * Whether the relations between identifiers are known to be transitively
+	 * closed, so that assignments need to close only the ones involving the
+	 * assigned identifier.
+	 */
+	private final boolean closed;
+
 	/**
 	 * Builds the top abstract value.
 	 */
@@ -55,7 +74,15 @@ public class RelationalSubstringDomain
 
 	private RelationalSubstringDomain(ExpressionInverseSet<ValueExpression> lattice,
 			Map<Identifier, ExpressionInverseSet<ValueExpression>> function) {
+		this(lattice, function, null, function == null || function.isEmpty());
+	}
+
+	private RelationalSubstringDomain(ExpressionInverseSet<ValueExpression> lattice,
+			Map<Identifier, ExpressionInverseSet<ValueExpression>> function,
+			Map<ValueExpression, Set<Identifier>> references, boolean closed) {
 		super(lattice, function);
+		this.references = references;
+		this.closed = closed;
 	}
 
 	@Override
@@ -96,20 +123,15 @@ public class RelationalSubstringDomain
 	@Override
 	public RelationalSubstringDomain assign(Identifier id, ValueExpression expression, ProgramPoint pp)
 			throws SemanticException {
-		Map<Identifier, ExpressionInverseSet<ValueExpression>> func;
-		if (function == null)
-			func = new HashMap<>();
-		else
-			func = new HashMap<>(function);
-
 		if (expression instanceof PushAny)
-			return new RelationalSubstringDomain(lattice, func);
+			return new RelationalSubstringDomain(lattice, function == null ? new HashMap<>() : function, references,
+					closed);
+
+		Relations func = new Relations(function, references());
 
 		// Remove phase
-		for (Identifier x : func.keySet())
-			for (ValueExpression xRel : func.get(x))
-				if (appersIn(xRel, id))
-					func.put(x, func.get(x).removeExpression(id));
+		for (Identifier x : func.referrers(id))
+			func.put(x, func.get(x).removeExpression(id));
 
 		if (!appearsAtTopLevel(expression, id))
 			func.remove(id);
@@ -118,37 +140,55 @@ public class RelationalSubstringDomain
 		func.put(id, func.get(id) == null ? getRelations(expression) : func.get(id).glb(getRelations(expression)));
 
 		// Inter-asg phase
-		for (Identifier y : func.keySet())
-			if (!y.equals(id) && func.get(y).contains(func.get(id)))
+		ExpressionInverseSet<ValueExpression> idRels = func.get(id);
+		for (Identifier y : func.candidatesContaining(idRels))
+			if (!y.equals(id) && func.get(y).contains(idRels))
 				func.put(y, func.get(y).addExpression(id));
 
 		// Improvement of add phase
 		for (ValueExpression idRel : func.get(id))
-			if (id instanceof Identifier)
-				func.put(id, func.get(id) == null ? func.get(idRel) : func.get(id).glb(func.get(idRel)));
+			func.put(id, func.get(id).glb(func.get(idRel)));
 
 		// Closure phase
-		return new RelationalSubstringDomain(lattice, func).closure();
+		if (!closed)
+			return new RelationalSubstringDomain(lattice, func.function, func.references, false).closure();
+
+		func.closeFrom(id);
+		return new RelationalSubstringDomain(lattice, func.function, func.references, true);
 	}
 
 	private RelationalSubstringDomain closure() {
 		if (isTop() || isBottom())
-			return new RelationalSubstringDomain(lattice, function);
+			return this;
+
+		Relations clos = new Relations(function, references());
 
-		Map<Identifier, ExpressionInverseSet<ValueExpression>> clos = new HashMap<>(function);
+		for (Identifier y : new ArrayList<>(function.keySet())) {
+			Set<Identifier> below = clos.identifiersIn(y);
+			for (Identifier z : clos.referrers(y))
+				clos.addAll(z, below);
+		}
+
+		return new RelationalSubstringDomain(lattice, clos.function, clos.references, true);
+	}
+
+	private Map<ValueExpression, Set<Identifier>> references() {
+		if (references == null) {
+			Map<ValueExpression, Set<Identifier>> refs = new HashMap<>();
+			if (function != null)
+				for (Entry<Identifier, ExpressionInverseSet<ValueExpression>> entry : function.entrySet())
+					for (ValueExpression e : entry.getValue().elements())
+						refs.computeIfAbsent(e, k -> new HashSet<>()).add(entry.getKey());
+			references = refs;
+		}
 
-		for (Identifier x : clos.keySet())
-			for (Identifier y : clos.keySet())
-				for (Identifier z : clos.keySet())
-					if (clos.get(y).contains(x) && clos.get(z).contains(y))
-						clos.put(z, clos.get(z).addExpression(x));
-		return new RelationalSubstringDomain(lattice, clos);
+		return references;
 	}
 
 	@Override
 	public RelationalSubstringDomain smallStepSemantics(ValueExpression expression, ProgramPoint pp)
 			throws SemanticException {
-		return new RelationalSubstringDomain(lattice, function);
+		return new RelationalSubstringDomain(lattice, function, references, closed);
 	}
 
 	@Override
@@ -159,12 +199,6 @@ public class RelationalSubstringDomain
 		if (isBottom())
 			return bottom();
 
-		HashMap<Identifier, ExpressionInverseSet<ValueExpression>> func;
-		if (function == null)
-			func = new HashMap<>();
-		else
-			func = new HashMap<>(function);
-
 		if (expression instanceof BinaryExpression) {
 			BinaryExpression binary = (BinaryExpression) expression;
 			RelationalSubstringDomain leftState = smallStepSemantics((ValueExpression) binary.getLeft(), pp);
@@ -176,76 +210,68 @@ public class RelationalSubstringDomain
 				ValueExpression right = (ValueExpression) binary.getRight();
 
 				if (!left.getDynamicType().isStringType() || !right.getDynamicType().isStringType())
-					return new RelationalSubstringDomain(lattice, function);
+					return new RelationalSubstringDomain(lattice, function, references, closed);
 
 				if (left instanceof Identifier && right instanceof Identifier) {
 					Identifier x = (Identifier) left;
 					Identifier y = (Identifier) right;
 
-					ExpressionInverseSet<ValueExpression> relsForX = getRelations(y);
-					ExpressionInverseSet<ValueExpression> relsForY = getRelations(x);
-
-					func.put(x, func.get(x) == null ? relsForX : func.get(x).glb(relsForX));
-					func.put(y, func.get(y) == null ? relsForY : func.get(y).glb(relsForY));
-					return new RelationalSubstringDomain(lattice, func);
+					return refine(x, getRelations(y)).refine(y, getRelations(x));
 				}
 
-				if (left instanceof Identifier) {
-					Identifier x = (Identifier) left;
-					ExpressionInverseSet<ValueExpression> rels = getRelations(right);
-					func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
-					return new RelationalSubstringDomain(lattice, func);
-				}
+				if (left instanceof Identifier)
+					return refine((Identifier) left, getRelations(right));
 
-				if (right instanceof Identifier) {
-					Identifier x = (Identifier) right;
-					ExpressionInverseSet<ValueExpression> rels = getRelations(left);
-					func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
-					return new RelationalSubstringDomain(lattice, func);
-				}
+				if (right instanceof Identifier)
+					return refine((Identifier) right, getRelations(left));
 			} else if (op == LogicalAnd.INSTANCE)
 				return leftState.lub(rightState);
 			else if (op == LogicalOr.INSTANCE)
 				return leftState.glb(rightState);
 			else if (op == it.unive.lisa.symbolic.value.operator.binary.StringStartsWith.INSTANCE
 					|| op == StringEndsWith.INSTANCE || op == StringContains.INSTANCE) {
-				if (binary.getLeft() instanceof Identifier) {
-					Identifier x = (Identifier) binary.getLeft();
-					ExpressionInverseSet<ValueExpression> rels = getRelations((ValueExpression) binary.getRight());
-					func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
-					return new RelationalSubstringDomain(lattice, func);
-				}
+				if (binary.getLeft() instanceof Identifier)
+					return refine((Identifier) binary.getLeft(),
+							getRelations((ValueExpression) binary.getRight()));
 			} else if (op == StringEquals.INSTANCE) {
-				if (binary.getLeft() instanceof Identifier) {
-					Identifier x = (Identifier) binary.getLeft();
-					ExpressionInverseSet<ValueExpression> rels = getRelations((ValueExpression) binary.getRight());
-					func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
-					return new RelationalSubstringDomain(lattice, func);
-				}
+				if (binary.getLeft() instanceof Identifier)
+					return refine((Identifier) binary.getLeft(),
+							getRelations((ValueExpression) binary.getRight()));
 
-				if (binary.getRight() instanceof Identifier) {
-					Identifier x = (Identifier) binary.getRight();
-					ExpressionInverseSet<ValueExpression> rels = getRelations((ValueExpression) binary.getLeft());
-					func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
-					return new RelationalSubstringDomain(lattice, func);
-				}
+				if (binary.getRight() instanceof Identifier)
+					return refine((Identifier) binary.getRight(),
+							getRelations((ValueExpression) binary.getLeft()));
 			}
 		}
 
-		return new RelationalSubstringDomain(lattice, function);
+		return new RelationalSubstringDomain(lattice, function, references, closed);
 
 	}
 
+	/**
+	 * Yields the state where the relations of {@code x} are refined with
+	 * {@code rels}. The references of this state are carried over, and the
+	 * relations are kept closed if they were.
+	 */
+	private RelationalSubstringDomain refine(Identifier x, ExpressionInverseSet<ValueExpression> rels) {
+		Relations func = new Relations(function, references());
+		func.put(x, func.get(x) == null ? rels : func.get(x).glb(rels));
+		if (closed)
+			func.closeFrom(x);
+		return new RelationalSubstringDomain(lattice, func.function, func.references, closed);
+	}
+
 	@Override
 	public RelationalSubstringDomain forgetIdentifier(Identifier id) throws SemanticException {
 		if (function == null)
 			return new RelationalSubstringDomain(lattice, null);
 
-		RelationalSubstringDomain result = new RelationalSubstringDomain(lattice, new HashMap<>(function));
-		if (result.function.containsKey(id))
-			result.function.remove(id);
+		if (!function.containsKey(id))
+			return this;
 
-		return result;
+		Map<Identifier, ExpressionInverseSet<ValueExpression>> func = new HashMap<>(function);
+		func.remove(id);
+		return new RelationalSubstringDomain(lattice, func, null, closed);
 	}
 
 	@Override
@@ -353,12 +379,6 @@ public class RelationalSubstringDomain
 		return res;
 	}
 
-	private boolean appersIn(ValueExpression expression, ValueExpression search) {
-		HashSet<ValueExpression> singleton = new HashSet<>();
-		singleton.add(search);
-		return getRelations(expression).contains(new ExpressionInverseSet<ValueExpression>(singleton));
-	}
-
 	private boolean appearsAtTopLevel(ValueExpression expression, Identifier id) {
 		if (expression.equals(id))
 			return true;
@@ -431,11 +451,14 @@ public class RelationalSubstringDomain
 		if (isTop() || isBottom() || cs.isTop() || cs.isBottom())
 			return this;
 
-		RelationalSubstringDomain result = new RelationalSubstringDomain(lattice, function);
+		// relations are refined in place, so that the references and the
+		// closure of this state are carried over to the result
+		Relations func = new Relations(function, references());
+		boolean changed = false;
 
 		for (Identifier id : this.getKeys()) {
 			Set<String> constants = new HashSet<>();
-			ExpressionInverseSet<ValueExpression> previousRelations = result.getState(id);
+			ExpressionInverseSet<ValueExpression> previousRelations = func.get(id);
 
 			if (previousRelations.isTop() || previousRelations.isBottom())
 				continue;
@@ -450,15 +473,151 @@ public class RelationalSubstringDomain
 				}
 			}
 
+			boolean related = false;
 			if (!constants.isEmpty())
 				for (Identifier idCs : cs.getKeys())
 					if (constants.contains(cs.getState(idCs).getString()) && !idCs.getName().equals(id.getName())) {
 						previousRelations = previousRelations.addExpression(idCs);
-						result = result.putState(id, previousRelations);
+						related = true;
 					}
+
+			if (related) {
+				func.put(id, previousRelations);
+				if (closed)
+					func.closeFrom(id);
+				changed = true;
+			}
 		}
 
-		return result;
+		return changed ? new RelationalSubstringDomain(lattice, func.function, func.references, closed) : this;
+	}
+
+	/**
+	 * The relations of a state under construction, layered on top of the ones
+	 * of the state they are derived from. Alongside the relations, this keeps
+	 * the identifiers whose relations contain each expression, so that the
+	 * relations affected by an assignment are found without scanning all of
+	 * them.
+	 */
+	private static final class Relations {
+
+		private final LayeredMap<Identifier, ExpressionInverseSet<ValueExpression>> function;
+
+		private final LayeredMap<ValueExpression, Set<Identifier>> references;
+
+		/**
+		 * The sets in {@link #references} created by this object, that can be
+		 * modified in place.
+		 */
+		private final Set<ValueExpression> owned = new HashSet<>();
+
+		private Relations(Map<Identifier, ExpressionInverseSet<ValueExpression>> function,
+				Map<ValueExpression, Set<Identifier>> references) {
+			this.function = LayeredMap.over(function);
+			this.references = LayeredMap.over(references);
+		}
+
+		private ExpressionInverseSet<ValueExpression> get(Object x) {
+			return function.get(x);
+		}
+
+		private void put(Identifier x, ExpressionInverseSet<ValueExpression> rels) {
+			ExpressionInverseSet<ValueExpression> previous = function.put(x, rels);
+			Set<ValueExpression> before = previous == null ? Collections.emptySet() : previous.elements();
+			Set<ValueExpression> after = rels.elements();
+
+			for (ValueExpression e : before)
+				if (!after.contains(e))
+					references(e).remove(x);
+			for (ValueExpression e : after)
+				if (!before.contains(e))
+					references(e).add(x);
+		}
+
+		private void remove(Identifier x) {
+			ExpressionInverseSet<ValueExpression> previous = function.remove(x);
+			if (previous != null)
+				for (ValueExpression e : previous.elements())
+					references(e).remove(x);
+		}
+
+		private Set<Identifier> references(ValueExpression e) {
+			if (owned.add(e)) {
+				Set<Identifier> shared = references.get(e);
+				references.put(e, shared == null ? new HashSet<>() : new HashSet<>(shared));
+			}
+
+			return references.get(e);
+		}
+
+		private List<Identifier> referrers(ValueExpression e) {
+			Set<Identifier> refs = references.get(e);
+			return refs == null ? Collections.emptyList() : new ArrayList<>(refs);
+		}
+
+		private List<Identifier> candidatesContaining(ExpressionInverseSet<ValueExpression> rels) {
+			// the relations containing all of rels are among the ones
+			// containing the least referenced of its elements
+			Set<Identifier> fewest = null;
+			for (ValueExpression e : rels.elements()) {
+				Set<Identifier> refs = references.get(e);
+				if (refs == null)
+					return Collections.emptyList();
+				if (fewest == null || refs.size() < fewest.size())
+					fewest = refs;
+			}
+
+			return new ArrayList<>(fewest == null ? function.keySet() : fewest);
+		}
+
+		private Set<Identifier> identifiersIn(Identifier x) {
+			Set<Identifier> ids = new HashSet<>();
+			for (ValueExpression e : get(x).elements())
+				if (e instanceof Identifier && function.containsKey(e))
+					ids.add((Identifier) e);
+			return ids;
+		}
+
+		private void addAll(Identifier x, Set<? extends ValueExpression> exps) {
+			ExpressionInverseSet<ValueExpression> rels = get(x);
+			if (rels.elements().containsAll(exps))
+				return;
+
+			Set<ValueExpression> elements = new HashSet<>(rels.elements());
+			elements.addAll(exps);
+			put(x, new ExpressionInverseSet<>(elements));
+		}
+
+		/**
+		 * Closes the relations, provided that they were closed before the
+		 * ones of {@code id} changed: any new transitive relation goes
+		 * through {@code id}, hence the identifiers reachable from {@code id}
+		 * are added to its relations, and these are in turn added, with
+		 * {@code id}, to the relations of the identifiers reaching
+		 * {@code id}.
+		 */
+		private void closeFrom(Identifier id) {
+			Set<Identifier> below = new HashSet<>();
+			Deque<Identifier> worklist = new ArrayDeque<>();
+			worklist.push(id);
+			while (!worklist.isEmpty())
+				for (Identifier y : identifiersIn(worklist.pop()))
+					if (below.add(y))
+						worklist.push(y);
+
+			addAll(id, below);
+			below.add(id);
+
+			Set<Identifier> above = new HashSet<>();
+			worklist.push(id);
+			while (!worklist.isEmpty())
+				for (Identifier z : referrers(worklist.pop()))
+					if (above.add(z))
+						worklist.push(z);
+
+			for (Identifier z : above)
+				addAll(z, below);
+		}
 	}
 
 	@Override
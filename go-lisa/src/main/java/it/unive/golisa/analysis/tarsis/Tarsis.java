@@ -1,5 +1,6 @@
 package it.unive.golisa.analysis.tarsis;
 
+import it.unive.golisa.analysis.tarsis.TarsisAutomataCache.Operation;
 import it.unive.lisa.analysis.BaseLattice;
 import it.unive.lisa.analysis.Lattice;
 import it.unive.lisa.analysis.SemanticDomain.Satisfiability;
@@ -46,17 +47,51 @@ import it.unive.lisa.symbolic.value.operator.unary.UnaryOperator;
 import it.unive.tarsis.AutomatonString;
 import it.unive.tarsis.automata.Automata;
 import it.unive.tarsis.automata.Automaton;
+import it.unive.tarsis.automata.State;
+import it.unive.tarsis.automata.Transition;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
- * The Tarsis abstract domain.
+ * The Tarsis abstract domain. The automata built by its operations are cached
+ * in a {@link TarsisAutomataCache} owned by the analysis: the cache is created
+ * with the top element and shared by all the instances derived from it, so
+ * that independent analyses do not share (nor pollute) each other's entries,
+ * and the cache is released with the abstract values of the analysis.
  * 
  * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
  */
 public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDomain<Tarsis> {
 
-	private static final Tarsis TOP = new Tarsis();
-	private static final Tarsis BOTTOM = new Tarsis(new AutomatonString(Automata.mkEmptyLanguage()),
-			new TarsisIntv().bottom(), false, true);
+	private static final AutomatonString EMPTY_STRING = new AutomatonString(Automata.mkEmptyLanguage());
+
+	/**
+	 * The default value of the cap of
+	 * {@link #indexOf(AutomatonString, AutomatonString, int)}.
+	 */
+	public static final int DEFAULT_INDEX_OF_CAP = 1024;
+
+	/**
+	 * The maximum length of the strings of the languages for which
+	 * {@link #indexOf(AutomatonString, AutomatonString, int)} enumerates them
+	 * to compute the exact positions.
+	 */
+	public static final int EXACT_INDEX_OF_LENGTH = 32;
+
+	/**
+	 * The maximum number of strings, counted as paths of the automata, of the
+	 * languages for which
+	 * {@link #indexOf(AutomatonString, AutomatonString, int)} enumerates them
+	 * to compute the exact positions.
+	 */
+	public static final int EXACT_INDEX_OF_STRINGS = 16;
 
 	private final AutomatonString stringValue;
 	private final TarsisIntv intValue;
@@ -64,23 +99,76 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	private final boolean isTop;
 	private final boolean isBottom;
 
+	private final Shared shared;
+
 	/**
-	 * Builds the top abstract value.
+	 * Builds the top abstract value, with a fresh cache of automata.
 	 */
 	public Tarsis() {
-		this(new AutomatonString(), new TarsisIntv(), true, false);
+		this(new TarsisAutomataCache());
+	}
+
+	/**
+	 * Builds the top abstract value, caching the automata built by the
+	 * instances derived from it in {@code cache}.
+	 * 
+	 * @param cache the cache of the automata
+	 */
+	public Tarsis(TarsisAutomataCache cache) {
+		this(cache, DEFAULT_INDEX_OF_CAP);
+	}
+
+	/**
+	 * Builds the top abstract value, caching the automata built by the
+	 * instances derived from it in {@code cache} and computing the positions
+	 * of {@link StringIndexOf} only on strings not longer than
+	 * {@code indexOfCap} (see
+	 * {@link #indexOf(AutomatonString, AutomatonString, int)}).
+	 * 
+	 * @param cache      the cache of the automata
+	 * @param indexOfCap the maximum length of the strings searched into
+	 */
+	public Tarsis(TarsisAutomataCache cache, int indexOfCap) {
+		this.stringValue = new AutomatonString();
+		this.intValue = new TarsisIntv();
+		this.isTop = true;
+		this.isBottom = false;
+		this.shared = new Shared(cache, indexOfCap, this);
 	}
 
-	private Tarsis(AutomatonString stringValue, TarsisIntv intValue) {
+	private Tarsis(AutomatonString stringValue, TarsisIntv intValue, Shared shared) {
 		this(stringValue, intValue, stringValue.getAutomaton().equals(Automata.mkEmptyLanguage()) && intValue.isTop(),
-				stringValue.isEqualTo(BOTTOM.stringValue) && intValue.isTop());
+				stringValue.isEqualTo(EMPTY_STRING) && intValue.isTop(), shared);
 	}
 
-	private Tarsis(AutomatonString stringValue, TarsisIntv intValue, boolean isTop, boolean isBottom) {
+	private Tarsis(AutomatonString stringValue, TarsisIntv intValue, boolean isTop, boolean isBottom,
+			Shared shared) {
 		this.stringValue = stringValue;
 		this.intValue = intValue;
 		this.isBottom = isBottom;
 		this.isTop = isTop;
+		this.shared = shared;
+	}
+
+	/**
+	 * Yields the cache of the automata built by the operations of this
+	 * domain, shared by all the instances deriving from the same top element.
+	 *
+	 * @return the cache of the automata
+	 */
+	public TarsisAutomataCache getAutomataCache() {
+		return shared.cache;
+	}
+
+	/**
+	 * Yields the maximum length of the strings searched into by
+	 * {@link StringIndexOf} for which positions are computed, shared by all
+	 * the instances deriving from the same top element.
+	 *
+	 * @return the cap of {@link StringIndexOf}
+	 */
+	public int getIndexOfCap() {
+		return shared.indexOfCap;
 	}
 
 	@Override
@@ -95,12 +183,12 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 
 	@Override
 	public Tarsis top() {
-		return TOP;
+		return shared.top;
 	}
 
 	@Override
 	public Tarsis bottom() {
-		return BOTTOM;
+		return shared.bottom;
 	}
 
 	private AutomatonString bottomString() {
@@ -190,13 +278,14 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	private Tarsis evalNonNullConstant(Constant constant, ProgramPoint pp) {
 		if (constant.getValue() instanceof String) {
 			String str = (String) constant.getValue();
-			return new Tarsis(new AutomatonString(str), intValue.bottom(), false, false);
+			return new Tarsis(shared.cache.get(Operation.CONSTANT, () -> new AutomatonString(str), str),
+					intValue.bottom(), false, false, shared);
 		}
 
 		if (constant.getValue() instanceof Integer)
 			try {
 				return new Tarsis(new AutomatonString(Automata.mkEmptyLanguage()), intValue.eval(constant, null, pp),
-						false, false);
+						false, false, shared);
 			} catch (SemanticException e) {
 				// TODO Auto-generated catch block
 				e.printStackTrace();
@@ -208,70 +297,313 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	private Tarsis evalUnaryExpression(UnaryOperator operator, Tarsis arg, ProgramPoint pp) {
 		if (operator == NumericNegation.INSTANCE)
 			return new Tarsis(bottomString(),
-					intValue.evalUnaryExpression(NumericNegation.INSTANCE, arg.intValue, pp));
+					intValue.evalUnaryExpression(NumericNegation.INSTANCE, arg.intValue, pp), shared);
 		else if (operator == StringLength.INSTANCE) {
 			it.unive.tarsis.AutomatonString.Interval result = arg.stringValue.length();
 			return new Tarsis(bottomString(),
-					new TarsisIntv(new TarsisMathNumber(result.getLower()), new TarsisMathNumber(result.getUpper())));
+					new TarsisIntv(new TarsisMathNumber(result.getLower()), new TarsisMathNumber(result.getUpper())),
+					shared);
 		} else
 			return top();
 	}
 
 	private Tarsis evalBinaryExpression(BinaryOperator operator, Tarsis left, Tarsis right, ProgramPoint pp)
 			throws SemanticException {
-		if (operator == StringIndexOf.INSTANCE) {
-			Automaton leftAutomaton = left.stringValue.getAutomaton();
-			Automaton rightAutomaton = left.stringValue.getAutomaton();
-
-			if (leftAutomaton.hasCycle() || rightAutomaton.hasCycle())
-				return new Tarsis(bottomString(),
-						new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.PLUS_INFINITY));
-
-			TarsisIntv result = intValue.bottom();
-
-			for (String str : leftAutomaton.getLanguage())
-				for (String src : rightAutomaton.getLanguage())
-					if (str.contains(src))
-						result = result.lub(new TarsisIntv(new TarsisMathNumber(str.indexOf(src)),
-								new TarsisMathNumber(str.indexOf(src))));
-					else
-						result = result.lub(new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.MINUS_ONE));
-
-			if (result.getHigh().isInfinite())
-				result = new TarsisIntv(result.getLow(), new TarsisMathNumber(leftAutomaton.maxLengthString()));
-
-			return new Tarsis(bottomString(), result);
-		} else if (operator == NumericNonOverflowingAdd.INSTANCE)
-			return new Tarsis(bottomString(), left.intValue.plus(right.intValue));
+		if (operator == StringIndexOf.INSTANCE)
+			return new Tarsis(bottomString(), indexOf(left.stringValue, right.stringValue, shared.indexOfCap),
+					shared);
+		else if (operator == NumericNonOverflowingAdd.INSTANCE)
+			return new Tarsis(bottomString(), left.intValue.plus(right.intValue), shared);
 		else if (operator == StringConcat.INSTANCE)
-			return new Tarsis(left.stringValue.concat(right.stringValue), intValue.bottom());
+			return new Tarsis(shared.cache.get(Operation.CONCAT, () -> left.stringValue.concat(right.stringValue),
+					left.stringValue, right.stringValue), intValue.bottom(), shared);
 		else
 			return top();
 	}
 
 	private Tarsis evalTernaryExpression(TernaryOperator operator, Tarsis left, Tarsis middle, Tarsis right) {
 		if (operator == StringReplace.INSTANCE)
-			return new Tarsis(left.stringValue.replace(middle.stringValue, right.stringValue), intValue.bottom());
+			return new Tarsis(shared.cache.get(Operation.REPLACE,
+					() -> left.stringValue.replace(middle.stringValue, right.stringValue), left.stringValue,
+					middle.stringValue, right.stringValue), intValue.bottom(), shared);
 		else if (operator == StringSubstring.INSTANCE) {
 			TarsisIntv iIntv = middle.intValue;
 			TarsisIntv jIntv = right.intValue;
 
-			AutomatonString result = new AutomatonString(Automata.mkEmptyLanguage());
-
-			if (iIntv.isFinite() && jIntv.isFinite()) {
-				for (int i = iIntv.getLowNumber(); i <= iIntv.getHighNumber(); i++)
-					for (int j = jIntv.getLowNumber(); j <= jIntv.getHighNumber(); j++)
-						if (i <= j)
-							result = result.lub(left.stringValue.substring(i, j));
-				return new Tarsis(result, intValue.bottom());
-			}
+			if (iIntv.isFinite() && jIntv.isFinite())
+				return new Tarsis(substrings(left.stringValue, iIntv, jIntv, shared.cache), intValue.bottom(),
+						shared);
 
-			return new Tarsis(new AutomatonString(Automata.factors(left.stringValue.getAutomaton())),
-					intValue.bottom());
+			return new Tarsis(shared.cache.get(Operation.FACTORS,
+					() -> new AutomatonString(Automata.factors(left.stringValue.getAutomaton())), left.stringValue),
+					intValue.bottom(), shared);
 		} else
 			return top();
 	}
 
+	/**
+	 * Yields the possible positions of the first occurrence of any string of
+	 * {@code search} in any string of {@code string}, {@code -1} standing for
+	 * no occurrence. If both languages are finite, their strings are not
+	 * longer than {@link #EXACT_INDEX_OF_LENGTH}, and their automata have at
+	 * most {@link #EXACT_INDEX_OF_STRINGS} paths from the initial state to a
+	 * final one, the languages are enumerated and the result is the exact
+	 * interval of the positions (e.g.,
+	 * {@code [5, 5]} searching {@code "code"} into {@code "chaincode"}).
+	 * Otherwise, the positions are bounded through containment checks between
+	 * the automata and the length of the longest string of {@code string},
+	 * without enumerating the languages: if {@code search} cannot occur, the
+	 * result is {@code [-1, -1]}; if it is a prefix of all the strings, the
+	 * result is {@code [0, 0]}; otherwise, it is {@code [0, max]} or
+	 * {@code [-1, max]}, depending on whether {@code search} surely occurs,
+	 * where {@code max} is the length of the longest string. The result is
+	 * {@code [-1, +inf]} if {@code string} has strings of unbounded length, or
+	 * longer than {@code cap}.
+	 * 
+	 * @param string the string searched into
+	 * @param search the string to search
+	 * @param cap    the maximum length of the strings of {@code string} for
+	 *                   which positions are computed
+	 * 
+	 * @return the interval of the positions
+	 */
+	public static TarsisIntv indexOf(AutomatonString string, AutomatonString search, int cap) {
+		Automaton automaton = string.getAutomaton();
+		if (automaton.hasCycle() || automaton.maxLengthString() > cap)
+			return new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.PLUS_INFINITY);
+
+		Automaton searched = search.getAutomaton();
+		if (automaton.maxLengthString() <= EXACT_INDEX_OF_LENGTH && !searched.hasCycle()
+				&& searched.maxLengthString() <= EXACT_INDEX_OF_LENGTH
+				&& paths(automaton) <= EXACT_INDEX_OF_STRINGS && paths(searched) <= EXACT_INDEX_OF_STRINGS)
+			return exactIndexOf(automaton, searched);
+
+		if (!string.mayContain(search))
+			return new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.MINUS_ONE);
+
+		if (string.startsWith(search))
+			return new TarsisIntv(TarsisMathNumber.ZERO, TarsisMathNumber.ZERO);
+
+		return new TarsisIntv(string.contains(search) ? TarsisMathNumber.ZERO : TarsisMathNumber.MINUS_ONE,
+				TarsisMathNumber.valueOf(automaton.maxLengthString()));
+	}
+
+	/**
+	 * Counts the paths from the initial state to a final one of an acyclic
+	 * automaton, an upper bound of the size of its language, without
+	 * enumerating it. The count stops just above
+	 * {@link #EXACT_INDEX_OF_STRINGS}.
+	 */
+	private static int paths(Automaton automaton) {
+		return paths(automaton, automaton.getInitialState(), new HashMap<>());
+	}
+
+	private static int paths(Automaton automaton, State state, Map<State, Integer> counted) {
+		Integer count = counted.get(state);
+		if (count != null)
+			return count;
+
+		int result = state.isFinal() ? 1 : 0;
+		for (Transition transition : automaton.getOutgoingTransitionsFrom(state)) {
+			if (result > EXACT_INDEX_OF_STRINGS)
+				break;
+			result += paths(automaton, transition.getDestination(), counted);
+		}
+
+		result = Math.min(result, EXACT_INDEX_OF_STRINGS + 1);
+		counted.put(state, result);
+		return result;
+	}
+
+	private static TarsisIntv exactIndexOf(Automaton string, Automaton search) {
+		Collection<String> searched = search.getLanguage();
+		int low = Integer.MAX_VALUE, high = Integer.MIN_VALUE;
+		for (String str : string.getLanguage())
+			for (String src : searched) {
+				int index = str.indexOf(src);
+				low = Math.min(low, index);
+				high = Math.max(high, index);
+			}
+
+		if (low > high)
+			// one of the languages is empty
+			return new TarsisIntv().bottom();
+		return new TarsisIntv(TarsisMathNumber.valueOf(low), TarsisMathNumber.valueOf(high));
+	}
+
+	/**
+	 * Yields the substrings of {@code string} from any index in
+	 * {@code begin} to any index in {@code end}, namely the lub of
+	 * {@code string.substring(i, j)} for all {@code i} in {@code begin} and
+	 * {@code j} in {@code end} such that {@code i <= j}, where the substrings
+	 * of each string are the ones whose indexes are within it. The automaton
+	 * is built at once, in a single visit of the automaton of {@code string}
+	 * (see {@link SubstringAutomaton}), instead of through one automaton and
+	 * one lub for each pair of indexes. {@code TarsisSubstringTest} checks
+	 * that the result is the language of the lub of the substrings.
+	 * 
+	 * @param string the string
+	 * @param begin  the finite interval of the begin indexes
+	 * @param end    the finite interval of the end indexes
+	 * @param cache  the cache of the automata
+	 * 
+	 * @return the substrings of {@code string}
+	 */
+	public static AutomatonString substrings(AutomatonString string, TarsisIntv begin, TarsisIntv end,
+			TarsisAutomataCache cache) {
+		int beginLow = Math.max(0, begin.getLowNumber()), beginHigh = begin.getHighNumber();
+		int endLow = end.getLowNumber(), endHigh = end.getHighNumber();
+		if (beginLow > Math.min(beginHigh, endHigh))
+			return new AutomatonString(Automata.mkEmptyLanguage());
+
+		return cache.get(Operation.SUBSTRING,
+				() -> new AutomatonString(
+						new SubstringAutomaton(string.getAutomaton(), beginLow, beginHigh, endLow, endHigh).build()),
+				string, beginLow, beginHigh, endLow, endHigh);
+	}
+
+	/**
+	 * The construction of the automaton of the substrings of the strings
+	 * recognized by an automaton, from any index in {@code [beginLow,
+	 * beginHigh]} to any index in {@code [endLow, endHigh]}. Its states are
+	 * the pairs of a state {@code q} of the original automaton and of a
+	 * position {@code p}, the number of characters read to reach {@code q}:
+	 * the characters before the begin index are skipped, by starting from all
+	 * the states reachable reading exactly {@code i} characters, for each
+	 * begin index {@code i}, while the ones up to the end index are read. A
+	 * pair is final if {@code p} is an end index, and it is built only if a
+	 * final state of the original automaton is reachable from {@code q}, that
+	 * is, if the end index is within some string. The automaton has thus at
+	 * most one state for each state of the original automaton and each
+	 * position up to {@code endHigh}, and it recognizes no string longer than
+	 * {@code endHigh - beginLow}, even if the original automaton has cycles.
+	 * The transitions of the original automaton read one character each, or
+	 * none if they are epsilon transitions.
+	 */
+	private static final class SubstringAutomaton {
+
+		private final Automaton automaton;
+
+		private final int beginLow, beginHigh, endLow, endHigh;
+
+		private final Map<State, Set<Transition>> incoming = new HashMap<>();
+
+		private final Set<State> live = new HashSet<>();
+
+		private final Map<State, State[]> copies = new HashMap<>();
+
+		private final Set<State> states = new HashSet<>();
+
+		private final Set<Transition> delta = new HashSet<>();
+
+		private final Deque<State> sources = new ArrayDeque<>();
+
+		private final Deque<Integer> positions = new ArrayDeque<>();
+
+		private SubstringAutomaton(Automaton automaton, int beginLow, int beginHigh, int endLow, int endHigh) {
+			this.automaton = automaton;
+			this.beginLow = beginLow;
+			this.beginHigh = Math.min(beginHigh, endHigh);
+			this.endLow = endLow;
+			this.endHigh = endHigh;
+		}
+
+		private Automaton build() {
+			for (Transition transition : automaton.getDelta())
+				incoming.computeIfAbsent(transition.getDestination(), k -> new HashSet<>()).add(transition);
+			for (State state : automaton.getStates())
+				if (state.isFinal())
+					markLive(state);
+
+			// the live states reachable reading exactly i characters, for each
+			// begin index i
+			List<Set<State>> starts = new ArrayList<>();
+			Set<State> current = closure(Set.of(automaton.getInitialState()));
+			for (int i = 0; i <= beginHigh && !current.isEmpty(); i++) {
+				if (i >= beginLow) {
+					Set<State> start = new HashSet<>(current);
+					start.retainAll(live);
+					starts.add(start);
+				}
+
+				Set<State> next = new HashSet<>();
+				for (State state : current)
+					for (Transition transition : automaton.getOutgoingTransitionsFrom(state))
+						if (!transition.isEpsilonTransition())
+							next.add(transition.getDestination());
+				current = closure(next);
+			}
+
+			// the empty substring is recognized if a begin index that is also
+			// an end index is within some string
+			boolean empty = false;
+			for (int i = Math.max(beginLow, endLow); i < beginLow + starts.size(); i++)
+				empty |= !starts.get(i - beginLow).isEmpty();
+
+			State initial = new State(true, empty);
+			states.add(initial);
+			for (int i = beginLow; i < beginLow + starts.size(); i++)
+				for (State start : starts.get(i - beginLow))
+					read(initial, start, i);
+
+			while (!sources.isEmpty()) {
+				State source = sources.removeFirst();
+				int position = positions.removeFirst();
+				read(copies.get(source)[position - beginLow], source, position);
+			}
+
+			return new Automaton(states, delta);
+		}
+
+		/**
+		 * Adds the transitions from {@code copy}, standing for {@code source}
+		 * reached at {@code position}, reading the characters of the
+		 * transitions from the epsilon closure of {@code source}.
+		 */
+		private void read(State copy, State source, int position) {
+			if (position >= endHigh)
+				return;
+
+			for (State state : closure(Set.of(source)))
+				for (Transition transition : automaton.getOutgoingTransitionsFrom(state))
+					if (!transition.isEpsilonTransition() && live.contains(transition.getDestination()))
+						delta.add(new Transition(copy, copy(transition.getDestination(), position + 1),
+								transition.getSymbol()));
+		}
+
+		private State copy(State source, int position) {
+			State[] sourceCopies = copies.computeIfAbsent(source, k -> new State[endHigh - beginLow + 1]);
+			State copy = sourceCopies[position - beginLow];
+			if (copy == null) {
+				copy = sourceCopies[position - beginLow] = new State(false, position >= endLow);
+				states.add(copy);
+				sources.addLast(source);
+				positions.addLast(position);
+			}
+			return copy;
+		}
+
+		private void markLive(State state) {
+			Deque<State> worklist = new ArrayDeque<>();
+			if (live.add(state))
+				worklist.add(state);
+			while (!worklist.isEmpty())
+				for (Transition transition : incoming.getOrDefault(worklist.removeFirst(), Set.of()))
+					if (live.add(transition.getSource()))
+						worklist.add(transition.getSource());
+		}
+
+		private Set<State> closure(Set<State> states) {
+			Set<State> closure = new HashSet<>(states);
+			Deque<State> worklist = new ArrayDeque<>(states);
+			while (!worklist.isEmpty())
+				for (Transition transition : automaton.getOutgoingTransitionsFrom(worklist.removeFirst()))
+					if (transition.isEpsilonTransition() && closure.add(transition.getDestination()))
+						worklist.add(transition.getDestination());
+			return closure;
+		}
+	}
+
 	private Satisfiability satisfiesAbstractValue(Tarsis value, ProgramPoint pp) {
 		return Satisfiability.UNKNOWN;
 	}
@@ -331,14 +663,14 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	protected Tarsis lubAux(Tarsis other) throws SemanticException {
 		AutomatonString stringLub = stringValue.lub(other.stringValue);
 		TarsisIntv intLub = intValue.lub(other.intValue);
-		return new Tarsis(stringLub, intLub);
+		return new Tarsis(stringLub, intLub, shared);
 	}
 
 	@Override
 	protected Tarsis wideningAux(Tarsis other) throws SemanticException {
 		AutomatonString stringWid = stringValue.widen(other.stringValue);
 		TarsisIntv intWid = intValue.widening(other.intValue);
-		return new Tarsis(stringWid, intWid);
+		return new Tarsis(stringWid, intWid, shared);
 	}
 
 	@Override
@@ -476,7 +808,7 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	@Override
 	public Tarsis glb(Tarsis other) throws SemanticException {
 		// TODO glb on stringValue
-		return new Tarsis(stringValue, intValue.glb(other.intValue));
+		return new Tarsis(stringValue, intValue.glb(other.intValue), shared);
 	}
 
 	/**
@@ -510,4 +842,27 @@ public class Tarsis extends BaseLattice<Tarsis> implements NonRelationalValueDom
 	protected Tarsis evalTypeCast(BinaryExpression cast, Tarsis left, Tarsis right, ProgramPoint pp) {
 		return cast.getRuntimeTypes().isEmpty() ? bottom() : left;
 	}
+
+	/**
+	 * The state shared by the instances deriving from the same top element,
+	 * namely the cache of the automata, the cap of {@link StringIndexOf} and
+	 * the top and bottom elements themselves.
+	 */
+	private static final class Shared {
+
+		private final TarsisAutomataCache cache;
+
+		private final int indexOfCap;
+
+		private final Tarsis top;
+
+		private final Tarsis bottom;
+
+		private Shared(TarsisAutomataCache cache, int indexOfCap, Tarsis top) {
+			this.cache = cache;
+			this.indexOfCap = indexOfCap;
+			this.top = top;
+			this.bottom = new Tarsis(EMPTY_STRING, new TarsisIntv().bottom(), false, true, this);
+		}
+	}
 }
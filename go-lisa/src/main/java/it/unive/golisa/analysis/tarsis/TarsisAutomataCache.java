@@ -0,0 +1,336 @@
+package it.unive.golisa.analysis.tarsis;
+
+import it.unive.tarsis.AutomatonString;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded cache of the automata built by the operations of {@link Tarsis}.
+ * Entries are keyed by the operation and by its operands: automata operands
+ * are compared by identity and only weakly referenced, so that the cache does
+ * not keep alive the abstract values it was queried with, while the other
+ * operands (strings and indexes) are compared by equality. Since abstract
+ * values that do not change across fixpoint iterations keep the same
+ * automata, re-evaluating an unchanged loop body reuses the automata built at
+ * the previous iteration instead of determinizing and minimizing them again.
+ * When full, the least recently used entry is evicted, and the entries whose
+ * automata operands have been collected are purged at each access through a
+ * {@link ReferenceQueue}. Each {@link Tarsis} analysis owns its cache (see
+ * {@link Tarsis#getAutomataCache()}), whose metrics are logged every
+ * {@link #LOG_INTERVAL} lookups.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class TarsisAutomataCache {
+
+	/**
+	 * The default maximum number of entries of the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	/**
+	 * The number of lookups between two logs of the metrics of the cache.
+	 */
+	public static final long LOG_INTERVAL = 1 << 16;
+
+	private static final Logger LOG = LogManager.getLogger(TarsisAutomataCache.class);
+
+	/**
+	 * The cached operations.
+	 */
+	enum Operation {
+		CONSTANT,
+		CONCAT,
+		REPLACE,
+		SUBSTRING,
+		FACTORS
+	}
+
+	private final Map<Key, AutomatonString> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The queue where the references to the collected automata operands of
+	 * the keys of {@link #entries} are enqueued.
+	 */
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+	private int capacity;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	private long purged;
+
+	/**
+	 * Builds a cache holding at most {@link #DEFAULT_CAPACITY} entries.
+	 */
+	public TarsisAutomataCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Builds a cache holding at most {@code capacity} entries.
+	 *
+	 * @param capacity the maximum number of entries, {@code 0} to disable the
+	 *                     cache
+	 */
+	public TarsisAutomataCache(int capacity) {
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Sets the maximum number of entries of the cache, evicting the least
+	 * recently used ones if needed.
+	 *
+	 * @param capacity the maximum number of entries, {@code 0} to disable the
+	 *                     cache
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("The capacity of the cache cannot be negative: " + capacity);
+		this.capacity = capacity;
+		evict();
+	}
+
+	/**
+	 * Yields the number of lookups that found their automaton in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Yields the number of lookups that had to build their automaton.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Yields the number of entries evicted to keep the cache within its
+	 * capacity.
+	 *
+	 * @return the number of evictions
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Yields the number of entries purged since one of their automata
+	 * operands has been collected.
+	 *
+	 * @return the number of purged entries
+	 */
+	public synchronized long getPurged() {
+		return purged;
+	}
+
+	/**
+	 * Yields the number of entries of the cache.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		purge();
+		return entries.size();
+	}
+
+	/**
+	 * Yields the ratio between hits and lookups, {@code 0} if no lookup has
+	 * been performed yet.
+	 *
+	 * @return the hit rate
+	 */
+	public synchronized double getHitRate() {
+		long lookups = hits + misses;
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Empties the cache and resets its metrics.
+	 */
+	public synchronized void clear() {
+		// the keys still to be purged are not in the cache anymore
+		entries.clear();
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+		purged = 0;
+	}
+
+	/**
+	 * Yields the automaton of {@code operation} applied to {@code operands},
+	 * building it through {@code builder} if it is not cached. The automaton
+	 * is built outside of the lock of the cache.
+	 *
+	 * @param operation the operation
+	 * @param builder   the builder of the automaton
+	 * @param operands  the operands of the operation
+	 *
+	 * @return the automaton
+	 */
+	AutomatonString get(Operation operation, Supplier<AutomatonString> builder, Object... operands) {
+		Key key = new Key(operation, operands);
+		synchronized (this) {
+			purge();
+			AutomatonString cached = entries.get(key);
+			if (cached != null) {
+				hits++;
+				log();
+				return cached;
+			}
+			misses++;
+			log();
+		}
+
+		AutomatonString result = builder.get();
+		synchronized (this) {
+			if (capacity > 0) {
+				entries.put(key.weak(collected), result);
+				evict();
+			}
+		}
+		return result;
+	}
+
+	private void log() {
+		if ((hits + misses) % LOG_INTERVAL == 0)
+			LOG.info("Tarsis automata cache: " + this);
+	}
+
+	/**
+	 * Removes the entries whose keys have an automaton operand that has been
+	 * collected, and that can thus never be hit again.
+	 */
+	private void purge() {
+		for (Reference<?> ref; (ref = collected.poll()) != null;)
+			if (entries.remove(((Operand) ref).key) != null)
+				purged++;
+	}
+
+	private void evict() {
+		Iterator<Key> keys = entries.keySet().iterator();
+		while (entries.size() > capacity && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+			evictions++;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "entries: " + entries.size() + "/" + capacity + ", hits: " + hits + ", misses: " + misses
+				+ ", evictions: " + evictions + ", purged: " + purged + String.format(", hit rate: %.2f", getHitRate());
+	}
+
+	/**
+	 * The key of an entry. The keys used for lookups hold their operands
+	 * strongly, while the ones stored in the cache (see
+	 * {@link #weak(ReferenceQueue)}) hold automata operands through weak
+	 * references registered with the queue of the cache. Automata operands
+	 * are compared by identity: once one of them is collected, the stored key
+	 * cannot match any lookup, and its entry is purged.
+	 */
+	private static final class Key {
+
+		private final Operation operation;
+
+		private final Object[] operands;
+
+		private final int hash;
+
+		private Key(Operation operation, Object[] operands) {
+			this.operation = operation;
+			this.operands = operands;
+			int hash = operation.hashCode();
+			for (Object operand : operands)
+				hash = 31 * hash
+						+ (operand instanceof AutomatonString ? System.identityHashCode(operand) : operand.hashCode());
+			this.hash = hash;
+		}
+
+		private Key(Operation operation, Object[] operands, int hash) {
+			this.operation = operation;
+			this.operands = operands;
+			this.hash = hash;
+		}
+
+		/**
+		 * Yields a copy of this key to be stored in the cache, whose automata
+		 * operands are weakly referenced and enqueued in {@code queue} once
+		 * collected.
+		 */
+		private Key weak(ReferenceQueue<Object> queue) {
+			Object[] refs = new Object[operands.length];
+			Key stored = new Key(operation, refs, hash);
+			for (int i = 0; i < operands.length; i++)
+				refs[i] = operands[i] instanceof AutomatonString ? new Operand(operands[i], stored, queue)
+						: operands[i];
+			return stored;
+		}
+
+		private static Object operand(Object operand) {
+			return operand instanceof Operand ? ((Operand) operand).get() : operand;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			if (hash != other.hash || operation != other.operation || operands.length != other.operands.length)
+				return false;
+			for (int i = 0; i < operands.length; i++) {
+				Object mine = operand(operands[i]);
+				Object theirs = operand(other.operands[i]);
+				if (mine == null || theirs == null)
+					return false;
+				if (mine instanceof AutomatonString ? mine != theirs : !mine.equals(theirs))
+					return false;
+			}
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return operation + Arrays.toString(operands);
+		}
+	}
+
+	/**
+	 * A weak reference to an automaton operand of a stored key, that is
+	 * enqueued with the key once the automaton is collected.
+	 */
+	private static final class Operand extends WeakReference<Object> {
+
+		private final Key key;
+
+		private Operand(Object referent, Key key, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+}
@@ -44,7 +44,7 @@ public class TarsisIntInterval {
 	 * @throws IllegalArgumentException if {@code low > high}
 	 */
 	public TarsisIntInterval(int low, int high) {
-		this(new TarsisMathNumber(low), new TarsisMathNumber(high));
+		this(TarsisMathNumber.valueOf(low), TarsisMathNumber.valueOf(high));
 	}
 
 	/**
@@ -56,8 +56,8 @@ public class TarsisIntInterval {
 	 * @throws IllegalArgumentException if {@code low > high}
 	 */
 	public TarsisIntInterval(Integer low, Integer high) {
-		this(low == null ? TarsisMathNumber.MINUS_INFINITY : new TarsisMathNumber(low),
-				high == null ? TarsisMathNumber.PLUS_INFINITY : new TarsisMathNumber(high));
+		this(low == null ? TarsisMathNumber.MINUS_INFINITY : TarsisMathNumber.valueOf(low),
+				high == null ? TarsisMathNumber.PLUS_INFINITY : TarsisMathNumber.valueOf(high));
 	}
 
 	/**
@@ -173,7 +173,10 @@ public class TarsisIntInterval {
 			return ONE;
 		if (i.is(-1))
 			return MINUS_ONE;
-		return new TarsisIntInterval(i.low.roundDown(), i.high.roundUp());
+
+		TarsisMathNumber low = i.low.roundDown();
+		TarsisMathNumber high = i.high.roundUp();
+		return low == i.low && high == i.high ? i : new TarsisIntInterval(low, high);
 	}
 
 	/**
@@ -42,6 +42,8 @@ import it.unive.lisa.symbolic.value.operator.unary.UnaryOperator;
 public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 
 	private static final TarsisIntv ZERO = new TarsisIntv(TarsisIntInterval.ZERO);
+	private static final TarsisIntv ONE = new TarsisIntv(TarsisIntInterval.ONE);
+	private static final TarsisIntv MINUS_ONE = new TarsisIntv(TarsisIntInterval.MINUS_ONE);
 	private static final TarsisIntv TOP = new TarsisIntv(TarsisIntInterval.INFINITY);
 	private static final TarsisIntv BOTTOM = new TarsisIntv(null);
 
@@ -68,6 +70,22 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 		this.interval = interval;
 	}
 
+	/**
+	 * Yields the interval wrapping {@code interval}, reusing the cached ones
+	 * for the intervals cached by {@link TarsisIntInterval}.
+	 */
+	private static TarsisIntv of(TarsisIntInterval interval) {
+		if (interval == TarsisIntInterval.ZERO)
+			return ZERO;
+		if (interval == TarsisIntInterval.ONE)
+			return ONE;
+		if (interval == TarsisIntInterval.MINUS_ONE)
+			return MINUS_ONE;
+		if (interval == TarsisIntInterval.INFINITY)
+			return TOP;
+		return new TarsisIntv(interval);
+	}
+
 	@Override
 	public TarsisIntv top() {
 		return TOP;
@@ -99,8 +117,15 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 	@Override
 	protected TarsisIntv evalNonNullConstant(Constant constant, ProgramPoint pp) {
 		if (constant.getValue() instanceof Integer) {
-			Integer i = (Integer) constant.getValue();
-			return new TarsisIntv(new TarsisMathNumber(i), new TarsisMathNumber(i));
+			int i = (Integer) constant.getValue();
+			if (i == 0)
+				return ZERO;
+			if (i == 1)
+				return ONE;
+			if (i == -1)
+				return MINUS_ONE;
+			TarsisMathNumber n = TarsisMathNumber.valueOf(i);
+			return new TarsisIntv(n, n);
 		}
 
 		return top();
@@ -112,7 +137,7 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 		if (operator == NumericNegation.INSTANCE) {
 			if (arg.isTop())
 				return top();
-			return new TarsisIntv(arg.interval.mul(TarsisIntInterval.MINUS_ONE));
+			return of(arg.interval.mul(TarsisIntInterval.MINUS_ONE));
 		} else if (operator == StringLength.INSTANCE)
 			return new TarsisIntv(TarsisMathNumber.ZERO, TarsisMathNumber.PLUS_INFINITY);
 
@@ -132,13 +157,13 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 			return top();
 
 		if (operator == NumericNonOverflowingAdd.INSTANCE)
-			return new TarsisIntv(left.interval.plus(right.interval));
+			return of(left.interval.plus(right.interval));
 		else if (operator == NumericNonOverflowingSub.INSTANCE)
-			return new TarsisIntv(left.interval.diff(right.interval));
+			return of(left.interval.diff(right.interval));
 		else if (operator == NumericNonOverflowingMul.INSTANCE) {
 			if (left.is(0) || right.is(0))
 				return ZERO;
-			return new TarsisIntv(left.interval.mul(right.interval));
+			return of(left.interval.mul(right.interval));
 		} else if (operator == NumericNonOverflowingDiv.INSTANCE) {
 			if (right.is(0))
 				return bottom();
@@ -147,7 +172,7 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 			if (left.isTop() || right.isTop())
 				return top();
 
-			return new TarsisIntv(left.interval.div(right.interval, false, false));
+			return of(left.interval.div(right.interval, false, false));
 		} else
 			return top();
 	}
@@ -352,7 +377,7 @@ public class TarsisIntv extends BaseNonRelationalValueDomain<TarsisIntv> {
 	 * @return the sum between {@code this} and {@code other} interval
 	 */
 	public TarsisIntv plus(TarsisIntv other) {
-		return new TarsisIntv(this.interval.plus(other.interval));
+		return of(this.interval.plus(other.interval));
 	}
 
 	/**
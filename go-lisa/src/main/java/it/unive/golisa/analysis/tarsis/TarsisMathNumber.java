@@ -6,11 +6,26 @@ import java.math.RoundingMode;
 /**
  * A wrapper around {@link BigDecimal} to represent the mathematical concept of
  * a number, that can be also plus or minus infinity, in a convenient way.
+ * Integers fitting in a {@code long} are stored as such, and arithmetic on
+ * them is carried out on primitive values, falling back to {@link BigDecimal}
+ * only on overflow or when the result is not an integer. Small integers are
+ * cached, see {@link #valueOf(long)}.
  * 
  * @author <a href="mailto:luca.negrini@unive.it">Luca Negrini</a>
  */
 public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 
+	private static final int CACHE_LOW = -128;
+
+	private static final int CACHE_HIGH = 1024;
+
+	private static final TarsisMathNumber[] CACHE = new TarsisMathNumber[CACHE_HIGH - CACHE_LOW + 1];
+
+	static {
+		for (int i = 0; i < CACHE.length; i++)
+			CACHE[i] = new TarsisMathNumber(CACHE_LOW + i, true);
+	}
+
 	/**
 	 * The constant for plus infinity.
 	 */
@@ -24,17 +39,17 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	/**
 	 * The constant {@code 0}.
 	 */
-	public static final TarsisMathNumber ZERO = new TarsisMathNumber(0);
+	public static final TarsisMathNumber ZERO = valueOf(0);
 
 	/**
 	 * The constant {@code 1}.
 	 */
-	public static final TarsisMathNumber ONE = new TarsisMathNumber(1);
+	public static final TarsisMathNumber ONE = valueOf(1);
 
 	/**
 	 * The constant {@code -1}.
 	 */
-	public static final TarsisMathNumber MINUS_ONE = new TarsisMathNumber(-1);
+	public static final TarsisMathNumber MINUS_ONE = valueOf(-1);
 
 	/**
 	 * A constant for representing numbers obtained from an operation that does
@@ -42,21 +57,34 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 */
 	public static final TarsisMathNumber NaN = new TarsisMathNumber((byte) 3);
 
+	/**
+	 * The value of this number, if it is finite and not a {@code long}.
+	 */
 	private final BigDecimal number;
 
+	/**
+	 * The value of this number, if it is a {@code long}.
+	 */
+	private final long value;
+
+	/**
+	 * Whether this number is a {@code long}, stored in {@link #value}.
+	 */
+	private final boolean isLong;
+
 	/**
 	 * True means this number is positive or zero
 	 */
 	private final byte sign;
 
 	/**
-	 * Builds a math number representing the given value.
+	 * Builds a math number representing the given value. Prefer
+	 * {@link #valueOf(long)}, that does not allocate small values.
 	 * 
 	 * @param number the value
 	 */
 	public TarsisMathNumber(long number) {
-		this.number = BigDecimal.valueOf(number);
-		this.sign = number >= 0 ? (byte) 0 : (byte) 1;
+		this(number, true);
 	}
 
 	/**
@@ -65,8 +93,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @param number the value
 	 */
 	public TarsisMathNumber(double number) {
-		this.number = BigDecimal.valueOf(number);
-		this.sign = number >= 0 ? (byte) 0 : (byte) 1;
+		this(BigDecimal.valueOf(number));
 	}
 
 	/**
@@ -75,22 +102,64 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @param number the value
 	 */
 	public TarsisMathNumber(BigDecimal number) {
-		this.number = number;
+		long exact = 0;
+		boolean fits;
+		try {
+			exact = number.longValueExact();
+			fits = true;
+		} catch (ArithmeticException e) {
+			fits = false;
+		}
+
+		this.isLong = fits;
+		this.value = exact;
+		this.number = fits ? null : number;
 		this.sign = number.signum() >= 0 ? (byte) 0 : (byte) 1;
 	}
 
+	private TarsisMathNumber(long value, boolean isLong) {
+		this.number = null;
+		this.value = value;
+		this.isLong = isLong;
+		this.sign = value >= 0 ? (byte) 0 : (byte) 1;
+	}
+
 	private TarsisMathNumber(byte sign) {
 		this.number = null;
+		this.value = 0;
+		this.isLong = false;
 		this.sign = sign;
 	}
 
+	/**
+	 * Yields a math number representing the given value, without allocating
+	 * it if it is small.
+	 * 
+	 * @param value the value
+	 * 
+	 * @return the math number
+	 */
+	public static TarsisMathNumber valueOf(long value) {
+		if (value >= CACHE_LOW && value <= CACHE_HIGH)
+			return CACHE[(int) value - CACHE_LOW];
+		return new TarsisMathNumber(value, true);
+	}
+
+	private boolean isNumber() {
+		return isLong || number != null;
+	}
+
+	private BigDecimal big() {
+		return isLong ? BigDecimal.valueOf(value) : number;
+	}
+
 	/**
 	 * Yields {@code true} if this number is minus infinity.
 	 * 
 	 * @return {@code true} if that condition holds
 	 */
 	public boolean isMinusInfinity() {
-		return number == null && isNegative();
+		return !isNumber() && isNegative();
 	}
 
 	/**
@@ -99,7 +168,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return {@code true} if that condition holds
 	 */
 	public boolean isPlusInfinity() {
-		return number == null && isPositiveOrZero();
+		return !isNumber() && isPositiveOrZero();
 	}
 
 	/**
@@ -130,7 +199,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return {@code true} if that condition holds
 	 */
 	public boolean is(int n) {
-		return number != null && number.equals(new BigDecimal(n));
+		return isLong && value == n;
 	}
 
 	/**
@@ -159,17 +228,12 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return {@code true} if that condition holds
 	 */
 	public boolean isNaN() {
-		return number == null && sign == (byte) 3;
+		return !isNumber() && sign == (byte) 3;
 	}
 
-	private static TarsisMathNumber cached(TarsisMathNumber i) {
-		if (i.is(0))
-			return ZERO;
-		if (i.is(1))
-			return ONE;
-		if (i.is(-1))
-			return MINUS_ONE;
-		return i;
+	private static TarsisMathNumber cached(BigDecimal number) {
+		TarsisMathNumber i = new TarsisMathNumber(number);
+		return i.isLong ? valueOf(i.value) : i;
 	}
 
 	/**
@@ -190,7 +254,14 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (isMinusInfinity() || other.isMinusInfinity())
 			return MINUS_INFINITY;
 
-		return cached(new TarsisMathNumber(number.add(other.number)));
+		if (isLong && other.isLong)
+			try {
+				return valueOf(Math.addExact(value, other.value));
+			} catch (ArithmeticException e) {
+				// overflow, falling back to arbitrary precision
+			}
+
+		return cached(big().add(other.big()));
 	}
 
 	/**
@@ -211,7 +282,14 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (isMinusInfinity() || other.isMinusInfinity())
 			return MINUS_INFINITY;
 
-		return cached(new TarsisMathNumber(number.subtract(other.number)));
+		if (isLong && other.isLong)
+			try {
+				return valueOf(Math.subtractExact(value, other.value));
+			} catch (ArithmeticException e) {
+				// overflow, falling back to arbitrary precision
+			}
+
+		return cached(big().subtract(other.big()));
 	}
 
 	/**
@@ -241,7 +319,14 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 				|| (other.isPlusInfinity() && isPositiveOrZero()))
 			return PLUS_INFINITY;
 
-		return cached(new TarsisMathNumber(number.multiply(other.number)));
+		if (isLong && other.isLong)
+			try {
+				return valueOf(Math.multiplyExact(value, other.value));
+			} catch (ArithmeticException e) {
+				// overflow, falling back to arbitrary precision
+			}
+
+		return cached(big().multiply(other.big()));
 	}
 
 	/**
@@ -279,12 +364,17 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 			else
 				return MINUS_INFINITY;
 
-		return cached(
-				new TarsisMathNumber(number.divide(other.number, 100, RoundingMode.HALF_UP).stripTrailingZeros()));
+		if (isLong && other.isLong && value % other.value == 0 && (value != Long.MIN_VALUE || other.value != -1))
+			return valueOf(value / other.value);
+
+		return cached(big().divide(other.big(), 100, RoundingMode.HALF_UP).stripTrailingZeros());
 	}
 
 	@Override
 	public int compareTo(TarsisMathNumber other) {
+		if (isLong && other.isLong)
+			return Long.compare(value, other.value);
+
 		if (equals(other))
 			return 0;
 
@@ -303,7 +393,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (isPlusInfinity() || other.isMinusInfinity() || (isPositiveOrZero() && other.isNegative()))
 			return 1;
 
-		return number.compareTo(other.number);
+		return big().compareTo(other.big());
 	}
 
 	/**
@@ -325,7 +415,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (other.isMinusInfinity() || isPlusInfinity())
 			return other;
 
-		return cached(new TarsisMathNumber(number.min(other.number)));
+		return compareTo(other) <= 0 ? this : other;
 	}
 
 	/**
@@ -347,7 +437,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (isMinusInfinity() || other.isPlusInfinity())
 			return other;
 
-		return cached(new TarsisMathNumber(number.max(other.number)));
+		return compareTo(other) >= 0 ? this : other;
 	}
 
 	/**
@@ -359,9 +449,9 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return this number rounded up towards plus infinity
 	 */
 	public TarsisMathNumber roundUp() {
-		if (isInfinite() || isNaN())
+		if (isLong || isInfinite() || isNaN())
 			return this;
-		return cached(new TarsisMathNumber(number.setScale(0, RoundingMode.CEILING)));
+		return cached(number.setScale(0, RoundingMode.CEILING));
 	}
 
 	/**
@@ -373,9 +463,9 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return this number rounded down towards minus infinity
 	 */
 	public TarsisMathNumber roundDown() {
-		if (isInfinite() || isNaN())
+		if (isLong || isInfinite() || isNaN())
 			return this;
-		return cached(new TarsisMathNumber(number.setScale(0, RoundingMode.FLOOR)));
+		return cached(number.setScale(0, RoundingMode.FLOOR));
 	}
 
 	@Override
@@ -383,6 +473,7 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + ((number == null) ? 0 : number.hashCode());
+		result = prime * result + Long.hashCode(value);
 		result = prime * result + sign;
 		return result;
 	}
@@ -396,6 +487,8 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 		if (getClass() != obj.getClass())
 			return false;
 		TarsisMathNumber other = (TarsisMathNumber) obj;
+		if (isLong != other.isLong || value != other.value)
+			return false;
 		if (number == null) {
 			if (other.number != null)
 				return false;
@@ -408,6 +501,8 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 
 	@Override
 	public String toString() {
+		if (isLong)
+			return Long.toString(value);
 		return isNaN() ? "NaN" : isMinusInfinity() ? "-Inf" : isPlusInfinity() ? "+Inf" : number.toString();
 	}
 
@@ -417,6 +512,6 @@ public class TarsisMathNumber implements Comparable<TarsisMathNumber> {
 	 * @return the integer value {@code this}
 	 */
 	public int getNumber() {
-		return number.intValue();
+		return isLong ? (int) value : number.intValue();
 	}
 }
@@ -1,6 +1,7 @@
 package it.unive.golisa.cfg;
 
 import it.unive.golisa.cfg.statement.block.IdInfo;
+import it.unive.golisa.cfg.statement.block.VisibleIds;
 import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.CFGDescriptor;
 import it.unive.lisa.program.cfg.ProgramPoint;
@@ -24,9 +25,10 @@ public class VariableScopingCFG extends CFG {
 
 	/**
 	 * The mapping between the statements and the IDs visible in those
-	 * statements.
+	 * statements. Since {@link VisibleIds} are persistent, statements share
+	 * the bindings they have in common.
 	 */
-	private final Map<Statement, Map<String, Set<IdInfo>>> scopingMap;
+	private final Map<Statement, VisibleIds> scopingMap;
 
 	/**
 	 * Builds the control flow graph.
@@ -60,19 +62,22 @@ public class VariableScopingCFG extends CFG {
 	 * @param node       the node to add
 	 * @param visibleIds the IDs visible to collect
 	 */
-	public void registerScoping(Statement node, Map<String, Set<IdInfo>> visibleIds) {
-		scopingMap.put(node, new HashMap<>(visibleIds));
+	public void registerScoping(Statement node, VisibleIds visibleIds) {
+		scopingMap.put(node, visibleIds);
 	}
 
 	/**
-	 * Yields the IDs visible from a statement.
+	 * Yields the IDs visible from a statement, resolving them from the
+	 * bindings registered for it.
 	 * 
 	 * @param node the node to add
 	 * 
-	 * @return the visible IDs
+	 * @return the visible IDs, or {@code null} if no IDs have been registered
+	 *             for {@code node}
 	 */
 	public Map<String, Set<IdInfo>> getVisibleIds(Statement node) {
-		return scopingMap.get(node);
+		VisibleIds visibleIds = scopingMap.get(node);
+		return visibleIds == null ? null : visibleIds.asMap();
 	}
 
 	@Override
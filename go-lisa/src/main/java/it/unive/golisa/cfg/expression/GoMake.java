@@ -5,6 +5,7 @@ import it.unive.golisa.cfg.type.composite.GoArrayType;
 import it.unive.golisa.cfg.type.composite.GoChannelType;
 import it.unive.golisa.cfg.type.composite.GoMapType;
 import it.unive.golisa.cfg.type.composite.GoSliceType;
+import it.unive.golisa.cfg.type.composite.TypeRegistry;
 import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
 import it.unive.lisa.analysis.AbstractState;
 import it.unive.lisa.analysis.AnalysisState;
@@ -40,6 +41,8 @@ public class GoMake extends NaryExpression {
 
 	private final Type type;
 
+	private final TypeRegistry types;
+
 	/**
 	 * Builds the make expression.
 	 * 
@@ -47,10 +50,13 @@ public class GoMake extends NaryExpression {
 	 * @param location   the location where this expression is defined
 	 * @param type       the type to allocate
 	 * @param parameters the parameters
+	 * @param types      the registry where the types allocated by this
+	 *                       expression are interned
 	 */
-	public GoMake(CFG cfg, CodeLocation location, Type type, Expression[] parameters) {
+	public GoMake(CFG cfg, CodeLocation location, Type type, Expression[] parameters, TypeRegistry types) {
 		super(cfg, location, "make " + type, parameters);
 		this.type = type;
+		this.types = types;
 	}
 
 	@Override
@@ -90,14 +96,14 @@ public class GoMake extends NaryExpression {
 			int length = (int) ((GoInteger) getSubExpressions()[0]).getValue();
 			int cap = getSubExpressions().length == 1 ? length : (int) ((GoInteger) getSubExpressions()[1]).getValue();
 
-			GoArrayType arrayType = GoArrayType.lookup(new GoArrayType(contentType, length));
+			GoArrayType arrayType = GoArrayType.lookup(types, new GoArrayType(contentType, length));
 			Expression array = arrayType.defaultValue(getCFG(), underlyingArrayLocation);
 			AnalysisState<A, H, V, T> arraySemantics = array.semantics(state, interprocedural,
 					new StatementStore<>(state));
 
 			// Allocates the slice, that is an array of three elements: pointer
 			// to the underlying array, length and capability
-			GoSliceType sliceType = GoSliceType.lookup(new GoSliceType(contentType));
+			GoSliceType sliceType = GoSliceType.lookup(types, new GoSliceType(contentType));
 
 			HeapAllocation sliceCreated = new HeapAllocation(sliceType, getLocation());
 
@@ -0,0 +1,209 @@
+package it.unive.golisa.cfg.statement.block;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The identifiers visible at a given program point, stored as a persistent
+ * chain of frames. Each frame holds the bindings added in a scope, indexed by
+ * name, and an instance of this class is a prefix of a frame together with the
+ * frames enclosing it. Adding an identifier yields a new instance that shares
+ * all the bindings of the original one, which is left untouched: a snapshot
+ * of the visible identifiers is thus just a reference to an instance of this
+ * class, and leaving a block amounts to going back to the instance that was
+ * current when the block was entered. The identifiers added after going back
+ * to a snapshot whose frame has grown in the meantime are stored in a new
+ * frame, chained to that snapshot: the number of frames to look up is thus
+ * bounded by the nesting of the scopes, and not by the number of visible
+ * identifiers. Instances are not meant to be shared among threads while they
+ * are extended.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public final class VisibleIds {
+
+	/**
+	 * The empty set of visible identifiers.
+	 */
+	public static final VisibleIds EMPTY = new VisibleIds(null, null, 0);
+
+	/**
+	 * The visible identifiers enclosing the ones of {@link #frame}.
+	 */
+	private final VisibleIds parent;
+
+	/**
+	 * The frame holding the innermost bindings, {@code null} if there is no
+	 * such binding.
+	 */
+	private final Frame frame;
+
+	/**
+	 * The number of bindings of {@link #frame} visible by this instance.
+	 */
+	private final int size;
+
+	private VisibleIds(VisibleIds parent, Frame frame, int size) {
+		this.parent = parent;
+		this.frame = frame;
+		this.size = size;
+	}
+
+	/**
+	 * The bindings of a scope, in the order they have been added. A frame is
+	 * only extended: the instances referring to it see the prefix of the
+	 * bindings they were built with.
+	 */
+	private static final class Frame {
+
+		private final List<String> names = new ArrayList<>();
+
+		private final List<IdInfo> infos = new ArrayList<>();
+
+		private final Map<String, List<Integer>> positions = new HashMap<>();
+
+		private void add(String name, IdInfo info) {
+			positions.computeIfAbsent(name, k -> new ArrayList<>(1)).add(names.size());
+			names.add(name);
+			infos.add(info);
+		}
+
+		private int size() {
+			return names.size();
+		}
+	}
+
+	/**
+	 * Yields whether an identifier named {@code name} is visible.
+	 *
+	 * @param name the name of the identifier
+	 *
+	 * @return {@code true} if an identifier named {@code name} is visible,
+	 *             {@code false} otherwise
+	 */
+	public boolean containsKey(String name) {
+		for (VisibleIds ids = this; ids != null; ids = ids.parent)
+			if (ids.frame != null) {
+				List<Integer> positions = ids.frame.positions.get(name);
+				// the first binding of name in the frame is the oldest one
+				if (positions != null && positions.get(0) < ids.size)
+					return true;
+			}
+		return false;
+	}
+
+	/**
+	 * Yields the information about the visible identifiers named
+	 * {@code name}.
+	 *
+	 * @param name the name of the identifiers
+	 *
+	 * @return the information about the visible identifiers named
+	 *             {@code name}, empty if no such identifier is visible
+	 */
+	public Set<IdInfo> get(String name) {
+		Set<IdInfo> infos = new HashSet<>();
+		for (VisibleIds ids = this; ids != null; ids = ids.parent)
+			if (ids.frame != null) {
+				List<Integer> positions = ids.frame.positions.get(name);
+				if (positions != null)
+					for (int position : positions)
+						if (position < ids.size)
+							infos.add(ids.frame.infos.get(position));
+			}
+		return infos;
+	}
+
+	/**
+	 * Yields the visible identifiers obtained by adding an identifier named
+	 * {@code name} to these ones. This instance is not modified.
+	 *
+	 * @param name the name of the identifier
+	 * @param info the information about the identifier
+	 *
+	 * @return the resulting visible identifiers
+	 */
+	public VisibleIds add(String name, IdInfo info) {
+		if (binds(name, info))
+			return this;
+
+		if (frame == null) {
+			Frame added = new Frame();
+			added.add(name, info);
+			return new VisibleIds(parent, added, 1);
+		}
+
+		if (frame.size() == size) {
+			frame.add(name, info);
+			return new VisibleIds(parent, frame, size + 1);
+		}
+
+		// the frame has been extended by an instance this one is not a
+		// predecessor of
+		Frame added = new Frame();
+		added.add(name, info);
+		return new VisibleIds(this, added, 1);
+	}
+
+	private boolean binds(String name, IdInfo info) {
+		// looks up the frames without materializing the set returned by get
+		for (VisibleIds ids = this; ids != null; ids = ids.parent)
+			if (ids.frame != null) {
+				List<Integer> positions = ids.frame.positions.get(name);
+				if (positions != null)
+					for (int position : positions)
+						if (position < ids.size && ids.frame.infos.get(position).equals(info))
+							return true;
+			}
+		return false;
+	}
+
+	/**
+	 * Yields the names and the information of the identifiers added to
+	 * {@code ancestor} to obtain these visible identifiers, in the order they
+	 * have been added. If {@code ancestor} is not a predecessor of this
+	 * instance, all the visible identifiers are returned.
+	 *
+	 * @param ancestor the visible identifiers to start from
+	 *
+	 * @return the identifiers added after {@code ancestor}
+	 */
+	public List<Map.Entry<String, IdInfo>> addedSince(VisibleIds ancestor) {
+		List<Map.Entry<String, IdInfo>> added = new ArrayList<>();
+		for (VisibleIds ids = this; ids != null && ids != ancestor; ids = ids.parent) {
+			if (ids.frame == null)
+				continue;
+
+			boolean extended = ancestor != null && ancestor.frame == ids.frame && ancestor.size <= ids.size;
+			int from = extended ? ancestor.size : 0;
+			for (int i = ids.size - 1; i >= from; i--)
+				added.add(new SimpleImmutableEntry<>(ids.frame.names.get(i), ids.frame.infos.get(i)));
+			if (extended)
+				// ancestor is a prefix of the same frame
+				break;
+		}
+		Collections.reverse(added);
+		return added;
+	}
+
+	/**
+	 * Yields the visible identifiers as a map from names to the information
+	 * about the identifiers with that name. The map is built at each call.
+	 *
+	 * @return the map of the visible identifiers
+	 */
+	public Map<String, Set<IdInfo>> asMap() {
+		Map<String, Set<IdInfo>> map = new HashMap<>();
+		for (VisibleIds ids = this; ids != null; ids = ids.parent)
+			if (ids.frame != null)
+				for (int i = 0; i < ids.size; i++)
+					map.computeIfAbsent(ids.frame.names.get(i), k -> new HashSet<>()).add(ids.frame.infos.get(i));
+		return map;
+	}
+}
@@ -8,8 +8,6 @@ import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * A Go aliased type.
@@ -18,48 +16,49 @@ import java.util.Map;
  */
 public class GoAliasType implements GoType {
 
-	/**
-	 * Aliases map.
-	 */
-	public static final Map<String, GoAliasType> aliases = new HashMap<>();
-
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
 	 * {@link GoAliasType} representing an alias type with the given
-	 * {@code name}.
+	 * {@code name}, interned in {@code registry} unless the alias type is
+	 * already known to it (e.g., in the registry of the Go runtime library).
 	 * 
-	 * @param name the name of the alias type
-	 * @param type the alias type
+	 * @param registry the registry where the type is interned
+	 * @param name     the name of the alias type
+	 * @param type     the alias type
 	 * 
 	 * @return the unique instance of {@link GoAliasType} representing the alias
 	 *             type with the given name
 	 */
-	public static GoAliasType lookup(String name, GoAliasType type) {
-		if (!aliases.containsKey(name))
-			aliases.put(name, type);
-		return aliases.get(name);
+	public static GoAliasType lookup(TypeRegistry registry, String name, GoAliasType type) {
+		GoAliasType alias = get(registry, name);
+		if (alias != null)
+			return alias;
+		return registry.aliases.computeIfAbsent(name, x -> type);
 	}
 
 	/**
-	 * Checks whether the type named {@code alias} is aliased.
+	 * Checks whether the type named {@code alias} is aliased in
+	 * {@code registry}.
 	 * 
-	 * @param alias the type name
+	 * @param registry the registry
+	 * @param alias    the type name
 	 * 
 	 * @return whether the type named {@code alias} is aliased
 	 */
-	public static boolean hasAliasType(String alias) {
-		return aliases.containsKey(alias);
+	public static boolean hasAliasType(TypeRegistry registry, String alias) {
+		return get(registry, alias) != null;
 	}
 
 	/**
-	 * Yields the type corresponding to {@code alias}.
+	 * Yields the type corresponding to {@code alias} in {@code registry}.
 	 * 
-	 * @param alias the type name
+	 * @param registry the registry
+	 * @param alias    the type name
 	 * 
 	 * @return the type corresponding to {@code alias}
 	 */
-	public static GoAliasType get(String alias) {
-		return aliases.get(alias);
+	public static GoAliasType get(TypeRegistry registry, String alias) {
+		return TypeRegistry.find(registry, r -> r.aliases, alias);
 	}
 
 	private final String alias;
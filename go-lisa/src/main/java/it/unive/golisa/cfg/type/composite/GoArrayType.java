@@ -11,8 +11,6 @@ import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go array type.
@@ -24,11 +22,10 @@ public class GoArrayType implements GoType, InMemoryType {
 	private Type contentType;
 	private Integer length;
 
-	private static final Set<GoArrayType> arrayTypes = new HashSet<>();
-
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoArrayType} representing an array type.
+	 * {@link GoArrayType} representing an array type, interned in the registry
+	 * of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the array type to lookup
 	 * 
@@ -36,10 +33,23 @@ public class GoArrayType implements GoType, InMemoryType {
 	 *             type given as argument
 	 */
 	public static GoArrayType lookup(GoArrayType type) {
-		if (!arrayTypes.contains(type))
-			arrayTypes.add(type);
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
 
-		return arrayTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoArrayType} representing an array type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the array type to lookup
+	 * 
+	 * @return the unique instance of {@link GoArrayType} representing the array
+	 *             type given as argument
+	 */
+	public static GoArrayType lookup(TypeRegistry registry, GoArrayType type) {
+		return TypeRegistry.intern(registry, r -> r.arrayTypes, type, r -> type);
 	}
 
 	/**
@@ -137,26 +147,19 @@ public class GoArrayType implements GoType, InMemoryType {
 	}
 
 	/**
-	 * Yields all the array types.
+	 * Yields all the array types of {@code registry}, including the ones of
+	 * the Go runtime library.
 	 * 
-	 * @return all the array types
+	 * @param registry the registry
+	 * 
+	 * @return all the array types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoArrayType in : arrayTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.arrayTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
 		return Collections.singleton(this);
 	}
-
-	/**
-	 * Clears all the array types.
-	 */
-	public static void clearAll() {
-		arrayTypes.clear();
-	}
 }
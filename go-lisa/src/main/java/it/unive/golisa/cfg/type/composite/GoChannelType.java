@@ -8,8 +8,6 @@ import it.unive.lisa.program.cfg.statement.Expression;
 import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go channel type.
@@ -23,11 +21,16 @@ public class GoChannelType implements GoType {
 	private boolean isSend;
 	private boolean isReceive;
 
-	private static final Set<GoChannelType> channelTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoChannelType} representing a channel type.
+	 * {@link GoChannelType} representing a channel type, interned in the
+	 * registry of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the channel type to lookup
 	 * 
@@ -35,9 +38,23 @@ public class GoChannelType implements GoType {
 	 *             channel type given as argument
 	 */
 	public static GoChannelType lookup(GoChannelType type) {
-		if (!channelTypes.contains(type))
-			channelTypes.add(type);
-		return channelTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoChannelType} representing a channel type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the channel type to lookup
+	 * 
+	 * @return the unique instance of {@link GoChannelType} representing the
+	 *             channel type given as argument
+	 */
+	public static GoChannelType lookup(TypeRegistry registry, GoChannelType type) {
+		return TypeRegistry.intern(registry, r -> r.channelTypes, type, r -> new GoChannelType(type.contentType, type.isSend, type.isReceive, r));
 	}
 
 	/**
@@ -57,9 +74,14 @@ public class GoChannelType implements GoType {
 	 * @param isReceive   if this channel is receiving channle
 	 */
 	public GoChannelType(Type contentType, boolean isSend, boolean isReceive) {
+		this(contentType, isSend, isReceive, null);
+	}
+
+	private GoChannelType(Type contentType, boolean isSend, boolean isReceive, TypeRegistry registry) {
 		this.contentType = contentType;
 		this.isSend = isSend;
 		this.isReceive = isReceive;
+		this.registry = registry;
 	}
 
 	/**
@@ -159,29 +181,19 @@ public class GoChannelType implements GoType {
 	}
 
 	/**
-	 * Yields all the channel types.
+	 * Yields all the channel types of {@code registry}, including the ones of
+	 * the Go runtime library.
+	 * 
+	 * @param registry the registry
 	 * 
-	 * @return all the channel types
+	 * @return all the channel types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoChannelType in : channelTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.channelTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoChannelType in : channelTypes)
-			instances.add(in);
-		return instances;
-	}
-
-	/**
-	 * Clears all the channel types.
-	 */
-	public static void clearAll() {
-		channelTypes.clear();
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.channelTypes);
 	}
 }
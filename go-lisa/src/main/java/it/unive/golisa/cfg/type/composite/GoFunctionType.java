@@ -10,8 +10,6 @@ import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go function type.
@@ -23,11 +21,16 @@ public class GoFunctionType implements GoType {
 	private Parameter[] params;
 	private Type returnType;
 
-	private static final Set<GoFunctionType> functionTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoFunctionType} representing a function type.
+	 * {@link GoFunctionType} representing a function type, interned in the
+	 * registry of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the function type to lookup
 	 * 
@@ -35,9 +38,23 @@ public class GoFunctionType implements GoType {
 	 *             function type given as argument
 	 */
 	public static GoFunctionType lookup(GoFunctionType type) {
-		if (!functionTypes.contains(type))
-			functionTypes.add(type);
-		return functionTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoFunctionType} representing a function type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the function type to lookup
+	 * 
+	 * @return the unique instance of {@link GoFunctionType} representing the
+	 *             function type given as argument
+	 */
+	public static GoFunctionType lookup(TypeRegistry registry, GoFunctionType type) {
+		return TypeRegistry.intern(registry, r -> r.functionTypes, type, r -> new GoFunctionType(type.returnType, type.params, r));
 	}
 
 	/**
@@ -47,8 +64,13 @@ public class GoFunctionType implements GoType {
 	 * @param params     the parameters
 	 */
 	public GoFunctionType(Type returnType, Parameter... params) {
+		this(returnType, params, null);
+	}
+
+	private GoFunctionType(Type returnType, Parameter[] params, TypeRegistry registry) {
 		this.params = params;
 		this.returnType = returnType;
+		this.registry = registry;
 	}
 
 	@Override
@@ -103,29 +125,19 @@ public class GoFunctionType implements GoType {
 	}
 
 	/**
-	 * Yields all the function types.
+	 * Yields all the function types of {@code registry}, including the ones of
+	 * the Go runtime library.
+	 * 
+	 * @param registry the registry
 	 * 
-	 * @return all the function types
+	 * @return all the function types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoFunctionType in : functionTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.functionTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoFunctionType in : functionTypes)
-			instances.add(in);
-		return instances;
-	}
-
-	/**
-	 * Clears all the function types.
-	 */
-	public static void clearAll() {
-		functionTypes.clear();
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.functionTypes);
 	}
 }
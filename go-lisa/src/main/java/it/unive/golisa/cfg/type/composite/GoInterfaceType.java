@@ -12,8 +12,6 @@ import it.unive.lisa.type.UnitType;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * A Go interface type.
@@ -22,32 +20,47 @@ import java.util.Map;
  */
 public class GoInterfaceType implements GoType, UnitType, InMemoryType {
 
-	private static final Map<String, GoInterfaceType> interfaces = new HashMap<>();
-
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
 	 * {@link GoInterfaceType} representing an interface type with the given
-	 * {@code name}, representing the given {@code unit}.
+	 * {@code name}, representing the given {@code unit}, interned in
+	 * {@code registry} unless the interface type is already known to it.
 	 * 
-	 * @param name the name of the interface type
-	 * @param unit the unit underlying this type
+	 * @param registry the registry where the type is interned
+	 * @param name     the name of the interface type
+	 * @param unit     the unit underlying this type
 	 * 
 	 * @return the unique instance of {@link GoInterfaceType} representing the
 	 *             interface type with the given name
 	 */
-	public static GoInterfaceType lookup(String name, CompilationUnit unit) {
+	public static GoInterfaceType lookup(TypeRegistry registry, String name, CompilationUnit unit) {
+		GoInterfaceType type = get(registry, name);
+		if (type != null)
+			return type;
 		if (name.equals(EmptyInterface.EMPTY_INTERFACE_NAME))
-			return interfaces.computeIfAbsent(name, x -> new EmptyInterface());
-		return interfaces.computeIfAbsent(name, x -> new GoInterfaceType(name, unit));
+			return registry.interfaces.computeIfAbsent(name, x -> new EmptyInterface());
+		return registry.interfaces.computeIfAbsent(name, x -> new GoInterfaceType(name, unit));
 	}
 
 	/**
-	 * Yields the empty interface.
+	 * Yields the empty interface, interned in the registry of the Go runtime
+	 * library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @return the empty interface
 	 */
 	public static GoInterfaceType getEmptyInterface() {
-		return GoInterfaceType.get(EmptyInterface.EMPTY_INTERFACE_NAME);
+		return getEmptyInterface(TypeRegistry.RUNTIME);
+	}
+
+	/**
+	 * Yields the empty interface, interned in {@code registry}.
+	 * 
+	 * @param registry the registry where the type is interned
+	 * 
+	 * @return the empty interface
+	 */
+	public static GoInterfaceType getEmptyInterface(TypeRegistry registry) {
+		return lookup(registry, EmptyInterface.EMPTY_INTERFACE_NAME, null);
 	}
 
 	private final String name;
@@ -66,26 +79,28 @@ public class GoInterfaceType implements GoType, UnitType, InMemoryType {
 
 	/**
 	 * Checks whether an interface type named {@code name} has been already
-	 * built.
+	 * built in {@code registry}.
 	 * 
+	 * @param registry the registry
 	 * @param intfType the name of the interface type
 	 * 
 	 * @return whether an interface type named {@code name} has been already
 	 *             built.
 	 */
-	public static boolean hasInterfaceType(String intfType) {
-		return interfaces.containsKey(intfType);
+	public static boolean hasInterfaceType(TypeRegistry registry, String intfType) {
+		return get(registry, intfType) != null;
 	}
 
 	/**
-	 * Yields a Go interface type from given name.
+	 * Yields a Go interface type from given name, built in {@code registry}.
 	 * 
+	 * @param registry      the registry
 	 * @param interfaceName the name
 	 * 
 	 * @return a Go interface type from given name
 	 */
-	public static GoInterfaceType get(String interfaceName) {
-		return interfaces.get(interfaceName);
+	public static GoInterfaceType get(TypeRegistry registry, String interfaceName) {
+		return TypeRegistry.find(registry, r -> r.interfaces, interfaceName);
 	}
 
 	/**
@@ -9,8 +9,6 @@ import it.unive.lisa.type.InMemoryType;
 import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go map type.
@@ -22,11 +20,16 @@ public class GoMapType implements GoType, InMemoryType {
 	private Type keyType;
 	private Type elementType;
 
-	private static final Set<GoMapType> mapTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoMapType} representing a map type.
+	 * {@link GoMapType} representing a map type, interned in the registry of
+	 * the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the map type to lookup
 	 * 
@@ -34,9 +37,23 @@ public class GoMapType implements GoType, InMemoryType {
 	 *             type given as argument
 	 */
 	public static GoMapType lookup(GoMapType type) {
-		if (!mapTypes.contains(type))
-			mapTypes.add(type);
-		return mapTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoMapType} representing a map type, interned in {@code registry}
+	 * unless an equal type is already known to it (e.g., in the registry of
+	 * the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the map type to lookup
+	 * 
+	 * @return the unique instance of {@link GoMapType} representing the map
+	 *             type given as argument
+	 */
+	public static GoMapType lookup(TypeRegistry registry, GoMapType type) {
+		return TypeRegistry.intern(registry, r -> r.mapTypes, type, r -> new GoMapType(type.keyType, type.elementType, r));
 	}
 
 	/**
@@ -46,8 +63,13 @@ public class GoMapType implements GoType, InMemoryType {
 	 * @param elementType element type
 	 */
 	public GoMapType(Type keyType, Type elementType) {
+		this(keyType, elementType, null);
+	}
+
+	private GoMapType(Type keyType, Type elementType, TypeRegistry registry) {
 		this.keyType = keyType;
 		this.elementType = elementType;
+		this.registry = registry;
 	}
 
 	/**
@@ -132,29 +154,20 @@ public class GoMapType implements GoType, InMemoryType {
 	}
 
 	/**
-	 * Yields all the map types.
+	 * Yields all the map types of {@code registry}, including the ones of
+	 * the Go runtime library.
 	 * 
-	 * @return all the map types
+	 * @param registry the registry
+	 * 
+	 * @return all the map types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoMapType in : mapTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.mapTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoMapType in : mapTypes)
-			instances.add(in);
-		return instances;
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.mapTypes);
 	}
 
-	/**
-	 * Clears all the map types.
-	 */
-	public static void clearAll() {
-		mapTypes.clear();
-	}
 }
\ No newline at end of file
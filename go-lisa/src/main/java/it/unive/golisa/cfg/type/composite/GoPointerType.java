@@ -12,8 +12,6 @@ import it.unive.lisa.type.UnitType;
 import it.unive.lisa.type.Untyped;
 import it.unive.lisa.util.collections.externalSet.ExternalSet;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go pointer type.
@@ -24,11 +22,16 @@ public class GoPointerType implements PointerType, GoType {
 
 	private Type baseType;
 
-	private static final Set<GoPointerType> pointerTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoPointerType} representing a pointer type.
+	 * {@link GoPointerType} representing a pointer type, interned in the
+	 * registry of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the pointer type to lookup
 	 * 
@@ -36,9 +39,23 @@ public class GoPointerType implements PointerType, GoType {
 	 *             pointer type given as argument
 	 */
 	public static GoPointerType lookup(GoPointerType type) {
-		if (!pointerTypes.contains(type))
-			pointerTypes.add(type);
-		return pointerTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoPointerType} representing a pointer type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the pointer type to lookup
+	 * 
+	 * @return the unique instance of {@link GoPointerType} representing the
+	 *             pointer type given as argument
+	 */
+	public static GoPointerType lookup(TypeRegistry registry, GoPointerType type) {
+		return TypeRegistry.intern(registry, r -> r.pointerTypes, type, r -> new GoPointerType(type.baseType, r));
 	}
 
 	/**
@@ -47,7 +64,12 @@ public class GoPointerType implements PointerType, GoType {
 	 * @param baseType the base type of this pointer type
 	 */
 	public GoPointerType(Type baseType) {
+		this(baseType, null);
+	}
+
+	private GoPointerType(Type baseType, TypeRegistry registry) {
 		this.baseType = baseType;
+		this.registry = registry;
 	}
 
 	@Override
@@ -111,23 +133,20 @@ public class GoPointerType implements PointerType, GoType {
 	}
 
 	/**
-	 * Yields all the pointer types.
+	 * Yields all the pointer types of {@code registry}, including the ones of
+	 * the Go runtime library.
 	 * 
-	 * @return all the pointer types
+	 * @param registry the registry
+	 * 
+	 * @return all the pointer types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoPointerType in : pointerTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.pointerTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoPointerType in : pointerTypes)
-			instances.add(in);
-		return instances;
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.pointerTypes);
 	}
 
 	@Override
@@ -140,10 +159,4 @@ public class GoPointerType implements PointerType, GoType {
 		return (UnitType) baseType;
 	}
 
-	/**
-	 * Clears all the pointer types.
-	 */
-	public static void clearAll() {
-		pointerTypes.clear();
-	}
 }
\ No newline at end of file
@@ -11,8 +11,6 @@ import it.unive.lisa.type.InMemoryType;
 import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A Go slice type.
@@ -23,11 +21,16 @@ public class GoSliceType implements GoType, InMemoryType {
 
 	private Type contentType;
 
-	private static final Set<GoSliceType> sliceTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoSliceType} representing a slice type.
+	 * {@link GoSliceType} representing a slice type, interned in the registry
+	 * of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the slice type to lookup
 	 * 
@@ -35,9 +38,23 @@ public class GoSliceType implements GoType, InMemoryType {
 	 *             type given as argument
 	 */
 	public static GoSliceType lookup(GoSliceType type) {
-		if (!sliceTypes.contains(type))
-			sliceTypes.add(type);
-		return sliceTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoSliceType} representing a slice type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the slice type to lookup
+	 * 
+	 * @return the unique instance of {@link GoSliceType} representing the slice
+	 *             type given as argument
+	 */
+	public static GoSliceType lookup(TypeRegistry registry, GoSliceType type) {
+		return TypeRegistry.intern(registry, r -> r.sliceTypes, type, r -> new GoSliceType(type.contentType, r));
 	}
 
 	/**
@@ -46,7 +63,12 @@ public class GoSliceType implements GoType, InMemoryType {
 	 * @param contentType the content type
 	 */
 	public GoSliceType(Type contentType) {
+		this(contentType, null);
+	}
+
+	private GoSliceType(Type contentType, TypeRegistry registry) {
 		this.contentType = contentType;
+		this.registry = registry;
 	}
 
 	/**
@@ -107,29 +129,19 @@ public class GoSliceType implements GoType, InMemoryType {
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoSliceType in : sliceTypes)
-			instances.add(in);
-		return instances;
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.sliceTypes);
 	}
 
 	/**
-	 * Yields all the slice types.
+	 * Yields all the slice types of {@code registry}, including the ones of
+	 * the Go runtime library.
 	 * 
-	 * @return all the slice types
-	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoSliceType in : sliceTypes)
-			instances.add(in);
-		return instances;
-	}
-
-	/**
-	 * Clears all the slice types.
+	 * @param registry the registry
+	 * 
+	 * @return all the slice types of {@code registry}
 	 */
-	public static void clearAll() {
-		sliceTypes.clear();
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.sliceTypes);
 	}
 
 	/**
@@ -14,9 +14,6 @@ import it.unive.lisa.type.Type;
 import it.unive.lisa.type.UnitType;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 
 /**
  * A Go struct type.
@@ -25,12 +22,11 @@ import java.util.Map;
  */
 public class GoStructType implements GoType, UnitType, InMemoryType {
 
-	private static final Map<String, GoStructType> structTypes = new HashMap<>();
-
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
 	 * {@link GoStructType} representing a struct type with the given
-	 * {@code name}, representing the given {@code unit}.
+	 * {@code name}, representing the given {@code unit}, interned in the
+	 * registry of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param name the name of the struct type
 	 * @param unit the unit underlying this type
@@ -39,22 +35,43 @@ public class GoStructType implements GoType, UnitType, InMemoryType {
 	 *             struct type with the given name
 	 */
 	public static GoStructType lookup(String name, CompilationUnit unit) {
-		return structTypes.computeIfAbsent(name, x -> new GoStructType(name, unit));
+		return lookup(TypeRegistry.RUNTIME, name, unit);
 	}
 
 	/**
-	 * Updates the reference to a struct type.
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoStructType} representing a struct type with the given
+	 * {@code name}, representing the given {@code unit}, interned in
+	 * {@code registry} unless the struct type is already known to it.
 	 * 
-	 * @param name name of the struct type to be updated
-	 * @param unit the compilation unit to update
+	 * @param registry the registry where the type is interned
+	 * @param name     the name of the struct type
+	 * @param unit     the unit underlying this type
+	 * 
+	 * @return the unique instance of {@link GoStructType} representing the
+	 *             struct type with the given name
 	 */
-	public static void updateReference(String name, CompilationUnit unit) {
-		if (structTypes.containsKey(name))
-			structTypes.put(name, new GoStructType(name, unit));
+	public static GoStructType lookup(TypeRegistry registry, String name, CompilationUnit unit) {
+		GoStructType type = get(registry, name);
+		if (type != null)
+			return type;
+		return registry.structTypes.computeIfAbsent(name, x -> new GoStructType(name, unit, registry));
+	}
+
+	/**
+	 * Updates the reference to a struct type interned in {@code registry}.
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param name     name of the struct type to be updated
+	 * @param unit     the compilation unit to update
+	 */
+	public static void updateReference(TypeRegistry registry, String name, CompilationUnit unit) {
+		registry.structTypes.computeIfPresent(name, (x, old) -> new GoStructType(name, unit, registry));
 	}
 
 	private final String name;
 	private final CompilationUnit unit;
+	private final TypeRegistry registry;
 
 	/**
 	 * Builds the struct type.
@@ -63,30 +80,38 @@ public class GoStructType implements GoType, UnitType, InMemoryType {
 	 * @param unit the compilation unit of the struct type.
 	 */
 	public GoStructType(String name, CompilationUnit unit) {
+		this(name, unit, null);
+	}
+
+	private GoStructType(String name, CompilationUnit unit, TypeRegistry registry) {
 		this.name = name;
 		this.unit = unit;
+		this.registry = registry;
 	}
 
 	/**
-	 * Checks whether a struct type named {@code name} has been already built.
+	 * Checks whether a struct type named {@code name} has been already built
+	 * in {@code registry}.
 	 * 
-	 * @param name the name of the struct type
+	 * @param registry the registry
+	 * @param name     the name of the struct type
 	 * 
 	 * @return whether a struct type named {@code name} has been already built.
 	 */
-	public static boolean hasStructType(String name) {
-		return structTypes.containsKey(name);
+	public static boolean hasStructType(TypeRegistry registry, String name) {
+		return get(registry, name) != null;
 	}
 
 	/**
-	 * Yields a Go struct type from given name.
+	 * Yields a Go struct type from given name, built in {@code registry}.
 	 * 
+	 * @param registry   the registry
 	 * @param structType the name
 	 * 
 	 * @return a Go struct type from given name
 	 */
-	public static GoStructType get(String structType) {
-		return structTypes.get(structType);
+	public static GoStructType get(TypeRegistry registry, String structType) {
+		return TypeRegistry.find(registry, r -> r.structTypes, structType);
 	}
 
 	@Override
@@ -201,29 +226,19 @@ public class GoStructType implements GoType, UnitType, InMemoryType {
 	}
 
 	/**
-	 * Yields all the struct types.
+	 * Yields all the struct types of {@code registry}, including the ones of
+	 * the Go runtime library.
+	 * 
+	 * @param registry the registry
 	 * 
-	 * @return all the struct types
+	 * @return all the struct types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoStructType in : structTypes.values())
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.structTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoStructType in : structTypes.values())
-			instances.add(in);
-		return instances;
-	}
-
-	/**
-	 * Clears all the struct types.
-	 */
-	public static void clearAll() {
-		structTypes.clear();
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.structTypes);
 	}
 }
@@ -12,8 +12,7 @@ import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
 /**
  * A tuple of types (e.g., (int, Vertex, float32)).
@@ -23,11 +22,16 @@ import java.util.Set;
 @SuppressWarnings("serial")
 public class GoTupleType extends ArrayList<Parameter> implements GoType, InMemoryType {
 
-	private static final Set<GoTupleType> tupleTypes = new HashSet<>();
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
 
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoTupleType} representing a tuple type.
+	 * {@link GoTupleType} representing a tuple type, interned in the registry
+	 * of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the tuple type to lookup
 	 * 
@@ -35,20 +39,35 @@ public class GoTupleType extends ArrayList<Parameter> implements GoType, InMemor
 	 *             type given as argument
 	 */
 	public static GoTupleType lookup(GoTupleType type) {
-		if (!tupleTypes.contains(type))
-			tupleTypes.add(type);
-		return tupleTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoTupleType} representing a tuple type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the tuple type to lookup
+	 * 
+	 * @return the unique instance of {@link GoTupleType} representing the tuple
+	 *             type given as argument
+	 */
+	public static GoTupleType lookup(TypeRegistry registry, GoTupleType type) {
+		return TypeRegistry.intern(registry, r -> r.tupleTypes, type, r -> new GoTupleType(type, r));
 	}
 
 	/**
-	 * Checks whether a tuple type {@code raw} has been already built.
+	 * Checks whether a tuple type {@code raw} has been already built in the
+	 * registry of the Go runtime library.
 	 * 
 	 * @param raw the tuple type
 	 * 
 	 * @return whether a tuple type {@code name} has been already built.
 	 */
 	public static boolean hasTupleType(GoTupleType raw) {
-		return tupleTypes.contains(raw);
+		return TypeRegistry.RUNTIME.tupleTypes.containsKey(raw);
 	}
 
 	/**
@@ -60,6 +79,12 @@ public class GoTupleType extends ArrayList<Parameter> implements GoType, InMemor
 		super();
 		for (int i = 0; i < pars.length; i++)
 			this.add(pars[i]);
+		this.registry = null;
+	}
+
+	private GoTupleType(List<Parameter> pars, TypeRegistry registry) {
+		super(pars);
+		this.registry = registry;
 	}
 
 	/**
@@ -111,23 +136,20 @@ public class GoTupleType extends ArrayList<Parameter> implements GoType, InMemor
 	}
 
 	/**
-	 * Yields all the tuple types.
+	 * Yields all the tuple types of {@code registry}, including the ones of
+	 * the Go runtime library.
+	 * 
+	 * @param registry the registry
 	 * 
-	 * @return all the tuple types
+	 * @return all the tuple types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoTupleType in : tupleTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.tupleTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoTupleType in : tupleTypes)
-			instances.add(in);
-		return instances;
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.tupleTypes);
 	}
 
 	@Override
@@ -163,11 +185,4 @@ public class GoTupleType extends ArrayList<Parameter> implements GoType, InMemor
 	public boolean isNamedValues() {
 		return !get(0).getName().equals("_");
 	}
-
-	/**
-	 * Clears all the tuple types.
-	 */
-	public static void clearAll() {
-		tupleTypes.clear();
-	}
 }
@@ -7,9 +7,7 @@ import it.unive.lisa.program.cfg.statement.Expression;
 import it.unive.lisa.type.Type;
 import it.unive.lisa.type.Untyped;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * A Go variadic type.
@@ -18,13 +16,18 @@ import java.util.Set;
  */
 public class GoVariadicType implements GoType {
 
-	private static final Set<GoVariadicType> variadicTypes = new HashSet<>();
-
 	private final Type contentType;
 
+	/**
+	 * The registry this type has been interned in, or {@code null} if it has
+	 * not been interned.
+	 */
+	private final TypeRegistry registry;
+
 	/**
 	 * Yields a unique instance (either an existing one or a fresh one) of
-	 * {@link GoVariadicType} representing a variadic type.
+	 * {@link GoVariadicType} representing a variadic type, interned in the
+	 * registry of the Go runtime library ({@link TypeRegistry#RUNTIME}).
 	 * 
 	 * @param type the variadic type to lookup
 	 * 
@@ -32,9 +35,23 @@ public class GoVariadicType implements GoType {
 	 *             function type given as argument
 	 */
 	public static GoVariadicType lookup(GoVariadicType type) {
-		if (!variadicTypes.contains(type))
-			variadicTypes.add(type);
-		return variadicTypes.stream().filter(x -> x.equals(type)).findFirst().get();
+		return lookup(TypeRegistry.RUNTIME, type);
+	}
+
+	/**
+	 * Yields a unique instance (either an existing one or a fresh one) of
+	 * {@link GoVariadicType} representing a variadic type, interned in
+	 * {@code registry} unless an equal type is already known to it
+	 * (e.g., in the registry of the Go runtime library).
+	 * 
+	 * @param registry the registry where the type is interned
+	 * @param type     the variadic type to lookup
+	 * 
+	 * @return the unique instance of {@link GoVariadicType} representing the
+	 *             function type given as argument
+	 */
+	public static GoVariadicType lookup(TypeRegistry registry, GoVariadicType type) {
+		return TypeRegistry.intern(registry, r -> r.variadicTypes, type, r -> new GoVariadicType(type.contentType, r));
 	}
 
 	/**
@@ -43,7 +60,12 @@ public class GoVariadicType implements GoType {
 	 * @param contentType the content type
 	 */
 	public GoVariadicType(Type contentType) {
+		this(contentType, null);
+	}
+
+	private GoVariadicType(Type contentType, TypeRegistry registry) {
 		this.contentType = contentType;
+		this.registry = registry;
 	}
 
 	@Override
@@ -98,29 +120,19 @@ public class GoVariadicType implements GoType {
 	}
 
 	/**
-	 * Yields all the variadic types.
+	 * Yields all the variadic types of {@code registry}, including the ones of
+	 * the Go runtime library.
 	 * 
-	 * @return all the variadic types
+	 * @param registry the registry
+	 * 
+	 * @return all the variadic types of {@code registry}
 	 */
-	public static Collection<Type> all() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoVariadicType in : variadicTypes)
-			instances.add(in);
-		return instances;
+	public static Collection<Type> all(TypeRegistry registry) {
+		return TypeRegistry.snapshot(registry, r -> r.variadicTypes);
 	}
 
 	@Override
 	public Collection<Type> allInstances() {
-		Collection<Type> instances = new HashSet<>();
-		for (GoVariadicType in : variadicTypes)
-			instances.add(in);
-		return instances;
-	}
-
-	/**
-	 * Clears all the variadic types.
-	 */
-	public static void clearAll() {
-		variadicTypes.clear();
+		return TypeRegistry.snapshot(TypeRegistry.orRuntime(registry), r -> r.variadicTypes);
 	}
 }
@@ -0,0 +1,187 @@
+package it.unive.golisa.cfg.type.composite;
+
+import it.unive.lisa.type.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * The registry of the Go composite types built while processing a program.
+ * Each program owns its registry (see
+ * {@link it.unive.golisa.frontend.GoProgram}), that is passed explicitly to
+ * the lookups performed while building and analyzing it, so that independent
+ * programs can be processed concurrently in the same JVM. The types used by
+ * the signatures of the Go runtime library, that are shared by all programs,
+ * are interned in {@link #RUNTIME}, that is the parent of every program
+ * registry: named types and collections of types are looked up in a registry
+ * and then in its parent, and they are interned in a registry only if its
+ * ancestors do not know them already. The instances of the Go runtime library
+ * are shared by all programs, hence they only know the types of
+ * {@link #RUNTIME} (e.g., through {@link Type#allInstances()}). Types are interned through concurrent maps, so that
+ * a registry can be shared by several threads and lookups cost O(1).
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class TypeRegistry {
+
+	/**
+	 * The registry of the types of the Go runtime library, shared by all
+	 * programs. The lookups that do not receive a registry refer to this one.
+	 */
+	public static final TypeRegistry RUNTIME = new TypeRegistry(null);
+
+	private final TypeRegistry parent;
+
+	/**
+	 * Struct types, indexed by name.
+	 */
+	final ConcurrentMap<String, GoStructType> structTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interface types, indexed by name.
+	 */
+	final ConcurrentMap<String, GoInterfaceType> interfaces = new ConcurrentHashMap<>();
+
+	/**
+	 * Alias types, indexed by name.
+	 */
+	final ConcurrentMap<String, GoAliasType> aliases = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned array types.
+	 */
+	final ConcurrentMap<GoArrayType, GoArrayType> arrayTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned slice types.
+	 */
+	final ConcurrentMap<GoSliceType, GoSliceType> sliceTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned tuple types.
+	 */
+	final ConcurrentMap<GoTupleType, GoTupleType> tupleTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned pointer types.
+	 */
+	final ConcurrentMap<GoPointerType, GoPointerType> pointerTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned map types.
+	 */
+	final ConcurrentMap<GoMapType, GoMapType> mapTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned channel types.
+	 */
+	final ConcurrentMap<GoChannelType, GoChannelType> channelTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned function types.
+	 */
+	final ConcurrentMap<GoFunctionType, GoFunctionType> functionTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Interned variadic types.
+	 */
+	final ConcurrentMap<GoVariadicType, GoVariadicType> variadicTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds an empty registry for a program, whose parent is
+	 * {@link #RUNTIME}.
+	 */
+	public TypeRegistry() {
+		this(RUNTIME);
+	}
+
+	private TypeRegistry(TypeRegistry parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Yields {@code registry}, or {@link #RUNTIME} if it is {@code null}.
+	 *
+	 * @param registry the registry
+	 *
+	 * @return the registry to use
+	 */
+	static TypeRegistry orRuntime(TypeRegistry registry) {
+		return registry == null ? RUNTIME : registry;
+	}
+
+	/**
+	 * Yields the unique instance equal to {@code type} visible from
+	 * {@code registry}, that is, the one interned in the table of
+	 * {@code registry} selected by {@code table} or in the ones of its
+	 * ancestors. If no such instance exists, the instance built by
+	 * {@code bind} for {@code registry} is interned in {@code registry}. An
+	 * equal instance is thus never interned both in a registry and in one of
+	 * its ancestors (e.g., in {@link #RUNTIME}), and the registry of an
+	 * interned instance is the one it has been built for, regardless of the
+	 * lookups it is later passed to.
+	 *
+	 * @param <T>      the kind of types
+	 * @param registry the registry
+	 * @param table    the function selecting the table of a registry
+	 * @param type     the type to lookup
+	 * @param bind     the function building an instance equal to
+	 *                     {@code type} for a registry
+	 *
+	 * @return the unique instance equal to {@code type}
+	 */
+	static <T extends Type> T intern(TypeRegistry registry, Function<TypeRegistry, ConcurrentMap<T, T>> table,
+			T type, Function<TypeRegistry, T> bind) {
+		for (TypeRegistry r = registry; r != null; r = r.parent) {
+			T interned = table.apply(r).get(type);
+			if (interned != null)
+				return interned;
+		}
+
+		T fresh = bind.apply(registry);
+		T previous = table.apply(registry).putIfAbsent(fresh, fresh);
+		return previous == null ? fresh : previous;
+	}
+
+	/**
+	 * Yields the type named {@code name} in the table of {@code registry}
+	 * selected by {@code table}, or in the ones of its ancestors.
+	 *
+	 * @param <T>      the kind of types
+	 * @param registry the registry
+	 * @param table    the function selecting the table of a registry
+	 * @param name     the name of the type
+	 *
+	 * @return the type named {@code name}, or {@code null} if no such type
+	 *             exists
+	 */
+	static <T extends Type> T find(TypeRegistry registry, Function<TypeRegistry, ConcurrentMap<String, T>> table,
+			String name) {
+		for (TypeRegistry r = registry; r != null; r = r.parent) {
+			T type = table.apply(r).get(name);
+			if (type != null)
+				return type;
+		}
+		return null;
+	}
+
+	/**
+	 * Yields a snapshot of the types contained in the table of
+	 * {@code registry} selected by {@code table} and in the ones of its
+	 * ancestors.
+	 *
+	 * @param registry the registry
+	 * @param table    the function selecting the table of a registry
+	 *
+	 * @return a snapshot of the types
+	 */
+	static Collection<Type> snapshot(TypeRegistry registry,
+			Function<TypeRegistry, ConcurrentMap<?, ? extends Type>> table) {
+		Collection<Type> result = new HashSet<>();
+		for (TypeRegistry r = registry; r != null; r = r.parent)
+			result.addAll(table.apply(r).values());
+		return result;
+	}
+}
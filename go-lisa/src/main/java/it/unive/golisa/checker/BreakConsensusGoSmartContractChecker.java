@@ -4,7 +4,6 @@ import it.unive.golisa.cfg.expression.binary.GoChannelSend;
 import it.unive.golisa.cfg.expression.unary.GoChannelReceive;
 import it.unive.golisa.cfg.statement.GoRoutine;
 import it.unive.golisa.golang.api.signature.FuncGoLangApiSignature;
-import it.unive.golisa.golang.api.signature.GoLangApiSignature;
 import it.unive.golisa.golang.api.signature.MethodGoLangApiSignature;
 import it.unive.golisa.golang.util.GoLangUtils;
 import it.unive.lisa.checks.syntactic.CheckTool;
@@ -19,6 +18,9 @@ import it.unive.lisa.program.cfg.statement.Statement;
 import it.unive.lisa.program.cfg.statement.VariableRef;
 import it.unive.lisa.program.cfg.statement.call.UnresolvedCall;
 import it.unive.lisa.program.cfg.statement.global.AccessInstanceGlobal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,14 +32,109 @@ import java.util.Set;
  */
 public class BreakConsensusGoSmartContractChecker implements SyntacticCheck {
 
+	/**
+	 * The categories of Go APIs whose use may break the consensus.
+	 */
+	private enum ApiCategory {
+		/*
+		 * Random number generation. Go has built-in support for random number
+		 * generation in the standard library.
+		 */
+		RANDOM("Random method detected!", "rand"),
+		/*
+		 * System timestamp. In Go, timestamp-based libraries leads to
+		 * inconsistent computation between peers, leading to a lack of
+		 * consensus. For example, the time library in Go allows peers to get
+		 * the current timestamp at a given time. It is unlikely that all peers
+		 * execute a transaction at the same time and receives a similar
+		 * timestamp.
+		 */
+		SYSTEM_TIME("System time detected!"),
+		FILE_SYSTEM("Use of file system API detected!", "io", "embed", "archive", "compress"),
+		DATABASE("Use of database API detected!", "database"),
+		NETWORK("Use of network API detected!", "net"),
+		OS("Use of OS API detected!", "os", "internal", "syscall");
+
+		private final String message;
+
+		private final String[] packages;
+
+		private ApiCategory(String message, String... packages) {
+			this.message = message;
+			this.packages = packages;
+		}
+
+		private boolean includes(String pkg) {
+			for (String p : packages)
+				if (pkg.equals(p) || pkg.startsWith(p + "/") || pkg.endsWith("/" + p))
+					return true;
+			return false;
+		}
+	}
+
+	/*
+	 * The system time functions are matched only when called on the time
+	 * package, and not on all of its signatures.
+	 */
+	private static final List<String> SYSTEM_TIME_SIGNATURES = List.of("Now", "Since", "Until");
+
+	private static final Set<ApiCategory> EXTERNAL_ENVIRONMENT = EnumSet.of(ApiCategory.FILE_SYSTEM,
+			ApiCategory.DATABASE, ApiCategory.NETWORK, ApiCategory.OS);
+
+	/**
+	 * The categories of the Go APIs, keyed by the name of the receiver of the
+	 * call (that is, a segment of the path of the package) and then by the
+	 * name of the function or method.
+	 */
+	private Map<String, Map<String, Set<ApiCategory>>> apiIndex;
+
 	@Override
 	public void beforeExecution(CheckTool tool) {
+		apiIndex = buildApiIndex();
 	}
 
 	@Override
 	public void afterExecution(CheckTool tool) {
 	}
 
+	private static Map<String, Map<String, Set<ApiCategory>>> buildApiIndex() {
+		Map<String, Map<String, Set<ApiCategory>>> index = new HashMap<>();
+		Map<String, Set<FuncGoLangApiSignature>> mapf = GoLangUtils.getGoLangApiFunctionSignatures();
+		Map<String, Set<MethodGoLangApiSignature>> mapm = GoLangUtils.getGoLangApiMethodSignatures();
+
+		for (String k : GoLangUtils.getGoLangApiPackageSignatures()) {
+			// platform-specific packages are listed as, e.g., "syscall (linux-386)"
+			int platform = k.indexOf(" (");
+			String pkg = platform == -1 ? k : k.substring(0, platform);
+
+			Set<ApiCategory> categories = EnumSet.noneOf(ApiCategory.class);
+			for (ApiCategory category : ApiCategory.values())
+				if (category.includes(pkg))
+					categories.add(category);
+			if (categories.isEmpty())
+				continue;
+
+			for (FuncGoLangApiSignature f : mapf.get(k))
+				register(index, pkg, f.getName(), categories);
+			for (MethodGoLangApiSignature m : mapm.get(k))
+				register(index, pkg, m.getName(), categories);
+		}
+
+		for (String name : SYSTEM_TIME_SIGNATURES)
+			register(index, "time", name, EnumSet.of(ApiCategory.SYSTEM_TIME));
+
+		return index;
+	}
+
+	private static void register(Map<String, Map<String, Set<ApiCategory>>> index, String pkg, String name,
+			Set<ApiCategory> categories) {
+		// a call may refer to a package through any segment of its path
+		for (String segment : pkg.split("/"))
+			index.computeIfAbsent(segment, s -> new HashMap<>())
+					.computeIfAbsent(name, n -> EnumSet.noneOf(ApiCategory.class))
+					.addAll(categories);
+	}
+
 	@Override
 	public boolean visit(CheckTool tool, CFG graph, Statement node) {
 
@@ -48,12 +145,13 @@ public class BreakConsensusGoSmartContractChecker implements SyntacticCheck {
 
 	private void checkIssuesRelatedToGoLangAPI(CheckTool tool, CFG graph, Statement node) {
 
-		if (node instanceof UnresolvedCall) {
-			if (matchRandomStatement((UnresolvedCall) node))
-				tool.warnOn(node, "Random method detected!");
-			if (matchSystemTimestampStatement((UnresolvedCall) node))
-				tool.warnOn(node, "System time detected!");
-		}
+		Set<ApiCategory> categories = node instanceof UnresolvedCall ? matchApi((UnresolvedCall) node)
+				: Collections.emptySet();
+
+		if (categories.contains(ApiCategory.RANDOM))
+			tool.warnOn(node, ApiCategory.RANDOM.message);
+		if (categories.contains(ApiCategory.SYSTEM_TIME))
+			tool.warnOn(node, ApiCategory.SYSTEM_TIME.message);
 
 		if (matchConcurrencyStatement(node))
 			tool.warnOn(node, "Concurrecy behavior detected!");
@@ -62,23 +160,16 @@ public class BreakConsensusGoSmartContractChecker implements SyntacticCheck {
 			System.out.print("");// TODO:
 		}
 
-		checkIssuesRelatedToExternalEnviroments(tool, graph, node);
+		checkIssuesRelatedToExternalEnviroments(tool, graph, node, categories);
 
 	}
 
-	private void checkIssuesRelatedToExternalEnviroments(CheckTool tool, CFG graph, Statement node) {
-
-		if (node instanceof UnresolvedCall) {
+	private void checkIssuesRelatedToExternalEnviroments(CheckTool tool, CFG graph, Statement node,
+			Set<ApiCategory> categories) {
 
-			if (matchFileSystemApi((UnresolvedCall) node))
-				tool.warnOn(node, "Use of file system API detected!");
-			if (matchDataBaseApi((UnresolvedCall) node))
-				tool.warnOn(node, "Use of database API detected!");
-			if (matchNetworkApi((UnresolvedCall) node))
-				tool.warnOn(node, "Use of network API detected!");
-			if (matchOsApi((UnresolvedCall) node))
-				tool.warnOn(node, "Use of OS API detected!");
-		}
+		for (ApiCategory category : categories)
+			if (EXTERNAL_ENVIRONMENT.contains(category))
+				tool.warnOn(node, category.message);
 
 		if (node instanceof AccessInstanceGlobal) {
 			System.out.print("");// TODO:
@@ -86,67 +177,17 @@ public class BreakConsensusGoSmartContractChecker implements SyntacticCheck {
 
 	}
 
-	private boolean matchOsApi(UnresolvedCall call) {
+	private Set<ApiCategory> matchApi(UnresolvedCall call) {
+		if (call.getParameters().length > 1 && call.getParameters()[0] instanceof VariableRef) {
+			if (apiIndex == null)
+				apiIndex = buildApiIndex();
 
-		return matchAnyPackageSignatures("os", call, true)
-				|| matchAnyPackageSignatures("internal", call, true)
-				|| matchAnyPackageSignatures("syscall", call, true)
-				|| matchAnyPackageSignatures("internal", call, true);
-	}
-
-	private boolean matchNetworkApi(UnresolvedCall call) {
-
-		return matchAnyPackageSignatures("net", call, true);
-	}
-
-	private boolean matchDataBaseApi(UnresolvedCall call) {
-
-		return matchAnyPackageSignatures("database", call, true);
-	}
-
-	private boolean matchFileSystemApi(UnresolvedCall call) {
-
-		return matchAnyPackageSignatures("io", call, true)
-				|| matchAnyPackageSignatures("embed", call, true)
-				|| matchAnyPackageSignatures("archive", call, true)
-				|| matchAnyPackageSignatures("compress", call, true);
-	}
-
-	private boolean matchAnyPackageSignatures(String packageName, UnresolvedCall call, boolean checkSubPackages) {
-		Map<String, Set<FuncGoLangApiSignature>> mapf = GoLangUtils.getGoLangApiFunctionSignatures();
-		Map<String, Set<MethodGoLangApiSignature>> mapm = GoLangUtils.getGoLangApiMethodSignatures();
-
-		if (mapf.containsKey(packageName) && mapf.get(packageName).stream().anyMatch(s -> matchSignature(s, call))
-				|| mapm.containsKey(packageName)
-						&& mapm.get(packageName).stream().anyMatch(s -> matchSignature(s, call)))
-			return true;
-		if (checkSubPackages)
-			for (String k : GoLangUtils.getGoLangApiPackageSignatures())
-				if ((k.startsWith(packageName + "/") || k.endsWith("/" + packageName)) &&
-						(mapf.get(k).stream().anyMatch(s -> matchSignature(s, call))
-								|| mapm.get(k).stream().anyMatch(s -> matchSignature(s, call))))
-					return true;
-		return false;
-	}
-
-	private boolean matchSignature(GoLangApiSignature goLangApiSignature, UnresolvedCall call) {
-
-		String signatureName = null;
-		if (goLangApiSignature instanceof FuncGoLangApiSignature)
-			signatureName = ((FuncGoLangApiSignature) goLangApiSignature).getName();
-		else if (goLangApiSignature instanceof MethodGoLangApiSignature)
-			signatureName = ((MethodGoLangApiSignature) goLangApiSignature).getName();
-
-		if (signatureName != null && signatureName.equals(call.getTargetName())
-				&& call.getParameters().length > 1
-				&& call.getParameters()[0] instanceof VariableRef) {
-
-			VariableRef var = (VariableRef) call.getParameters()[0];
-			if (goLangApiSignature.getPackage().contains(var.getName()))
-				return true;
+			Map<String, Set<ApiCategory>> names = apiIndex.get(((VariableRef) call.getParameters()[0]).getName());
+			if (names != null)
+				return names.getOrDefault(call.getTargetName(), Collections.emptySet());
 		}
 
-		return false;
+		return Collections.emptySet();
 	}
 
 	/*
@@ -159,38 +200,6 @@ public class BreakConsensusGoSmartContractChecker implements SyntacticCheck {
 		return node instanceof GoRoutine || node instanceof GoChannelReceive || node instanceof GoChannelSend;
 	}
 
-	/*
-	 * System timestamp. In Go, timestamp-based libraries leads to inconsistent
-	 * computation between peers, leading to a lack of consensus. For example,
-	 * the time library in Go allows peers to get the current timestamp at a
-	 * given time. It is unlikely that all peers execute a transaction at the
-	 * same time and receives a similar timestamp.
-	 */
-	private boolean matchSystemTimestampStatement(UnresolvedCall call) {
-
-		List<String> SYSTEM_TIME_SIGNATURES = List.of("Now", "Since", "Until");
-
-		if (SYSTEM_TIME_SIGNATURES.contains(call.getTargetName())
-				&& call.getParameters().length > 1
-				&& call.getParameters()[0] instanceof VariableRef) {
-
-			VariableRef var = (VariableRef) call.getParameters()[0];
-			if (var.getName().equals("time"))
-				return true;
-		}
-
-		return false;
-	}
-
-	/*
-	 * Random number generation. Go has built-in support for random number
-	 * generation in the standard library.
-	 */
-	private boolean matchRandomStatement(UnresolvedCall call) {
-
-		return matchAnyPackageSignatures("rand", call, true);
-	}
-
 	@Override
 	public boolean visit(CheckTool tool, CFG g) {
 		return true;
@@ -0,0 +1,178 @@
+package it.unive.golisa.frontend;
+
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.statement.Statement;
+import it.unive.lisa.util.datastructures.graph.AdjacencyMatrix;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An append-only fragment of a {@link CFG} under construction, holding the
+ * statements and the edges of a block of code. Nodes and edges are appended
+ * in amortized constant time, and merging a block into another one only
+ * records a reference to it: differently from {@link AdjacencyMatrix}, nested
+ * blocks are not copied at each nesting level. The statements and the edges
+ * of the whole function are added to the adjacency matrix of its cfg only
+ * once, through {@link #addTo(AdjacencyMatrix)}.<br>
+ * <br>
+ * Since merging is by reference, nodes and edges added to a block after it
+ * has been merged into another one are part of the latter as well. The nodes
+ * and the edges of a block are cached once computed, and the caches of a
+ * block and of the ones it has been merged into are invalidated when nodes,
+ * edges or merged blocks are added to it.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class CFGBlock {
+
+	private final List<Statement> nodes = new ArrayList<>();
+
+	private final List<Edge> edges = new ArrayList<>();
+
+	private final List<CFGBlock> merged = new ArrayList<>();
+
+	private final List<CFGBlock> parents = new ArrayList<>(1);
+
+	private Collection<Statement> nodeView;
+
+	private Collection<Edge> edgeView;
+
+	/**
+	 * Whether the nodes or the edges of this block, or of a block this one has
+	 * been merged into, might be cached.
+	 */
+	private boolean observed;
+
+	/**
+	 * Adds a node to this block.
+	 *
+	 * @param node the node to add
+	 */
+	public void addNode(Statement node) {
+		nodes.add(node);
+		invalidate();
+	}
+
+	/**
+	 * Adds an edge to this block.
+	 *
+	 * @param edge the edge to add
+	 */
+	public void addEdge(Edge edge) {
+		edges.add(edge);
+		invalidate();
+	}
+
+	/**
+	 * Merges {@code other} into this block, that will contain all the nodes
+	 * and the edges of {@code other}.
+	 *
+	 * @param other the block to merge
+	 */
+	public void mergeWith(CFGBlock other) {
+		if (other != this) {
+			merged.add(other);
+			other.parents.add(this);
+			invalidate();
+		}
+	}
+
+	/**
+	 * Yields the nodes of this block, including the ones of the merged blocks.
+	 * The returned collection is cached until this block changes.
+	 *
+	 * @return the nodes of this block
+	 */
+	public Collection<Statement> getNodes() {
+		if (nodeView == null) {
+			Set<Statement> result = new LinkedHashSet<>();
+			for (CFGBlock block : observe())
+				result.addAll(block.nodes);
+			nodeView = Collections.unmodifiableSet(result);
+		}
+		return nodeView;
+	}
+
+	/**
+	 * Yields the edges of this block, including the ones of the merged blocks.
+	 * The returned collection is cached until this block changes.
+	 *
+	 * @return the edges of this block
+	 */
+	public Collection<Edge> getEdges() {
+		if (edgeView == null) {
+			Set<Edge> result = new LinkedHashSet<>();
+			for (CFGBlock block : observe())
+				result.addAll(block.edges);
+			edgeView = Collections.unmodifiableSet(result);
+		}
+		return edgeView;
+	}
+
+	/**
+	 * Adds all the nodes, and then all the edges, of this block to the given
+	 * adjacency matrix.
+	 *
+	 * @param matrix the matrix to populate
+	 */
+	public void addTo(AdjacencyMatrix<Statement, Edge, CFG> matrix) {
+		for (Statement node : getNodes())
+			matrix.addNode(node);
+		for (Edge edge : getEdges())
+			matrix.addEdge(edge);
+	}
+
+	/**
+	 * Yields the blocks of {@link #blocks()}, marking them as observed: their
+	 * changes must be propagated to the blocks they have been merged into.
+	 */
+	private List<CFGBlock> observe() {
+		List<CFGBlock> blocks = blocks();
+		for (CFGBlock block : blocks)
+			block.observed = true;
+		return blocks;
+	}
+
+	/**
+	 * Drops the cached nodes and edges of this block and of the blocks it has
+	 * been merged into. A block that is not observed has no ancestor with a
+	 * cache, hence the propagation stops there.
+	 */
+	private void invalidate() {
+		if (!observed)
+			return;
+		observed = false;
+		nodeView = null;
+		edgeView = null;
+		for (CFGBlock parent : parents)
+			parent.invalidate();
+	}
+
+	/**
+	 * Yields this block and all the blocks transitively merged into it, each
+	 * one exactly once, in pre-order.
+	 */
+	private List<CFGBlock> blocks() {
+		List<CFGBlock> result = new ArrayList<>();
+		Set<CFGBlock> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<CFGBlock> stack = new ArrayDeque<>();
+		stack.push(this);
+		while (!stack.isEmpty()) {
+			CFGBlock block = stack.pop();
+			if (!seen.add(block))
+				continue;
+			result.add(block);
+			for (int i = block.merged.size() - 1; i >= 0; i--)
+				stack.push(block.merged.get(i));
+		}
+		return result;
+	}
+}
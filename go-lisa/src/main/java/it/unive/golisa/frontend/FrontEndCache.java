@@ -0,0 +1,389 @@
+package it.unive.golisa.frontend;
+
+import it.unive.golisa.GoLiSA;
+import it.unive.golisa.antlr.GoLexer;
+import it.unive.golisa.antlr.GoParser;
+import it.unive.golisa.antlr.GoParser.ExpressionContext;
+import it.unive.golisa.antlr.GoParser.ForClauseContext;
+import it.unive.golisa.antlr.GoParser.SimpleStmtContext;
+import it.unive.golisa.antlr.GoParser.SourceFileContext;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An on-disk cache of the lexing and parsing outcome of Go source files. Each
+ * entry is keyed by a SHA-256 hash of the file contents, of the GoLiSA version
+ * and of the grammar (the serialized ATNs of {@link GoLexer} and
+ * {@link GoParser}), and stores the tokens of the file together with its parse
+ * tree, encoded in preorder as the indexes of the rules and of the tokens.
+ * Unchanged files thus skip both lexing and parsing: their parse trees are
+ * rebuilt from the entries. LiSA programs and CFGs are not serializable, hence
+ * code members are still visited at each run.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class FrontEndCache {
+
+	private static final Logger log = LogManager.getLogger(FrontEndCache.class);
+
+	private static final int MAGIC = 0x474c4332;
+
+	/**
+	 * The digest of the grammar the lexer and the parser have been generated
+	 * from, so that entries are never reused across grammar changes, even
+	 * when the GoLiSA version is not available (e.g., in development builds).
+	 */
+	private static final byte[] GRAMMAR = grammarDigest();
+
+	/**
+	 * The constructors of the contexts of the rules of {@link GoParser},
+	 * indexed by rule index.
+	 */
+	private static final Constructor<? extends ParserRuleContext>[] CONTEXTS = contexts();
+
+	private final Path directory;
+
+	private final String version;
+
+	private final AtomicInteger hits = new AtomicInteger();
+
+	private final AtomicInteger misses = new AtomicInteger();
+
+	private final LongAdder hitNanos = new LongAdder();
+
+	private final LongAdder missNanos = new LongAdder();
+
+	/**
+	 * Builds a cache storing its entries in {@code directory}.
+	 *
+	 * @param directory the directory of the cache, created if missing
+	 *
+	 * @throws IOException if the directory cannot be created
+	 */
+	public FrontEndCache(String directory) throws IOException {
+		this.directory = Files.createDirectories(Paths.get(directory));
+		String implementation = GoLiSA.class.getPackage().getImplementationVersion();
+		this.version = implementation == null ? "dev" : implementation;
+	}
+
+	/**
+	 * Yields the number of cache hits so far.
+	 *
+	 * @return the number of cache hits
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Yields the number of cache misses so far.
+	 *
+	 * @return the number of cache misses
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Yields the time spent parsing the files found in the cache so far,
+	 * including the time to read their entries.
+	 *
+	 * @return the time, in milliseconds
+	 */
+	public long getHitTime() {
+		return hitNanos.sum() / 1_000_000;
+	}
+
+	/**
+	 * Yields the time spent lexing and parsing the files not found in the
+	 * cache so far, including the time to store their entries.
+	 *
+	 * @return the time, in milliseconds
+	 */
+	public long getMissTime() {
+		return missNanos.sum() / 1_000_000;
+	}
+
+	/**
+	 * Records the time spent processing a file, either found in the cache or
+	 * not.
+	 *
+	 * @param hit   whether the file has been found in the cache
+	 * @param nanos the time, in nanoseconds
+	 */
+	void record(boolean hit, long nanos) {
+		(hit ? hitNanos : missNanos).add(nanos);
+	}
+
+	/**
+	 * Yields the key of the entry of a file with the given contents.
+	 *
+	 * @param content the contents of the file
+	 *
+	 * @return the key of the entry
+	 */
+	String keyOf(ByteBuffer content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(version.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(GRAMMAR);
+			digest.update(content.duplicate());
+			byte[] hash = digest.digest();
+			StringBuilder key = new StringBuilder(hash.length * 2);
+			for (byte b : hash)
+				key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			return key.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is available on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Yields the parse tree cached for the file {@code filePath}, whose
+	 * contents have the given key, or {@code null} if no valid entry exists.
+	 *
+	 * @param filePath the path of the file
+	 * @param key      the key of the file contents
+	 *
+	 * @return the parse tree of the file, or {@code null}
+	 */
+	SourceFileContext lookup(String filePath, String key) {
+		Path file = directory.resolve(key);
+		if (!Files.exists(file)) {
+			misses.incrementAndGet();
+			log.info("CACHE MISS: " + filePath);
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC)
+				throw new IOException("Not a cache entry");
+
+			int size = in.readInt();
+			List<Token> tokens = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				CommonToken token = new CommonToken(in.readInt(), readString(in));
+				token.setChannel(in.readInt());
+				token.setLine(in.readInt());
+				token.setCharPositionInLine(in.readInt());
+				token.setStartIndex(in.readInt());
+				token.setStopIndex(in.readInt());
+				// as the token stream the parser read them from would do
+				token.setTokenIndex(i);
+				tokens.add(token);
+			}
+
+			int[] codes = new int[in.readInt()];
+			for (int i = 0; i < codes.length; i++)
+				codes[i] = in.readInt();
+			ParseTree tree = new TreeReader(codes, tokens).read(null);
+			if (!(tree instanceof SourceFileContext))
+				throw new IOException("Not the parse tree of a source file");
+
+			hits.incrementAndGet();
+			log.info("CACHE HIT: " + filePath);
+			return (SourceFileContext) tree;
+		} catch (IOException | ReflectiveOperationException | RuntimeException e) {
+			misses.incrementAndGet();
+			log.warn("Ignoring corrupted cache entry for " + filePath, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the entry of a file.
+	 *
+	 * @param filePath the path of the file
+	 * @param key      the key of the file contents
+	 * @param tokens   the tokens of the file, including the end of file, in
+	 *                     the order of their indexes
+	 * @param tree     the parse tree of the file
+	 */
+	void store(String filePath, String key, List<Token> tokens, SourceFileContext tree) {
+		Path file = directory.resolve(key);
+		try {
+			// entries are written to a temporary file and then moved, so that
+			// concurrent runs never read a partial entry
+			Path tmp = Files.createTempFile(directory, key, ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(tokens.size());
+				for (Token token : tokens) {
+					out.writeInt(token.getType());
+					writeString(out, token.getText());
+					out.writeInt(token.getChannel());
+					out.writeInt(token.getLine());
+					out.writeInt(token.getCharPositionInLine());
+					out.writeInt(token.getStartIndex());
+					out.writeInt(token.getStopIndex());
+				}
+
+				List<Integer> codes = new ArrayList<>();
+				encode(tree, codes);
+				out.writeInt(codes.size());
+				for (int code : codes)
+					out.writeInt(code);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Unable to cache " + filePath, e);
+		}
+	}
+
+	/**
+	 * Encodes {@code node} in preorder: a terminal node is encoded as
+	 * {@code -1 - i}, where {@code i} is the index of its token, while a rule
+	 * node is encoded as its rule index, its invoking state, the indexes of
+	 * its start and stop tokens ({@code -1} if missing) and the number of its
+	 * children, followed by the encodings of its children.
+	 */
+	private static void encode(ParseTree node, List<Integer> codes) {
+		if (node instanceof TerminalNode) {
+			codes.add(-1 - ((TerminalNode) node).getSymbol().getTokenIndex());
+			return;
+		}
+
+		ParserRuleContext ctx = (ParserRuleContext) node;
+		codes.add(ctx.getRuleIndex());
+		codes.add(ctx.invokingState);
+		codes.add(ctx.start == null ? -1 : ctx.start.getTokenIndex());
+		codes.add(ctx.stop == null ? -1 : ctx.stop.getTokenIndex());
+		codes.add(ctx.getChildCount());
+		for (int i = 0; i < ctx.getChildCount(); i++)
+			encode(ctx.getChild(i), codes);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Constructor<? extends ParserRuleContext>[] contexts() {
+		// the context of rule r is GoParser.RContext (e.g., type_ yields
+		// Type_Context), and the grammar has no labeled alternatives
+		String[] rules = GoParser.ruleNames;
+		Constructor<? extends ParserRuleContext>[] contexts = new Constructor[rules.length];
+		try {
+			for (int i = 0; i < rules.length; i++)
+				contexts[i] = Class.forName(GoParser.class.getName() + "$"
+						+ Character.toUpperCase(rules[i].charAt(0)) + rules[i].substring(1) + "Context")
+						.asSubclass(ParserRuleContext.class)
+						.getConstructor(ParserRuleContext.class, int.class);
+		} catch (ReflectiveOperationException e) {
+			// the contexts are generated together with the parser
+			throw new IllegalStateException(e);
+		}
+		return contexts;
+	}
+
+	private static byte[] grammarDigest() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(GoLexer._serializedATN.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(GoParser._serializedATN.getBytes(StandardCharsets.UTF_8));
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is available on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String text) throws IOException {
+		// token texts (e.g., comments) may exceed the limit of writeUTF
+		byte[] bytes = text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * A reader of parse trees encoded by {@link FrontEndCache#encode}.
+	 */
+	private static class TreeReader {
+
+		private final int[] codes;
+
+		private final List<Token> tokens;
+
+		private int next;
+
+		private TreeReader(int[] codes, List<Token> tokens) {
+			this.codes = codes;
+			this.tokens = tokens;
+		}
+
+		/**
+		 * Reads the next node, whose parent is {@code parent}.
+		 */
+		private ParseTree read(ParserRuleContext parent) throws ReflectiveOperationException {
+			int code = codes[next++];
+			if (code < 0)
+				return new TerminalNodeImpl(tokens.get(-1 - code));
+
+			ParserRuleContext ctx = CONTEXTS[code].newInstance(parent, codes[next++]);
+			ctx.start = token(codes[next++]);
+			ctx.stop = token(codes[next++]);
+			int children = codes[next++];
+			for (int i = 0; i < children; i++) {
+				ParseTree child = read(ctx);
+				if (child instanceof TerminalNode)
+					ctx.addChild((TerminalNode) child);
+				else
+					ctx.addChild((ParserRuleContext) child);
+			}
+
+			if (ctx instanceof ForClauseContext)
+				label((ForClauseContext) ctx);
+			return ctx;
+		}
+
+		private Token token(int index) {
+			return index < 0 ? null : tokens.get(index);
+		}
+
+		/**
+		 * Restores the labeled elements of {@code ctx}, that is,
+		 * {@code init? ';' guard? ';' inc?}.
+		 */
+		private static void label(ForClauseContext ctx) {
+			int segment = 0;
+			for (ParseTree child : ctx.children)
+				if (child instanceof TerminalNode)
+					segment++;
+				else if (segment == 0)
+					ctx.init = (SimpleStmtContext) child;
+				else if (segment == 1)
+					ctx.guard = (ExpressionContext) child;
+				else
+					ctx.inc = (SimpleStmtContext) child;
+		}
+	}
+}
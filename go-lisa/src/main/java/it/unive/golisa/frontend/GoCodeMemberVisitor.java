@@ -145,6 +145,7 @@ import it.unive.golisa.cfg.statement.block.BlockInfo.DeclarationType;
 import it.unive.golisa.cfg.statement.block.CloseBlock;
 import it.unive.golisa.cfg.statement.block.IdInfo;
 import it.unive.golisa.cfg.statement.block.OpenBlock;
+import it.unive.golisa.cfg.statement.block.VisibleIds;
 import it.unive.golisa.cfg.type.GoType;
 import it.unive.golisa.cfg.type.composite.GoArrayType;
 import it.unive.golisa.cfg.type.composite.GoFunctionType;
@@ -154,7 +155,6 @@ import it.unive.golisa.cfg.type.composite.GoTupleType;
 import it.unive.golisa.cfg.type.composite.GoVariadicType;
 import it.unive.golisa.golang.util.GoLangUtils;
 import it.unive.lisa.program.CompilationUnit;
-import it.unive.lisa.program.Program;
 import it.unive.lisa.program.SourceCodeLocation;
 import it.unive.lisa.program.SyntheticLocation;
 import it.unive.lisa.program.cfg.CFG;
@@ -197,7 +197,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -242,12 +241,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	/**
 	 * The current program.
 	 */
-	protected final Program program;
-
-	/**
-	 * Counter used to give a name to anonymous functions.
-	 */
-	protected static int c = 0;
+	protected final GoProgram program;
 
 	/**
 	 * Mapping from constant names to their expression contexts.
@@ -280,7 +274,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 	private final Collection<ControlFlowStructure> cfs;
 
-	private final Map<String, Set<IdInfo>> visibleIds;
+	private VisibleIds visibleIds;
 
 	/**
 	 * Builds the code member visitor.
@@ -290,13 +284,13 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	 * @param program   the program
 	 * @param constants constant mapping
 	 */
-	public GoCodeMemberVisitor(CompilationUnit unit, String file, Program program,
+	public GoCodeMemberVisitor(CompilationUnit unit, String file, GoProgram program,
 			Map<String, ExpressionContext> constants) {
 		this.file = file;
 		this.program = program;
 		entrypoints = new HashSet<>();
 		cfs = new LinkedList<>();
-		visibleIds = new HashMap<>();
+		visibleIds = VisibleIds.EMPTY;
 		this.blockDeep = 0;
 		this.constants = constants;
 		this.currentUnit = unit;
@@ -314,7 +308,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	 * @param program   the program
 	 * @param constants constant mapping
 	 */
-	public GoCodeMemberVisitor(CompilationUnit unit, MethodDeclContext ctx, String file, Program program,
+	public GoCodeMemberVisitor(CompilationUnit unit, MethodDeclContext ctx, String file, GoProgram program,
 			Map<String, ExpressionContext> constants) {
 		this.file = file;
 		this.program = program;
@@ -327,7 +321,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		// side effects on entrypoints and matrix will affect the cfg
 		cfg = new VariableScopingCFG(mkDescriptor(unit, ctx), entrypoints, new AdjacencyMatrix<>());
 
-		visibleIds = new HashMap<>();
+		visibleIds = VisibleIds.EMPTY;
 		this.blockDeep = 0;
 
 		initializeVisibleIds();
@@ -339,8 +333,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	protected void initializeVisibleIds() {
 		for (VariableTableEntry par : cfg.getDescriptor().getVariables())
 			if (!GoLangUtils.refersToBlankIdentifier(par.createReference(cfg))) {
-				visibleIds.putIfAbsent(par.getName(), new HashSet<IdInfo>());
-				visibleIds.get(par.getName()).add(new IdInfo(par.createReference(cfg), blockDeep));
+				visibleIds = visibleIds.add(par.getName(), new IdInfo(par.createReference(cfg), blockDeep));
 			}
 
 	}
@@ -360,17 +353,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	 */
 	public CFG visitCodeMember(MethodDeclContext ctx) {
 		Parameter receiver = visitReceiver(ctx.receiver());
-		String unitName = receiver.getStaticType() instanceof GoPointerType
-				? ((GoPointerType) receiver.getStaticType()).getInnerTypes().first().toString()
-				: receiver.getStaticType().toString();
-
 		SourceCodeLocation location = locationOf(ctx);
-		if (program.getUnit(unitName) == null) {
-			// TODO: unknown unit
-			currentUnit = new CompilationUnit(location, unitName, false);
-			program.addCompilationUnit(currentUnit);
-		} else
-			currentUnit = program.getUnit(unitName);
+		currentUnit = receiverUnit(receiver, location);
 
 		String methodName = ctx.IDENTIFIER().getText();
 		Parameter[] params = visitParameters(ctx.signature().parameters());
@@ -382,8 +366,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		cfg = new VariableScopingCFG(new CFGDescriptor(location, currentUnit, true, methodName, returnType, params));
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-				Statement> body = visitMethodBlock(ctx.block());
+		Triple<Statement, CFGBlock, Statement> body = visitMethodBlock(ctx.block());
 
 		for (Entry<Statement, String> gotoStmt : gotos.entrySet())
 			// we must call cfg.addEdge, and not addEdge
@@ -427,10 +410,36 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		cfg.simplify();
 
-		currentUnit.addInstanceCFG(cfg);
+		program.addInstanceCFG(file, currentUnit, cfg);
 		return cfg;
 	}
 
+	/**
+	 * Yields the unit of the receiver type of the method declared by
+	 * {@code ctx}, adding it to the program if no unit has its name.
+	 * 
+	 * @param ctx the method declaration context
+	 * 
+	 * @return the unit of the receiver type
+	 */
+	public CompilationUnit receiverUnit(MethodDeclContext ctx) {
+		return receiverUnit(visitReceiver(ctx.receiver()), locationOf(ctx));
+	}
+
+	private CompilationUnit receiverUnit(Parameter receiver, SourceCodeLocation location) {
+		String unitName = receiver.getStaticType() instanceof GoPointerType
+				? ((GoPointerType) receiver.getStaticType()).getInnerTypes().first().toString()
+				: receiver.getStaticType().toString();
+
+		CompilationUnit unit = program.getUnit(file, unitName);
+		if (unit == null) {
+			// TODO: unknown unit
+			unit = new CompilationUnit(location, unitName, false);
+			program.addCompilationUnit(file, unit);
+		}
+		return unit;
+	}
+
 	/**
 	 * Visits a method block.
 	 * 
@@ -439,16 +448,16 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	 * @return the adjacency matrix behind the visited block, together with the
 	 *             entry and the exit nodes
 	 */
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitMethodBlock(BlockContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitMethodBlock(BlockContext ctx) {
 		this.matrix = this.cfg.getAdjacencyMatrix();
 
-		Map<String, Set<IdInfo>> backup = new HashMap<>(visibleIds);
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+		VisibleIds backup = visibleIds;
+		CFGBlock block = new CFGBlock();
 		if (ctx.statementList() == null) {
 			NoOp noop = new NoOp(cfg, locationOf(ctx.R_CURLY()));
 			block.addNode(noop);
 			updateVisileIds(backup, noop);
-			matrix.mergeWith(block);
+			block.addTo(matrix);
 			return Triple.of(noop, block, noop);
 		}
 
@@ -457,12 +466,12 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		OpenBlock open = new OpenBlock(cfg, locationOf(ctx.L_CURLY()));
 		blockList.addLast(new BlockInfo(open));
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-				Statement> res = visitStatementList(ctx.statementList());
+		Triple<Statement, CFGBlock, Statement> res = visitStatementList(ctx.statementList());
 		updateVisileIds(backup, res.getRight());
 
 		cfs.forEach(cfg::addControlFlowStructure);
-		matrix.mergeWith(res.getMiddle());
+		// the whole body is added to the cfg at once
+		res.getMiddle().addTo(matrix);
 
 		return res;
 	}
@@ -559,7 +568,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		// the parameter's type is variadic (e.g., ...string)
 		if (ctx.ELLIPSIS() != null)
-			type = GoVariadicType.lookup(new GoVariadicType(type));
+			type = GoVariadicType.lookup(program.getTypeRegistry(), new GoVariadicType(type));
 
 		if (ctx.identifierList() == null)
 			result = ArrayUtils.add(result, new Parameter(locationOf(ctx), "_", type));
@@ -588,10 +597,10 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitBlock(BlockContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitBlock(BlockContext ctx) {
+		CFGBlock block = new CFGBlock();
 
-		Map<String, Set<IdInfo>> backup = new HashMap<>(visibleIds);
+		VisibleIds backup = visibleIds;
 		if (ctx.statementList() == null) {
 			NoOp noop = new NoOp(cfg, locationOf(ctx.R_CURLY()));
 			block.addNode(noop);
@@ -608,8 +617,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		blockList.addLast(new BlockInfo(open));
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-				Statement> res = visitStatementList(ctx.statementList());
+		Triple<Statement, CFGBlock, Statement> res = visitStatementList(ctx.statementList());
 		block.mergeWith(res.getMiddle());
 
 		updateVisileIds(backup, res.getRight());
@@ -631,44 +639,24 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	/**
 	 * Updates the visible ids.
 	 * 
-	 * @param backup the current visible ids
+	 * @param backup the visible ids when the scope was entered
 	 * @param last   the statement
 	 */
-	protected void updateVisileIds(Map<String, Set<IdInfo>> backup, Statement last) {
-
-		Map<String, Set<IdInfo>> toRemove = new HashMap<>();
-		for (Entry<String, Set<IdInfo>> id : visibleIds.entrySet())
+	protected void updateVisileIds(VisibleIds backup, Statement last) {
+		for (Entry<String, IdInfo> id : visibleIds.addedSince(backup))
 			if (!backup.containsKey(id.getKey())) {
-				for (IdInfo idInfo : id.getValue()) {
-					VariableRef ref = idInfo.getRef();
-					cfg.getDescriptor().addVariable(new VariableTableEntry(ref.getLocation(),
-							0, ref.getRootStatement(), last, id.getKey(), Untyped.INSTANCE));
-					toRemove.putIfAbsent(id.getKey(), new HashSet<IdInfo>());
-					toRemove.get(id.getKey()).add(idInfo);
-				}
-			}
-
-		if (!toRemove.isEmpty()) {
-			for (String k : toRemove.keySet()) {
-				if (visibleIds.containsKey(k)) {
-					Set<IdInfo> visibleInfoSet = visibleIds.get(k);
-					Set<IdInfo> removeInfoSet = toRemove.get(k);
-					if (visibleInfoSet != null && removeInfoSet != null)
-						visibleInfoSet.removeAll(removeInfoSet);
-
-					if (visibleInfoSet == null || (visibleInfoSet != null && visibleInfoSet.isEmpty()))
-						visibleIds.remove(k);
-				}
-
+				VariableRef ref = id.getValue().getRef();
+				cfg.getDescriptor().addVariable(new VariableTableEntry(ref.getLocation(),
+						0, ref.getRootStatement(), last, id.getKey(), Untyped.INSTANCE));
 			}
 
-		}
+		// the identifiers declared after backup go out of scope
+		visibleIds = backup;
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitStatementList(
-			StatementListContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitStatementList(StatementListContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		// It is an empty statement
 		if (ctx == null || ctx.statement().size() == 0) {
@@ -681,8 +669,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		Statement entryNode = null;
 
 		for (int i = 0; i < ctx.statement().size(); i++) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> currentStmt = visitStatement(ctx.statement(i));
+			Triple<Statement, CFGBlock, Statement> currentStmt = visitStatement(ctx.statement(i));
 			block.mergeWith(currentStmt.getMiddle());
 
 			if (lastStmt != null)
@@ -696,9 +683,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		return Triple.of(entryNode, block, lastStmt);
 	}
 
-	private Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitStatementListOfSwitchCase(
-			StatementListContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	private Triple<Statement, CFGBlock, Statement> visitStatementListOfSwitchCase(StatementListContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		// It is an empty statement
 		if (ctx == null || ctx.statement().size() == 0) {
@@ -710,11 +696,10 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		Statement lastStmt = null;
 		Statement entryNode = null;
 
-		Map<String, Set<IdInfo>> backup = new HashMap<>(visibleIds);
+		VisibleIds backup = visibleIds;
 
 		for (int i = 0; i < ctx.statement().size(); i++) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> currentStmt = visitStatement(ctx.statement(i));
+			Triple<Statement, CFGBlock, Statement> currentStmt = visitStatement(ctx.statement(i));
 			block.mergeWith(currentStmt.getMiddle());
 
 			if (lastStmt != null)
@@ -732,7 +717,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitStatement(StatementContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitStatement(StatementContext ctx) {
 		if (ctx.declaration() != null)
 			return visitDeclaration(ctx.declaration());
 		if (ctx.labeledStmt() != null)
@@ -768,13 +753,13 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitVarDecl(VarDeclContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitVarDecl(VarDeclContext ctx) {
+		CFGBlock block = new CFGBlock();
 		Statement lastStmt = null;
 		Statement entryNode = null;
 
 		for (VarSpecContext varSpec : ctx.varSpec()) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> currStmt = visitVarSpec(varSpec);
+			Triple<Statement, CFGBlock, Statement> currStmt = visitVarSpec(varSpec);
 			block.mergeWith(currStmt.getMiddle());
 
 			if (lastStmt != null)
@@ -788,8 +773,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitVarSpec(VarSpecContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitVarSpec(VarSpecContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		IdentifierListContext ids = ctx.identifierList();
 		ExpressionListContext exps = ctx.expressionList();
@@ -811,8 +796,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 					throw new GoSyntaxException(
 							"Duplicate variable '" + left[i].getName() + "' declared at " + left[i].getLocation());
 				else if (!GoLangUtils.refersToBlankIdentifier(left[i])) {
-					visibleIds.putIfAbsent(left[i].getName(), new HashSet<IdInfo>());
-					visibleIds.get(left[i].getName()).add(new IdInfo(left[i], blockDeep));
+					visibleIds = visibleIds.add(left[i].getName(), new IdInfo(left[i], blockDeep));
 					blockList.getLast().addVarDeclaration(left[i], DeclarationType.MULTI_SHORT_VARIABLE);
 				}
 
@@ -866,8 +850,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 								"Duplicate variable '" + target.getName() + "' declared at " + target.getLocation());
 
 				if (!GoLangUtils.refersToBlankIdentifier(target)) {
-					visibleIds.putIfAbsent(target.getName(), new HashSet<IdInfo>());
-					visibleIds.get(target.getName()).add(new IdInfo(target, blockDeep));
+					visibleIds = visibleIds.add(target.getName(), new IdInfo(target, blockDeep));
 					blockList.getLast().addVarDeclaration(target, DeclarationType.VARIABLE);
 				}
 
@@ -982,14 +965,13 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitDeclaration(
-			DeclarationContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitDeclaration(DeclarationContext ctx) {
 		if (ctx.constDecl() != null)
 			return visitConstDecl(ctx.constDecl());
 		if (ctx.typeDecl() != null) {
 			for (CompilationUnit unit : visitTypeDecl(ctx.typeDecl()))
-				program.addCompilationUnit(unit);
-			AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+				program.addCompilationUnit(file, unit);
+			CFGBlock block = new CFGBlock();
 			NoOp noop = new NoOp(cfg, locationOf(ctx.typeDecl().TYPE()));
 			block.addNode(noop);
 			return Triple.of(noop, block, noop);
@@ -1015,13 +997,13 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitConstDecl(ConstDeclContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitConstDecl(ConstDeclContext ctx) {
+		CFGBlock block = new CFGBlock();
 		Statement lastStmt = null;
 		Statement entryNode = null;
 
 		for (ConstSpecContext constSpec : ctx.constSpec()) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> currStmt = visitConstSpec(constSpec);
+			Triple<Statement, CFGBlock, Statement> currStmt = visitConstSpec(constSpec);
 			block.mergeWith(currStmt.getMiddle());
 
 			if (lastStmt != null)
@@ -1036,8 +1018,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitConstSpec(ConstSpecContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitConstSpec(ConstSpecContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		IdentifierListContext ids = ctx.identifierList();
 		ExpressionListContext exps = ctx.expressionList();
@@ -1060,8 +1042,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 					throw new GoSyntaxException(
 							"Duplicate variable '" + target.getName() + "' declared at " + target.getLocation());
 			if (!GoLangUtils.refersToBlankIdentifier(target)) {
-				visibleIds.putIfAbsent(target.getName(), new HashSet<IdInfo>());
-				visibleIds.get(target.getName()).add(new IdInfo(target, blockDeep));
+				visibleIds = visibleIds.add(target.getName(), new IdInfo(target, blockDeep));
 				blockList.getLast().addVarDeclaration(target, DeclarationType.CONSTANT);
 			}
 
@@ -1085,19 +1066,18 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 	@SuppressWarnings("unchecked")
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitSimpleStmt(SimpleStmtContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitSimpleStmt(SimpleStmtContext ctx) {
 		Object result = visitChildren(ctx);
 		if (!(result instanceof Triple<?, ?, ?>))
 			throw new IllegalStateException("Pair of Statements expected");
 		else
-			return (Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement>) result;
+			return (Triple<Statement, CFGBlock, Statement>) result;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitExpressionStmt(
-			ExpressionStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitExpressionStmt(ExpressionStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		Object result = visitChildren(ctx);
 		if (result instanceof Expression) {
 			Expression e = (Expression) result;
@@ -1107,12 +1087,12 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		} else if (!(result instanceof Triple<?, ?, ?>)) {
 			throw new IllegalStateException("Triple of Statements expected");
 		} else
-			return (Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement>) result;
+			return (Triple<Statement, CFGBlock, Statement>) result;
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitIncDecStmt(IncDecStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitIncDecStmt(IncDecStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		Expression exp = visitExpression(ctx.expression());
 		SourceCodeLocation location = locationOf(ctx.expression());
@@ -1138,8 +1118,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitAssignment(AssignmentContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitAssignment(AssignmentContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		ExpressionListContext ids = ctx.expressionList(0);
 		ExpressionListContext exps = ctx.expressionList(1);
@@ -1261,9 +1241,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	 * assigns a new value to the original.
 	 */
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitShortVarDecl(
-			ShortVarDeclContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitShortVarDecl(ShortVarDeclContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		IdentifierListContext ids = ctx.identifierList();
 		ExpressionListContext exps = ctx.expressionList();
@@ -1290,8 +1269,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				// + left[i].getLocation());
 				// else
 				if (!GoLangUtils.refersToBlankIdentifier(left[i])) {
-					visibleIds.putIfAbsent(left[i].getName(), new HashSet<IdInfo>());
-					visibleIds.get(left[i].getName()).add(new IdInfo(left[i], blockDeep));
+					visibleIds = visibleIds.add(left[i].getName(), new IdInfo(left[i], blockDeep));
 				}
 
 			Expression right = visitExpression(exps.expression(0));
@@ -1327,8 +1305,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				// + target.getLocation());
 
 				if (!GoLangUtils.refersToBlankIdentifier(target)) {
-					visibleIds.putIfAbsent(target.getName(), new HashSet<IdInfo>());
-					visibleIds.get(target.getName()).add(new IdInfo(target, blockDeep));
+					visibleIds = visibleIds.add(target.getName(), new IdInfo(target, blockDeep));
 				}
 
 				GoShortVariableDeclaration asg = new GoShortVariableDeclaration(cfg,
@@ -1365,8 +1342,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitReturnStmt(ReturnStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitReturnStmt(ReturnStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		SourceCodeLocation location = locationOf(ctx);
 
@@ -1408,8 +1385,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitBreakStmt(BreakStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitBreakStmt(BreakStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		NoOp breakSt = new NoOp(cfg, locationOf(ctx));
 		block.addNode(breakSt);
 		storeIds(breakSt);
@@ -1421,9 +1398,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitContinueStmt(
-			ContinueStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitContinueStmt(ContinueStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		NoOp continueSt = new NoOp(cfg, locationOf(ctx));
 		block.addNode(continueSt);
 		storeIds(continueSt);
@@ -1435,16 +1411,15 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitLabeledStmt(
-			LabeledStmtContext ctx) {
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> stmt = visitStatement(ctx.statement());
+	public Triple<Statement, CFGBlock, Statement> visitLabeledStmt(LabeledStmtContext ctx) {
+		Triple<Statement, CFGBlock, Statement> stmt = visitStatement(ctx.statement());
 		labeledStmt.put(ctx.IDENTIFIER().getText(), stmt.getLeft());
 		return stmt;
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitGotoStmt(GotoStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitGotoStmt(GotoStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		GoTo nop = new GoTo(cfg, locationOf(ctx));
 		block.addNode(nop);
 		gotos.put(nop, ctx.IDENTIFIER().getText());
@@ -1452,9 +1427,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitFallthroughStmt(
-			FallthroughStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitFallthroughStmt(FallthroughStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		GoFallThrough ft = new GoFallThrough(cfg, locationOf(ctx));
 		block.addNode(ft);
 		storeIds(ft);
@@ -1462,8 +1436,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitDeferStmt(DeferStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitDeferStmt(DeferStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		GoDefer defer = new GoDefer(cfg, new SourceCodeLocation(file, getLine(ctx), getCol(ctx)),
 				visitExpression(ctx.expression()));
 		block.addNode(defer);
@@ -1472,8 +1446,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitIfStmt(IfStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitIfStmt(IfStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		// Visit if statement Boolean Guard
 		Statement booleanGuard = visitExpression(ctx.expression());
@@ -1483,7 +1457,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		block.addNode(ifExitNode);
 		storeIds(ifExitNode);
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> trueBlock = visitBlock(ctx.block(0));
+		Triple<Statement, CFGBlock, Statement> trueBlock = visitBlock(ctx.block(0));
 		block.mergeWith(trueBlock.getMiddle());
 		Collection<Statement> trueBlockNodes = trueBlock.getMiddle().getNodes();
 		Collection<Statement> falseBlockNodes = Collections.emptySet();
@@ -1499,8 +1473,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		} else {
 			if (ctx.block(1) != null) {
 				// If statement with else branch with no other if statements
-				Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-						Statement> falseBlock = visitBlock(ctx.block(1));
+				Triple<Statement, CFGBlock, Statement> falseBlock = visitBlock(ctx.block(1));
 				block.mergeWith(falseBlock.getMiddle());
 				Statement exitStatementFalseBranch = falseBlock.getRight();
 				Statement entryStatementFalseBranch = falseBlock.getLeft();
@@ -1514,8 +1487,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				falseBlockNodes = falseBlock.getMiddle().getNodes();
 			} else {
 				// If statement with else branch with other if statements
-				Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-						Statement> falseBlock = visitIfStmt(ctx.ifStmt());
+				Triple<Statement, CFGBlock, Statement> falseBlock = visitIfStmt(ctx.ifStmt());
 				block.mergeWith(falseBlock.getMiddle());
 
 				Statement exitStatementFalseBranch = falseBlock.getRight();
@@ -1535,8 +1507,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		// e.g., if x := y; z < x block
 		Statement entryNode = booleanGuard;
 		if (ctx.simpleStmt() != null) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> initialStmt = visitSimpleStmt(ctx.simpleStmt());
+			Triple<Statement, CFGBlock, Statement> initialStmt = visitSimpleStmt(ctx.simpleStmt());
 			block.mergeWith(initialStmt.getMiddle());
 			entryNode = initialStmt.getLeft();
 			addEdge(new SequentialEdge(initialStmt.getRight(), booleanGuard), block);
@@ -1567,8 +1538,20 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 			block.addEdge(edge);
 	}
 
+	/**
+	 * Adds the edge iff the source is not an instance of {@link Return} of
+	 * {@link GoTo} statements.
+	 * 
+	 * @param edge  the edge to be added
+	 * @param block the current {@link CFGBlock}
+	 */
+	protected static void addEdge(Edge edge, CFGBlock block) {
+		if (!isReturnStmt(edge.getSource()) && !isGoTo(edge.getSource()))
+			block.addEdge(edge);
+	}
+
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitSwitchStmt(SwitchStmtContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitSwitchStmt(SwitchStmtContext ctx) {
 		if (ctx.exprSwitchStmt() != null)
 			return visitExprSwitchStmt(ctx.exprSwitchStmt());
 		else if (ctx.typeSwitchStmt() != null)
@@ -1578,10 +1561,9 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitExprSwitchStmt(
-			ExprSwitchStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
-		AdjacencyMatrix<Statement, Edge, CFG> body = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitExprSwitchStmt(ExprSwitchStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
+		CFGBlock body = new CFGBlock();
 
 		SourceCodeLocation location = locationOf(ctx);
 		Expression switchGuard = ctx.expression() == null ? new GoBoolean(cfg, location, true)
@@ -1589,22 +1571,20 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		NoOp exitNode = new NoOp(cfg, location);
 		Statement entryNode = null;
 		Statement previousGuard = null;
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> defaultBlock = null;
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> lastCaseBlock = null;
+		Triple<Statement, CFGBlock, Statement> defaultBlock = null;
+		Triple<Statement, CFGBlock, Statement> lastCaseBlock = null;
 		block.addNode(exitNode);
 		storeIds(exitNode);
 
 		int ncases = ctx.exprCaseClause().size();
-		@SuppressWarnings("unchecked")
-		AdjacencyMatrix<Statement, Edge, CFG>[] cases = new AdjacencyMatrix[ncases];
+		CFGBlock[] cases = new CFGBlock[ncases];
 		Statement[] conditions = new Statement[ncases];
 
 		for (int i = 0; i < ncases; i++) {
-			AdjacencyMatrix<Statement, Edge, CFG> case_ = new AdjacencyMatrix<>();
+			CFGBlock case_ = new CFGBlock();
 
 			ExprCaseClauseContext switchCase = ctx.exprCaseClause(i);
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> caseBlock = visitStatementListOfSwitchCase(switchCase.statementList());
+			Triple<Statement, CFGBlock, Statement> caseBlock = visitStatementListOfSwitchCase(switchCase.statementList());
 			case_.mergeWith(caseBlock.getMiddle());
 			body.mergeWith(caseBlock.getMiddle());
 
@@ -1665,8 +1645,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		}
 
 		if (ctx.simpleStmt() != null) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> simpleStmt = visitSimpleStmt(ctx.simpleStmt());
+			Triple<Statement, CFGBlock, Statement> simpleStmt = visitSimpleStmt(ctx.simpleStmt());
 			block.mergeWith(simpleStmt.getMiddle());
 			addEdge(new SequentialEdge(simpleStmt.getRight(), entryNode), block);
 			entryNode = simpleStmt.getLeft();
@@ -1686,11 +1665,11 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitForStmt(ForStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitForStmt(ForStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		SourceCodeLocation location = locationOf(ctx);
-		Map<String, Set<IdInfo>> backup = new HashMap<>(visibleIds);
+		VisibleIds backup = visibleIds;
 		NoOp exitNode = new NoOp(cfg, locationOf(ctx.block().R_CURLY()));
 		block.addNode(exitNode);
 		storeIds(exitNode);
@@ -1707,8 +1686,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 			return forTrue(ctx, block, location, backup, exitNode);
 	}
 
-	private Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> forTrue(ForStmtContext ctx,
-			AdjacencyMatrix<Statement, Edge, CFG> block, SourceCodeLocation location, Map<String, Set<IdInfo>> backup,
+	private Triple<Statement, CFGBlock, Statement> forTrue(ForStmtContext ctx,
+			CFGBlock block, SourceCodeLocation location, VisibleIds backup,
 			NoOp exitNode) {
 		Statement cond = new TrueLiteral(cfg, location);
 		block.addNode(cond);
@@ -1716,7 +1695,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		entryPoints.add(cond);
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> body = visitBlock(ctx.block());
+		Triple<Statement, CFGBlock, Statement> body = visitBlock(ctx.block());
 		block.mergeWith(body.getMiddle());
 
 		restoreVisibleIdsAfterForLoop(backup);
@@ -1733,15 +1712,15 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		return Triple.of(cond, block, exitNode);
 	}
 
-	private Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> whileLoop(ForStmtContext ctx,
-			AdjacencyMatrix<Statement, Edge, CFG> block, Map<String, Set<IdInfo>> backup, NoOp exitNode) {
+	private Triple<Statement, CFGBlock, Statement> whileLoop(ForStmtContext ctx,
+			CFGBlock block, VisibleIds backup, NoOp exitNode) {
 		Expression guard = visitExpression(ctx.expression());
 		block.addNode(guard);
 		storeIds(guard);
 
 		entryPoints.add(guard);
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> body = visitBlock(ctx.block());
+		Triple<Statement, CFGBlock, Statement> body = visitBlock(ctx.block());
 		block.mergeWith(body.getMiddle());
 
 		restoreVisibleIdsAfterForLoop(backup);
@@ -1758,8 +1737,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		return Triple.of(guard, block, exitNode);
 	}
 
-	private Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> forRange(ForStmtContext ctx,
-			AdjacencyMatrix<Statement, Edge, CFG> block, SourceCodeLocation location, Map<String, Set<IdInfo>> backup,
+	private Triple<Statement, CFGBlock, Statement> forRange(ForStmtContext ctx,
+			CFGBlock block, SourceCodeLocation location, VisibleIds backup,
 			NoOp exitNode) {
 		RangeClauseContext range = ctx.rangeClause();
 		Expression rangedCollection = visitExpression(range.expression());
@@ -1844,8 +1823,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		block.addNode(valPost);
 		storeIds(valPost);
 
-		AdjacencyMatrix<Statement, Edge, CFG> body = new AdjacencyMatrix<>();
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> inner = visitBlock(ctx.block());
+		CFGBlock body = new CFGBlock();
+		Triple<Statement, CFGBlock, Statement> inner = visitBlock(ctx.block());
 		body.mergeWith(inner.getMiddle());
 		block.mergeWith(body);
 		addEdge(new SequentialEdge(inner.getRight(), idxPost), block);
@@ -1873,15 +1852,15 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		return Triple.of(idxInit, block, exitNode);
 	}
 
-	private Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> regularFor(ForStmtContext ctx,
-			AdjacencyMatrix<Statement, Edge, CFG> block, SourceCodeLocation location, Map<String, Set<IdInfo>> backup,
+	private Triple<Statement, CFGBlock, Statement> regularFor(ForStmtContext ctx,
+			CFGBlock block, SourceCodeLocation location, VisibleIds backup,
 			NoOp exitNode) {
 		boolean hasInitStmt = ctx.forClause().init != null;
 		boolean hasCondition = ctx.forClause().guard != null;
 		boolean hasPostStmt = ctx.forClause().inc != null;
 
 		// Checking if initialization is missing
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> init = null;
+		Triple<Statement, CFGBlock, Statement> init = null;
 		Statement entryNode = null;
 		if (hasInitStmt) {
 			// TODO: variables declared here should be only visible in the
@@ -1906,16 +1885,16 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		entryPoints.add(cond);
 
 		// Checking if post statement is missing
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> post = null;
+		Triple<Statement, CFGBlock, Statement> post = null;
 		if (hasPostStmt) {
 			post = visitSimpleStmt(hasInitStmt ? ctx.forClause().simpleStmt(1) : ctx.forClause().simpleStmt(0));
 			block.mergeWith(post.getMiddle());
 			storeIds(post.getLeft());
 		}
 
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> inner;
+		Triple<Statement, CFGBlock, Statement> inner;
 		if (ctx.block().statementList() == null) {
-			AdjacencyMatrix<Statement, Edge, CFG> innerBlock = new AdjacencyMatrix<>();
+			CFGBlock innerBlock = new CFGBlock();
 			NoOp emptyBlock = new NoOp(cfg, location);
 			innerBlock.addNode(emptyBlock);
 			storeIds(exitNode);
@@ -1937,11 +1916,12 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		else
 			entryNode = cond;
 
-		AdjacencyMatrix<Statement, Edge, CFG> body;
+		CFGBlock body;
 		if (hasPostStmt) {
 			addEdge(new SequentialEdge(exitNodeBlock, post.getRight()), block);
 			addEdge(new SequentialEdge(post.getLeft(), cond), block);
-			body = new AdjacencyMatrix<>(inner.getMiddle());
+			body = new CFGBlock();
+			body.mergeWith(inner.getMiddle());
 			body.mergeWith(post.getMiddle());
 		} else {
 			addEdge(new SequentialEdge(exitNodeBlock, cond), block);
@@ -1956,32 +1936,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		return Triple.of(entryNode, block, exitNode);
 	}
 
-	private void restoreVisibleIdsAfterForLoop(Map<String, Set<IdInfo>> backup) {
-
-		Map<String, Set<IdInfo>> toRemove = new HashMap<>();
-		for (Entry<String, Set<IdInfo>> id : visibleIds.entrySet())
-			if (!backup.containsKey(id.getKey())) {
-				for (IdInfo idInfo : id.getValue()) {
-					toRemove.putIfAbsent(id.getKey(), new HashSet<IdInfo>());
-					toRemove.get(id.getKey()).add(idInfo);
-				}
-			}
-
-		if (!toRemove.isEmpty()) {
-			for (String k : toRemove.keySet()) {
-				if (visibleIds.containsKey(k)) {
-					Set<IdInfo> visibleInfoSet = visibleIds.get(k);
-					Set<IdInfo> removeInfoSet = toRemove.get(k);
-					if (visibleInfoSet != null && removeInfoSet != null)
-						visibleInfoSet.removeAll(removeInfoSet);
-
-					if (visibleInfoSet == null || (visibleInfoSet != null && visibleInfoSet.isEmpty()))
-						visibleIds.remove(k);
-				}
-
-			}
-
-		}
+	private void restoreVisibleIdsAfterForLoop(VisibleIds backup) {
+		visibleIds = backup;
 	}
 
 	@Override
@@ -2031,9 +1987,11 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				args = visitArguments(ctx.arguments());
 				if (ctx.arguments().type_() != null) {
 					Type typeToAllocate = visitType_(ctx.arguments().type_());
-					return new GoMake(cfg, locationOf(ctx.primaryExpr()), typeToAllocate, args);
+					return new GoMake(cfg, locationOf(ctx.primaryExpr()), typeToAllocate, args,
+							program.getTypeRegistry());
 				} else {
-					return new GoMake(cfg, locationOf(ctx.primaryExpr()), Untyped.INSTANCE, args);
+					return new GoMake(cfg, locationOf(ctx.primaryExpr()), Untyped.INSTANCE, args,
+							program.getTypeRegistry());
 				}
 			}
 
@@ -2056,8 +2014,11 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				else if (primary instanceof GoCollectionAccess) {
 					Expression receiver = ((GoCollectionAccess) primary).getReceiver();
 					String methodName = ((GoCollectionAccess) primary).getTarget().toString();
+					// local packages are referred to by name, but their units
+					// are named by their directory
+					String unitName = program.unitOf(file, receiver.toString());
 
-					if (program.getUnit(receiver.toString()) != null)
+					if (program.getUnit(file, unitName) != null)
 						// static method call (e.g., math.Intv(50))
 						// this call is not an instance call
 						// the callee's name is concatenated to the function
@@ -2065,7 +2026,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 						return new UnresolvedCall(cfg, locationOf(ctx), GoFrontEnd.PARAMETER_ASSIGN_STRATEGY,
 								GoFrontEnd.FUNCTION_MATCHING_STRATEGY, GoFrontEnd.HIERARCY_TRAVERSAL_STRATEGY,
 								CallType.STATIC,
-								receiver.toString(), methodName, args);
+								unitName, methodName, args);
 					else {
 						// method call (e.g., x.f(1))
 						// this call is an instance call
@@ -2282,14 +2243,14 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				values[i] = (Expression) valuesObj[i];
 			}
 			if (type instanceof GoArrayType && ((GoArrayType) type).getLength() == -1)
-				type = GoArrayType
-						.lookup(new GoArrayType(((GoArrayType) type).getContenType(), ((Expression[]) keys).length));
+				type = GoArrayType.lookup(program.getTypeRegistry(),
+						new GoArrayType(((GoArrayType) type).getContenType(), ((Expression[]) keys).length));
 			return new GoKeyedLiteral(cfg, locationOf(ctx), keys, values, type == null ? Untyped.INSTANCE : type);
 		} else {
 
 			if (type instanceof GoArrayType && ((GoArrayType) type).getLength() == -1)
-				type = GoArrayType
-						.lookup(new GoArrayType(((GoArrayType) type).getContenType(), ((Expression[]) raw).length));
+				type = GoArrayType.lookup(program.getTypeRegistry(),
+						new GoArrayType(((GoArrayType) type).getContenType(), ((Expression[]) raw).length));
 			return new GoNonKeyedLiteral(cfg, locationOf(ctx), (Expression[]) raw,
 					type == null ? Untyped.INSTANCE : type);
 		}
@@ -2356,8 +2317,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitSendStmt(SendStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitSendStmt(SendStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 		GoChannelSend send = new GoChannelSend(cfg, locationOf(ctx), visitExpression(ctx.expression(0)),
 				visitExpression(ctx.expression(1)));
 		block.addNode(send);
@@ -2410,7 +2371,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 				}
 
 				if (type instanceof GoArrayType && ((GoArrayType) type).getLength() == -1)
-					type = GoArrayType.lookup(
+					type = GoArrayType.lookup(program.getTypeRegistry(),
 							new GoArrayType(((GoArrayType) type).getContenType(), ((Expression[]) keys).length));
 				return new GoKeyedLiteral(cfg, locationOf(ctx), keys, values, type);
 			} else
@@ -2449,7 +2410,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	public Expression visitFunctionLit(FunctionLitContext ctx) {
 		CFG funcLit = new GoFunctionVisitor(ctx, currentUnit, file, program, constants).buildAnonymousCFG(ctx);
 		Type funcType = GoFunctionType
-				.lookup(new GoFunctionType(funcLit.getDescriptor().getReturnType(),
+				.lookup(program.getTypeRegistry(), new GoFunctionType(funcLit.getDescriptor().getReturnType(),
 						funcLit.getDescriptor().getFormals()));
 		return new GoFunctionLiteral(cfg, locationOf(ctx), funcLit, funcType);
 	}
@@ -2470,13 +2431,13 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitGoStmt(GoStmtContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitGoStmt(GoStmtContext ctx) {
 		Expression call = visitExpression(ctx.expression());
 
 		if (!(call instanceof Call))
 			throw new IllegalStateException("Only method and function calls can be spawn as go routines.");
 
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+		CFGBlock block = new CFGBlock();
 		GoRoutine routine = new GoRoutine(cfg, locationOf(ctx), (Call) call);
 		block.addNode(routine);
 		storeIds(routine);
@@ -2519,10 +2480,9 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitTypeSwitchStmt(
-			TypeSwitchStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
-		AdjacencyMatrix<Statement, Edge, CFG> body = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitTypeSwitchStmt(TypeSwitchStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
+		CFGBlock body = new CFGBlock();
 
 		SourceCodeLocation location = locationOf(ctx);
 		Expression typeSwitchExp = visitPrimaryExpr(ctx.typeSwitchGuard().primaryExpr());
@@ -2533,19 +2493,17 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 
 		Statement entryNode = null;
 		Statement previousGuard = null;
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> defaultBlock = null;
+		Triple<Statement, CFGBlock, Statement> defaultBlock = null;
 
 		int ncases = ctx.typeCaseClause().size();
-		@SuppressWarnings("unchecked")
-		AdjacencyMatrix<Statement, Edge, CFG>[] cases = new AdjacencyMatrix[ncases];
+		CFGBlock[] cases = new CFGBlock[ncases];
 		Statement[] conditions = new Statement[ncases];
 
 		for (int i = 0; i < ncases; i++) {
-			AdjacencyMatrix<Statement, Edge, CFG> case_ = new AdjacencyMatrix<>();
+			CFGBlock case_ = new CFGBlock();
 
 			TypeCaseClauseContext typeSwitchCase = ctx.typeCaseClause(i);
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> caseBlock = visitStatementList(typeSwitchCase.statementList());
+			Triple<Statement, CFGBlock, Statement> caseBlock = visitStatementList(typeSwitchCase.statementList());
 			case_.mergeWith(caseBlock.getMiddle());
 			body.mergeWith(caseBlock.getMiddle());
 
@@ -2616,8 +2574,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 			addEdge(new FalseEdge(previousGuard, exitNode), block);
 
 		if (ctx.simpleStmt() != null) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-					Statement> simpleStmt = visitSimpleStmt(ctx.simpleStmt());
+			Triple<Statement, CFGBlock, Statement> simpleStmt = visitSimpleStmt(ctx.simpleStmt());
 			block.mergeWith(simpleStmt.getMiddle());
 			addEdge(new SequentialEdge(simpleStmt.getRight(), entryNode), block);
 			entryNode = simpleStmt.getLeft();
@@ -2681,8 +2638,8 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitSelectStmt(SelectStmtContext ctx) {
-		AdjacencyMatrix<Statement, Edge, CFG> block = new AdjacencyMatrix<>();
+	public Triple<Statement, CFGBlock, Statement> visitSelectStmt(SelectStmtContext ctx) {
+		CFGBlock block = new CFGBlock();
 
 		NoOp entry = new NoOp(cfg, locationOf(ctx.L_CURLY()));
 		NoOp exit = new NoOp(cfg, locationOf(ctx.R_CURLY()));
@@ -2690,7 +2647,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 		block.addNode(entry);
 
 		for (CommClauseContext clause : ctx.commClause()) {
-			Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> inner = visitCommClause(clause);
+			Triple<Statement, CFGBlock, Statement> inner = visitCommClause(clause);
 			block.mergeWith(inner.getMiddle());
 			addEdge(new SequentialEdge(entry, inner.getLeft()), block);
 			addEdge(new SequentialEdge(inner.getRight(), exit), block);
@@ -2700,7 +2657,7 @@ public class GoCodeMemberVisitor extends GoParserBaseVisitor<Object> {
 	}
 
 	@Override
-	public Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>, Statement> visitCommClause(CommClauseContext ctx) {
+	public Triple<Statement, CFGBlock, Statement> visitCommClause(CommClauseContext ctx) {
 		// FIXME: we are currently skipping comm case
 		return visitStatementList(ctx.statementList());
 	}
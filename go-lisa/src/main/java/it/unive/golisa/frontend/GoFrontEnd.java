@@ -35,6 +35,7 @@ import it.unive.golisa.cfg.type.composite.GoSliceType;
 import it.unive.golisa.cfg.type.composite.GoStructType;
 import it.unive.golisa.cfg.type.composite.GoTupleType;
 import it.unive.golisa.cfg.type.composite.GoVariadicType;
+import it.unive.golisa.cfg.type.composite.TypeRegistry;
 import it.unive.golisa.cfg.type.numeric.floating.GoFloat32Type;
 import it.unive.golisa.cfg.type.numeric.floating.GoFloat64Type;
 import it.unive.golisa.cfg.type.numeric.signed.GoInt16Type;
@@ -63,20 +64,50 @@ import it.unive.lisa.program.cfg.statement.call.resolution.RuntimeTypesMatchingS
 import it.unive.lisa.program.cfg.statement.call.traversal.HierarcyTraversalStrategy;
 import it.unive.lisa.program.cfg.statement.call.traversal.SingleInheritanceTraversalStrategy;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -93,7 +124,7 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 
 	private final String filePath;
 
-	private final Program program;
+	private final GoProgram program;
 
 	private Map<String, ExpressionContext> constants;
 
@@ -101,6 +132,67 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 
 	private CompilationUnit packageUnit;
 
+	private final ParsingMode parsingMode;
+
+	private int sllHits;
+
+	private int sllMisses;
+
+	/**
+	 * The local packages that are part of the module being processed, indexed
+	 * by their directories, or {@code null} if a single file is being
+	 * processed.
+	 */
+	private final Map<File, LocalPackage> modulePackages;
+
+	/**
+	 * The local package the file belongs to, or {@code null} if a single file
+	 * is being processed.
+	 */
+	private final LocalPackage localPackage;
+
+	/**
+	 * The cache of lexing and parsing outcomes, or {@code null} if no cache is
+	 * used.
+	 */
+	private final FrontEndCache cache;
+
+	/**
+	 * Whether code members are built in streaming mode, that is, detaching
+	 * each function and method declaration from the parse tree once its CFG
+	 * has been built.
+	 */
+	private final boolean streaming;
+
+	/**
+	 * The method declarations of the file whose code members have not been
+	 * built yet (see {@link #declare(SourceFileContext)}).
+	 */
+	private Collection<MethodDeclContext> methods;
+
+	/**
+	 * The function declarations of the file whose code members have not been
+	 * built yet (see {@link #declare(SourceFileContext)}).
+	 */
+	private Collection<FunctionDeclContext> functions;
+
+	/**
+	 * The prediction modes that can be used to parse a Go source file.
+	 */
+	public enum ParsingMode {
+
+		/**
+		 * Full LL prediction, bailing out at the first syntax error.
+		 */
+		LL,
+
+		/**
+		 * SLL prediction with bail-out first, falling back to full LL
+		 * prediction only when SLL fails.
+		 */
+		SLL_THEN_LL
+	}
+
 	/**
 	 * The parameter assigning strategy for calls.
 	 */
@@ -126,13 +218,48 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 	 * Builds a Go frontend for a given Go program given at the location
 	 * {@code filePath}.
 	 * 
-	 * @param filePath file path to a Go program.
+	 * @param filePath    file path to a Go program.
+	 * @param parsingMode the prediction mode used to parse the program
+	 * @param types       the registry where the types of the program are
+	 *                        interned
+	 * @param cache       the cache of lexing and parsing outcomes, or
+	 *                        {@code null} if no cache is used
+	 * @param streaming   whether code members are built in streaming mode
 	 */
-	private GoFrontEnd(String filePath) {
+	private GoFrontEnd(String filePath, ParsingMode parsingMode, TypeRegistry types, FrontEndCache cache,
+			boolean streaming) {
+		this(filePath, parsingMode, new GoProgram(types), new HashMap<>(), null, null, cache, streaming);
+	}
+
+	/**
+	 * Builds a Go frontend for a file of a module, that populates the given
+	 * {@code program} shared by all the files of the module.
+	 * 
+	 * @param filePath       file path to a Go program.
+	 * @param parsingMode    the prediction mode used to parse the program
+	 * @param program        the program to populate
+	 * @param constants      the constants of the package the file belongs to
+	 * @param localPackage   the local package the file belongs to, or
+	 *                           {@code null} if a single file is being
+	 *                           processed
+	 * @param modulePackages the local packages of the module, indexed by
+	 *                           their directories, or {@code null} if a single
+	 *                           file is being processed
+	 * @param cache          the cache of lexing and parsing outcomes, or
+	 *                           {@code null} if no cache is used
+	 * @param streaming      whether code members are built in streaming mode
+	 */
+	private GoFrontEnd(String filePath, ParsingMode parsingMode, GoProgram program,
+			Map<String, ExpressionContext> constants, LocalPackage localPackage,
+			Map<File, LocalPackage> modulePackages, FrontEndCache cache, boolean streaming) {
 		this.filePath = filePath;
-		this.program = new Program();
-		this.constants = new HashMap<>();
-		GoCodeMemberVisitor.c = 0;
+		this.parsingMode = parsingMode;
+		this.program = program;
+		this.constants = constants;
+		this.localPackage = localPackage;
+		this.modulePackages = modulePackages;
+		this.cache = cache;
+		this.streaming = streaming;
 	}
 
 	/**
@@ -154,8 +281,375 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 	 * 
 	 * @throws IOException if something wrong happens while reading the file
 	 */
-	public static Program processFile(String filePath) throws IOException {
-		return new GoFrontEnd(filePath).toLiSAProgram();
+	public static GoProgram processFile(String filePath) throws IOException {
+		return processFile(filePath, ParsingMode.LL);
+	}
+
+	/**
+	 * Processes the Go program located at {@code filePath}, parsing it with
+	 * the given prediction mode, and returns the LiSA program corresponding to
+	 * the parsed file. The returned program owns a fresh {@link TypeRegistry},
+	 * so that several programs can be processed concurrently.
+	 * 
+	 * @param filePath    the file path
+	 * @param parsingMode the prediction mode used to parse the file and the
+	 *                        local packages it imports
+	 * 
+	 * @return the LiSA program corresponding to the parsed file
+	 * 
+	 * @throws IOException if something wrong happens while reading the file
+	 */
+	public static GoProgram processFile(String filePath, ParsingMode parsingMode) throws IOException {
+		return processFile(filePath, parsingMode, null);
+	}
+
+	/**
+	 * Processes the Go program located at {@code filePath} and returns the LiSA
+	 * program corresponding to the parsed file (see
+	 * {@link #processFile(String, ParsingMode)}). The parse trees of the file
+	 * and of the local packages it imports are read from {@code cache} when
+	 * their contents did not change since they were cached, skipping lexing
+	 * and parsing.
+	 * 
+	 * @param filePath    the file path
+	 * @param parsingMode the prediction mode used to parse the file and the
+	 *                        local packages it imports
+	 * @param cache       the cache of lexing and parsing outcomes, or
+	 *                        {@code null} if no cache has to be used
+	 * 
+	 * @return the LiSA program corresponding to the parsed file
+	 * 
+	 * @throws IOException if something wrong happens while reading the file
+	 */
+	public static GoProgram processFile(String filePath, ParsingMode parsingMode, FrontEndCache cache)
+			throws IOException {
+		return processFile(filePath, parsingMode, cache, false);
+	}
+
+	/**
+	 * Processes the Go program located at {@code filePath} and returns the LiSA
+	 * program corresponding to the parsed file (see
+	 * {@link #processFile(String, ParsingMode, FrontEndCache)}). In streaming
+	 * mode, each function and method declaration is detached from the parse
+	 * tree as soon as its CFG has been built, so that its subtree and the
+	 * tokens it spans can be garbage collected while the remaining ones are
+	 * visited. The peak heap usage of the frontend is logged in both modes.
+	 * 
+	 * @param filePath    the file path
+	 * @param parsingMode the prediction mode used to parse the file and the
+	 *                        local packages it imports
+	 * @param cache       the cache of lexing and parsing outcomes, or
+	 *                        {@code null} if no cache has to be used
+	 * @param streaming   whether code members are built in streaming mode
+	 * 
+	 * @return the LiSA program corresponding to the parsed file
+	 * 
+	 * @throws IOException if something wrong happens while reading the file
+	 */
+	public static GoProgram processFile(String filePath, ParsingMode parsingMode, FrontEndCache cache,
+			boolean streaming) throws IOException {
+		resetPeakHeap();
+		GoProgram program = new GoFrontEnd(filePath, parsingMode, new TypeRegistry(), cache, streaming)
+				.toLiSAProgram();
+		logPeakHeap(streaming);
+		return program;
+	}
+
+	/**
+	 * Processes all the Go files contained in the directory {@code dirPath},
+	 * and in its sub-directories, as a single module, and returns the LiSA
+	 * program corresponding to the whole module.
+	 * 
+	 * @param dirPath the path of the module directory
+	 * 
+	 * @return the LiSA program corresponding to the module
+	 * 
+	 * @throws IOException if something wrong happens while reading the files
+	 */
+	public static GoProgram processModule(String dirPath) throws IOException {
+		return processModule(dirPath, ParsingMode.LL);
+	}
+
+	/**
+	 * Processes all the Go files contained in the directory {@code dirPath},
+	 * and in its sub-directories, as a single module, and returns the LiSA
+	 * program corresponding to the whole module. Differently from
+	 * {@link #processFile(String, ParsingMode)}, the import graph of the local
+	 * packages is built once and each file is parsed exactly once, even if its
+	 * package is imported by several files. Packages are visited in import
+	 * order (imported packages first), and all of them share the same types.
+	 * The unit of a local package is named after its directory, as Go import
+	 * paths are, starting from the name of the module directory (e.g.,
+	 * {@code module/pkg/util}): packages with the same name in different
+	 * directories thus yield different units, and the files importing a
+	 * package refer to its unit through the package name, or through the
+	 * alias given by the import.
+	 * 
+	 * @param dirPath     the path of the module directory
+	 * @param parsingMode the prediction mode used to parse the files
+	 * 
+	 * @return the LiSA program corresponding to the module
+	 * 
+	 * @throws IOException if something wrong happens while reading the files
+	 */
+	public static GoProgram processModule(String dirPath, ParsingMode parsingMode) throws IOException {
+		return processModule(dirPath, parsingMode, 1);
+	}
+
+	/**
+	 * Processes all the Go files contained in the directory {@code dirPath},
+	 * and in its sub-directories, as a single module, and returns the LiSA
+	 * program corresponding to the whole module (see
+	 * {@link #processModule(String, ParsingMode)}). Files are lexed and parsed
+	 * in parallel on a fork-join pool with {@code threads} workers. Then, the
+	 * package units, imports and global declarations of the files are visited
+	 * on the calling thread, following the import order of the packages and,
+	 * within a package, the order of the file names. Finally, the code
+	 * members of each file are built in parallel on the pool, buffering the
+	 * additions to the shared units (see {@link GoProgram#buffer(String, int)}),
+	 * and the buffers are merged into the program in the same order. The
+	 * resulting program thus does not depend on the number of threads. As for
+	 * {@link #processFile(String, ParsingMode)}, the returned program owns a
+	 * fresh {@link TypeRegistry}.
+	 * 
+	 * @param dirPath     the path of the module directory
+	 * @param parsingMode the prediction mode used to parse the files
+	 * @param threads     the number of threads used to parse the files and
+	 *                        to build their code members; if less or equal
+	 *                        than 1, everything is done sequentially on the
+	 *                        calling thread
+	 * 
+	 * @return the LiSA program corresponding to the module
+	 * 
+	 * @throws IOException if something wrong happens while reading the files
+	 */
+	public static GoProgram processModule(String dirPath, ParsingMode parsingMode, int threads) throws IOException {
+		return processModule(dirPath, parsingMode, threads, null);
+	}
+
+	/**
+	 * Processes all the Go files contained in the directory {@code dirPath},
+	 * and in its sub-directories, as a single module, and returns the LiSA
+	 * program corresponding to the whole module (see
+	 * {@link #processModule(String, ParsingMode, int)}). The parse trees of
+	 * the files are read from {@code cache} when their contents did not change
+	 * since they were cached, skipping lexing and parsing.
+	 * 
+	 * @param dirPath     the path of the module directory
+	 * @param parsingMode the prediction mode used to parse the files
+	 * @param threads     the number of threads used to parse the files and
+	 *                        to build their code members; if less or equal
+	 *                        than 1, everything is done sequentially on the
+	 *                        calling thread
+	 * @param cache       the cache of lexing and parsing outcomes, or
+	 *                        {@code null} if no cache has to be used
+	 * 
+	 * @return the LiSA program corresponding to the module
+	 * 
+	 * @throws IOException if something wrong happens while reading the files
+	 */
+	public static GoProgram processModule(String dirPath, ParsingMode parsingMode, int threads, FrontEndCache cache)
+			throws IOException {
+		return processModule(dirPath, parsingMode, threads, cache, false);
+	}
+
+	/**
+	 * Processes all the Go files contained in the directory {@code dirPath},
+	 * and in its sub-directories, as a single module, and returns the LiSA
+	 * program corresponding to the whole module (see
+	 * {@link #processModule(String, ParsingMode, int, FrontEndCache)}). In
+	 * streaming mode, the module is processed one package at a time, in
+	 * import order: the files of a package are parsed only when the packages
+	 * it imports have been completely built, and their parse trees are
+	 * released as soon as their code members have been built, each function
+	 * and method declaration being detached from the parse tree once its CFG
+	 * has been built. At any time, only the parse trees of the packages along
+	 * the current chain of imports are thus held in memory, instead of the
+	 * ones of the whole module, at the price of parsing and building in
+	 * parallel only the files of the same package. The resulting program is
+	 * the same in both modes. The peak heap usage of the frontend is logged in
+	 * both modes.
+	 * 
+	 * @param dirPath     the path of the module directory
+	 * @param parsingMode the prediction mode used to parse the files
+	 * @param threads     the number of threads used to parse the files and
+	 *                        to build their code members; if less or equal
+	 *                        than 1, everything is done sequentially on the
+	 *                        calling thread
+	 * @param cache       the cache of lexing and parsing outcomes, or
+	 *                        {@code null} if no cache has to be used
+	 * @param streaming   whether code members are built in streaming mode
+	 * 
+	 * @return the LiSA program corresponding to the module
+	 * 
+	 * @throws IOException if something wrong happens while reading the files
+	 */
+	public static GoProgram processModule(String dirPath, ParsingMode parsingMode, int threads, FrontEndCache cache,
+			boolean streaming) throws IOException {
+		log.info("Go front-end setup...");
+		log.info("Reading module... " + dirPath + " with " + Math.max(threads, 1) + " thread(s)");
+
+		resetPeakHeap();
+
+		Module module = new Module(normalize(new File(dirPath)), parsingMode, cache, streaming,
+				threads > 1 ? new ForkJoinPool(threads) : null);
+		try {
+			if (streaming)
+				module.stream();
+			else
+				module.process();
+		} finally {
+			if (module.pool != null)
+				module.pool.shutdown();
+		}
+
+		log.info("PACKAGES: " + module.packages.size() + " FILES: " + module.files);
+		log.info("PARSING TIME: " + module.parsingTime + " CFG time: " + module.cfgTime + " SLL hits: "
+				+ module.sllHits + " SLL misses: " + module.sllMisses);
+
+		GoProgram program = module.program;
+		program.addCompilationUnit(it.unive.golisa.golang.runtime.EmptyInterface.INSTANCE);
+
+		// Register all the types
+		registerGoTypes(program);
+
+		logPeakHeap(streaming);
+
+		return program;
+	}
+
+	/**
+	 * Parses the files of the given frontends, either sequentially (if
+	 * {@code pool} is {@code null}) or on the given pool. The returned parse
+	 * trees follow the order of {@code frontends}.
+	 */
+	private static List<SourceFileContext> parseAll(List<GoFrontEnd> frontends, ForkJoinPool pool)
+			throws IOException {
+		List<Callable<SourceFileContext>> tasks = new ArrayList<>(frontends.size());
+		for (GoFrontEnd frontend : frontends)
+			tasks.add(frontend::parseFile);
+		return invokeAll(tasks, pool);
+	}
+
+	/**
+	 * Builds the code members of the files of the given frontends, that have
+	 * been already declared, either sequentially (if {@code pool} is
+	 * {@code null}) or on the given pool. The additions of each file to the
+	 * units shared with the other files are buffered by {@code program}, and
+	 * merged into it following the order of {@code frontends} once all the
+	 * files have been built, so that the resulting program does not depend
+	 * on the scheduling of the files. The files are indexed starting from
+	 * {@code first} (see {@link GoProgram#buffer(String, int)}).
+	 */
+	private static void buildAll(List<GoFrontEnd> frontends, int first, GoProgram program, ForkJoinPool pool)
+			throws IOException {
+		List<Callable<Void>> tasks = new ArrayList<>(frontends.size());
+		for (int i = 0; i < frontends.size(); i++) {
+			GoFrontEnd frontend = frontends.get(i);
+			program.buffer(frontend.filePath, first + i);
+			tasks.add(() -> {
+				frontend.build();
+				return null;
+			});
+		}
+
+		invokeAll(tasks, pool);
+
+		for (GoFrontEnd frontend : frontends)
+			program.flush(frontend.filePath);
+	}
+
+	/**
+	 * Runs the given tasks, either sequentially (if {@code pool} is
+	 * {@code null}) or on the given pool, and yields their results in the
+	 * order of {@code tasks}.
+	 */
+	private static <T> List<T> invokeAll(List<Callable<T>> tasks, ForkJoinPool pool) throws IOException {
+		List<T> results = new ArrayList<>(tasks.size());
+		if (pool == null) {
+			for (Callable<T> task : tasks)
+				try {
+					results.add(task.call());
+				} catch (IOException | RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+			return results;
+		}
+
+		for (Future<T> task : pool.invokeAll(tasks))
+			try {
+				results.add(task.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while processing the module", e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException)
+					throw (IOException) e.getCause();
+				if (e.getCause() instanceof RuntimeException)
+					// e.g., parsing errors
+					throw (RuntimeException) e.getCause();
+				throw new IOException(e.getCause());
+			}
+
+		return results;
+	}
+
+	/**
+	 * Yields the local packages (i.e., the directories containing at least a
+	 * Go file) rooted in {@code dir}.
+	 */
+	private static List<File> packagesIn(File dir) throws IOException {
+		try (Stream<Path> paths = Files.walk(dir.toPath())) {
+			return paths.filter(Files::isDirectory)
+					.map(Path::toFile)
+					.filter(d -> !goFilesIn(d).isEmpty())
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Yields the Go files directly contained in {@code dir}, sorted by name.
+	 */
+	private static List<File> goFilesIn(File dir) {
+		File[] files = dir.listFiles((d, name) -> name.endsWith(".go"));
+		if (files == null)
+			return Collections.emptyList();
+		Arrays.sort(files);
+		return Arrays.asList(files);
+	}
+
+	/**
+	 * Yields the directories of the local packages imported by the file
+	 * {@code file}, whose parse tree is {@code tree}.
+	 */
+	private static Set<File> localImports(File file, SourceFileContext tree) {
+		Set<File> result = new TreeSet<>();
+		for (ImportDeclContext imp : tree.importDecl())
+			for (ImportSpecContext spec : imp.importSpec()) {
+				String path = spec.importPath().string_().getText();
+				File dir = new File(file.getParentFile(), path.substring(1, path.length() - 1));
+				if (dir.isDirectory() && !goFilesIn(dir).isEmpty())
+					result.add(normalize(dir));
+			}
+		return result;
+	}
+
+	/**
+	 * Yields the name of the unit of the local package in {@code dir}, that
+	 * is, its path relative to the parent of the module directory
+	 * {@code root}, with {@code /} as separator.
+	 */
+	private static String unitName(File root, File dir) {
+		Path base = root.toPath().getParent();
+		Path relative = base == null ? dir.toPath() : base.relativize(dir.toPath());
+		return relative.toString().replace(File.separatorChar, '/');
+	}
+
+	private static File normalize(File file) {
+		return file.toPath().toAbsolutePath().normalize().toFile();
 	}
 
 	/**
@@ -167,30 +661,19 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 	 * 
 	 * @throws IOException if something wrong happens while reading the file
 	 */
-	private Program toLiSAProgram() throws IOException {
+	private GoProgram toLiSAProgram() throws IOException {
 		log.info("Go front-end setup...");
 		log.info("Reading file... " + filePath);
 
-		clearTypes();
-
 		long start = System.currentTimeMillis();
 
-		InputStream stream = new FileInputStream(getFilePath());
-
-		log.info("LOCS: " + Files.lines(Paths.get(getFilePath())).count());
-
-		GoLexer lexer = new GoLexer(CharStreams.fromStream(stream, StandardCharsets.UTF_8));
-		GoParser parser = new GoParser(new CommonTokenStream(lexer));
-		parser.setErrorHandler(new BailErrorStrategy());
-
-		ParseTree tree = parser.sourceFile();
+		SourceFileContext tree = parseFile();
 		long parsingTime = System.currentTimeMillis();
 
-		Program result = visitSourceFile((SourceFileContext) tree);
-
-		log.info("PARSING TIME: " + (parsingTime - start) + " CFG time: " + (System.currentTimeMillis() - parsingTime));
+		GoProgram result = visitSourceFile(tree);
 
-		stream.close();
+		log.info("PARSING TIME: " + (parsingTime - start) + " CFG time: " + (System.currentTimeMillis() - parsingTime)
+				+ " SLL hits: " + sllHits + " SLL misses: " + sllMisses);
 
 		program.addCompilationUnit(it.unive.golisa.golang.runtime.EmptyInterface.INSTANCE);
 
@@ -200,19 +683,112 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 		return result;
 	}
 
-	private void clearTypes() {
-		GoArrayType.clearAll();
-		GoStructType.clearAll();
-		GoSliceType.clearAll();
-		GoPointerType.clearAll();
-		GoMapType.clearAll();
-		GoTupleType.clearAll();
-		GoChannelType.clearAll();
-		GoFunctionType.clearAll();
-		GoVariadicType.clearAll();
+	/**
+	 * Reads and parses the file located at {@code filePath}.
+	 * 
+	 * @return the parse tree of the source file
+	 * 
+	 * @throws IOException if something wrong happens while reading the file
+	 */
+	private SourceFileContext parseFile() throws IOException {
+		// the file is read once: the same buffer is used to count lines, to
+		// compute the cache key and to feed the lexer
+		ByteBuffer content = mapFile();
+		log.info("LOCS: " + countLines(content));
+
+		String key = null;
+		long start = System.nanoTime();
+		if (cache != null) {
+			key = cache.keyOf(content);
+			// a hit skips both lexing and parsing
+			SourceFileContext tree = cache.lookup(filePath, key);
+			if (tree != null) {
+				cache.record(true, System.nanoTime() - start);
+				return tree;
+			}
+		}
+
+		CommonTokenStream tokens = new CommonTokenStream(new GoLexer(decode(content)));
+		SourceFileContext tree = parse(tokens);
+		if (cache != null) {
+			tokens.fill();
+			cache.store(filePath, key, tokens.getTokens(), tree);
+			cache.record(false, System.nanoTime() - start);
+		}
+
+		return tree;
+	}
+
+	/**
+	 * Maps the file located at {@code filePath} in memory.
+	 */
+	private ByteBuffer mapFile() throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			// the mapping stays valid after the channel is closed
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	/**
+	 * Counts the lines of an UTF-8 encoded content, consistently with
+	 * {@link Files#lines(Path)} on files terminated by line feeds.
+	 */
+	private static long countLines(ByteBuffer content) {
+		long lines = 0;
+		int size = content.limit();
+		for (int i = 0; i < size; i++)
+			if (content.get(i) == '\n')
+				lines++;
+		if (size > 0 && content.get(size - 1) != '\n')
+			lines++;
+		return lines;
 	}
 
-	private void registerGoTypes(Program program) {
+	/**
+	 * Decodes an UTF-8 encoded content into a character stream for the lexer,
+	 * replacing malformed input as {@link CharStreams#fromStream} does.
+	 */
+	private CharStream decode(ByteBuffer content) throws CharacterCodingException {
+		CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE)
+				.decode(content.duplicate());
+		return CodePointCharStream.fromBuffer(CodePointBuffer.withChars(chars), filePath);
+	}
+
+	/**
+	 * Parses the given token stream according to {@link #parsingMode}. In
+	 * {@link ParsingMode#SLL_THEN_LL} mode, the stream is first parsed with
+	 * SLL prediction: if it fails, the stream is rewound and parsed again with
+	 * full LL prediction, that is guaranteed to report only real syntax
+	 * errors.
+	 * 
+	 * @param tokens the token stream to parse
+	 * 
+	 * @return the parse tree of the source file
+	 */
+	private SourceFileContext parse(CommonTokenStream tokens) {
+		GoParser parser = new GoParser(tokens);
+		parser.setErrorHandler(new BailErrorStrategy());
+
+		if (parsingMode == ParsingMode.LL)
+			return parser.sourceFile();
+
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		try {
+			SourceFileContext tree = parser.sourceFile();
+			sllHits++;
+			return tree;
+		} catch (ParseCancellationException e) {
+			// SLL cannot be trusted on this input: retry with full LL
+			sllMisses++;
+			parser.reset();
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			return parser.sourceFile();
+		}
+	}
+
+	private static void registerGoTypes(GoProgram program) {
 		program.registerType(GoBoolType.INSTANCE);
 		program.registerType(GoFloat32Type.INSTANCE);
 		program.registerType(GoFloat64Type.INSTANCE);
@@ -231,54 +807,154 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 		program.registerType(GoStringType.INSTANCE);
 		program.registerType(GoErrorType.INSTANCE);
 		program.registerType(GoNilType.INSTANCE);
-		GoArrayType.all().forEach(program::registerType);
-		GoStructType.all().forEach(program::registerType);
-		GoSliceType.all().forEach(program::registerType);
-		GoPointerType.all().forEach(program::registerType);
-		GoMapType.all().forEach(program::registerType);
-		GoTupleType.all().forEach(program::registerType);
-		GoChannelType.all().forEach(program::registerType);
-		GoFunctionType.all().forEach(program::registerType);
-		GoVariadicType.all().forEach(program::registerType);
+		TypeRegistry types = program.getTypeRegistry();
+		GoArrayType.all(types).forEach(program::registerType);
+		GoStructType.all(types).forEach(program::registerType);
+		GoSliceType.all(types).forEach(program::registerType);
+		GoPointerType.all(types).forEach(program::registerType);
+		GoMapType.all(types).forEach(program::registerType);
+		GoTupleType.all(types).forEach(program::registerType);
+		GoChannelType.all(types).forEach(program::registerType);
+		GoFunctionType.all(types).forEach(program::registerType);
+		GoVariadicType.all(types).forEach(program::registerType);
 	}
 
 	@Override
-	public Program visitSourceFile(SourceFileContext ctx) {
+	public GoProgram visitSourceFile(SourceFileContext ctx) {
+		declare(ctx);
+		build();
+		return program;
+	}
+
+	/**
+	 * Visits the package clause, the imports and the global declarations of
+	 * the file, whose parse tree is {@code ctx}, leaving its code members to
+	 * {@link #build()}.
+	 * 
+	 * @param ctx the parse tree of the file
+	 */
+	private void declare(SourceFileContext ctx) {
 		String packageName = visitPackageClause(ctx.packageClause());
 
-		packageUnit = new CompilationUnit(new SourceCodeLocation(filePath, 0, 0), packageName, false);
-		program.addCompilationUnit(packageUnit);
+		// files of the same package share the package unit, that is named
+		// after the directory of the package in a module
+		String unitName = localPackage == null ? packageName : localPackage.unitName;
+		packageUnit = program.getUnit(unitName);
+		if (packageUnit == null) {
+			packageUnit = new CompilationUnit(new SourceCodeLocation(filePath, 0, 0), unitName, false);
+			program.addCompilationUnit(packageUnit);
+		}
 
-		GoInterfaceType.lookup("EMPTY_INTERFACE", packageUnit);
+		GoInterfaceType.lookup(program.getTypeRegistry(), "EMPTY_INTERFACE", packageUnit);
 
 		for (ImportDeclContext imp : ctx.importDecl())
 			visitImportDecl(imp);
 
 		loadCore();
 
+		// the code members are taken before (possibly) detaching them from the
+		// parse tree
+		List<MethodDeclContext> methodDecls = ctx.methodDecl();
+		methods = codeMembers(ctx, methodDecls);
+		functions = codeMembers(ctx, ctx.functionDecl());
+
 		for (DeclarationContext decl : IterationLogger.iterate(log, ctx.declaration(), "Parsing global declarations...",
 				"Global declarations"))
 			visitDeclarationContext(decl);
 
 		updateUnitReferences();
 
-		for (MethodDeclContext decl : IterationLogger.iterate(log, ctx.methodDecl(), "Parsing method declarations...",
+		// the units of the receivers are added here, so that files whose
+		// code members are built concurrently share the same ones
+		for (MethodDeclContext decl : methodDecls)
+			new GoCodeMemberVisitor(packageUnit, filePath, program, constants).receiverUnit(decl);
+	}
+
+	/**
+	 * Builds the code members of the file, that has been already declared
+	 * through {@link #declare(SourceFileContext)}.
+	 */
+	private void build() {
+		for (MethodDeclContext decl : IterationLogger.iterate(log, methods, "Parsing method declarations...",
 				"Method declarations"))
 			visitMethodDecl(decl);
 
 		// method declaration must be linked to compilation unit of a
 		// declaration context, for the function declaration is not needed
 		// Visit of each FunctionDeclContext populating the corresponding cfg
-		for (FunctionDeclContext funcDecl : IterationLogger.iterate(log, ctx.functionDecl(),
+		for (FunctionDeclContext funcDecl : IterationLogger.iterate(log, functions,
 				"Visiting function declarations...", "Function declarations"))
 			visitFunctionDecl(funcDecl);
 
-		return program;
+		methods = null;
+		functions = null;
+	}
+
+	/**
+	 * Yields the given code member declarations of {@code ctx}. In streaming
+	 * mode, the declarations are detached from {@code ctx} and each of them is
+	 * released by the returned collection as soon as it has been iterated
+	 * over: once its CFG has been built, the subtree of a declaration (with
+	 * its tokens) is thus no longer reachable from the frontend.
+	 */
+	private <T extends ParserRuleContext> Collection<T> codeMembers(SourceFileContext ctx, List<T> decls) {
+		if (!streaming)
+			return decls;
+
+		ctx.children.removeAll(new HashSet<>(decls));
+		return new AbstractCollection<T>() {
+
+			@Override
+			public Iterator<T> iterator() {
+				return new Iterator<T>() {
+
+					private int next = 0;
+
+					@Override
+					public boolean hasNext() {
+						return next < decls.size();
+					}
+
+					@Override
+					public T next() {
+						if (!hasNext())
+							throw new NoSuchElementException();
+						return decls.set(next++, null);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return decls.size();
+			}
+		};
+	}
+
+	/**
+	 * Resets the peak usage of the heap memory pools.
+	 */
+	private static void resetPeakHeap() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if (pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+	}
+
+	/**
+	 * Logs the peak usage of the heap memory pools since the last call to
+	 * {@link #resetPeakHeap()}.
+	 */
+	private static void logPeakHeap(boolean streaming) {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if (pool.getType() == MemoryType.HEAP)
+				peak += pool.getPeakUsage().getUsed();
+		log.info("PEAK HEAP: " + (peak >> 20) + " MB" + (streaming ? " (streaming)" : ""));
 	}
 
 	private void updateUnitReferences() {
 		for (CompilationUnit unit : program.getUnits())
-			GoStructType.updateReference(unit.getName(), unit);
+			GoStructType.updateReference(program.getTypeRegistry(), unit.getName(), unit);
 	}
 
 	private void visitDeclarationContext(DeclarationContext decl) {
@@ -334,6 +1010,19 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 
 	@Override
 	public Statement visitImportSpec(ImportSpecContext ctx) {
+		if (modulePackages != null) {
+			String path = visitString_(ctx.importPath().string_());
+			LocalPackage imported = modulePackages.get(normalize(new File(new File(filePath).getParent(), path)));
+			if (imported != null) {
+				// the package is part of the module being processed, and it
+				// has been already parsed by processModule: the file refers to
+				// its unit by its name, or by the alias of the import
+				String name = ctx.IDENTIFIER() == null ? imported.name : ctx.IDENTIFIER().getText();
+				program.addImport(filePath, name, imported.unitName);
+				return null;
+			}
+		}
+
 		return visitImportPath(ctx.importPath());
 	}
 
@@ -353,7 +1042,11 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 			for (int i = 0; i < listOfFiles.length; i++)
 				if (listOfFiles[i].getName().endsWith(".go"))
 					try {
-						Program moduleProgram = GoFrontEnd.processFile(listOfFiles[i].toString());
+						GoFrontEnd moduleFrontEnd = new GoFrontEnd(listOfFiles[i].toString(), parsingMode,
+								program.getTypeRegistry(), cache, streaming);
+						Program moduleProgram = moduleFrontEnd.toLiSAProgram();
+						sllHits += moduleFrontEnd.sllHits;
+						sllMisses += moduleFrontEnd.sllMisses;
 
 						for (CompilationUnit cu : moduleProgram.getUnits())
 							program.addCompilationUnit(cu);
@@ -382,4 +1075,232 @@ public class GoFrontEnd extends GoParserBaseVisitor<Object> implements GoRuntime
 		return new GoCodeMemberVisitor(packageUnit, ctx, filePath, program, constants).visitCodeMember(ctx);
 	}
 
+	/**
+	 * The state of the processing of a module (see
+	 * {@link GoFrontEnd#processModule(String, ParsingMode, int, FrontEndCache, boolean)}).
+	 */
+	private static final class Module {
+
+		private final File root;
+
+		private final GoProgram program = new GoProgram();
+
+		private final ParsingMode parsingMode;
+
+		private final FrontEndCache cache;
+
+		private final boolean streaming;
+
+		/**
+		 * The pool where files are parsed and built, or {@code null} if they
+		 * are processed on the calling thread.
+		 */
+		private final ForkJoinPool pool;
+
+		/**
+		 * The local packages discovered so far, indexed by their directories.
+		 */
+		private final Map<File, LocalPackage> packages = new TreeMap<>();
+
+		/**
+		 * The number of files whose code members have been built so far.
+		 */
+		private int files;
+
+		private int sllHits;
+
+		private int sllMisses;
+
+		private long parsingTime;
+
+		private long cfgTime;
+
+		private Module(File root, ParsingMode parsingMode, FrontEndCache cache, boolean streaming,
+				ForkJoinPool pool) {
+			this.root = root;
+			this.parsingMode = parsingMode;
+			this.cache = cache;
+			this.streaming = streaming;
+			this.pool = pool;
+		}
+
+		/**
+		 * Parses all the packages of the module, and then declares and builds
+		 * all their files in import order.
+		 */
+		private void process() throws IOException {
+			// every file is parsed once, collecting the package import graph:
+			// each round parses the packages discovered by the previous one
+			List<File> roots = packagesIn(root);
+			Collection<File> frontier = roots;
+			while (!frontier.isEmpty()) {
+				Set<File> discovered = new TreeSet<>();
+				for (LocalPackage pkg : parse(frontier))
+					for (File dep : pkg.imports)
+						if (!packages.containsKey(dep))
+							discovered.add(dep);
+				frontier = discovered;
+			}
+
+			List<LocalPackage> order = new ArrayList<>(packages.size());
+			Set<File> visited = new HashSet<>();
+			for (File dir : roots)
+				importOrder(dir, visited, order);
+
+			List<GoFrontEnd> frontends = new ArrayList<>();
+			for (LocalPackage pkg : order)
+				frontends.addAll(declare(pkg));
+			build(frontends);
+		}
+
+		/**
+		 * Adds to {@code order} the package in {@code dir}, after the ones it
+		 * imports that are not in {@code visited}. Ties are broken by path, so
+		 * that the order does not depend on the order of discovery.
+		 */
+		private void importOrder(File dir, Set<File> visited, List<LocalPackage> order) {
+			// Go forbids import cycles: the visited set just ensures termination
+			if (!visited.add(dir))
+				return;
+			LocalPackage pkg = packages.get(dir);
+			for (File dep : pkg.imports)
+				importOrder(dep, visited, order);
+			order.add(pkg);
+		}
+
+		/**
+		 * Processes the module one package at a time, in the same order as
+		 * {@link #process()}.
+		 */
+		private void stream() throws IOException {
+			Set<File> visited = new HashSet<>();
+			for (File dir : packagesIn(root))
+				stream(dir, visited);
+		}
+
+		/**
+		 * Parses, declares and builds the package in {@code dir}, after the
+		 * ones it imports that are not in {@code visited}, and then releases
+		 * its parse trees.
+		 */
+		private void stream(File dir, Set<File> visited) throws IOException {
+			// Go forbids import cycles: the visited set just ensures termination
+			if (!visited.add(dir))
+				return;
+			LocalPackage pkg = parse(Collections.singleton(dir)).get(0);
+			for (File dep : pkg.imports)
+				stream(dep, visited);
+			build(declare(pkg));
+		}
+
+		/**
+		 * Parses the files of the packages in the given directories, that are
+		 * added to {@link #packages}. The packages are returned in the order
+		 * of {@code dirs}.
+		 */
+		private List<LocalPackage> parse(Collection<File> dirs) throws IOException {
+			long start = System.currentTimeMillis();
+
+			List<LocalPackage> result = new ArrayList<>(dirs.size());
+			List<LocalPackage> owners = new ArrayList<>();
+			List<GoFrontEnd> frontends = new ArrayList<>();
+			for (File dir : dirs) {
+				LocalPackage pkg = new LocalPackage(dir, unitName(root, dir));
+				packages.put(dir, pkg);
+				result.add(pkg);
+				Map<String, ExpressionContext> constants = new HashMap<>();
+				for (File file : goFilesIn(dir)) {
+					owners.add(pkg);
+					frontends.add(new GoFrontEnd(file.toString(), parsingMode, program, constants, pkg,
+							packages, cache, streaming));
+				}
+			}
+
+			List<SourceFileContext> trees = parseAll(frontends, pool);
+
+			for (int i = 0; i < frontends.size(); i++) {
+				LocalPackage pkg = owners.get(i);
+				GoFrontEnd frontend = frontends.get(i);
+				SourceFileContext tree = trees.get(i);
+				if (pkg.files.isEmpty())
+					pkg.name = tree.packageClause().IDENTIFIER().getText();
+				pkg.files.add(Pair.of(frontend, tree));
+				for (File dep : localImports(new File(frontend.filePath), tree))
+					if (!dep.equals(pkg.dir))
+						pkg.imports.add(dep);
+			}
+
+			parsingTime += System.currentTimeMillis() - start;
+			return result;
+		}
+
+		/**
+		 * Declares the files of {@code pkg}, that are then released by the
+		 * package, and yields their frontends.
+		 */
+		private List<GoFrontEnd> declare(LocalPackage pkg) {
+			long start = System.currentTimeMillis();
+
+			List<GoFrontEnd> frontends = new ArrayList<>(pkg.files.size());
+			for (Pair<GoFrontEnd, SourceFileContext> file : pkg.files) {
+				file.getLeft().declare(file.getRight());
+				frontends.add(file.getLeft());
+			}
+			// past this point, only the code members of the files are needed
+			pkg.files.clear();
+
+			cfgTime += System.currentTimeMillis() - start;
+			return frontends;
+		}
+
+		/**
+		 * Builds the code members of the files of the given frontends, that
+		 * have been already declared.
+		 */
+		private void build(List<GoFrontEnd> frontends) throws IOException {
+			long start = System.currentTimeMillis();
+
+			buildAll(frontends, files, program, pool);
+			for (GoFrontEnd frontend : frontends) {
+				sllHits += frontend.sllHits;
+				sllMisses += frontend.sllMisses;
+			}
+			files += frontends.size();
+
+			cfgTime += System.currentTimeMillis() - start;
+		}
+	}
+
+	/**
+	 * A local package of the module being processed, with the files it
+	 * contains and the local packages it imports.
+	 */
+	private static final class LocalPackage {
+
+		private final File dir;
+
+		private final String unitName;
+
+		/**
+		 * The name of the package, given by the package clause of its files.
+		 */
+		private String name;
+
+		/**
+		 * The frontends of the files of the package, sorted by name, with their
+		 * parse trees.
+		 */
+		private final List<Pair<GoFrontEnd, SourceFileContext>> files = new ArrayList<>();
+
+		/**
+		 * The directories of the local packages imported by this one.
+		 */
+		private final Set<File> imports = new TreeSet<>();
+
+		private LocalPackage(File dir, String unitName) {
+			this.dir = dir;
+			this.unitName = unitName;
+		}
+	}
+
 }
\ No newline at end of file
@@ -14,7 +14,6 @@ import it.unive.golisa.cfg.type.GoType;
 import it.unive.golisa.cfg.type.composite.GoFunctionType;
 import it.unive.golisa.cfg.type.composite.GoTupleType;
 import it.unive.lisa.program.CompilationUnit;
-import it.unive.lisa.program.Program;
 import it.unive.lisa.program.SourceCodeLocation;
 import it.unive.lisa.program.Unit;
 import it.unive.lisa.program.cfg.CFG;
@@ -55,8 +54,8 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	 * @param program     the current program
 	 * @param constants   the constant mapping
 	 */
-	protected GoFunctionVisitor(FunctionDeclContext funcDecl, CompilationUnit packageUnit, String file, Program program,
-			Map<String, ExpressionContext> constants) {
+	protected GoFunctionVisitor(FunctionDeclContext funcDecl, CompilationUnit packageUnit, String file,
+			GoProgram program, Map<String, ExpressionContext> constants) {
 		super(packageUnit, file, program, constants);
 		this.currentUnit = packageUnit;
 
@@ -64,7 +63,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 		cfg = new VariableScopingCFG(buildCFGDescriptor(funcDecl, packageUnit), entrypoints, new AdjacencyMatrix<>());
 		initializeVisibleIds();
 
-		packageUnit.addCFG(cfg);
+		program.addCFG(file, packageUnit, cfg);
 	}
 
 	/**
@@ -76,7 +75,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	 * @param program     the current program
 	 * @param constants   the constant mapping
 	 */
-	protected GoFunctionVisitor(FunctionLitContext funcLit, CompilationUnit packageUnit, String file, Program program,
+	protected GoFunctionVisitor(FunctionLitContext funcLit, CompilationUnit packageUnit, String file, GoProgram program,
 			Map<String, ExpressionContext> constants) {
 		super(packageUnit, file, program, constants);
 		this.currentUnit = packageUnit;
@@ -85,7 +84,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 		cfg = new VariableScopingCFG(buildCFGDescriptor(funcLit), entrypoints, new AdjacencyMatrix<>());
 		initializeVisibleIds();
 
-		packageUnit.addCFG(cfg);
+		program.addCFG(file, packageUnit, cfg);
 	}
 
 	/**
@@ -96,7 +95,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	 * @param program   the current program
 	 * @param constants the constant mapping
 	 */
-	public GoFunctionVisitor(CompilationUnit unit, String file, Program program,
+	public GoFunctionVisitor(CompilationUnit unit, String file, GoProgram program,
 			Map<String, ExpressionContext> constants) {
 		super(unit, file, program, constants);
 	}
@@ -105,8 +104,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	public Pair<Statement, Statement> visitFunctionDecl(FunctionDeclContext ctx) {
 
 		Statement entryNode = null;
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-				Statement> body = visitMethodBlock(ctx.block());
+		Triple<Statement, CFGBlock, Statement> body = visitMethodBlock(ctx.block());
 
 		for (Entry<Statement, String> gotoStmt : gotos.entrySet())
 			// we must call cfg.addEdge, and not addEdge
@@ -114,7 +112,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 
 		// The function named "main" is the entry point of the program
 		if (cfg.getDescriptor().getName().equals("main"))
-			program.addEntryPoint(cfg);
+			program.addEntryPoint(file, cfg);
 
 		Type returnType = cfg.getDescriptor().getReturnType();
 
@@ -200,8 +198,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	 */
 	protected CFG buildAnonymousCFG(FunctionLitContext ctx) {
 		Statement entryNode = null;
-		Triple<Statement, AdjacencyMatrix<Statement, Edge, CFG>,
-				Statement> body = visitMethodBlock(ctx.block());
+		Triple<Statement, CFGBlock, Statement> body = visitMethodBlock(ctx.block());
 
 		for (Entry<Statement, String> gotoStmt : gotos.entrySet())
 			// we must call cfg.addEdge, and not addEdge
@@ -301,7 +298,7 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 	}
 
 	private CFGDescriptor buildCFGDescriptor(FunctionLitContext funcLit) {
-		String funcName = "anonymousFunction" + c++;
+		String funcName = program.nextAnonymousFunctionName(file);
 		SignatureContext signature = funcLit.signature();
 		ParametersContext formalPars = signature.parameters();
 
@@ -345,6 +342,6 @@ class GoFunctionVisitor extends GoCodeMemberVisitor {
 		Type returnType = getGoReturnType(sign);
 		Parameter[] params = visitParameters(sign.parameters());
 
-		return GoFunctionType.lookup(new GoFunctionType(returnType, params));
+		return GoFunctionType.lookup(program.getTypeRegistry(), new GoFunctionType(returnType, params));
 	}
 }
@@ -0,0 +1,280 @@
+package it.unive.golisa.frontend;
+
+import it.unive.golisa.cfg.type.composite.TypeRegistry;
+import it.unive.lisa.program.CompilationUnit;
+import it.unive.lisa.program.Global;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.cfg.CFG;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Program} built by the {@link GoFrontEnd}. Besides its units, a Go
+ * program owns the {@link TypeRegistry} where its composite types are
+ * interned, that is passed explicitly to the type lookups performed while
+ * building and analyzing it, the counter used to name its anonymous functions
+ * and the local packages imported by each of its files. Independent programs
+ * can thus be built and analyzed concurrently.<br>
+ * <br>
+ * The code members of different files of the same program can also be built
+ * concurrently (see {@link #buffer(String, int)}): the additions that each
+ * file makes to the units shared with the other files are buffered, and then
+ * replayed in file order by {@link #flush(String)}, so that the program does
+ * not depend on the order in which the files are built.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class GoProgram extends Program {
+
+	private final TypeRegistry types;
+
+	private int anonymousFunctions;
+
+	/**
+	 * The names of the units of the local packages imported by each file,
+	 * indexed by the name the file refers to them with.
+	 */
+	private final Map<String, Map<String, String>> imports = new ConcurrentHashMap<>();
+
+	/**
+	 * The buffers of the files whose code members are being built, indexed by
+	 * the paths of the files.
+	 */
+	private final Map<String, FileBuffer> buffers = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds an empty program, with its own (empty) type registry.
+	 */
+	public GoProgram() {
+		this(new TypeRegistry());
+	}
+
+	/**
+	 * Builds an empty program, interning its types in {@code types}.
+	 *
+	 * @param types the type registry of the program
+	 */
+	public GoProgram(TypeRegistry types) {
+		this.types = types;
+	}
+
+	/**
+	 * Yields the registry where the composite types of this program are
+	 * interned.
+	 *
+	 * @return the type registry of this program
+	 */
+	public TypeRegistry getTypeRegistry() {
+		return types;
+	}
+
+	/**
+	 * Yields a fresh name for an anonymous function of this program. Names are
+	 * given in order of visit, starting from {@code anonymousFunction0}.
+	 *
+	 * @return a fresh name for an anonymous function
+	 */
+	public String nextAnonymousFunctionName() {
+		return "anonymousFunction" + anonymousFunctions++;
+	}
+
+	/**
+	 * Records that the file {@code file} imports the local package whose unit
+	 * is named {@code unitName}, referring to it as {@code name}.
+	 *
+	 * @param file     the path of the importing file
+	 * @param name     the package name, or the alias, used by the file
+	 * @param unitName the name of the unit of the package
+	 */
+	void addImport(String file, String name, String unitName) {
+		imports.computeIfAbsent(file, k -> new ConcurrentHashMap<>()).put(name, unitName);
+	}
+
+	/**
+	 * Yields the name of the unit that the file {@code file} refers to as
+	 * {@code name}, that is, the one of the local package it imports with that
+	 * name, or {@code name} itself if no such package exists.
+	 *
+	 * @param file the path of the file
+	 * @param name the name used by the file
+	 *
+	 * @return the name of the unit
+	 */
+	String unitOf(String file, String name) {
+		Map<String, String> names = imports.get(file);
+		String unitName = names == null ? null : names.get(name);
+		return unitName == null ? name : unitName;
+	}
+
+	/**
+	 * Starts buffering the additions to this program made while building the
+	 * code members of the file {@code file}. Until {@link #flush(String)} is
+	 * called, the units added through
+	 * {@link #addCompilationUnit(String, CompilationUnit)} are visible only to
+	 * the file, and the additions to the units of this program are deferred,
+	 * so that the code members of different files can be built by different
+	 * threads: this program is only read while they are built. The anonymous
+	 * functions of the file are named after {@code index}, so that their names
+	 * do not depend on the order in which the files are built.
+	 *
+	 * @param file  the path of the file
+	 * @param index the index of the file, unique in this program
+	 */
+	void buffer(String file, int index) {
+		buffers.put(file, new FileBuffer(index));
+	}
+
+	/**
+	 * Replays, in order, the additions buffered for the file {@code file}
+	 * since the call to {@link #buffer(String, int)}, and stops buffering
+	 * them.
+	 *
+	 * @param file the path of the file
+	 */
+	void flush(String file) {
+		FileBuffer buffer = buffers.remove(file);
+		if (buffer != null)
+			buffer.additions.forEach(Runnable::run);
+	}
+
+	/**
+	 * Adds {@code unit} to this program, on behalf of the file {@code file}.
+	 *
+	 * @param file the path of the file
+	 * @param unit the unit to add
+	 */
+	void addCompilationUnit(String file, CompilationUnit unit) {
+		FileBuffer buffer = buffers.get(file);
+		if (buffer == null)
+			addCompilationUnit(unit);
+		else {
+			buffer.units.putIfAbsent(unit.getName(), unit);
+			buffer.additions.add(() -> addCompilationUnit(unit));
+		}
+	}
+
+	/**
+	 * Yields the unit named {@code name} as seen by the file {@code file},
+	 * that is, the one of this program, or the one added by the file if this
+	 * program has no such unit.
+	 *
+	 * @param file the path of the file
+	 * @param name the name of the unit
+	 *
+	 * @return the unit, or {@code null} if no unit is named {@code name}
+	 */
+	CompilationUnit getUnit(String file, String name) {
+		CompilationUnit unit = getUnit(name);
+		if (unit != null)
+			return unit;
+		FileBuffer buffer = buffers.get(file);
+		return buffer == null ? null : buffer.units.get(name);
+	}
+
+	/**
+	 * Adds {@code cfg} to the code members of {@code unit}, on behalf of the
+	 * file {@code file}.
+	 *
+	 * @param file the path of the file
+	 * @param unit the unit
+	 * @param cfg  the code member to add
+	 */
+	void addCFG(String file, CompilationUnit unit, CFG cfg) {
+		add(file, unit, () -> unit.addCFG(cfg));
+	}
+
+	/**
+	 * Adds {@code cfg} to the instance code members of {@code unit}, on
+	 * behalf of the file {@code file}.
+	 *
+	 * @param file the path of the file
+	 * @param unit the unit
+	 * @param cfg  the instance code member to add
+	 */
+	void addInstanceCFG(String file, CompilationUnit unit, CFG cfg) {
+		add(file, unit, () -> unit.addInstanceCFG(cfg));
+	}
+
+	/**
+	 * Adds {@code global} to the instance globals of {@code unit}, on behalf
+	 * of the file {@code file}.
+	 *
+	 * @param file   the path of the file
+	 * @param unit   the unit
+	 * @param global the instance global to add
+	 */
+	void addInstanceGlobal(String file, CompilationUnit unit, Global global) {
+		add(file, unit, () -> unit.addInstanceGlobal(global));
+	}
+
+	/**
+	 * Adds {@code cfg} to the entry points of this program, on behalf of the
+	 * file {@code file}.
+	 *
+	 * @param file the path of the file
+	 * @param cfg  the entry point to add
+	 */
+	void addEntryPoint(String file, CFG cfg) {
+		FileBuffer buffer = buffers.get(file);
+		if (buffer == null)
+			addEntryPoint(cfg);
+		else
+			buffer.additions.add(() -> addEntryPoint(cfg));
+	}
+
+	/**
+	 * Yields a fresh name for an anonymous function of the file {@code file}.
+	 * If the additions of the file are being buffered, the name is
+	 * {@code anonymousFunction<index>_<n>}, where {@code index} is the one of
+	 * the file (see {@link #buffer(String, int)}) and {@code n} counts the
+	 * anonymous functions of the file; otherwise, it is the one given by
+	 * {@link #nextAnonymousFunctionName()}.
+	 *
+	 * @param file the path of the file
+	 *
+	 * @return a fresh name for an anonymous function
+	 */
+	String nextAnonymousFunctionName(String file) {
+		FileBuffer buffer = buffers.get(file);
+		if (buffer == null)
+			return nextAnonymousFunctionName();
+		return "anonymousFunction" + buffer.index + "_" + buffer.anonymousFunctions++;
+	}
+
+	private void add(String file, CompilationUnit unit, Runnable addition) {
+		FileBuffer buffer = buffers.get(file);
+		if (buffer == null || getUnit(unit.getName()) != unit)
+			// the unit is not (yet) shared with other files
+			addition.run();
+		else
+			buffer.additions.add(addition);
+	}
+
+	/**
+	 * The additions to a program made by a file whose code members are being
+	 * built. A buffer is accessed only by the thread building the file.
+	 */
+	private static final class FileBuffer {
+
+		private final int index;
+
+		private int anonymousFunctions;
+
+		/**
+		 * The units added by the file, indexed by name.
+		 */
+		private final Map<String, CompilationUnit> units = new HashMap<>();
+
+		/**
+		 * The deferred additions, in the order they have been made.
+		 */
+		private final List<Runnable> additions = new ArrayList<>();
+
+		private FileBuffer(int index) {
+			this.index = index;
+		}
+	}
+}
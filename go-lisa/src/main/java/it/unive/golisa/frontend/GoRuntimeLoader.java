@@ -119,7 +119,7 @@ public interface GoRuntimeLoader {
 	 * @param program the program
 	 * @param mapper  a mapper
 	 */
-	default void loadRuntime(String module, Program program, GoLangAPISignatureMapper mapper) {
+	default void loadRuntime(String module, GoProgram program, GoLangAPISignatureMapper mapper) {
 		if (module.equals("strings"))
 			loadStrings(program);
 		else if (module.equals("fmt"))
@@ -167,9 +167,9 @@ public interface GoRuntimeLoader {
 		program.addCompilationUnit(sdkerrors);
 	}
 
-	private void loadCosmosTypes(Program program) {
+	private void loadCosmosTypes(GoProgram program) {
 		program.registerType(Grant.INSTANCE);
-		GoStructType.lookup(Grant.INSTANCE.getUnit().getName(), Grant.INSTANCE.getUnit());
+		GoStructType.lookup(program.getTypeRegistry(), Grant.INSTANCE.getUnit().getName(), Grant.INSTANCE.getUnit());
 	}
 
 	private void loadFilePath(Program program) {
@@ -427,7 +427,7 @@ public interface GoRuntimeLoader {
 		program.addCompilationUnit(fmt);
 	}
 
-	private void loadTime(Program program) {
+	private void loadTime(GoProgram program) {
 		CompilationUnit time = new CompilationUnit(runtimeLocation, "time", false);
 
 		// adding functions and methods
@@ -440,7 +440,8 @@ public interface GoRuntimeLoader {
 
 		// adding types
 		program.registerType(Time.INSTANCE);
-		GoStructType.lookup(Time.INSTANCE.getUnit().getName(), time);
+		// the unit of the struct type belongs to the program
+		GoStructType.lookup(program.getTypeRegistry(), Time.INSTANCE.getUnit().getName(), time);
 
 		program.registerType(it.unive.golisa.cfg.runtime.time.type.Month.INSTANCE);
 		program.registerType(Duration.INSTANCE);
@@ -50,7 +50,6 @@ import it.unive.golisa.cfg.type.numeric.unsigned.GoUIntPrtType;
 import it.unive.golisa.cfg.type.numeric.unsigned.GoUIntType;
 import it.unive.lisa.program.CompilationUnit;
 import it.unive.lisa.program.Global;
-import it.unive.lisa.program.Program;
 import it.unive.lisa.program.SourceCodeLocation;
 import it.unive.lisa.program.cfg.CFG;
 import it.unive.lisa.program.cfg.CFGDescriptor;
@@ -78,7 +77,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 
 	private final CompilationUnit unit;
 
-	private final Program program;
+	private final GoProgram program;
 
 	private final Map<String, ExpressionContext> constants;
 
@@ -90,7 +89,8 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 	 * @param program   the current program
 	 * @param constants the constant mapping
 	 */
-	public GoTypeVisitor(String file, CompilationUnit unit, Program program, Map<String, ExpressionContext> constants) {
+	public GoTypeVisitor(String file, CompilationUnit unit, GoProgram program,
+			Map<String, ExpressionContext> constants) {
 		this.file = file;
 		this.unit = unit;
 		this.program = program;
@@ -145,15 +145,15 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 			case "error":
 				return GoErrorType.INSTANCE;
 			default:
-				if (GoStructType.hasStructType(type))
-					return GoStructType.get(type);
-				else if (GoAliasType.hasAliasType(type))
-					return GoAliasType.get(type);
-				else if (GoInterfaceType.hasInterfaceType(type))
-					return GoInterfaceType.get(type);
+				if (GoStructType.hasStructType(program.getTypeRegistry(), type))
+					return GoStructType.get(program.getTypeRegistry(), type);
+				else if (GoAliasType.hasAliasType(program.getTypeRegistry(), type))
+					return GoAliasType.get(program.getTypeRegistry(), type);
+				else if (GoInterfaceType.hasInterfaceType(program.getTypeRegistry(), type))
+					return GoInterfaceType.get(program.getTypeRegistry(), type);
 				else {
 					CompilationUnit unit = new CompilationUnit(new SourceCodeLocation(file, 0, 0), type, false);
-					return GoStructType.lookup(type, unit);
+					return GoStructType.lookup(program.getTypeRegistry(), type, unit);
 				}
 			}
 		}
@@ -232,7 +232,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 	public Type visitArrayType(ArrayTypeContext ctx) {
 		Type contentType = visitElementType(ctx.elementType());
 		Integer length = visitArrayLength(ctx.arrayLength());
-		return GoArrayType.lookup(new GoArrayType(contentType, length));
+		return GoArrayType.lookup(program.getTypeRegistry(), new GoArrayType(contentType, length));
 	}
 
 	@Override
@@ -299,7 +299,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 	public GoType visitSliceType(SliceTypeContext ctx) {
 		Type contentType = visitElementType(ctx.elementType());
 		contentType = contentType == null ? Untyped.INSTANCE : contentType;
-		return GoSliceType.lookup(new GoSliceType(contentType));
+		return GoSliceType.lookup(program.getTypeRegistry(), new GoSliceType(contentType));
 	}
 
 	@Override
@@ -310,7 +310,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 		Type elementType = visitElementType(ctx.elementType());
 		elementType = elementType == null ? Untyped.INSTANCE : elementType;
 
-		return GoMapType.lookup(new GoMapType(keyType, elementType));
+		return GoMapType.lookup(program.getTypeRegistry(), new GoMapType(keyType, elementType));
 	}
 
 	@Override
@@ -319,11 +319,11 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 		contentType = contentType == null ? Untyped.INSTANCE : contentType;
 
 		if (ctx.RECEIVE() == null)
-			return GoChannelType.lookup(new GoChannelType(contentType));
+			return GoChannelType.lookup(program.getTypeRegistry(), new GoChannelType(contentType));
 		else if (GoCodeMemberVisitor.getCol(ctx.CHAN()) < GoCodeMemberVisitor.getCol(ctx.RECEIVE()))
-			return GoChannelType.lookup(new GoChannelType(contentType, true, false));
+			return GoChannelType.lookup(program.getTypeRegistry(), new GoChannelType(contentType, true, false));
 
-		return GoChannelType.lookup(new GoChannelType(contentType, false, true));
+		return GoChannelType.lookup(program.getTypeRegistry(), new GoChannelType(contentType, false, true));
 	}
 
 	@Override
@@ -334,7 +334,8 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 	@Override
 	public Type visitPointerType(PointerTypeContext ctx) {
 		Type baseType = visitType_(ctx.type_());
-		return GoPointerType.lookup(new GoPointerType(baseType == null ? Untyped.INSTANCE : baseType));
+		return GoPointerType.lookup(program.getTypeRegistry(),
+				new GoPointerType(baseType == null ? Untyped.INSTANCE : baseType));
 	}
 
 	@Override
@@ -377,7 +378,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 			// -1 is just a placeholder. It will be replaced with the
 			// correct size in GoCodeMemberVisitor.visitCompositeLit.
 			Type elementType = visitElementType(ctx.elementType());
-			return GoArrayType.lookup(new GoArrayType(elementType, -1));
+			return GoArrayType.lookup(program.getTypeRegistry(), new GoArrayType(elementType, -1));
 		}
 	}
 
@@ -401,11 +402,11 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 	public GoStructType visitStructType(StructTypeContext ctx) {
 		for (FieldDeclContext field : ctx.fieldDecl())
 			for (Pair<String, Type> fd : visitFieldDecl(field))
-				unit.addInstanceGlobal(new Global(
+				program.addInstanceGlobal(file, unit, new Global(
 						new SourceCodeLocation(file, GoCodeMemberVisitor.getLine(field),
 								GoCodeMemberVisitor.getCol(field)),
 						fd.getLeft(), fd.getRight() == null ? Untyped.INSTANCE : fd.getRight()));
-		return GoStructType.lookup(unit.getName(), unit);
+		return GoStructType.lookup(program.getTypeRegistry(), unit.getName(), unit);
 	}
 
 	@Override
@@ -413,12 +414,12 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 
 		// The interface is empty
 		if (ctx.methodSpec().size() == 0)
-			return GoInterfaceType.getEmptyInterface();
+			return GoInterfaceType.getEmptyInterface(program.getTypeRegistry());
 
 		for (MethodSpecContext methodSpec : ctx.methodSpec())
 			for (CFGDescriptor desc : visitMethodSpec(methodSpec))
-				unit.addInstanceCFG(new CFG(desc));
-		return GoInterfaceType.lookup(unit.getName(), unit);
+				program.addInstanceCFG(file, unit, new CFG(desc));
+		return GoInterfaceType.lookup(program.getTypeRegistry(), unit.getName(), unit);
 	}
 
 	@Override
@@ -449,7 +450,7 @@ public class GoTypeVisitor extends GoParserBaseVisitor<Object> {
 		else if (ctx.typeName() != null) {
 			Type type = visitTypeName(ctx.typeName());
 
-			CompilationUnit unitType = program.getUnit(type.toString());
+			CompilationUnit unitType = program.getUnit(file, type.toString());
 
 			if (unitType != null)
 				for (CFG cfg : unitType.getAllCFGs())
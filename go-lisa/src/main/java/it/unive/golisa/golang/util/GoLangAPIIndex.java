@@ -0,0 +1,497 @@
+package it.unive.golisa.golang.util;
+
+import it.unive.golisa.golang.api.signature.ConstGoLangApiSignature;
+import it.unive.golisa.golang.api.signature.FuncGoLangApiSignature;
+import it.unive.golisa.golang.api.signature.GoLangApiSignature;
+import it.unive.golisa.golang.api.signature.MethodGoLangApiSignature;
+import it.unive.golisa.golang.api.signature.TypeGoLangApiSignature;
+import it.unive.golisa.golang.api.signature.VarGoLangApiSignature;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A compact, binary index of the signatures of the Go standard library APIs
+ * listed in the {@code go-api/*.txt} resources. The index is generated at
+ * build time by {@link #main(String[])} and it is made of:
+ * <ul>
+ * <li>a pool of all the distinct strings of the signatures, each one stored
+ * once and referred to by its position;</li>
+ * <li>a table of packages, holding the offset and the number of the
+ * signatures of each package, and the kinds of signatures it has;</li>
+ * <li>the signatures, grouped by package, as sequences of references to the
+ * string pool.</li>
+ * </ul>
+ * When read from the file system, the index is memory-mapped. Only the table
+ * of packages is read when the index is opened: strings are decoded on first
+ * use, and the signatures of a package are decoded the first time that
+ * package is asked for.
+ *
+ * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+ */
+public class GoLangAPIIndex {
+
+	private static final Logger log = LogManager.getLogger(GoLangAPIIndex.class);
+
+	/**
+	 * The classpath location of the index.
+	 */
+	public static final String RESOURCE = "/go-api/go-api.idx";
+
+	private static final String API_FOLDER = "/go-api/";
+
+	private static final int MAGIC = 0x47415049;
+
+	private static final int VERSION = 2;
+
+	private static final int NULL = -1;
+
+	private static final int ENTRY_SIZE = 16;
+
+	/**
+	 * The kind of the constant signatures.
+	 */
+	static final byte CONST = 0;
+
+	/**
+	 * The kind of the function signatures.
+	 */
+	static final byte FUNC = 1;
+
+	/**
+	 * The kind of the method signatures.
+	 */
+	static final byte METHOD = 2;
+
+	/**
+	 * The kind of the type signatures.
+	 */
+	static final byte TYPE = 3;
+
+	/**
+	 * The kind of the variable signatures.
+	 */
+	static final byte VAR = 4;
+
+	private final ByteBuffer buffer;
+
+	private final int stringOffsets;
+
+	private final int stringPool;
+
+	private final String[] strings;
+
+	private final Map<String, Integer> packageEntries;
+
+	private final Map<String, PackageSignatures> loaded = new ConcurrentHashMap<>();
+
+	private GoLangAPIIndex(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			throw new IOException("Not a Go API index");
+
+		int stringCount = buffer.getInt(8);
+		this.stringOffsets = 12;
+		this.strings = new String[stringCount];
+		this.stringPool = stringOffsets + 4 * stringCount + 4;
+
+		int packageTable = stringPool + buffer.getInt(stringPool - 4);
+		int packageCount = buffer.getInt(packageTable);
+		this.packageEntries = new HashMap<>(packageCount * 2);
+		for (int i = 0; i < packageCount; i++) {
+			int entry = packageTable + 4 + ENTRY_SIZE * i;
+			packageEntries.put(string(buffer.getInt(entry)), entry);
+		}
+	}
+
+	/**
+	 * Opens the index of the Go APIs bundled with GoLiSA. If the index has not
+	 * been generated (e.g., when running from the sources without the build),
+	 * it is built in memory from the {@code go-api/*.txt} resources.
+	 *
+	 * @return the index
+	 *
+	 * @throws IOException if neither the index nor the APIs can be read
+	 */
+	public static GoLangAPIIndex load() throws IOException {
+		URL url = GoLangAPIIndex.class.getResource(RESOURCE);
+		if (url == null) {
+			log.warn("Go API index not found, building it from the API listings");
+			return inMemory(readResources());
+		}
+
+		if ("file".equals(url.getProtocol()))
+			try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+				return new GoLangAPIIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			} catch (URISyntaxException e) {
+				throw new IOException("Invalid location of the Go API index: " + url, e);
+			}
+
+		// entries of a jar cannot be mapped: the index is read once in memory
+		try (InputStream in = url.openStream()) {
+			return new GoLangAPIIndex(ByteBuffer.wrap(in.readAllBytes()));
+		}
+	}
+
+	/**
+	 * Builds, in memory, the index of the APIs listed in {@code listing}, a
+	 * file in the format of the {@code go-api/*.txt} resources. The index is
+	 * encoded as it is by {@link #main(String[])}.
+	 *
+	 * @param listing the API listing
+	 *
+	 * @return the index
+	 *
+	 * @throws IOException if the listing cannot be read
+	 */
+	public static GoLangAPIIndex fromListing(InputStream listing) throws IOException {
+		Map<String, Set<GoLangApiSignature>> apis = new TreeMap<>();
+		merge(apis, GoLangAPISignatureLoader.parseGoAPIFile(listing));
+		return inMemory(apis);
+	}
+
+	private static GoLangAPIIndex inMemory(Map<String, Set<GoLangApiSignature>> apis) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(apis, out);
+		return new GoLangAPIIndex(ByteBuffer.wrap(out.toByteArray()));
+	}
+
+	/**
+	 * Yields the packages in this index.
+	 *
+	 * @return the packages
+	 */
+	public Set<String> getPackages() {
+		return Collections.unmodifiableSet(packageEntries.keySet());
+	}
+
+	/**
+	 * Yields the signatures of the package {@code pkg}, decoding them the
+	 * first time they are requested.
+	 *
+	 * @param pkg the package
+	 *
+	 * @return the signatures of {@code pkg}, or {@code null} if {@code pkg} is
+	 *             not in this index
+	 */
+	public PackageSignatures getPackage(String pkg) {
+		Integer entry = packageEntries.get(pkg);
+		if (entry == null)
+			return null;
+		return loaded.computeIfAbsent(pkg, p -> decode(p, entry));
+	}
+
+	/**
+	 * Yields whether the package {@code pkg} has signatures of the given
+	 * kind, without decoding them.
+	 *
+	 * @param pkg  the package
+	 * @param kind the kind of signatures, one of {@link #CONST},
+	 *                 {@link #FUNC}, {@link #METHOD}, {@link #TYPE} and
+	 *                 {@link #VAR}
+	 *
+	 * @return {@code true} if {@code pkg} is in this index and has some
+	 *             signatures of kind {@code kind}, {@code false} otherwise
+	 */
+	boolean hasSignatures(String pkg, byte kind) {
+		Integer entry = packageEntries.get(pkg);
+		return entry != null && (buffer.getInt(entry + 12) & (1 << kind)) != 0;
+	}
+
+	private PackageSignatures decode(String pkg, int entry) {
+		ByteBuffer in = buffer.duplicate();
+		in.position(buffer.getInt(entry + 4));
+		int count = buffer.getInt(entry + 8);
+
+		PackageSignatures result = new PackageSignatures();
+		for (int i = 0; i < count; i++)
+			switch (in.get()) {
+			case CONST:
+				result.consts.add(new ConstGoLangApiSignature(pkg, string(in.getInt()), string(in.getInt()),
+						string(in.getInt())));
+				break;
+			case FUNC:
+				result.funcs.add(new FuncGoLangApiSignature(pkg, string(in.getInt()), strings(in), strings(in)));
+				break;
+			case METHOD:
+				result.methods.add(new MethodGoLangApiSignature(pkg, string(in.getInt()), string(in.getInt()),
+						strings(in), strings(in)));
+				break;
+			case TYPE:
+				result.types.add(new TypeGoLangApiSignature(pkg, string(in.getInt())));
+				break;
+			case VAR:
+				result.vars.add(new VarGoLangApiSignature(pkg, string(in.getInt()), string(in.getInt())));
+				break;
+			default:
+				throw new IllegalStateException("Corrupted Go API index for package " + pkg);
+			}
+
+		return result;
+	}
+
+	private String[] strings(ByteBuffer in) {
+		String[] result = new String[in.getShort()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = string(in.getInt());
+		return result;
+	}
+
+	private String string(int id) {
+		if (id == NULL)
+			return null;
+		String s = strings[id];
+		if (s == null) {
+			int start = buffer.getInt(stringOffsets + 4 * id);
+			int end = id + 1 < strings.length ? buffer.getInt(stringOffsets + 4 * (id + 1))
+					: buffer.getInt(stringPool - 4);
+			byte[] bytes = new byte[end - start];
+			ByteBuffer pool = buffer.duplicate();
+			pool.position(stringPool + start);
+			pool.get(bytes);
+			// strings are immutable, so racing threads decode equal values
+			s = strings[id] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return s;
+	}
+
+	/**
+	 * The signatures of the APIs of a Go package.
+	 *
+	 * @author <a href="mailto:vincenzo.arceri@unipr.it">Vincenzo Arceri</a>
+	 */
+	public static final class PackageSignatures {
+
+		private final Set<ConstGoLangApiSignature> consts = new HashSet<>();
+
+		private final Set<FuncGoLangApiSignature> funcs = new HashSet<>();
+
+		private final Set<MethodGoLangApiSignature> methods = new HashSet<>();
+
+		private final Set<TypeGoLangApiSignature> types = new HashSet<>();
+
+		private final Set<VarGoLangApiSignature> vars = new HashSet<>();
+
+		private PackageSignatures() {
+		}
+
+		/**
+		 * Yields the constants of the package.
+		 *
+		 * @return the constants
+		 */
+		public Set<ConstGoLangApiSignature> getConsts() {
+			return consts;
+		}
+
+		/**
+		 * Yields the functions of the package.
+		 *
+		 * @return the functions
+		 */
+		public Set<FuncGoLangApiSignature> getFunctions() {
+			return funcs;
+		}
+
+		/**
+		 * Yields the methods of the package.
+		 *
+		 * @return the methods
+		 */
+		public Set<MethodGoLangApiSignature> getMethods() {
+			return methods;
+		}
+
+		/**
+		 * Yields the types of the package.
+		 *
+		 * @return the types
+		 */
+		public Set<TypeGoLangApiSignature> getTypes() {
+			return types;
+		}
+
+		/**
+		 * Yields the variables of the package.
+		 *
+		 * @return the variables
+		 */
+		public Set<VarGoLangApiSignature> getVars() {
+			return vars;
+		}
+	}
+
+	/**
+	 * Generates the index of the Go APIs.
+	 *
+	 * @param args the folder containing the {@code *.txt} API listings and the
+	 *                 path of the index to write
+	 *
+	 * @throws IOException if an API listing cannot be read or the index
+	 *                         cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2)
+			throw new IllegalArgumentException("Usage: GoLangAPIIndex <api folder> <index file>");
+
+		File[] listings = new File(args[0]).listFiles((dir, name) -> name.endsWith(".txt"));
+		if (listings == null)
+			throw new IOException("Not a folder: " + args[0]);
+		Arrays.sort(listings);
+
+		Map<String, Set<GoLangApiSignature>> apis = new TreeMap<>();
+		for (File listing : listings)
+			try (InputStream in = new FileInputStream(listing)) {
+				merge(apis, GoLangAPISignatureLoader.parseGoAPIFile(in));
+			}
+
+		Path index = Paths.get(args[1]);
+		Files.createDirectories(index.toAbsolutePath().getParent());
+		try (OutputStream out = Files.newOutputStream(index)) {
+			write(apis, out);
+		}
+		log.info("Go API index written to " + index + " (" + apis.size() + " packages)");
+	}
+
+	private static Map<String, Set<GoLangApiSignature>> readResources() throws IOException {
+		Map<String, Set<GoLangApiSignature>> apis = new TreeMap<>();
+		List<String> listings = new ArrayList<>(Arrays.asList("except.txt", "go1.txt"));
+		for (int minor = 1;; minor++) {
+			String name = "go1." + minor + ".txt";
+			if (GoLangAPIIndex.class.getResource(API_FOLDER + name) == null)
+				break;
+			listings.add(name);
+		}
+
+		for (String listing : listings)
+			try (InputStream in = GoLangAPIIndex.class.getResourceAsStream(API_FOLDER + listing)) {
+				if (in != null)
+					merge(apis, GoLangAPISignatureLoader.parseGoAPIFile(in));
+			}
+		return apis;
+	}
+
+	private static void merge(Map<String, Set<GoLangApiSignature>> apis,
+			Map<String, ? extends Set<GoLangApiSignature>> listing) {
+		for (Map.Entry<String, ? extends Set<GoLangApiSignature>> e : listing.entrySet())
+			apis.computeIfAbsent(e.getKey(), k -> new HashSet<>()).addAll(e.getValue());
+	}
+
+	private static void write(Map<String, Set<GoLangApiSignature>> apis, OutputStream stream) throws IOException {
+		Map<String, Integer> ids = new LinkedHashMap<>();
+		ByteArrayOutputStream records = new ByteArrayOutputStream();
+		DataOutputStream rec = new DataOutputStream(records);
+		int[][] table = new int[apis.size()][];
+
+		int p = 0;
+		for (Map.Entry<String, Set<GoLangApiSignature>> e : apis.entrySet()) {
+			int[] entry = table[p++] = new int[] { id(ids, e.getKey()), rec.size(), e.getValue().size(), 0 };
+			for (GoLangApiSignature sig : e.getValue())
+				if (sig instanceof ConstGoLangApiSignature) {
+					ConstGoLangApiSignature cnst = (ConstGoLangApiSignature) sig;
+					rec.writeByte(CONST);
+					entry[3] |= 1 << CONST;
+					rec.writeInt(id(ids, cnst.getName()));
+					rec.writeInt(id(ids, cnst.getValue()));
+					rec.writeInt(id(ids, cnst.getType()));
+				} else if (sig instanceof FuncGoLangApiSignature) {
+					FuncGoLangApiSignature fun = (FuncGoLangApiSignature) sig;
+					rec.writeByte(FUNC);
+					entry[3] |= 1 << FUNC;
+					rec.writeInt(id(ids, fun.getName()));
+					writeStrings(rec, ids, fun.getParams());
+					writeStrings(rec, ids, fun.getRet());
+				} else if (sig instanceof MethodGoLangApiSignature) {
+					MethodGoLangApiSignature mtd = (MethodGoLangApiSignature) sig;
+					rec.writeByte(METHOD);
+					entry[3] |= 1 << METHOD;
+					rec.writeInt(id(ids, mtd.getReceiver()));
+					rec.writeInt(id(ids, mtd.getName()));
+					writeStrings(rec, ids, mtd.getParams());
+					writeStrings(rec, ids, mtd.getRet());
+				} else if (sig instanceof TypeGoLangApiSignature) {
+					rec.writeByte(TYPE);
+					entry[3] |= 1 << TYPE;
+					rec.writeInt(id(ids, ((TypeGoLangApiSignature) sig).getFullTypeSignature()));
+				} else if (sig instanceof VarGoLangApiSignature) {
+					VarGoLangApiSignature var = (VarGoLangApiSignature) sig;
+					rec.writeByte(VAR);
+					entry[3] |= 1 << VAR;
+					rec.writeInt(id(ids, var.getName()));
+					rec.writeInt(id(ids, var.getType()));
+				} else
+					throw new UnsupportedOperationException("Class " + sig.getClass() + " not handled!");
+		}
+		rec.flush();
+
+		ByteArrayOutputStream pool = new ByteArrayOutputStream();
+		int[] offsets = new int[ids.size()];
+		int s = 0;
+		for (String string : ids.keySet()) {
+			offsets[s++] = pool.size();
+			pool.write(string.getBytes(StandardCharsets.UTF_8));
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(offsets.length);
+		for (int offset : offsets)
+			out.writeInt(offset);
+		out.writeInt(pool.size());
+		pool.writeTo(out);
+
+		// record offsets are made absolute now that the header size is known
+		int recordsStart = out.size() + 4 + ENTRY_SIZE * table.length;
+		out.writeInt(table.length);
+		for (int[] entry : table) {
+			out.writeInt(entry[0]);
+			out.writeInt(recordsStart + entry[1]);
+			out.writeInt(entry[2]);
+			// the kinds of the signatures of the package, one bit each
+			out.writeInt(entry[3]);
+		}
+		records.writeTo(out);
+		out.flush();
+	}
+
+	private static void writeStrings(DataOutputStream out, Map<String, Integer> ids, String[] strings)
+			throws IOException {
+		out.writeShort(strings.length);
+		for (String string : strings)
+			out.writeInt(id(ids, string));
+	}
+
+	private static int id(Map<String, Integer> ids, String string) {
+		if (string == null)
+			return NULL;
+		return ids.computeIfAbsent(string, k -> ids.size());
+	}
+}
@@ -37,7 +37,7 @@ public class GoLangAPISignatureLoader {
 		loadedAPIs = parseGoAPIFile(input);
 	}
 
-	private static Map<String, ? extends Set<GoLangApiSignature>> parseGoAPIFile(InputStream inputStream)
+	static Map<String, ? extends Set<GoLangApiSignature>> parseGoAPIFile(InputStream inputStream)
 			throws IOException {
 		List<String> lines = new ArrayList<>();
 		BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
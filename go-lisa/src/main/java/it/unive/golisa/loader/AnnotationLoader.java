@@ -12,9 +12,12 @@ import it.unive.lisa.program.cfg.NativeCFG;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -69,22 +72,44 @@ public class AnnotationLoader implements Loader {
 		Collection<NativeCFG> constructs = program.getAllConstructs();
 		Collection<Global> globals = program.getAllGlobals();
 
+		// each set is queried once, and each member is then a single lookup
+		Map<Pair<String, String>, List<MethodAnnotation>> codeMemberAnnotations = compile(
+				AnnotationSet::getAnnotationsForCodeMembers);
+		Map<Pair<String, String>, List<MethodAnnotation>> constructorAnnotations = compile(
+				AnnotationSet::getAnnotationsForConstructors);
+
 		for (CodeMember cm : codeMembers)
-			for (AnnotationSet set : annotationSets)
-				for (CodeAnnotation ca : set.getAnnotationsForCodeMembers())
-					checkAndAddAnnotation(cm.getDescriptor(), ca);
-
-		for (NativeCFG c : constructs) {
-			for (AnnotationSet set : annotationSets)
-				for (CodeAnnotation ca : set.getAnnotationsForConstructors())
-					checkAndAddAnnotation(c.getDescriptor(), ca);
-		}
+			addAnnotations(cm.getDescriptor(), codeMemberAnnotations);
+
+		for (NativeCFG c : constructs)
+			addAnnotations(c.getDescriptor(), constructorAnnotations);
 
 		for (Global g : globals) {
 			// TODO
 		}
 	}
 
+	/**
+	 * Compiles the annotations yielded by {@code annotations} for each
+	 * annotation set of this loader into a table keyed by unit and code member
+	 * names.
+	 * 
+	 * @param annotations the function yielding the annotations of a set
+	 * 
+	 * @return the compiled table
+	 */
+	private Map<Pair<String, String>, List<MethodAnnotation>> compile(
+			Function<AnnotationSet, Set<? extends CodeAnnotation>> annotations) {
+		Map<Pair<String, String>, List<MethodAnnotation>> table = new HashMap<>();
+		for (AnnotationSet set : annotationSets)
+			for (CodeAnnotation ca : annotations.apply(set))
+				if (ca instanceof MethodAnnotation) {
+					MethodAnnotation ma = (MethodAnnotation) ca;
+					table.computeIfAbsent(Pair.of(ma.getUnit(), ma.getName()), k -> new ArrayList<>()).add(ma);
+				}
+		return table;
+	}
+
 	/**
 	 * Yields the annotations applied after a load.
 	 * 
@@ -95,24 +120,24 @@ public class AnnotationLoader implements Loader {
 	}
 
 	/**
-	 * The method checks checks and adds an annotation to a descriptor.
+	 * The method adds to a descriptor the annotations targeting it.
 	 * 
 	 * @param descriptor the descriptor
-	 * @param ca         the code annotation
+	 * @param table      the compiled annotations
 	 */
-	private void checkAndAddAnnotation(CFGDescriptor descriptor, CodeAnnotation ca) {
-		if (ca instanceof MethodAnnotation) {
-			MethodAnnotation ma = (MethodAnnotation) ca;
-			if (descriptor.getUnit().getName().equals(ma.getUnit())
-					&& descriptor.getName().equals(ma.getName())) {
-				if (ca instanceof MethodParameterAnnotation) {
-					MethodParameterAnnotation mpa = (MethodParameterAnnotation) ca;
-					descriptor.getFormals()[mpa.getParam()].addAnnotation(mpa.getAnnotation());
-				} else
-					descriptor.addAnnotation(ma.getAnnotation());
-
-				appliedAnnotations.add(Pair.of(ca, descriptor));
-			}
+	private void addAnnotations(CFGDescriptor descriptor, Map<Pair<String, String>, List<MethodAnnotation>> table) {
+		List<MethodAnnotation> annotations = table.get(Pair.of(descriptor.getUnit().getName(), descriptor.getName()));
+		if (annotations == null)
+			return;
+
+		for (MethodAnnotation ma : annotations) {
+			if (ma instanceof MethodParameterAnnotation) {
+				MethodParameterAnnotation mpa = (MethodParameterAnnotation) ma;
+				descriptor.getFormals()[mpa.getParam()].addAnnotation(mpa.getAnnotation());
+			} else
+				descriptor.addAnnotation(ma.getAnnotation());
+
+			appliedAnnotations.add(Pair.of(ma, descriptor));
 		}
 	}
 }
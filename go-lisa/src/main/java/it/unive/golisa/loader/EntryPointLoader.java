@@ -5,7 +5,9 @@ import it.unive.lisa.program.Program;
 import it.unive.lisa.program.cfg.CFG;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The loader of entry points in programs.
@@ -47,8 +49,12 @@ public class EntryPointLoader implements Loader {
 	public void load(Program program) {
 		Collection<CFG> cfgs = program.getAllCFGs();
 
+		Set<String> entryPoints = new HashSet<>();
+		for (EntryPointSet set : entrypointSets)
+			entryPoints.addAll(set.getEntryPoints());
+
 		for (CFG c : cfgs)
-			if (entrypointSets.stream().anyMatch(set -> set.getEntryPoints().contains(c.getDescriptor().getName()))) {
+			if (entryPoints.contains(c.getDescriptor().getName())) {
 				program.addEntryPoint(c);
 				noEntry = false;
 			}
@@ -5,6 +5,9 @@ import it.unive.golisa.loader.annotation.sets.GoNonDeterminismAnnotationSet;
 import it.unive.golisa.loader.annotation.sets.HyperledgerFabricNonDeterminismAnnotationSet;
 import it.unive.golisa.loader.annotation.sets.NonDeterminismAnnotationSet;
 import it.unive.golisa.loader.annotation.sets.TendermintCoreNonDeterminismAnnotationSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The class represents the factory of annotation set of a target frameworks.
@@ -13,6 +16,12 @@ import it.unive.golisa.loader.annotation.sets.TendermintCoreNonDeterminismAnnota
  */
 public class FrameworkNonDeterminismAnnotationSetFactory {
 
+	/**
+	 * The annotation sets built so far, by framework. Annotation sets hold no
+	 * per-run state, hence they are built once and shared among runs.
+	 */
+	private static final Map<String, NonDeterminismAnnotationSet[]> CACHE = new ConcurrentHashMap<>();
+
 	/**
 	 * Yields the annotation set for a specific framework.
 	 * 
@@ -21,25 +30,28 @@ public class FrameworkNonDeterminismAnnotationSetFactory {
 	 * @return the set of annotationq
 	 */
 	public static NonDeterminismAnnotationSet[] getAnnotationSets(String framework) {
+		String key = framework == null ? "" : framework.toUpperCase(Locale.ROOT);
+		return CACHE.computeIfAbsent(key, FrameworkNonDeterminismAnnotationSetFactory::buildAnnotationSets).clone();
+	}
 
-		if (framework != null) {
-			NonDeterminismAnnotationSet specificFrameworkAnnotationSet = null;
+	private static NonDeterminismAnnotationSet[] buildAnnotationSets(String framework) {
 
-			if (framework.equalsIgnoreCase("HYPERLEDGER-FABRIC")) {
-				specificFrameworkAnnotationSet = new HyperledgerFabricNonDeterminismAnnotationSet();
+		NonDeterminismAnnotationSet specificFrameworkAnnotationSet = null;
 
-			} else if (framework.equalsIgnoreCase("TENDERMINT-CORE")) {
-				specificFrameworkAnnotationSet = new TendermintCoreNonDeterminismAnnotationSet();
+		if (framework.equals("HYPERLEDGER-FABRIC")) {
+			specificFrameworkAnnotationSet = new HyperledgerFabricNonDeterminismAnnotationSet();
 
-			} else if (framework.equalsIgnoreCase("COSMOS-SDK")) {
-				specificFrameworkAnnotationSet = new CosmosSDKNonDeterminismAnnotationSet();
-			}
+		} else if (framework.equals("TENDERMINT-CORE")) {
+			specificFrameworkAnnotationSet = new TendermintCoreNonDeterminismAnnotationSet();
 
-			if (specificFrameworkAnnotationSet != null)
-				return new NonDeterminismAnnotationSet[] { new GoNonDeterminismAnnotationSet(),
-						specificFrameworkAnnotationSet };
+		} else if (framework.equals("COSMOS-SDK")) {
+			specificFrameworkAnnotationSet = new CosmosSDKNonDeterminismAnnotationSet();
 		}
 
+		if (specificFrameworkAnnotationSet != null)
+			return new NonDeterminismAnnotationSet[] { new GoNonDeterminismAnnotationSet(),
+					specificFrameworkAnnotationSet };
+
 		return new NonDeterminismAnnotationSet[] { new GoNonDeterminismAnnotationSet() };
 	}
 }
@@ -0,0 +1,63 @@
+import it.unive.golisa.checker.BreakConsensusGoSmartContractChecker;
+import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.lisa.checks.syntactic.CheckTool;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Ignore
+public class BreakConsensusCheckerBenchmarkTest {
+
+	private static final String BENCHMARK_DIR = "go-testcases/cc/benchmark";
+
+	@Test
+	public void testCheckerTime() throws IOException {
+		File[] chaincodes = new File(BENCHMARK_DIR).listFiles(File::isDirectory);
+		Arrays.sort(chaincodes);
+
+		long total = 0;
+		for (File chaincode : chaincodes) {
+			List<Program> programs = new ArrayList<>();
+			for (File source : listSources(chaincode))
+				programs.add(GoFrontEnd.processFile(source.toString()));
+
+			BreakConsensusGoSmartContractChecker checker = new BreakConsensusGoSmartContractChecker();
+			CheckTool tool = new CheckTool();
+			int nodes = 0;
+
+			long start = System.nanoTime();
+			checker.beforeExecution(tool);
+			for (Program program : programs)
+				for (CFG cfg : program.getAllCFGs())
+					for (Statement node : cfg.getNodes()) {
+						checker.visit(tool, cfg, node);
+						nodes++;
+					}
+			checker.afterExecution(tool);
+			long elapsed = (System.nanoTime() - start) / 1000;
+			total += elapsed;
+
+			System.out.println(chaincode.getName() + ": " + nodes + " nodes, " + tool.getWarnings().size()
+					+ " warnings, " + elapsed / 1000 + " ms");
+		}
+
+		System.out.println(chaincodes.length + " chaincodes: " + total / 1000 + " ms");
+	}
+
+	private static List<File> listSources(File dir) {
+		List<File> sources = new ArrayList<>();
+		for (File file : dir.listFiles())
+			if (file.isDirectory())
+				sources.addAll(listSources(file));
+			else if (file.getName().endsWith(".go"))
+				sources.add(file);
+		return sources;
+	}
+}
@@ -0,0 +1,73 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import it.unive.golisa.frontend.CFGBlock;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.edge.Edge;
+import it.unive.lisa.program.cfg.edge.SequentialEdge;
+import it.unive.lisa.program.cfg.statement.NoOp;
+import it.unive.lisa.program.cfg.statement.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.junit.Test;
+
+public class CFGBlockTest {
+
+	private final CFG cfg = TestFixtures.cfg();
+
+	private Statement node() {
+		return new NoOp(cfg, SyntheticLocation.INSTANCE);
+	}
+
+	private static <T> List<T> list(Collection<T> elements) {
+		return new ArrayList<>(elements);
+	}
+
+	@Test
+	public void testCachedNodes() {
+		CFGBlock block = new CFGBlock();
+		Statement first = node();
+		block.addNode(first);
+
+		Collection<Statement> nodes = block.getNodes();
+		assertSame(nodes, block.getNodes());
+
+		Statement second = node();
+		block.addNode(second);
+		assertEquals(Arrays.asList(first, second), list(block.getNodes()));
+	}
+
+	@Test
+	public void testInvalidationThroughMerges() {
+		CFGBlock outer = new CFGBlock();
+		CFGBlock middle = new CFGBlock();
+		CFGBlock inner = new CFGBlock();
+		Statement a = node(), b = node(), c = node(), d = node();
+
+		outer.addNode(a);
+		middle.addNode(b);
+		inner.addNode(c);
+		middle.mergeWith(inner);
+		outer.mergeWith(middle);
+		assertEquals(Arrays.asList(a, b, c), list(outer.getNodes()));
+		assertEquals(Arrays.asList(b, c), list(middle.getNodes()));
+
+		// changes to a merged block are visible from all its ancestors
+		inner.addNode(d);
+		Edge edge = new SequentialEdge(c, d);
+		inner.addEdge(edge);
+		assertEquals(Arrays.asList(a, b, c, d), list(outer.getNodes()));
+		assertEquals(Arrays.asList(b, c, d), list(middle.getNodes()));
+		assertEquals(Arrays.asList(edge), list(outer.getEdges()));
+
+		// merging into a cached block invalidates it
+		CFGBlock late = new CFGBlock();
+		Statement e = node();
+		late.addNode(e);
+		middle.mergeWith(late);
+		assertEquals(Arrays.asList(a, b, c, d, e), list(outer.getNodes()));
+	}
+}
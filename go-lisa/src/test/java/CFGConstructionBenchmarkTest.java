@@ -0,0 +1,79 @@
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.frontend.GoFrontEnd;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Ignore
+public class CFGConstructionBenchmarkTest {
+
+	/**
+	 * The maximum ratio between the per-statement construction times of the
+	 * largest and of the smallest input: the inputs grow 8 times, hence a
+	 * quadratic construction would exceed it, while a linear one stays well
+	 * below it even with timing noise.
+	 */
+	private static final double MAX_RATIO = 4;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testLongFunction() throws IOException {
+		// warm-up
+		measure("long", 2000, longBody(2000));
+
+		double small = measure("long", 2000, longBody(2000));
+		double large = measure("long", 16000, longBody(16000));
+		assertTrue("per-statement time grew " + large / small + " times", large / small < MAX_RATIO);
+	}
+
+	@Test
+	public void testNestedFunction() throws IOException {
+		// warm-up
+		measure("nested", 50, nestedBody(50));
+
+		double small = measure("nested", 50, nestedBody(50));
+		double large = measure("nested", 400, nestedBody(400));
+		assertTrue("per-statement time grew " + large / small + " times", large / small < MAX_RATIO);
+	}
+
+	private static String longBody(int size) {
+		StringBuilder body = new StringBuilder("\tx := 0\n");
+		for (int i = 0; i < size; i++)
+			body.append("\tx = x + ").append(i).append("\n");
+		return body.toString();
+	}
+
+	private static String nestedBody(int depth) {
+		StringBuilder body = new StringBuilder("\tx := 0\n");
+		for (int i = 0; i < depth; i++)
+			body.append("\tif x < ").append(i).append(" {\n\t\tx = x + 1\n");
+		for (int i = 0; i < depth; i++)
+			body.append("\t}\n");
+		return body.toString();
+	}
+
+	/**
+	 * Builds the program with the given body of main, yielding the
+	 * construction time per statement, in microseconds.
+	 */
+	private double measure(String kind, int size, String body) throws IOException {
+		File source = folder.newFile(kind + size + "-" + System.nanoTime() + ".go");
+		Files.write(source.toPath(), ("package main\n\nfunc main() {\n" + body + "}\n").getBytes(StandardCharsets.UTF_8));
+
+		long start = System.nanoTime();
+		GoFrontEnd.processFile(source.toString());
+		double elapsed = (System.nanoTime() - start) / 1000.0;
+
+		System.out.println(kind + " function, size " + size + ": " + (long) (elapsed / 1000) + " ms, "
+				+ elapsed / size + " us per statement");
+		return elapsed / size;
+	}
+}
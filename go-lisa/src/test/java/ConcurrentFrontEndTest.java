@@ -0,0 +1,104 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.cfg.type.composite.GoSliceType;
+import it.unive.golisa.cfg.type.composite.GoStructType;
+import it.unive.golisa.cfg.type.composite.TypeRegistry;
+import it.unive.golisa.cfg.type.numeric.signed.GoInt16Type;
+import it.unive.golisa.cfg.type.numeric.unsigned.GoUInt8Type;
+import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.golisa.frontend.GoProgram;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.type.Type;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class ConcurrentFrontEndTest {
+
+	private static final String STRUCTS = "go-testcases/cfg/structs/go-structs.go";
+
+	private static final String ROUTINE = "go-testcases/cfg/routine/go-routine.go";
+
+	private static Set<String> cfgNames(Program prog) {
+		return prog.getAllCFGs().stream().map(c -> c.getDescriptor().getFullName()).collect(Collectors.toSet());
+	}
+
+	private static boolean hasStruct(Program prog, String name) {
+		for (Type type : prog.getRegisteredTypes())
+			if (type instanceof GoStructType && type.toString().equals(name))
+				return true;
+		return false;
+	}
+
+	@Test
+	public void testConcurrentPrograms() throws Exception {
+		GoProgram structs = GoFrontEnd.processFile(STRUCTS);
+		GoProgram routine = GoFrontEnd.processFile(ROUTINE);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			Future<GoProgram> first = executor.submit(() -> {
+				start.await();
+				return GoFrontEnd.processFile(STRUCTS);
+			});
+			Future<GoProgram> second = executor.submit(() -> {
+				start.await();
+				return GoFrontEnd.processFile(ROUTINE);
+			});
+			start.countDown();
+
+			GoProgram concurrentStructs = first.get();
+			GoProgram concurrentRoutine = second.get();
+
+			assertNotSame(concurrentStructs.getTypeRegistry(), concurrentRoutine.getTypeRegistry());
+			assertTrue(GoStructType.hasStructType(concurrentStructs.getTypeRegistry(), "Vertex"));
+			assertFalse(GoStructType.hasStructType(concurrentRoutine.getTypeRegistry(), "Vertex"));
+			assertTrue(hasStruct(concurrentStructs, "Vertex"));
+			assertFalse(hasStruct(concurrentRoutine, "Vertex"));
+
+			// building the programs concurrently yields the same programs
+			assertEquals(cfgNames(structs), cfgNames(concurrentStructs));
+			assertEquals(cfgNames(routine), cfgNames(concurrentRoutine));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static boolean containsInstance(Type type, Type instance) {
+		return type.allInstances().stream().anyMatch(t -> t == instance);
+	}
+
+	@Test
+	public void testRegistryLookups() {
+		TypeRegistry registry = new TypeRegistry();
+
+		// runtime types are not duplicated in program registries
+		GoSliceType bytes = GoSliceType.getSliceOfBytes();
+		assertSame(bytes, GoSliceType.lookup(registry, new GoSliceType(GoUInt8Type.INSTANCE)));
+
+		GoSliceType local = GoSliceType
+				.lookup(registry, new GoSliceType(new GoSliceType(new GoSliceType(GoInt16Type.INSTANCE))));
+		assertSame(local, GoSliceType.lookup(registry, local));
+		assertTrue(containsInstance(local, local));
+		assertTrue(containsInstance(local, bytes));
+
+		// an instance interned in a registry keeps it when looked up in
+		// another one, where an equal instance is interned instead
+		TypeRegistry other = new TypeRegistry();
+		GoSliceType foreign = GoSliceType.lookup(other, local);
+		assertNotSame(local, foreign);
+		assertEquals(local, foreign);
+		assertFalse(containsInstance(local, foreign));
+		assertTrue(containsInstance(foreign, foreign));
+		assertFalse(containsInstance(foreign, local));
+	}
+}
@@ -0,0 +1,127 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.EqualityDomain;
+import it.unive.golisa.cfg.type.GoBoolType;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.value.ValueDomain.Satisfiability;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.value.BinaryExpression;
+import it.unive.lisa.symbolic.value.Constant;
+import it.unive.lisa.symbolic.value.Identifier;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.symbolic.value.operator.binary.ComparisonEq;
+import org.junit.Test;
+
+public class EqualityDomainTest {
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	private final Variable a = TestFixtures.var(GoIntType.INSTANCE, "a"), b = TestFixtures.var(GoIntType.INSTANCE, "b"),
+			c = TestFixtures.var(GoIntType.INSTANCE, "c"), d = TestFixtures.var(GoIntType.INSTANCE, "d"),
+			e = TestFixtures.var(GoIntType.INSTANCE, "e");
+
+	private static String partition(EqualityDomain state) {
+		return state.representation().toString();
+	}
+
+	private Satisfiability equal(EqualityDomain state, Identifier left, Identifier right) throws SemanticException {
+		return state.satisfies(
+				new BinaryExpression(GoBoolType.INSTANCE, left, right, ComparisonEq.INSTANCE, SyntheticLocation.INSTANCE),
+				pp);
+	}
+
+	/**
+	 * Yields the state where the identifiers in each of {@code classes} are
+	 * equal, by assigning the first identifier of each class to the others.
+	 */
+	private EqualityDomain of(Identifier[]... classes) throws SemanticException {
+		EqualityDomain state = new EqualityDomain();
+		for (Identifier[] members : classes)
+			for (int i = 1; i < members.length; i++)
+				state = state.assign(members[i], members[0], pp);
+		return state;
+	}
+
+	@Test
+	public void testAssign() throws SemanticException {
+		EqualityDomain state = new EqualityDomain().assign(a, b, pp);
+		assertEquals("a == b", partition(state));
+		assertEquals(Satisfiability.SATISFIED, equal(state, a, b));
+
+		state = state.assign(c, a, pp);
+		assertEquals("a == b == c", partition(state));
+		assertEquals(Satisfiability.SATISFIED, equal(state, c, b));
+
+		// a leaves its class and joins the one of d
+		state = state.assign(a, d, pp);
+		assertEquals("a == d\nb == c", partition(state));
+		assertEquals(Satisfiability.UNKNOWN, equal(state, a, b));
+
+		// assigning anything but an identifier forgets the equalities
+		state = state.assign(b, new Constant(GoIntType.INSTANCE, 1, SyntheticLocation.INSTANCE), pp);
+		assertEquals("a == d", partition(state));
+		assertEquals(state, state.assign(a, a, pp));
+	}
+
+	@Test
+	public void testForget() throws SemanticException {
+		EqualityDomain state = of(new Identifier[] { a, b, c });
+		assertEquals("a == c", partition(state.forgetIdentifier(b)));
+		assertEquals(state, state.forgetIdentifier(d));
+
+		// classes with a single member are dropped
+		assertTrue(state.forgetIdentifier(b).forgetIdentifier(c).isTop());
+	}
+
+	@Test
+	public void testRepresentativeReelection() throws SemanticException {
+		// a is the representative of the class
+		EqualityDomain state = of(new Identifier[] { a, b, c, d });
+		EqualityDomain forgotten = state.forgetIdentifier(a);
+		assertEquals("b == c == d", partition(forgotten));
+		assertEquals(Satisfiability.SATISFIED, equal(forgotten, b, d));
+		assertEquals(Satisfiability.UNKNOWN, equal(forgotten, a, b));
+
+		// the new representative is used by the following operations
+		EqualityDomain joined = forgotten.assign(e, c, pp);
+		assertEquals("b == c == d == e", partition(joined));
+		assertEquals(Satisfiability.SATISFIED, equal(joined, e, b));
+		assertEquals(of(new Identifier[] { d, b, c, e }), joined);
+		assertEquals("c == d", partition(forgotten.forgetIdentifier(b)));
+
+		// the same happens when a representative is assigned
+		assertEquals("a == e\nb == c == d", partition(state.assign(a, e, pp)));
+	}
+
+	@Test
+	public void testLub() throws SemanticException {
+		EqualityDomain first = of(new Identifier[] { a, b, c }, new Identifier[] { d, e });
+		EqualityDomain second = of(new Identifier[] { a, b }, new Identifier[] { c, d, e });
+
+		// the classes of the lub are the intersections of the classes
+		assertEquals("a == b\nd == e", partition(first.lub(second)));
+		assertEquals(first.lub(second), second.lub(first));
+		assertTrue(first.lub(of(new Identifier[] { a, d })).isTop());
+		assertEquals(first, first.lub(first.bottom()));
+		assertTrue(first.lub(first.top()).isTop());
+	}
+
+	@Test
+	public void testLessOrEqual() throws SemanticException {
+		EqualityDomain finer = of(new Identifier[] { a, b, c }, new Identifier[] { d, e });
+		EqualityDomain coarser = of(new Identifier[] { a, b });
+
+		// finer partitions are below coarser ones
+		assertTrue(finer.lessOrEqual(coarser));
+		assertFalse(coarser.lessOrEqual(finer));
+		assertTrue(finer.lessOrEqual(finer.lub(coarser)));
+		assertTrue(coarser.lessOrEqual(finer.lub(coarser)));
+		assertFalse(of(new Identifier[] { a, c }, new Identifier[] { b, d }).lessOrEqual(coarser));
+		assertTrue(finer.lessOrEqual(finer.top()));
+		assertTrue(finer.bottom().lessOrEqual(finer));
+	}
+}
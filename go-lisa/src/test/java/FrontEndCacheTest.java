@@ -0,0 +1,57 @@
+import static org.junit.Assert.assertEquals;
+
+import it.unive.golisa.frontend.FrontEndCache;
+import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.golisa.frontend.GoFrontEnd.ParsingMode;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.ProgramValidationException;
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FrontEndCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static Set<String> cfgNames(Program prog) {
+		// the shape of the CFGs shows that the cached parse trees are the
+		// same as the parsed ones
+		return prog.getAllCFGs().stream()
+				.map(c -> c.getDescriptor().getFullName() + ":" + c.getNodesCount() + ":" + c.getEdges().size())
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	public void testCachedFile() throws IOException, ProgramValidationException {
+		FrontEndCache cache = new FrontEndCache(folder.getRoot().getPath());
+		String file = "go-testcases/variablescoping/scoping.go";
+
+		Program first = GoFrontEnd.processFile(file, ParsingMode.SLL_THEN_LL, cache);
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		Program second = GoFrontEnd.processFile(file, ParsingMode.SLL_THEN_LL, cache);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		assertEquals(cfgNames(first), cfgNames(second));
+		second.validateAndFinalize();
+	}
+
+	@Test
+	public void testCachedModule() throws IOException, ProgramValidationException {
+		FrontEndCache cache = new FrontEndCache(folder.getRoot().getPath());
+
+		Program first = GoFrontEnd.processModule("go-testcases/module", ParsingMode.LL, 2, cache);
+		Program second = GoFrontEnd.processModule("go-testcases/module", ParsingMode.LL, 2, cache);
+		assertEquals(4, cache.getHits());
+		assertEquals(4, cache.getMisses());
+
+		assertEquals(cfgNames(first), cfgNames(second));
+		second.validateAndFinalize();
+	}
+}
@@ -0,0 +1,194 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.heap.GoAllocationSite;
+import it.unive.golisa.analysis.heap.GoAllocationSites;
+import it.unive.golisa.analysis.heap.HeapAllocationSite;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.nonrelational.heap.HeapEnvironment;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class GoAllocationSitesTest {
+
+	private static final int SITES = 1000;
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	private final GoAllocationSites top = new GoAllocationSites();
+
+	private final HeapEnvironment<GoAllocationSites> env = new HeapEnvironment<>(top);
+
+	private static HeapAllocationSite site(int i, boolean weak) {
+		return new HeapAllocationSite(GoIntType.INSTANCE, "s" + i, weak, SyntheticLocation.INSTANCE);
+	}
+
+	private GoAllocationSites singleton(GoAllocationSites domain, GoAllocationSite site) {
+		return domain.eval(site, env, pp);
+	}
+
+	/**
+	 * Yields the set of the strong sites with the given indexes, built as the
+	 * lub of their singletons in the given order.
+	 */
+	private GoAllocationSites sites(GoAllocationSites domain, int... indexes) throws SemanticException {
+		GoAllocationSites result = domain.bottom();
+		for (int i : indexes)
+			result = result.lub(singleton(domain, site(i, false)));
+		return result;
+	}
+
+	private GoAllocationSites sites(int... indexes) throws SemanticException {
+		return sites(top, indexes);
+	}
+
+	private static Set<GoAllocationSite> model(int... indexes) {
+		Set<GoAllocationSite> result = new HashSet<>();
+		for (int i : indexes)
+			result.add(site(i, false));
+		return result;
+	}
+
+	private static Set<GoAllocationSite> contents(GoAllocationSites sites) {
+		Set<GoAllocationSite> result = new HashSet<>();
+		for (GoAllocationSite site : sites)
+			result.add(site);
+		return result;
+	}
+
+	private static int[] range(int from, int to) {
+		return IntStream.range(from, to).toArray();
+	}
+
+	private static int[] range(int from, int to, int step) {
+		return IntStream.iterate(from, i -> i < to, i -> i + step).toArray();
+	}
+
+	private static int[] concat(int[] first, int[] second) {
+		return IntStream.concat(IntStream.of(first), IntStream.of(second)).toArray();
+	}
+
+	private static int[] toArray(List<Integer> indexes) {
+		return indexes.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Interns the sites in order, so that the identifier of each site is its
+	 * index.
+	 */
+	private void internAll() throws SemanticException {
+		sites(range(0, SITES));
+	}
+
+	@Test
+	public void testSparseAndDense() throws SemanticException {
+		internAll();
+		int[] sparse = { 0, 500, 999 };
+		int[] dense = range(0, 100);
+		int[] smallDense = range(0, 9);
+		int[] sparseWithSmallDense = concat(smallDense, new int[] { 999 });
+
+		for (int[] indexes : List.of(sparse, dense, smallDense, sparseWithSmallDense, range(0, SITES))) {
+			GoAllocationSites set = sites(indexes);
+			assertEquals(model(indexes), contents(set));
+			assertEquals(indexes.length, contents(set).size());
+		}
+
+		// unions of sparse sets, of dense sets and mixed ones
+		assertEquals(model(concat(sparse, dense)), contents(sites(sparse).lub(sites(dense))));
+		assertEquals(model(concat(dense, sparse)), contents(sites(dense).lub(sites(sparse))));
+		assertEquals(model(range(0, 200)), contents(sites(dense).lub(sites(range(100, 200)))));
+		assertEquals(model(range(0, 64)), contents(sites(range(0, 64, 2)).lub(sites(range(1, 64, 2)))));
+		assertEquals(model(range(0, 10)), contents(sites(range(0, 5)).lub(sites(range(5, 10)))));
+
+		// inclusion across representations
+		assertTrue(sites(smallDense).lessOrEqual(sites(sparseWithSmallDense)));
+		assertTrue(sites(sparse).lessOrEqual(sites(range(0, SITES))));
+		assertFalse(sites(sparse).lessOrEqual(sites(dense)));
+		assertFalse(sites(dense).lessOrEqual(sites(sparse)));
+		assertFalse(sites(sparseWithSmallDense).lessOrEqual(sites(smallDense)));
+		assertFalse(sites(range(0, 10)).lessOrEqual(sites(sparseWithSmallDense)));
+	}
+
+	@Test
+	public void testEqualsAcrossOrders() throws SemanticException {
+		internAll();
+		Random random = new Random(42);
+		for (int size : new int[] { 1, 3, 9, 20, 150, SITES }) {
+			List<Integer> indexes = new ArrayList<>();
+			for (int i = 0; i < SITES; i++)
+				indexes.add(i);
+			Collections.shuffle(indexes, random);
+			int[] chosen = toArray(indexes.subList(0, size));
+
+			GoAllocationSites forward = sites(chosen);
+			Collections.shuffle(indexes.subList(0, size), random);
+			GoAllocationSites shuffled = sites(toArray(indexes.subList(0, size)));
+			assertEquals(forward, shuffled);
+			assertEquals(forward.hashCode(), shuffled.hashCode());
+			assertEquals(model(chosen), contents(forward));
+			assertTrue(forward.lessOrEqual(shuffled) && shuffled.lessOrEqual(forward));
+		}
+	}
+
+	@Test
+	public void testWeakShadowsStrong() throws SemanticException {
+		internAll();
+		GoAllocationSite weak = site(5, true);
+		Set<GoAllocationSite> expected = model(range(0, 100));
+		expected.remove(site(5, false));
+		expected.add(weak);
+
+		// both in a dense and in a small union
+		assertEquals(expected, contents(sites(range(0, 100)).lub(singleton(top, weak))));
+		assertEquals(Set.of(weak, site(7, false)),
+				contents(sites(5, 7).lub(singleton(top, weak))));
+		assertEquals(Set.of(weak, site(7, false)),
+				contents(singleton(top, weak).lub(sites(5, 7))));
+	}
+
+	@Test
+	public void testConcurrentInterning() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<GoAllocationSites>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				List<Integer> order = new ArrayList<>();
+				for (int i = 0; i < SITES; i++)
+					order.add(i);
+				Collections.shuffle(order, new Random(t));
+				int[] indexes = toArray(order);
+				tasks.add(() -> sites(indexes));
+			}
+
+			// each thread interns the sites in a different order
+			List<GoAllocationSites> results = new ArrayList<>();
+			for (Future<GoAllocationSites> result : executor.invokeAll(tasks))
+				results.add(result.get());
+
+			for (GoAllocationSites result : results) {
+				assertEquals(model(range(0, SITES)), contents(result));
+				assertEquals(results.get(0), result);
+			}
+			for (int i = 0; i < SITES; i++)
+				assertEquals(site(i, false), singleton(top, site(i, false)).iterator().next());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.golang.util.GoLangAPIIndex;
+import it.unive.golisa.golang.util.GoLangAPIIndex.PackageSignatures;
+import it.unive.golisa.golang.util.GoLangAPISignatureLoader;
+import it.unive.golisa.golang.util.GoLangAPISignatureMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+public class GoLangAPIIndexTest {
+
+	private static final List<String> PACKAGES = List.of("fmt", "strings", "os", "math", "net/http");
+
+	private static InputStream listing(String name) {
+		return GoLangAPIIndexTest.class.getResourceAsStream("/go-api/" + name);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		GoLangAPIIndex index;
+		try (InputStream in = listing("go1.txt")) {
+			index = GoLangAPIIndex.fromListing(in);
+		}
+
+		GoLangAPISignatureLoader loader;
+		try (InputStream in = listing("go1.txt")) {
+			loader = new GoLangAPISignatureLoader(in);
+		}
+
+		assertTrue(index.getPackages().containsAll(loader.getFunctionAPIs().keySet()));
+		assertTrue(index.getPackages().containsAll(loader.getMethodAPIs().keySet()));
+		for (String pkg : PACKAGES) {
+			PackageSignatures signatures = index.getPackage(pkg);
+			assertNotNull(pkg, signatures);
+			assertEquals(pkg, loader.getFunctionAPIs().get(pkg), signatures.getFunctions());
+			if (loader.getMethodAPIs().containsKey(pkg))
+				assertEquals(pkg, loader.getMethodAPIs().get(pkg), signatures.getMethods());
+			else
+				assertTrue(pkg, signatures.getMethods().isEmpty());
+		}
+
+		assertNull(index.getPackage("no/such/package"));
+	}
+
+	private static void checkMap(Set<String> packages, Map<String, ? extends Set<?>> map) {
+		assertFalse(map.containsKey("no/such/package"));
+		assertNull(map.get("no/such/package"));
+
+		int keys = 0;
+		for (String pkg : packages)
+			if (map.containsKey(pkg)) {
+				keys++;
+				assertFalse(pkg, map.get(pkg).isEmpty());
+			} else
+				assertNull(pkg, map.get(pkg));
+
+		assertEquals(keys, map.size());
+		assertEquals(keys, map.entrySet().stream().count());
+	}
+
+	@Test
+	public void testMapSemantics() {
+		GoLangAPISignatureMapper mapper = GoLangAPISignatureMapper.getGoApiSignatures();
+		Set<String> packages = mapper.getPackages();
+
+		checkMap(packages, mapper.getMapConst());
+		checkMap(packages, mapper.getMapFunc());
+		checkMap(packages, mapper.getMapMethod());
+		checkMap(packages, mapper.getMapType());
+		checkMap(packages, mapper.getMapVar());
+
+		// math has functions, but no methods
+		assertTrue(mapper.getMapFunc().containsKey("math"));
+		assertFalse(mapper.getMapMethod().containsKey("math"));
+		assertNull(mapper.getMapMethod().get("math"));
+	}
+}
@@ -0,0 +1,169 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.heap.GoAllocationSite;
+import it.unive.golisa.analysis.heap.GoFieldSensitivePointBasedHeap;
+import it.unive.golisa.analysis.heap.GoPointBasedHeap;
+import it.unive.golisa.analysis.heap.HeapAllocationSite;
+import it.unive.golisa.analysis.heap.StackAllocationSite;
+import it.unive.golisa.cfg.type.composite.GoArrayType;
+import it.unive.golisa.cfg.type.numeric.signed.GoInt32Type;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
+import it.unive.golisa.cfg.type.numeric.unsigned.GoUInt8Type;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.lattices.ExpressionSet;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.SymbolicExpression;
+import it.unive.lisa.symbolic.heap.AccessChild;
+import it.unive.lisa.symbolic.value.Constant;
+import it.unive.lisa.symbolic.value.MemoryPointer;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.type.Untyped;
+import org.junit.Test;
+
+public class GoPointBasedHeapTest {
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	private final Variable x = TestFixtures.var(Untyped.INSTANCE, "x"), y = TestFixtures.var(Untyped.INSTANCE, "y");
+
+	private final HeapAllocationSite first = site("l1", false), second = site("l2", false),
+			third = site("l3", false), weakFirst = site("l1", true);
+
+	private static HeapAllocationSite site(String name, boolean weak) {
+		return new HeapAllocationSite(GoIntType.INSTANCE, name, weak, SyntheticLocation.INSTANCE);
+	}
+
+	/**
+	 * Yields the heap where {@code x} points to {@link #third} and {@code y}
+	 * points to each of {@code sites}.
+	 */
+	private GoPointBasedHeap aliasing(GoPointBasedHeap heap, HeapAllocationSite... sites) throws SemanticException {
+		heap = heap.assign(x, third, pp);
+		GoPointBasedHeap result = heap.bottom();
+		for (HeapAllocationSite site : sites)
+			result = result.lub(heap.assign(y, site, pp));
+		return result;
+	}
+
+	/**
+	 * Yields the heap obtained by assigning {@code y} to {@code x} in
+	 * {@code heap} as it was done before the single update, that is, with a
+	 * chain of lubs starting from bottom with one heap per site {@code y}
+	 * points to.
+	 */
+	private GoPointBasedHeap lubChain(GoPointBasedHeap heap, HeapAllocationSite... sites) throws SemanticException {
+		GoPointBasedHeap result = heap.bottom();
+		for (HeapAllocationSite site : sites)
+			result = result.lub(heap.assign(x, site, pp));
+		return result;
+	}
+
+	private void checkSingleUpdate(GoPointBasedHeap empty, HeapAllocationSite... sites) throws SemanticException {
+		GoPointBasedHeap heap = aliasing(empty, sites);
+		GoPointBasedHeap updated = heap.assign(x, y, pp);
+		GoPointBasedHeap chain = lubChain(heap, sites);
+
+		assertEquals(chain, updated);
+		assertEquals(chain.representation().toString(), updated.representation().toString());
+		assertEquals(chain.getDecouples(), updated.getDecouples());
+	}
+
+	@Test
+	public void testSingleUpdate() throws SemanticException {
+		checkSingleUpdate(new GoPointBasedHeap(), first, second);
+		checkSingleUpdate(new GoPointBasedHeap(), first, second, third);
+		checkSingleUpdate(new GoFieldSensitivePointBasedHeap(), first, second);
+		checkSingleUpdate(new GoFieldSensitivePointBasedHeap(), first, second, third);
+	}
+
+	@Test
+	public void testSingleUpdateShadowing() throws SemanticException {
+		// the weak site shadows the strong one with the same name in both
+		checkSingleUpdate(new GoPointBasedHeap(), first, weakFirst, second);
+		checkSingleUpdate(new GoFieldSensitivePointBasedHeap(), first, weakFirst, second);
+	}
+
+	/**
+	 * Yields the heap where {@code x} points to the stack site of an array of
+	 * {@code length} bytes, allocated at {@code la}.
+	 */
+	private GoPointBasedHeap array(GoPointBasedHeap heap, int length) throws SemanticException {
+		GoArrayType type = new GoArrayType(GoUInt8Type.INSTANCE, length);
+		StackAllocationSite site = new StackAllocationSite(type, "la", false, SyntheticLocation.INSTANCE);
+		return heap.assign(x, new MemoryPointer(type, site, SyntheticLocation.INSTANCE), pp);
+	}
+
+	/**
+	 * Yields the sites read by accessing the child {@code child} of the array
+	 * {@code x} points to in {@code heap}.
+	 */
+	private GoAllocationSite read(GoPointBasedHeap heap, SymbolicExpression child) throws SemanticException {
+		ExpressionSet<ValueExpression> rewritten = heap.rewrite(
+				new AccessChild(GoUInt8Type.INSTANCE, x, child, SyntheticLocation.INSTANCE), pp);
+		assertEquals(1, rewritten.size());
+		return (GoAllocationSite) rewritten.iterator().next();
+	}
+
+	private static Constant index(int i) {
+		return new Constant(GoIntType.INSTANCE, i, SyntheticLocation.INSTANCE);
+	}
+
+	private static Variable length() {
+		return TestFixtures.var(GoInt32Type.INSTANCE, "len");
+	}
+
+	@Test
+	public void testArrayCopySmashing() throws SemanticException {
+		GoFieldSensitivePointBasedHeap heap = new GoFieldSensitivePointBasedHeap();
+		assertEquals(GoFieldSensitivePointBasedHeap.DEFAULT_SMASHING_LENGTH, heap.getSmashingLength());
+
+		// the summary element, the length and the capacity
+		assertEquals(3, array(heap, 4096).assign(y, x, pp).getDecouples().size());
+		// each element, the length and the capacity
+		assertEquals(6, array(heap, 4).assign(y, x, pp).getDecouples().size());
+
+		// the smashing length is the one of the analysis
+		GoFieldSensitivePointBasedHeap unsmashed = new GoFieldSensitivePointBasedHeap(
+				GoPointBasedHeap.DEFAULT_SITES_PER_POINT, GoPointBasedHeap.DEFAULT_FIELD_DEPTH, 8192);
+		assertEquals(4098, array(unsmashed, 4096).assign(y, x, pp).getDecouples().size());
+		assertEquals(3, array(heap, 4096).assign(y, x, pp).getDecouples().size());
+	}
+
+	@Test
+	public void testSmashedReadsAreWeak() throws SemanticException {
+		GoPointBasedHeap smashed = array(new GoFieldSensitivePointBasedHeap(), 4096);
+
+		// all the elements are read through the same weak summary site
+		GoAllocationSite element = read(smashed, index(5));
+		assertTrue(element.isWeak());
+		assertEquals(GoPointBasedHeap.SUMMARY_FIELD, ((Variable) element.getField()).getName());
+		assertEquals(element, read(smashed, index(4000)));
+
+		// as the elements decoupled by the array copy
+		assertTrue(smashed.assign(y, x, pp).getDecouples().stream()
+				.map(pair -> (GoAllocationSite) pair.getRight())
+				.anyMatch(site -> site.isWeak() && site.getField().equals(element.getField())));
+
+		// while the length and the elements of small arrays are strong
+		assertFalse(read(smashed, length()).isWeak());
+		GoAllocationSite small = read(array(new GoFieldSensitivePointBasedHeap(), 4), index(2));
+		assertFalse(small.isWeak());
+		assertEquals(index(2), small.getField());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testDecouplesAreImmutable() throws SemanticException {
+		GoPointBasedHeap small = array(new GoFieldSensitivePointBasedHeap(), 4).assign(y, x, pp);
+		GoPointBasedHeap smashed = array(new GoFieldSensitivePointBasedHeap(), 4096).assign(y, x, pp);
+
+		// the union of the pairs of both copies, built once
+		GoPointBasedHeap lub = small.lub(smashed);
+		assertTrue(lub.getDecouples().containsAll(small.getDecouples()));
+		assertTrue(lub.getDecouples().containsAll(smashed.getDecouples()));
+		lub.getDecouples().clear();
+	}
+}
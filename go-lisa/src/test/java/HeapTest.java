@@ -1,13 +1,38 @@
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import it.unive.golisa.analysis.heap.GoAbstractState;
 import it.unive.golisa.analysis.heap.GoFieldSensitivePointBasedHeap;
 import it.unive.golisa.analysis.heap.GoPointBasedHeap;
+import it.unive.golisa.analysis.heap.HeapAllocationSite;
+import it.unive.golisa.analysis.heap.StackAllocationSite;
+import it.unive.golisa.cfg.type.composite.GoArrayType;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
 import it.unive.lisa.AnalysisSetupException;
 import it.unive.lisa.LiSAConfiguration;
 import it.unive.lisa.LiSAFactory;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.heap.HeapSemanticOperation.HeapReplacement;
 import it.unive.lisa.analysis.nonrelational.value.ValueEnvironment;
 import it.unive.lisa.analysis.numeric.Interval;
+import it.unive.lisa.analysis.types.InferredTypes;
 import it.unive.lisa.analysis.value.TypeDomain;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.value.Constant;
+import it.unive.lisa.symbolic.value.MemoryPointer;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.type.Untyped;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 public class HeapTest extends GoAnalysisTestExecutor {
@@ -29,4 +54,134 @@ public class HeapTest extends GoAnalysisTestExecutor {
 						LiSAFactory.getDefaultFor(TypeDomain.class)));
 		perform("heap/field-sensitive", "go-structs.go", conf);
 	}
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	/*
+	 * identifiers are built at each use, as the abstract state sets their
+	 * runtime types
+	 */
+
+	private static HeapAllocationSite site(String location) {
+		return new HeapAllocationSite(Untyped.INSTANCE, location, false, SyntheticLocation.INSTANCE);
+	}
+
+	private static HeapAllocationSite field(String location, String name) {
+		return new HeapAllocationSite(Untyped.INSTANCE, location,
+				TestFixtures.var(Untyped.INSTANCE, name), false, SyntheticLocation.INSTANCE);
+	}
+
+	private static HeapAllocationSite summary(String location) {
+		return new HeapAllocationSite(Untyped.INSTANCE, location,
+				TestFixtures.var(Untyped.INSTANCE, GoPointBasedHeap.SUMMARY_FIELD), true,
+				SyntheticLocation.INSTANCE);
+	}
+
+	private static Constant constant(int value) {
+		return new Constant(GoIntType.INSTANCE, value, SyntheticLocation.INSTANCE);
+	}
+
+	/**
+	 * The body of {@code for i := 0; ...; i++ { o := &Outer{&Inner{i},
+	 * &Inner{i + 1}} }}, where {@code Outer} is allocated at {@code outer},
+	 * its fields are {@code left} and {@code right}, and the two inner
+	 * structs are allocated at {@code inner1} and {@code inner2}.
+	 */
+	private GoAbstractState<ValueEnvironment<Interval>, InferredTypes> body(
+			GoAbstractState<ValueEnvironment<Interval>, InferredTypes> state, int i) throws SemanticException {
+		return state.assign(site("inner1"), constant(i), pp)
+				.assign(site("inner2"), constant(i + 1), pp)
+				.assign(TestFixtures.var(Untyped.INSTANCE, "o"), site("outer"), pp)
+				.assign(field("outer", "left"), site("inner1"), pp)
+				.assign(field("outer", "right"), site("inner2"), pp);
+	}
+
+	/**
+	 * Yields {@code state} after a transfer function that does not touch the
+	 * summaries, applying the substitution pending on its heap.
+	 */
+	private GoAbstractState<ValueEnvironment<Interval>, InferredTypes> settle(
+			GoAbstractState<ValueEnvironment<Interval>, InferredTypes> state) throws SemanticException {
+		return state.assign(TestFixtures.var(Untyped.INSTANCE, "i"), constant(0), pp);
+	}
+
+	@Test
+	public void wideningSummaryTest() throws SemanticException {
+		// at most one field site per allocation point
+		GoFieldSensitivePointBasedHeap heap = new GoFieldSensitivePointBasedHeap(1,
+				GoPointBasedHeap.DEFAULT_FIELD_DEPTH);
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> entry = new GoAbstractState<>(heap,
+				new ValueEnvironment<>(new Interval()), new InferredTypes());
+
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> first = body(entry, 0);
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> second = body(first, 1);
+
+		// the heap keeps the first field site of outer, merging the other one
+		// into its summary
+		GoPointBasedHeap widenedHeap = first.getHeapState().widening(second.getHeapState());
+		List<HeapReplacement> substitution = widenedHeap.getSubstitution();
+		assertEquals(1, substitution.size());
+		assertEquals(Set.of(summary("outer")), substitution.get(0).getTargets());
+		assertEquals(Set.of(field("outer", "right")), substitution.get(0).getSources());
+
+		// the widening of the state leaves the substitution pending, as it
+		// has no program point: the next transfer function applies it
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> pending = first.widening(second);
+		assertEquals(2, heap.getWideningCount());
+		assertEquals(1, pending.getHeapState().getSubstitution().size());
+		assertTrue(pending.getValueState().getKeys().contains(field("outer", "right")));
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> widened = settle(pending);
+		assertTrue(widened.getHeapState().getSubstitution().isEmpty());
+
+		// the summary points to the inner struct of the merged field only
+		Set<Object> pointed = new HashSet<>();
+		for (ValueExpression expression : widened.getHeapState().rewrite(summary("outer"), pp))
+			pointed.add(((MemoryPointer) expression).getReferencedLocation());
+		assertEquals(Set.of(site("inner2")), pointed);
+
+		// and its value is the one of the merged field, that is forgotten
+		ValueEnvironment<Interval> values = widened.getValueState();
+		Interval right = first.getValueState().getState(field("outer", "right"))
+				.widening(second.getValueState().getState(field("outer", "right")));
+		assertTrue(values.getKeys().contains(summary("outer")));
+		assertTrue(values.getKeys().contains(field("outer", "left")));
+		assertFalse(values.getKeys().contains(field("outer", "right")));
+		assertEquals(right, values.getState(summary("outer")));
+
+		// a further iteration keeps the summary, whose value is stable
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> third = body(widened, 2);
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> stable = settle(
+				widened.widening(widened.lub(third)));
+		assertTrue(stable.getValueState().getState(summary("outer")).lessOrEqual(values.getState(summary("outer"))));
+		assertTrue(values.getState(summary("outer")).lessOrEqual(stable.getValueState().getState(summary("outer"))));
+	}
+
+	@Test
+	public void concurrentCopyTest() throws Exception {
+		GoArrayType type = new GoArrayType(GoIntType.INSTANCE, 4);
+		StackAllocationSite array = new StackAllocationSite(type, "la", false, SyntheticLocation.INSTANCE);
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> state = new GoAbstractState<>(
+				new GoFieldSensitivePointBasedHeap(), new ValueEnvironment<>(new Interval()), new InferredTypes())
+						.assign(TestFixtures.var(Untyped.INSTANCE, "x"),
+								new MemoryPointer(type, array, SyntheticLocation.INSTANCE), pp);
+		GoAbstractState<ValueEnvironment<Interval>, InferredTypes> expected = state.assign(
+				TestFixtures.var(Untyped.INSTANCE, "y"), TestFixtures.var(Untyped.INSTANCE, "x"), pp);
+
+		// the copy of the array does not modify the shared state, so that
+		// each thread gets the sequential result
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<GoAbstractState<ValueEnvironment<Interval>, InferredTypes>>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads * 16; t++)
+				tasks.add(() -> state.assign(TestFixtures.var(Untyped.INSTANCE, "y"),
+						TestFixtures.var(Untyped.INSTANCE, "x"), pp));
+
+			for (Future<GoAbstractState<ValueEnvironment<Interval>, InferredTypes>> result : executor
+					.invokeAll(tasks))
+				assertEquals(expected, result.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 }
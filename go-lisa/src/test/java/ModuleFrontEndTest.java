@@ -0,0 +1,127 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.golisa.frontend.GoFrontEnd.ParsingMode;
+import it.unive.lisa.program.CompilationUnit;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.ProgramValidationException;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.statement.call.Call;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class ModuleFrontEndTest {
+
+	private static Set<String> cfgNames(Program prog, String unitName) {
+		CompilationUnit unit = prog.getUnit(unitName);
+		assertNotNull("'" + unitName + "' unit not found", unit);
+		return unit.getCFGs().stream().map(c -> c.getDescriptor().getName()).collect(Collectors.toSet());
+	}
+
+	private static Set<String> calls(Program prog, String unitName, String cfgName) {
+		CFG cfg = prog.getUnit(unitName).getCFGs().stream()
+				.filter(c -> c.getDescriptor().getName().equals(cfgName))
+				.findFirst()
+				.get();
+		return cfg.getNodes().stream()
+				.filter(Call.class::isInstance)
+				.map(n -> ((Call) n).getFullTargetName())
+				.collect(Collectors.toSet());
+	}
+
+	private static Map<String, Set<String>> members(Program prog) {
+		Map<String, Set<String>> members = new TreeMap<>();
+		for (CompilationUnit unit : prog.getUnits())
+			members.put(unit.getName(), unit.getAllCFGs().stream()
+					.map(c -> c.getDescriptor().getName() + ":" + c.getNodesCount())
+					.collect(Collectors.toSet()));
+		return members;
+	}
+
+	private static Set<String> names(String... names) {
+		return new HashSet<>(Arrays.asList(names));
+	}
+
+	@Test
+	public void testModule() throws IOException, ProgramValidationException {
+		Program prog = GoFrontEnd.processModule("go-testcases/module");
+		assertEquals(names("main", "helper"), cfgNames(prog, "module"));
+		assertEquals(names("Concat", "Twice"), cfgNames(prog, "module/utils"));
+		prog.validateAndFinalize();
+	}
+
+	@Test
+	public void testModuleWithSLL() throws IOException, ProgramValidationException {
+		Program prog = GoFrontEnd.processModule("go-testcases/module", ParsingMode.SLL_THEN_LL);
+		assertEquals(names("main", "helper"), cfgNames(prog, "module"));
+		assertEquals(names("Concat", "Twice"), cfgNames(prog, "module/utils"));
+		prog.validateAndFinalize();
+	}
+
+	@Test
+	public void testParallelModule() throws IOException, ProgramValidationException {
+		Program prog = GoFrontEnd.processModule("go-testcases/module", ParsingMode.LL, 4);
+		assertEquals(names("main", "helper"), cfgNames(prog, "module"));
+		assertEquals(names("Concat", "Twice"), cfgNames(prog, "module/utils"));
+		prog.validateAndFinalize();
+	}
+
+	@Test
+	public void testStreamingModule() throws IOException, ProgramValidationException {
+		Program prog = GoFrontEnd.processModule("go-testcases/module", ParsingMode.LL, 1, null, true);
+		assertEquals(names("main", "helper"), cfgNames(prog, "module"));
+		assertEquals(names("Concat", "Twice"), cfgNames(prog, "module/utils"));
+		prog.validateAndFinalize();
+	}
+
+	@Test
+	public void testPackagesWithSameName() throws IOException, ProgramValidationException {
+		Program prog = GoFrontEnd.processModule("go-testcases/module-collisions");
+		assertEquals(names("main"), cfgNames(prog, "module-collisions/cmd/a"));
+		assertEquals(names("main"), cfgNames(prog, "module-collisions/cmd/b"));
+		assertEquals(names("Clean"), cfgNames(prog, "module-collisions/internal/util"));
+		assertEquals(names("Join"), cfgNames(prog, "module-collisions/pkg/util"));
+		assertNull(prog.getUnit("main"));
+		assertNull(prog.getUnit("util"));
+
+		assertEquals(names("module-collisions/internal/util::Clean"),
+				calls(prog, "module-collisions/cmd/a", "main"));
+		// the package is imported with an alias
+		assertEquals(names("module-collisions/pkg/util::Join"),
+				calls(prog, "module-collisions/cmd/b", "main"));
+		prog.validateAndFinalize();
+	}
+
+	@Test
+	public void testParallelCodeMembers() throws IOException, ProgramValidationException {
+		Program sequential = GoFrontEnd.processModule("go-testcases/module-parallel", ParsingMode.LL, 1);
+		Program parallel = GoFrontEnd.processModule("go-testcases/module-parallel", ParsingMode.LL, 4);
+		assertEquals(members(sequential), members(parallel));
+
+		// anonymous functions are named after the index of their file in
+		// import order: counter.go, methods.go, apply.go, main.go
+		assertEquals(names("main", "apply", "twice", "anonymousFunction2_0", "anonymousFunction3_0"),
+				cfgNames(parallel, "module-parallel"));
+		assertEquals(names("New"), cfgNames(parallel, "module-parallel/counter"));
+		assertEquals(names("Inc", "Get"), parallel.getUnit("Counter").getAllCFGs().stream()
+				.map(c -> c.getDescriptor().getName())
+				.collect(Collectors.toSet()));
+		parallel.validateAndFinalize();
+	}
+
+	@Test
+	public void testStreamingCodeMembers() throws IOException, ProgramValidationException {
+		Program batch = GoFrontEnd.processModule("go-testcases/module-parallel", ParsingMode.LL, 4, null, false);
+		Program streaming = GoFrontEnd.processModule("go-testcases/module-parallel", ParsingMode.LL, 4, null, true);
+		assertEquals(members(batch), members(streaming));
+		streaming.validateAndFinalize();
+	}
+}
@@ -0,0 +1,40 @@
+import static it.unive.lisa.LiSAFactory.getDefaultFor;
+import static org.junit.Assert.fail;
+
+import it.unive.golisa.analysis.Pentagons;
+import it.unive.golisa.frontend.GoFrontEnd;
+import it.unive.lisa.AnalysisException;
+import it.unive.lisa.AnalysisSetupException;
+import it.unive.lisa.LiSA;
+import it.unive.lisa.LiSAConfiguration;
+import it.unive.lisa.analysis.AbstractState;
+import it.unive.lisa.analysis.heap.HeapDomain;
+import it.unive.lisa.analysis.types.InferredTypes;
+import it.unive.lisa.program.Program;
+import java.io.IOException;
+import org.junit.Test;
+
+public class PentagonsTest {
+	private String tmpDir = "go-outputs/pentagons";
+	private String sourcePath = "go-testcases/pentagons/";
+
+	@Test
+	public void pentagonsTest() throws IOException, AnalysisSetupException {
+		Program program = GoFrontEnd.processFile(sourcePath + "pentagons.go");
+
+		LiSAConfiguration conf = new LiSAConfiguration();
+		conf.setJsonOutput(true)
+				.setAbstractState(getDefaultFor(AbstractState.class, getDefaultFor(HeapDomain.class), new Pentagons(),
+						new InferredTypes()))
+				.setDumpAnalysis(true)
+				.setWorkdir(tmpDir);
+
+		LiSA lisa = new LiSA(conf);
+		try {
+			lisa.run(program);
+		} catch (AnalysisException e) {
+			System.err.println(e);
+			fail("Analysis terminated with errors");
+		}
+	}
+}
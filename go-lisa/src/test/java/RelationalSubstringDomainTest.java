@@ -0,0 +1,76 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.StringConstantPropagation;
+import it.unive.golisa.analysis.rsubs.RelationalSubstringDomain;
+import it.unive.golisa.cfg.type.GoStringType;
+import it.unive.lisa.analysis.ScopeToken;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.nonrelational.value.ValueEnvironment;
+import it.unive.lisa.program.cfg.statement.NoOp;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import org.junit.Test;
+
+public class RelationalSubstringDomainTest {
+
+	private final NoOp pp = TestFixtures.pp();
+
+	private final ScopeToken scope = new ScopeToken(pp);
+
+	private final Variable k = TestFixtures.var(GoStringType.INSTANCE, "k"),
+			v = TestFixtures.var(GoStringType.INSTANCE, "v"), w = TestFixtures.var(GoStringType.INSTANCE, "w"),
+			x = TestFixtures.var(GoStringType.INSTANCE, "x"), y = TestFixtures.var(GoStringType.INSTANCE, "y"),
+			z = TestFixtures.var(GoStringType.INSTANCE, "z");
+
+	/**
+	 * Yields a state with the same relations of {@code state}, that is not
+	 * known to be closed: the identifiers are moved to a scope and back, and
+	 * the next assignment computes the full closure.
+	 */
+	private RelationalSubstringDomain unclosed(RelationalSubstringDomain state) throws SemanticException {
+		RelationalSubstringDomain result = state.pushScope(scope).popScope(scope);
+		assertEquals(state, result);
+		return result;
+	}
+
+	private RelationalSubstringDomain relations() throws SemanticException {
+		return new RelationalSubstringDomain()
+				.assign(y, TestFixtures.string("ab"), pp)
+				.assign(x, TestFixtures.concat(y, TestFixtures.string("c")), pp)
+				.assign(z, TestFixtures.concat(x, w), pp);
+	}
+
+	@Test
+	public void testIncrementalClosure() throws SemanticException {
+		RelationalSubstringDomain closed = relations();
+
+		ValueExpression[] assigned = { TestFixtures.concat(z, TestFixtures.string("d")), TestFixtures.string("q"),
+				TestFixtures.concat(w, x) };
+		for (ValueExpression expression : assigned) {
+			RelationalSubstringDomain incremental = closed.assign(k, expression, pp);
+			assertEquals(unclosed(closed).assign(k, expression, pp), incremental);
+			closed = incremental.assign(y, expression, pp);
+			assertEquals(unclosed(incremental).assign(y, expression, pp), closed);
+		}
+	}
+
+	@Test
+	public void testClosedAfterPropagation() throws SemanticException {
+		ValueEnvironment<StringConstantPropagation> cs = new ValueEnvironment<>(new StringConstantPropagation())
+				.assign(y, TestFixtures.string("ab"), pp)
+				.assign(v, TestFixtures.string("ab"), pp);
+		RelationalSubstringDomain propagated = relations().propagateConstants(cs);
+
+		// v has the value of y, hence it is a substring of y and of the
+		// identifiers containing y
+		assertTrue(propagated.getState(y).contains(v));
+		assertTrue(propagated.getState(x).contains(v));
+		assertTrue(propagated.getState(z).contains(v));
+
+		ValueExpression expression = TestFixtures.concat(z, TestFixtures.string("d"));
+		RelationalSubstringDomain incremental = propagated.assign(k, expression, pp);
+		assertEquals(unclosed(propagated).assign(k, expression, pp), incremental);
+		assertTrue(incremental.getState(k).contains(v));
+	}
+}
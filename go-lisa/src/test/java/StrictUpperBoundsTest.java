@@ -0,0 +1,139 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.ExpressionInverseSet;
+import it.unive.golisa.analysis.StrictUpperBounds;
+import it.unive.golisa.cfg.type.GoBoolType;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.value.ValueDomain.Satisfiability;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.value.BinaryExpression;
+import it.unive.lisa.symbolic.value.Constant;
+import it.unive.lisa.symbolic.value.Identifier;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.symbolic.value.operator.binary.ComparisonLt;
+import it.unive.lisa.symbolic.value.operator.binary.NumericNonOverflowingAdd;
+import it.unive.lisa.symbolic.value.operator.binary.NumericNonOverflowingSub;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+public class StrictUpperBoundsTest {
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	private final Variable a = TestFixtures.var(GoIntType.INSTANCE, "a"), b = TestFixtures.var(GoIntType.INSTANCE, "b"),
+			c = TestFixtures.var(GoIntType.INSTANCE, "c"), d = TestFixtures.var(GoIntType.INSTANCE, "d"),
+			w = TestFixtures.var(GoIntType.INSTANCE, "w");
+
+	private static ValueExpression minusOne(Identifier id) {
+		return new BinaryExpression(GoIntType.INSTANCE, id,
+				new Constant(GoIntType.INSTANCE, 1, SyntheticLocation.INSTANCE), NumericNonOverflowingSub.INSTANCE,
+				SyntheticLocation.INSTANCE);
+	}
+
+	private static ValueExpression plusOne(Identifier id) {
+		return new BinaryExpression(GoIntType.INSTANCE, id,
+				new Constant(GoIntType.INSTANCE, 1, SyntheticLocation.INSTANCE), NumericNonOverflowingAdd.INSTANCE,
+				SyntheticLocation.INSTANCE);
+	}
+
+	private Satisfiability below(StrictUpperBounds state, Identifier lower, Identifier upper)
+			throws SemanticException {
+		return state.satisfies(new BinaryExpression(GoBoolType.INSTANCE, lower, upper, ComparisonLt.INSTANCE,
+				SyntheticLocation.INSTANCE), pp);
+	}
+
+	private static ExpressionInverseSet<Identifier> bounds(Identifier... ids) {
+		return new ExpressionInverseSet<>(Set.of(ids));
+	}
+
+	@Test
+	public void testAddBelow() throws SemanticException {
+		// a < b, then b < c: a is below c too
+		StrictUpperBounds state = new StrictUpperBounds().assign(a, minusOne(b), pp).assign(b, minusOne(c), pp);
+		assertEquals(Satisfiability.SATISFIED, below(state, a, b));
+		assertEquals(Satisfiability.SATISFIED, below(state, b, c));
+		assertEquals(Satisfiability.SATISFIED, below(state, a, c));
+
+		// d < a inherits all the upper bounds of a
+		state = state.assign(d, minusOne(a), pp);
+		assertEquals(Map.of(a, bounds(b, c), b, bounds(c), d, bounds(a, b, c)), state.getMap());
+	}
+
+	@Test
+	public void testAddAbove() throws SemanticException {
+		// a < c and w < b
+		StrictUpperBounds state = new StrictUpperBounds().assign(a, minusOne(c), pp).assign(w, minusOne(b), pp);
+
+		// b < a: the old upper bounds of a are forgotten, and w < b < a
+		state = state.assign(a, plusOne(b), pp);
+		assertEquals(Satisfiability.SATISFIED, below(state, b, a));
+		assertEquals(Satisfiability.SATISFIED, below(state, w, a));
+		assertEquals(Satisfiability.UNKNOWN, below(state, a, c));
+		assertEquals(Map.of(b, bounds(a), w, bounds(a, b)), state.getMap());
+	}
+
+	@Test
+	public void testClosure() throws SemanticException {
+		StrictUpperBounds top = new StrictUpperBounds();
+		// the lub of a < b and b < c is not closed
+		StrictUpperBounds lub = top.assign(a, minusOne(b), pp).lub(top.assign(b, minusOne(c), pp));
+		assertEquals(Map.of(a, bounds(b), b, bounds(c)), lub.getMap());
+
+		// and it is closed before the next assignment
+		StrictUpperBounds state = lub.assign(d, minusOne(a), pp);
+		assertEquals(Map.of(a, bounds(b, c), b, bounds(c), d, bounds(a, b, c)), state.getMap());
+	}
+
+	@Test
+	public void testLub() throws SemanticException {
+		StrictUpperBounds top = new StrictUpperBounds();
+		StrictUpperBounds first = top.assign(a, minusOne(b), pp).assign(b, minusOne(c), pp);
+		StrictUpperBounds second = top.assign(a, minusOne(b), pp).assign(d, minusOne(c), pp);
+
+		// common identifiers keep the common upper bounds
+		assertEquals(Map.of(a, bounds(b), b, bounds(c), d, bounds(c)), first.lub(second).getMap());
+		assertEquals(first.lub(second), second.lub(first));
+		assertSame(first, first.lub(top.bottom()));
+		assertTrue(first.lub(top).isTop());
+	}
+
+	@Test
+	public void testLessOrEqual() throws SemanticException {
+		StrictUpperBounds top = new StrictUpperBounds();
+		StrictUpperBounds more = top.assign(a, minusOne(b), pp).assign(b, minusOne(c), pp);
+		StrictUpperBounds fewer = top.assign(a, minusOne(b), pp);
+
+		assertEquals(Map.of(a, bounds(b, c), b, bounds(c)), more.getMap());
+		assertTrue(more.lessOrEqual(fewer.assign(b, minusOne(c), pp)));
+		assertFalse(fewer.lessOrEqual(more));
+		assertTrue(top.bottom().lessOrEqual(fewer));
+		assertTrue(more.lessOrEqual(top));
+		assertTrue(more.lessOrEqual(more.lub(fewer)));
+		assertTrue(fewer.lessOrEqual(more.lub(fewer)));
+	}
+
+	@Test
+	public void testIndexPerAnalysis() throws SemanticException {
+		StrictUpperBounds first = new StrictUpperBounds();
+		StrictUpperBounds second = new StrictUpperBounds();
+		assertNotSame(first.top(), second.top());
+		assertSame(first.top(), first.assign(a, minusOne(b), pp).top());
+
+		// identifiers get different indices in the two analyses
+		StrictUpperBounds x = first.assign(a, minusOne(b), pp);
+		StrictUpperBounds y = second.assign(c, minusOne(d), pp).assign(a, minusOne(b), pp);
+		assertEquals(Map.of(a, bounds(b), c, bounds(d)), x.lub(y).getMap());
+		assertTrue(x.lessOrEqual(y));
+		assertFalse(y.lessOrEqual(x));
+		assertNotEquals(x, second.assign(a, minusOne(b), pp));
+	}
+}
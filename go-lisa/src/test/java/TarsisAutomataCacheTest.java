@@ -0,0 +1,93 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import it.unive.golisa.analysis.tarsis.Tarsis;
+import it.unive.golisa.analysis.tarsis.TarsisAutomataCache;
+import it.unive.golisa.cfg.type.GoStringType;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.nonrelational.value.ValueEnvironment;
+import it.unive.lisa.program.cfg.ProgramPoint;
+import it.unive.lisa.symbolic.value.Variable;
+import org.junit.Test;
+
+public class TarsisAutomataCacheTest {
+
+	private final ProgramPoint pp = TestFixtures.pp();
+
+	private final Variable t = TestFixtures.var(GoStringType.INSTANCE, "t"),
+			u = TestFixtures.var(GoStringType.INSTANCE, "u"), x = TestFixtures.var(GoStringType.INSTANCE, "x");
+
+	/**
+	 * The body of a loop: {@code t = "ab" + "cd"; u = t + "e"}.
+	 */
+	private ValueEnvironment<Tarsis> body(ValueEnvironment<Tarsis> env) throws SemanticException {
+		return env.assign(t, TestFixtures.concat(TestFixtures.string("ab"), TestFixtures.string("cd")), pp)
+				.assign(u, TestFixtures.concat(t, TestFixtures.string("e")), pp);
+	}
+
+	@Test
+	public void testLoopBodyHits() throws SemanticException {
+		Tarsis tarsis = new Tarsis();
+		TarsisAutomataCache cache = tarsis.getAutomataCache();
+
+		// the first iteration builds three constants and two concatenations
+		ValueEnvironment<Tarsis> first = body(new ValueEnvironment<>(tarsis));
+		assertEquals(0, cache.getHits());
+		assertEquals(5, cache.getMisses());
+
+		// the following ones find all of them in the cache
+		ValueEnvironment<Tarsis> second = body(first);
+		assertEquals(5, cache.getHits());
+		assertEquals(5, cache.getMisses());
+		assertEquals(0.5, cache.getHitRate(), 0);
+		assertSame(first.getState(u), second.getState(u));
+
+		body(second.lub(first));
+		assertEquals(10, cache.getHits());
+		assertEquals(5, cache.getMisses());
+	}
+
+	@Test
+	public void testCachePerAnalysis() throws SemanticException {
+		Tarsis first = new Tarsis();
+		Tarsis second = new Tarsis();
+		assertNotSame(first.getAutomataCache(), second.getAutomataCache());
+		assertSame(first.getAutomataCache(), first.top().getAutomataCache());
+		assertSame(first.getAutomataCache(), first.bottom().getAutomataCache());
+
+		body(new ValueEnvironment<>(first));
+		body(new ValueEnvironment<>(second));
+		assertEquals(0, second.getAutomataCache().getHits());
+		assertSame(first.getAutomataCache(),
+				body(new ValueEnvironment<>(first)).getState(u).getAutomataCache());
+		assertEquals(5, first.getAutomataCache().getHits());
+	}
+
+	/**
+	 * Evaluates {@code x + "e"}, where {@code x} is the lub of two constants,
+	 * whose automaton is referenced only by the environment built here.
+	 */
+	private void concatOfLub(Tarsis tarsis) throws SemanticException {
+		ValueEnvironment<Tarsis> env = new ValueEnvironment<>(tarsis);
+		env = env.assign(x, TestFixtures.string("a"), pp).lub(env.assign(x, TestFixtures.string("b"), pp));
+		env.assign(u, TestFixtures.concat(x, TestFixtures.string("e")), pp);
+	}
+
+	@Test
+	public void testPurgeCollectedOperands() throws SemanticException, InterruptedException {
+		Tarsis tarsis = new Tarsis();
+		TarsisAutomataCache cache = tarsis.getAutomataCache();
+		concatOfLub(tarsis);
+		assertEquals(4, cache.size());
+
+		// the entry of the concatenation is purged once the lub is collected
+		for (int i = 0; i < 50 && cache.getPurged() == 0; i++) {
+			System.gc();
+			Thread.sleep(100);
+			cache.size();
+		}
+		assertEquals(1, cache.getPurged());
+		assertEquals(3, cache.size());
+	}
+}
@@ -0,0 +1,98 @@
+import static org.junit.Assert.assertEquals;
+
+import it.unive.golisa.analysis.tarsis.Tarsis;
+import it.unive.golisa.analysis.tarsis.TarsisAutomataCache;
+import it.unive.golisa.analysis.tarsis.TarsisIntv;
+import it.unive.golisa.analysis.tarsis.TarsisMathNumber;
+import it.unive.golisa.cfg.type.numeric.signed.GoIntType;
+import it.unive.lisa.analysis.SemanticException;
+import it.unive.lisa.analysis.nonrelational.value.ValueEnvironment;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.statement.NoOp;
+import it.unive.lisa.symbolic.value.BinaryExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.symbolic.value.operator.binary.StringIndexOf;
+import it.unive.tarsis.AutomatonString;
+import org.junit.Test;
+
+public class TarsisIndexOfTest {
+
+	private static final String LONG = "y".repeat(40);
+
+	private static AutomatonString strings(String... strings) {
+		AutomatonString result = new AutomatonString(strings[0]);
+		for (int i = 1; i < strings.length; i++)
+			result = result.lub(new AutomatonString(strings[i]));
+		return result;
+	}
+
+	private static TarsisIntv interval(long low, long high) {
+		return new TarsisIntv(TarsisMathNumber.valueOf(low), TarsisMathNumber.valueOf(high));
+	}
+
+	private static TarsisIntv indexOf(AutomatonString string, String search) {
+		return Tarsis.indexOf(string, new AutomatonString(search), Tarsis.DEFAULT_INDEX_OF_CAP);
+	}
+
+	@Test
+	public void testExact() {
+		assertEquals(interval(5, 5), indexOf(strings("chaincode"), "code"));
+		assertEquals(interval(0, 5), indexOf(strings("chaincode", "code"), "code"));
+		assertEquals(interval(-1, 5), indexOf(strings("chaincode", "chain"), "code"));
+		assertEquals(interval(-1, -1), indexOf(strings("chaincode"), "x"));
+		assertEquals(interval(0, 5),
+				Tarsis.indexOf(strings("chaincode"), strings("chain", "code"), Tarsis.DEFAULT_INDEX_OF_CAP));
+	}
+
+	@Test
+	public void testManyStrings() {
+		// 1024 strings of length 10: not enumerated, bounded by the longest
+		AutomatonString string = new AutomatonString("");
+		for (int i = 0; i < 10; i++)
+			string = string.concat(strings("a", "b"));
+		assertEquals(interval(-1, 10), indexOf(string, "a"));
+	}
+
+	@Test
+	public void testNoOccurrence() {
+		assertEquals(interval(-1, -1), indexOf(strings(LONG + "chain", LONG), "code"));
+	}
+
+	@Test
+	public void testPrefix() {
+		assertEquals(interval(0, 0), indexOf(strings("code" + LONG, "code" + LONG + "z"), "code"));
+	}
+
+	@Test
+	public void testBoundedByLongest() {
+		// surely occurs, not as a prefix
+		assertEquals(interval(0, 45), indexOf(strings(LONG + "code", "z" + LONG + "code"), "code"));
+		// may not occur
+		assertEquals(interval(-1, 44), indexOf(strings(LONG + "code", LONG + "z"), "code"));
+	}
+
+	@Test
+	public void testUnbounded() {
+		assertEquals(new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.PLUS_INFINITY),
+				Tarsis.indexOf(strings("chaincode"), new AutomatonString("code"), 4));
+	}
+
+	@Test
+	public void testCapPerAnalysis() throws SemanticException {
+		NoOp pp = TestFixtures.pp();
+		Variable i = TestFixtures.var(GoIntType.INSTANCE, "i");
+		BinaryExpression expression = new BinaryExpression(GoIntType.INSTANCE, TestFixtures.string("chaincode"),
+				TestFixtures.string("code"), StringIndexOf.INSTANCE, SyntheticLocation.INSTANCE);
+
+		Tarsis capped = new Tarsis(new TarsisAutomataCache(), 4);
+		assertEquals(4, capped.top().getIndexOfCap());
+		assertEquals(Tarsis.DEFAULT_INDEX_OF_CAP, new Tarsis().getIndexOfCap());
+
+		Tarsis exact = new ValueEnvironment<>(new Tarsis()).assign(i, expression, pp).getState(i);
+		assertEquals(interval(5, 5).representation().toString(), exact.representation().toString());
+
+		Tarsis unbounded = new ValueEnvironment<>(capped).assign(i, expression, pp).getState(i);
+		assertEquals(new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.PLUS_INFINITY).representation()
+				.toString(), unbounded.representation().toString());
+	}
+}
@@ -0,0 +1,30 @@
+import it.unive.golisa.analysis.tarsis.TarsisIntv;
+import it.unive.golisa.analysis.tarsis.TarsisMathNumber;
+import it.unive.lisa.analysis.SemanticException;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Ignore
+public class TarsisIntervalBenchmarkTest {
+
+	private static final int ITERATIONS = 10_000_000;
+
+	@Test
+	public void testArithmetic() throws SemanticException {
+		for (int round = 0; round < 5; round++) {
+			TarsisIntv acc = new TarsisIntv(TarsisMathNumber.ZERO, TarsisMathNumber.ZERO);
+			TarsisIntv one = new TarsisIntv(TarsisMathNumber.MINUS_ONE, TarsisMathNumber.ONE);
+			TarsisMathNumber n = TarsisMathNumber.ZERO;
+
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				n = n.add(TarsisMathNumber.ONE).multiply(TarsisMathNumber.ONE).max(TarsisMathNumber.ZERO);
+				if (i % 1000 == 0)
+					acc = acc.lub(acc.plus(one));
+			}
+			long elapsed = (System.nanoTime() - start) / 1000000;
+
+			System.out.println("round " + round + ": " + elapsed + " ms (" + n + ", " + acc + ")");
+		}
+	}
+}
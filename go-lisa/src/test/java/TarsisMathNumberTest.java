@@ -0,0 +1,85 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.tarsis.TarsisMathNumber;
+import java.math.BigDecimal;
+import org.junit.Test;
+
+public class TarsisMathNumberTest {
+
+	private static final TarsisMathNumber MAX = TarsisMathNumber.valueOf(Long.MAX_VALUE);
+
+	private static final TarsisMathNumber MIN = TarsisMathNumber.valueOf(Long.MIN_VALUE);
+
+	private static TarsisMathNumber big(String value) {
+		return new TarsisMathNumber(new BigDecimal(value));
+	}
+
+	@Test
+	public void testAddOverflow() {
+		TarsisMathNumber above = MAX.add(TarsisMathNumber.ONE);
+		assertEquals("9223372036854775808", above.toString());
+		assertEquals(big("9223372036854775808"), above);
+		assertEquals(1, above.compareTo(MAX));
+
+		TarsisMathNumber below = MIN.subtract(TarsisMathNumber.ONE);
+		assertEquals("-9223372036854775809", below.toString());
+		assertTrue(below.isNegative());
+		assertEquals(-1, below.compareTo(MIN));
+
+		// coming back in range yields a long again
+		assertEquals(MAX, above.subtract(TarsisMathNumber.ONE));
+		assertEquals(MIN, below.add(TarsisMathNumber.ONE));
+	}
+
+	@Test
+	public void testMultiplyOverflow() {
+		TarsisMathNumber twoTo32 = TarsisMathNumber.valueOf(1L << 32);
+		TarsisMathNumber twoTo64 = twoTo32.multiply(twoTo32);
+		assertEquals("18446744073709551616", twoTo64.toString());
+		assertEquals(big("18446744073709551616"), twoTo64);
+
+		assertEquals("-18446744073709551616", twoTo64.multiply(TarsisMathNumber.MINUS_ONE).toString());
+		assertEquals(big("85070591730234615847396907784232501249"), MAX.multiply(MAX));
+		assertEquals(twoTo32, twoTo64.divide(twoTo32));
+	}
+
+	@Test
+	public void testNormalization() {
+		// big decimals fitting in a long are stored as such
+		assertEquals(TarsisMathNumber.valueOf(42), big("42.000"));
+		assertEquals(TarsisMathNumber.valueOf(42).hashCode(), big("42.000").hashCode());
+		assertTrue(big("42.000").is(42));
+		assertEquals(TarsisMathNumber.valueOf(1000), big("1E+3"));
+		assertEquals(MAX, big("9223372036854775807"));
+		assertEquals(MIN, big("-9223372036854775808"));
+		assertEquals(0, MAX.compareTo(big("9223372036854775807")));
+
+		// non-integers and out of range values are not
+		assertFalse(big("42.5").is(42));
+		assertFalse(big("9223372036854775808").equals(MAX));
+
+		// small results of arbitrary precision arithmetic are cached
+		TarsisMathNumber above = MAX.add(TarsisMathNumber.ONE);
+		assertSame(TarsisMathNumber.ONE, above.subtract(MAX));
+		assertSame(TarsisMathNumber.ZERO, above.subtract(above));
+		assertSame(TarsisMathNumber.valueOf(4), big("3.5").roundUp());
+		assertSame(TarsisMathNumber.valueOf(3), big("3.5").roundDown());
+	}
+
+	@Test
+	public void testDivide() {
+		// the only long division that overflows
+		TarsisMathNumber quotient = MIN.divide(TarsisMathNumber.MINUS_ONE);
+		assertEquals("9223372036854775808", quotient.toString());
+		assertEquals(MAX.add(TarsisMathNumber.ONE), quotient);
+		assertTrue(quotient.isPositiveOrZero());
+
+		assertEquals(MIN, MIN.divide(TarsisMathNumber.ONE));
+		assertEquals(TarsisMathNumber.valueOf(Long.MIN_VALUE / 2), MIN.divide(TarsisMathNumber.valueOf(2)));
+		assertEquals(TarsisMathNumber.valueOf(-Long.MAX_VALUE), MAX.divide(TarsisMathNumber.MINUS_ONE));
+		assertEquals(big("3.5"), TarsisMathNumber.valueOf(7).divide(TarsisMathNumber.valueOf(2)));
+	}
+}
@@ -0,0 +1,40 @@
+import it.unive.golisa.analysis.tarsis.Tarsis;
+import it.unive.golisa.analysis.tarsis.TarsisAutomataCache;
+import it.unive.golisa.analysis.tarsis.TarsisIntv;
+import it.unive.golisa.analysis.tarsis.TarsisMathNumber;
+import it.unive.tarsis.AutomatonString;
+import it.unive.tarsis.automata.Automata;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Ignore
+public class TarsisSubstringBenchmarkTest {
+
+	private static final int[] BOUNDS = { 8, 16, 32, 64 };
+
+	@Test
+	public void testSubstrings() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; text.length() < 80; i++)
+			text.append("chaincode").append(i);
+		AutomatonString string = new AutomatonString(text.toString())
+				.lub(new AutomatonString(text.reverse().toString()));
+
+		for (int bound : BOUNDS) {
+			TarsisIntv interval = new TarsisIntv(new TarsisMathNumber(0), new TarsisMathNumber(bound));
+
+			long start = System.nanoTime();
+			AutomatonString loop = new AutomatonString(Automata.mkEmptyLanguage());
+			for (int i = 0; i <= bound; i++)
+				for (int j = i; j <= bound; j++)
+					loop = loop.lub(string.substring(i, j));
+			long loopTime = (System.nanoTime() - start) / 1000000;
+
+			start = System.nanoTime();
+			Tarsis.substrings(string, interval, interval, new TarsisAutomataCache());
+			long singleTime = (System.nanoTime() - start) / 1000000;
+
+			System.out.println("[0, " + bound + "]: loop " + loopTime + " ms, single " + singleTime + " ms");
+		}
+	}
+}
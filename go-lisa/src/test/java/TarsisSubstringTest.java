@@ -0,0 +1,57 @@
+import static org.junit.Assert.assertTrue;
+
+import it.unive.golisa.analysis.tarsis.Tarsis;
+import it.unive.golisa.analysis.tarsis.TarsisAutomataCache;
+import it.unive.golisa.analysis.tarsis.TarsisIntv;
+import it.unive.golisa.analysis.tarsis.TarsisMathNumber;
+import it.unive.tarsis.AutomatonString;
+import it.unive.tarsis.automata.Automata;
+import org.junit.Test;
+
+public class TarsisSubstringTest {
+
+	private static TarsisIntv interval(int low, int high) {
+		return new TarsisIntv(new TarsisMathNumber(low), new TarsisMathNumber(high));
+	}
+
+	/**
+	 * Checks that {@link Tarsis#substrings} yields the language of the lub of
+	 * {@code string.substring(i, j)} for all {@code i} in {@code begin} and
+	 * {@code j} in {@code end} such that {@code i <= j}.
+	 */
+	private static void check(AutomatonString string, int beginLow, int beginHigh, int endLow, int endHigh) {
+		AutomatonString loop = new AutomatonString(Automata.mkEmptyLanguage());
+		for (int i = beginLow; i <= beginHigh; i++)
+			for (int j = Math.max(i, endLow); j <= endHigh; j++)
+				loop = loop.lub(string.substring(i, j));
+
+		AutomatonString single = Tarsis.substrings(string, interval(beginLow, beginHigh),
+				interval(endLow, endHigh), new TarsisAutomataCache());
+
+		assertTrue(Automata.isContained(loop.getAutomaton(), single.getAutomaton()));
+		assertTrue(Automata.isContained(single.getAutomaton(), loop.getAutomaton()));
+	}
+
+	@Test
+	public void testSingleString() {
+		AutomatonString string = new AutomatonString("chaincode");
+		check(string, 0, 9, 0, 9);
+		check(string, 2, 4, 5, 7);
+		check(string, 3, 3, 3, 3);
+	}
+
+	@Test
+	public void testFiniteLanguage() {
+		AutomatonString string = new AutomatonString("chaincode0chaincode1")
+				.lub(new AutomatonString("1edocniahc0edocniahc"));
+		check(string, 0, 8, 0, 8);
+		check(string, 1, 6, 4, 12);
+	}
+
+	@Test
+	public void testOverlappingIntervals() {
+		AutomatonString string = new AutomatonString("abcdef").lub(new AutomatonString("abxdef"));
+		// pairs with i > j are skipped
+		check(string, 2, 5, 0, 3);
+	}
+}
@@ -0,0 +1,78 @@
+import it.unive.golisa.cfg.type.GoStringType;
+import it.unive.lisa.program.Program;
+import it.unive.lisa.program.SyntheticLocation;
+import it.unive.lisa.program.cfg.CFG;
+import it.unive.lisa.program.cfg.CFGDescriptor;
+import it.unive.lisa.program.cfg.statement.NoOp;
+import it.unive.lisa.symbolic.value.BinaryExpression;
+import it.unive.lisa.symbolic.value.Constant;
+import it.unive.lisa.symbolic.value.ValueExpression;
+import it.unive.lisa.symbolic.value.Variable;
+import it.unive.lisa.symbolic.value.operator.binary.StringConcat;
+import it.unive.lisa.type.Type;
+import it.unive.lisa.type.Untyped;
+
+/**
+ * The fixtures shared by the unit tests that exercise the abstract domains and
+ * the CFG construction outside of an analysis: a synthetic CFG and a program
+ * point in it, and the symbolic expressions built by those tests.
+ */
+public final class TestFixtures {
+
+	private TestFixtures() {
+	}
+
+	/**
+	 * Yields a new, empty CFG of a synthetic function {@code f}.
+	 *
+	 * @return the CFG
+	 */
+	public static CFG cfg() {
+		return new CFG(new CFGDescriptor(SyntheticLocation.INSTANCE, new Program(), false, "f", Untyped.INSTANCE));
+	}
+
+	/**
+	 * Yields a new program point, that is a no-op in a new {@link #cfg()}.
+	 *
+	 * @return the program point
+	 */
+	public static NoOp pp() {
+		return new NoOp(cfg(), SyntheticLocation.INSTANCE);
+	}
+
+	/**
+	 * Yields a synthetic variable.
+	 *
+	 * @param type the static type of the variable
+	 * @param name the name of the variable
+	 *
+	 * @return the variable
+	 */
+	public static Variable var(Type type, String name) {
+		return new Variable(type, name, SyntheticLocation.INSTANCE);
+	}
+
+	/**
+	 * Yields a synthetic string constant.
+	 *
+	 * @param value the value of the constant
+	 *
+	 * @return the constant
+	 */
+	public static Constant string(String value) {
+		return new Constant(GoStringType.INSTANCE, value, SyntheticLocation.INSTANCE);
+	}
+
+	/**
+	 * Yields the synthetic concatenation of two string expressions.
+	 *
+	 * @param left  the left operand
+	 * @param right the right operand
+	 *
+	 * @return the concatenation
+	 */
+	public static ValueExpression concat(ValueExpression left, ValueExpression right) {
+		return new BinaryExpression(GoStringType.INSTANCE, left, right, StringConcat.INSTANCE,
+				SyntheticLocation.INSTANCE);
+	}
+}